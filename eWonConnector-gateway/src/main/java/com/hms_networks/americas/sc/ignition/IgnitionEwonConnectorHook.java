@@ -6,6 +6,7 @@ import com.hms_networks.americas.sc.ignition.config.EwonConfigPage;
 import com.hms_networks.americas.sc.ignition.config.EwonConnectorSettings;
 import com.hms_networks.americas.sc.ignition.config.EwonSyncDataState;
 import com.hms_networks.americas.sc.ignition.data.CacheManager;
+import com.hms_networks.americas.sc.ignition.data.MetadataSnapshotManager;
 import com.hms_networks.americas.sc.ignition.data.SyncDataStateManager;
 import com.hms_networks.americas.sc.ignition.data.TagManager;
 import com.hms_networks.americas.sc.ignition.data.tagwrite.BufferedTagWriteManager;
@@ -198,9 +199,18 @@ public class IgnitionEwonConnectorHook extends AbstractGatewayModuleHook {
         }
       }
 
+      // Initialize M2Web metadata snapshot manager
+      if (startupSuccess) {
+        MetadataSnapshotManager.initialize(gatewayContext, connectorSettings);
+      }
+
       // Initialize HTTP client
       if (startupSuccess) {
-        startupSuccess = AsyncHttpRequestManager.initialize(connectorSettings.isDebugEnabled());
+        startupSuccess =
+            AsyncHttpRequestManager.initialize(
+                connectorSettings.isDebugEnabled(),
+                connectorSettings.getHttpConnectionTtlSecs(),
+                connectorSettings.isHedgedRequestsEnabled());
       }
 
       // Configure DMWeb polling thread
@@ -0,0 +1,277 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class for an adaptive in-flight request limit using additive increase, multiplicative decrease
+ * (AIMD). The limit is increased by one per window of successful requests (i.e. by one divided by
+ * the limit for each successful request) while at least half of the limit is in use, and is
+ * multiplied by {@link #BACKOFF_RATIO} when a request fails (timeout, connection error, or server
+ * overload response) or its latency exceeds {@link #LATENCY_TOLERANCE} times the long-term average
+ * latency of its endpoint. The limit is decreased at most once per recent average latency of the
+ * endpoint, so a burst of failures from the same period only decreases it once.
+ *
+ * <p>Failures and slow responses of requests to a single device (i.e. Ewon requests via the M2Web
+ * proxy) are attributed to the device, as they are usually caused by the device or its network
+ * connection rather than by congestion of the route. They are tracked per device, and only
+ * decrease the limit while at least {@link #CONGESTED_DEVICE_COUNT} devices have failed within the
+ * last {@link #DEVICE_FAILURE_WINDOW_NANOS}, as failures spread across many devices at once are
+ * more likely caused by the route.
+ *
+ * <p>Average latencies are tracked separately for each Talk2M API endpoint, as the latencies of
+ * endpoints on the same route differ by orders of magnitude (i.e. multi-second tag list and
+ * syncdata exports, and sub-second instant value polls), so a slow but normal response of one
+ * endpoint is not considered too slow compared to the responses of another.
+ *
+ * <p>This class is not thread-safe. Samples must be recorded while holding the lock of the owning
+ * {@link RequestLaneScheduler}, but the current limit may be read from any thread.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class AimdConcurrencyLimit {
+
+  /**
+   * The initial in-flight request limit.
+   *
+   * @since 1.0.0
+   */
+  private static final int INITIAL_LIMIT = 50;
+
+  /**
+   * The minimum in-flight request limit.
+   *
+   * @since 1.0.0
+   */
+  private static final int MIN_LIMIT = 4;
+
+  /**
+   * The ratio which the limit is multiplied by when a request fails or is too slow.
+   *
+   * @since 1.0.0
+   */
+  private static final double BACKOFF_RATIO = 0.9;
+
+  /**
+   * The multiple of the long-term average latency above which a request is considered too slow.
+   *
+   * @since 1.0.0
+   */
+  private static final double LATENCY_TOLERANCE = 2.0;
+
+  /**
+   * The latency (in nanoseconds) below which a request is never considered too slow, regardless of
+   * the long-term average latency.
+   *
+   * @since 1.0.0
+   */
+  private static final long LATENCY_FLOOR_NANOS = 1_000_000_000L;
+
+  /**
+   * The smoothing factor of the exponentially weighted long-term average latency.
+   *
+   * @since 1.0.0
+   */
+  private static final double LONG_TERM_LATENCY_SMOOTHING = 0.01;
+
+  /**
+   * The smoothing factor of the exponentially weighted recent average latency.
+   *
+   * @since 1.0.0
+   */
+  private static final double RECENT_LATENCY_SMOOTHING = 0.2;
+
+  /**
+   * The number of devices which must have failed within {@link #DEVICE_FAILURE_WINDOW_NANOS} before
+   * failures of requests to a single device are considered congestion of the route.
+   *
+   * @since 1.0.0
+   */
+  private static final int CONGESTED_DEVICE_COUNT = 3;
+
+  /**
+   * The time (in nanoseconds) for which a failure of a request to a single device is counted
+   * towards the devices failing at once.
+   *
+   * @since 1.0.0
+   */
+  private static final long DEVICE_FAILURE_WINDOW_NANOS = 60_000_000_000L;
+
+  /**
+   * The maximum in-flight request limit.
+   *
+   * @since 1.0.0
+   */
+  private final int maxLimit;
+
+  /**
+   * The current in-flight request limit.
+   *
+   * @since 1.0.0
+   */
+  private volatile int limit;
+
+  /**
+   * The current in-flight request limit including its fractional part, which accumulates the
+   * additive increase of each successful request.
+   *
+   * @since 1.0.0
+   */
+  private double fractionalLimit;
+
+  /**
+   * The map of Talk2M API endpoint names to the average latencies of their requests.
+   *
+   * @since 1.0.0
+   */
+  private final Map<String, EndpointLatencyAverages> endpointLatencyAverages = new HashMap<>();
+
+  /**
+   * The map of device names to the time (from {@link System#nanoTime()}) of the latest failed
+   * request of the device, for devices which have failed since their last successful request.
+   *
+   * @since 1.0.0
+   */
+  private final Map<String, Long> deviceLastFailureTimeNanos = new HashMap<>();
+
+  /**
+   * Boolean indicating if the limit has been decreased since it was created.
+   *
+   * @since 1.0.0
+   */
+  private boolean decreased = false;
+
+  /**
+   * The time (from {@link System#nanoTime()}) at which the limit was last decreased. Only valid if
+   * {@link #decreased} is true.
+   *
+   * @since 1.0.0
+   */
+  private long lastDecreaseTimeNanos = 0;
+
+  /**
+   * Constructs a new {@link AimdConcurrencyLimit} with the specified maximum limit.
+   *
+   * @param maxLimit the maximum in-flight request limit
+   * @since 1.0.0
+   */
+  AimdConcurrencyLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+    this.limit = Math.max(MIN_LIMIT, Math.min(INITIAL_LIMIT, maxLimit));
+    this.fractionalLimit = limit;
+  }
+
+  /**
+   * Gets the current in-flight request limit.
+   *
+   * @return the current in-flight request limit
+   * @since 1.0.0
+   */
+  int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Records the result of a completed request to the specified endpoint, and adjusts the limit
+   * accordingly.
+   *
+   * @param endpointName the name of the Talk2M API endpoint of the request
+   * @param deviceName the name of the device (Ewon) which the result of the request is attributed
+   *     to, or null if it is attributed to the route
+   * @param latencyNanos the latency (in nanoseconds) of the request
+   * @param failed true if the request failed (timeout, connection error, or server overload
+   *     response), false otherwise
+   * @param inFlight the number of requests in flight when the request completed, including the
+   *     request itself
+   * @since 1.0.0
+   */
+  void recordSample(
+      String endpointName, String deviceName, long latencyNanos, boolean failed, int inFlight) {
+    // Check if request was too slow compared to long-term average latency of its endpoint
+    final EndpointLatencyAverages latencyAverages =
+        endpointLatencyAverages.computeIfAbsent(
+            endpointName, name -> new EndpointLatencyAverages());
+    final boolean tooSlow =
+        latencyAverages.longTermLatencyNanos > 0
+            && latencyNanos > LATENCY_FLOOR_NANOS
+            && latencyNanos > latencyAverages.longTermLatencyNanos * LATENCY_TOLERANCE;
+
+    // Update average latencies of endpoint
+    if (latencyAverages.longTermLatencyNanos == 0) {
+      latencyAverages.longTermLatencyNanos = latencyNanos;
+      latencyAverages.recentLatencyNanos = latencyNanos;
+    } else {
+      latencyAverages.longTermLatencyNanos +=
+          (latencyNanos - latencyAverages.longTermLatencyNanos) * LONG_TERM_LATENCY_SMOOTHING;
+      latencyAverages.recentLatencyNanos +=
+          (latencyNanos - latencyAverages.recentLatencyNanos) * RECENT_LATENCY_SMOOTHING;
+    }
+
+    // Attribute failure to device, unless enough devices are failing to indicate route congestion
+    final long nowNanos = System.nanoTime();
+    boolean congested = failed || tooSlow;
+    if (deviceName != null) {
+      if (congested) {
+        deviceLastFailureTimeNanos.put(deviceName, nowNanos);
+        congested = getRecentlyFailedDeviceCount(nowNanos) >= CONGESTED_DEVICE_COUNT;
+      } else {
+        deviceLastFailureTimeNanos.remove(deviceName);
+      }
+    }
+
+    // Adjust limit (decrease at most once per recent average latency)
+    if (congested) {
+      if (!decreased
+          || nowNanos - lastDecreaseTimeNanos >= (long) latencyAverages.recentLatencyNanos) {
+        fractionalLimit = Math.max(MIN_LIMIT, Math.floor(limit * BACKOFF_RATIO));
+        limit = (int) fractionalLimit;
+        decreased = true;
+        lastDecreaseTimeNanos = nowNanos;
+      }
+    } else if (!failed && !tooSlow && inFlight * 2 >= limit) {
+      fractionalLimit = Math.min(maxLimit, fractionalLimit + 1.0 / limit);
+      limit = (int) fractionalLimit;
+    }
+  }
+
+  /**
+   * Gets the number of devices which have failed within the last {@link
+   * #DEVICE_FAILURE_WINDOW_NANOS}. Devices which have not failed within the window are removed.
+   *
+   * @param nowNanos the current time (from {@link System#nanoTime()})
+   * @return the number of devices which have failed within the window
+   * @since 1.0.0
+   */
+  private int getRecentlyFailedDeviceCount(long nowNanos) {
+    deviceLastFailureTimeNanos
+        .values()
+        .removeIf(failureTimeNanos -> nowNanos - failureTimeNanos > DEVICE_FAILURE_WINDOW_NANOS);
+    return deviceLastFailureTimeNanos.size();
+  }
+
+  /**
+   * Class for the average latencies of the requests to a Talk2M API endpoint.
+   *
+   * @since 1.0.0
+   */
+  private static class EndpointLatencyAverages {
+
+    /**
+     * The exponentially weighted long-term average latency (in nanoseconds), or 0 if no samples
+     * have been recorded.
+     *
+     * @since 1.0.0
+     */
+    private double longTermLatencyNanos = 0;
+
+    /**
+     * The exponentially weighted recent average latency (in nanoseconds), or 0 if no samples have
+     * been recorded.
+     *
+     * @since 1.0.0
+     */
+    private double recentLatencyNanos = 0;
+  }
+}
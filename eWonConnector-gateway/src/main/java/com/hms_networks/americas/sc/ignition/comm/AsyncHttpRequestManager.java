@@ -1,17 +1,54 @@
 package com.hms_networks.americas.sc.ignition.comm;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
-import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.BasicFuture;
 import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.nio.AsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityConsumer;
 import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,7 +90,10 @@ public class AsyncHttpRequestManager {
   private static final int CONNECT_TIMEOUT_MILLIS = 5000;
 
   /**
-   * Response timeout for HTTP connections (in milliseconds).
+   * Response timeout for HTTP connections (in milliseconds). This is an inactivity timeout, which
+   * only applies while no response data is received, and is a backstop for the deadline of each
+   * request (see {@link #sendAsyncRequest(SimpleHttpRequest, String, RequestLane, long, boolean,
+   * FutureCallback)}), which limits the total time of the request.
    *
    * @since 1.0.0
    */
@@ -74,12 +114,83 @@ public class AsyncHttpRequestManager {
   private static final int HTTP_CXN_POOL_MAX_REQUESTS = 1000;
 
   /**
-   * Maximum connections per route in the HTTP connection pool.
+   * Maximum connections per route in the HTTP connection pool. This is also the upper bound of the
+   * adaptive in-flight request limit of each route (see {@link RequestLaneScheduler}).
    *
    * @since 1.0.0
    */
   private static final int HTTP_CXN_POOL_MAX_REQUESTS_PER_ROUTE = 250;
 
+  /**
+   * Period of inactivity (in milliseconds) after which a pooled HTTP connection is validated before
+   * it is reused. This detects connections which have been closed by the server or dropped by a
+   * network device while idle, before a request is sent on them.
+   *
+   * @since 1.0.0
+   */
+  private static final int HTTP_CXN_VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+  /**
+   * Maximum number of TLS sessions cached for resumption. Cached TLS sessions allow new connections
+   * to the same Talk2M host to resume a previous TLS session with an abbreviated handshake.
+   *
+   * @since 1.0.0
+   */
+  private static final int TLS_SESSION_CACHE_SIZE = 1000;
+
+  /**
+   * Timeout (in seconds) of cached TLS sessions.
+   *
+   * @since 1.0.0
+   */
+  private static final int TLS_SESSION_CACHE_TIMEOUT_SECS = (int) TimeUnit.HOURS.toSeconds(1);
+
+  /**
+   * Initial buffer size (in bytes) for streamed HTTP response content. Streamed response content is
+   * buffered up to approximately this size before flow control is applied to the connection, which
+   * keeps memory usage flat regardless of the total response size.
+   *
+   * @since 1.0.0
+   */
+  private static final int RESPONSE_STREAM_BUFFER_SIZE_BYTES = 64 * 1024;
+
+  /**
+   * Map of Talk2M API endpoint names to the statistics of the response content transferred for the
+   * endpoint, both as received on the wire and after decompression.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, HttpTransferStatistics> ENDPOINT_TRANSFER_STATISTICS =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Map of Talk2M API endpoint names to the latency statistics of the endpoint, which include the
+   * number of requests to the endpoint which were hedged or exceeded their deadline.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, EndpointLatencyStatistics> ENDPOINT_LATENCY_STATISTICS =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Map of request lanes to their statistics (queue depth, in-flight requests and admission wait
+   * times), shared by the request lane schedulers of all routes.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<RequestLane, RequestLaneStatistics> LANE_STATISTICS =
+      createLaneStatistics();
+
+  /**
+   * Map of route names ({@code host[:port]}) to the request lane scheduler which admits requests
+   * to the route in lane priority order. Schedulers of routes which have been idle for longer than
+   * the connection time-to-live are discarded, along with the connections of the route.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, RequestLaneScheduler> ROUTE_LANE_SCHEDULERS =
+      new ConcurrentHashMap<>();
+
   /**
    * Asynchronous HTTP client for sending requests to the various Talk2M APIs.
    *
@@ -94,6 +205,32 @@ public class AsyncHttpRequestManager {
    */
   private static PoolingAsyncClientConnectionManager asyncClientConnectionManager = null;
 
+  /**
+   * Executor service for decoding streamed HTTP response content. Streamed response content is
+   * decoded on these threads (instead of the I/O reactor threads), as decoding blocks while waiting
+   * for response content to be received.
+   *
+   * @since 1.0.0
+   */
+  private static ExecutorService responseStreamExecutor = null;
+
+  /**
+   * Executor service for request timers, which expire the deadlines of requests and send hedged
+   * requests.
+   *
+   * @since 1.0.0
+   */
+  private static ScheduledThreadPoolExecutor requestTimerExecutor = null;
+
+  /**
+   * Boolean indicating if idempotent requests are hedged. When enabled, a second identical request
+   * is sent if an idempotent request has not completed within the 95th percentile latency of its
+   * endpoint, and the first response received is used.
+   *
+   * @since 1.0.0
+   */
+  private static boolean isHedgingEnabled = false;
+
   /**
    * Boolean indicating if debug logging is enabled. This value is used to prevent unnecessary debug
    * logging and associated string concatenation when disabled.
@@ -107,55 +244,99 @@ public class AsyncHttpRequestManager {
    * asynchronous HTTP manager has already been initialized, this method will do nothing.
    *
    * @param isDebugEnabled boolean indicating if debug logging is enabled.
+   * @param connectionTtlSecs time-to-live (in seconds) of persistent HTTP connections. Connections
+   *     are kept alive and reused until they are older than, or idle for longer than, this time.
+   * @param isHedgingEnabled boolean indicating if idempotent requests are hedged.
    * @since 1.0.0
    */
-  public static boolean initialize(boolean isDebugEnabled) {
+  public static boolean initialize(
+      boolean isDebugEnabled, long connectionTtlSecs, boolean isHedgingEnabled) {
     boolean initializeSuccess = true;
     if (isNotInitialized()) {
       LOGGER.info("Initializing Asynchronous HTTP manager...");
 
       // Create connection manager
       try {
-        asyncClientConnectionManager = new PoolingAsyncClientConnectionManager();
-        asyncClientConnectionManager.setMaxTotal(HTTP_CXN_POOL_MAX_REQUESTS);
-        asyncClientConnectionManager.setDefaultMaxPerRoute(HTTP_CXN_POOL_MAX_REQUESTS_PER_ROUTE);
+        final TimeValue connectionTtl = TimeValue.ofSeconds(connectionTtlSecs);
 
-        // Create IO reactor configuration
-        IOReactorConfig ioReactorConfig =
-            IOReactorConfig.custom()
-                .setIoThreadCount(Runtime.getRuntime().availableProcessors() * 2)
-                .setSoTimeout(SOCKET_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
-                .setSoKeepAlive(false)
-                .build();
+        // Create TLS strategy with a shared SSL context, so TLS sessions can be resumed
+        SSLContext sslContext = SSLContexts.createSystemDefault();
+        sslContext.getClientSessionContext().setSessionCacheSize(TLS_SESSION_CACHE_SIZE);
+        sslContext.getClientSessionContext().setSessionTimeout(TLS_SESSION_CACHE_TIMEOUT_SECS);
+        TlsStrategy tlsStrategy =
+            ClientTlsStrategyBuilder.create().setSslContext(sslContext).build();
 
         // Create connection configuration
         ConnectionConfig connectionConfig =
             ConnectionConfig.custom()
                 .setConnectTimeout(CONNECT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .setTimeToLive(connectionTtl)
+                .setValidateAfterInactivity(
+                    HTTP_CXN_VALIDATE_AFTER_INACTIVITY_MILLIS, TimeUnit.MILLISECONDS)
+                .build();
+
+        // Create pooled connection manager (LIFO reuse keeps recently used connections warm, and
+        // allows surplus connections to become idle and be evicted)
+        asyncClientConnectionManager =
+            PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(tlsStrategy)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setMaxConnTotal(HTTP_CXN_POOL_MAX_REQUESTS)
+                .setMaxConnPerRoute(HTTP_CXN_POOL_MAX_REQUESTS_PER_ROUTE)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        // Create IO reactor configuration
+        IOReactorConfig ioReactorConfig =
+            IOReactorConfig.custom()
+                .setIoThreadCount(Runtime.getRuntime().availableProcessors() * 2)
+                .setSoTimeout(SOCKET_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .setSoKeepAlive(true)
                 .build();
-        asyncClientConnectionManager.setDefaultConnectionConfig(connectionConfig);
 
-        // Initialize the asynchronous HTTP client
+        // Initialize the asynchronous HTTP client (connections are kept alive for the TTL, unless
+        // the server specifies a shorter keep-alive, and evicted once expired or idle for the TTL)
         RequestConfig requestConfig =
             RequestConfig.custom()
                 .setConnectionRequestTimeout(
                     CONNECTION_REQUEST_QUEUE_TIMEOUT_SECS, TimeUnit.SECONDS)
                 .setResponseTimeout(RESPONSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .setConnectionKeepAlive(connectionTtl)
                 .build();
         httpAsyncClient =
             HttpAsyncClients.custom()
                 .setDefaultRequestConfig(requestConfig)
                 .setIOReactorConfig(ioReactorConfig)
                 .setConnectionManager(asyncClientConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(connectionTtl)
                 .build();
         httpAsyncClient.start();
+
+        // Create executor for decoding streamed responses
+        responseStreamExecutor = Executors.newCachedThreadPool();
+
+        // Create executor for request timers (cancelled timers are removed immediately, as most
+        // requests complete well before their deadline)
+        final int requestTimerThreadCount = 1;
+        requestTimerExecutor = new ScheduledThreadPoolExecutor(requestTimerThreadCount);
+        requestTimerExecutor.setRemoveOnCancelPolicy(true);
+
+        // Discard request lane schedulers of routes which have been idle for the connection TTL
+        final long routeIdleTimeoutNanos = TimeUnit.SECONDS.toNanos(connectionTtlSecs);
+        requestTimerExecutor.scheduleWithFixedDelay(
+            () -> removeIdleRouteLaneSchedulers(routeIdleTimeoutNanos),
+            connectionTtlSecs,
+            connectionTtlSecs,
+            TimeUnit.SECONDS);
       } catch (Exception e) {
         LOGGER.error("Failed to create HTTP connection manager.", e);
         initializeSuccess = false;
       }
 
-      // Store debug logging enabled status
+      // Store debug logging and request hedging enabled status
       AsyncHttpRequestManager.isDebugEnabled = isDebugEnabled;
+      AsyncHttpRequestManager.isHedgingEnabled = isHedgingEnabled;
 
       LOGGER.info("Finished Asynchronous HTTP manager initialization.");
     } else {
@@ -190,6 +371,20 @@ public class AsyncHttpRequestManager {
         httpAsyncClient = null;
         asyncClientConnectionManager.close(CloseMode.IMMEDIATE);
         asyncClientConnectionManager = null;
+        if (responseStreamExecutor != null) {
+          responseStreamExecutor.shutdownNow();
+          responseStreamExecutor = null;
+        }
+
+        // Fail queued requests, which can no longer be sent
+        for (RequestLaneScheduler routeLaneScheduler : ROUTE_LANE_SCHEDULERS.values()) {
+          routeLaneScheduler.dispatchAllQueued();
+        }
+        ROUTE_LANE_SCHEDULERS.clear();
+        if (requestTimerExecutor != null) {
+          requestTimerExecutor.shutdownNow();
+          requestTimerExecutor = null;
+        }
       } catch (Exception e) {
         LOGGER.error("Error shutting down asynchronous HTTP manager.", e);
       }
@@ -197,25 +392,46 @@ public class AsyncHttpRequestManager {
   }
 
   /**
-   * Sends the specified HTTP request to the desired Talk2M API asynchronously. The asynchronous
-   * HTTP manager must be initialized before this method is called.
+   * Sends the specified HTTP request to the desired Talk2M API asynchronously. The request is
+   * admitted to the HTTP connection pool in the priority order of the specified request lane.
+   * Compressed response content is decompressed as it is received, and the response content is
+   * decoded to a string. The asynchronous HTTP manager must be initialized before this method is
+   * called.
+   *
+   * <p>If the request does not complete within the specified deadline (including time spent
+   * queued), it fails with a {@link java.util.concurrent.TimeoutException} and the HTTP exchange is
+   * cancelled. If hedging is enabled and the request is idempotent, a second identical request is
+   * sent if the request has not completed within the 95th percentile latency of the endpoint, and
+   * the first response received is used.
    *
    * @param request HTTP request to send
+   * @param endpointName name of the Talk2M API endpoint, for transfer and latency statistics
+   * @param deviceName name of the device (Ewon) which the request is sent to via the M2Web proxy,
+   *     or null if the request is not sent to a single device
+   * @param lane request lane to admit the request in
+   * @param deadlineMillis deadline (in milliseconds) of the request, or 0 for no deadline
+   * @param idempotent boolean indicating if the request is idempotent, and may be hedged
    * @param callback callback to execute when the request completes
    * @return {@link Future} object representing the request
    * @since 1.0.0
    */
-  public static Future<SimpleHttpResponse> sendAsyncRequest(
-      final SimpleHttpRequest request, final FutureCallback<SimpleHttpResponse> callback) {
+  public static Future<Message<HttpResponse, String>> sendAsyncRequest(
+      final SimpleHttpRequest request,
+      final String endpointName,
+      final String deviceName,
+      final RequestLane lane,
+      final long deadlineMillis,
+      final boolean idempotent,
+      final FutureCallback<Message<HttpResponse, String>> callback) {
     // Throw IllegalStateException if asynchronous HTTP manager not initialized
     if (isNotInitialized()) {
       throw new IllegalStateException("Asynchronous HTTP manager has not been initialized.");
     }
 
     // Create wrapped callback to log the request
-    FutureCallback<SimpleHttpResponse> wrappedCallback =
+    FutureCallback<Message<HttpResponse, String>> wrappedCallback =
         new FutureCallback<>() {
-          public void completed(SimpleHttpResponse response) {
+          public void completed(Message<HttpResponse, String> response) {
             // Log the request completion (debug only)
             if (AsyncHttpRequestManager.isDebugEnabled) {
               LOGGER.debug(
@@ -266,8 +482,30 @@ public class AsyncHttpRequestManager {
       LOGGER.debug("Executing asynchronous HTTP response request: " + request.hashCode());
     }
 
-    // Send the request
-    return httpAsyncClient.execute(request, wrappedCallback);
+    // Send the request (hedged if idempotent and the endpoint latency percentile is known)
+    final EndpointLatencyStatistics latencyStatistics = getLatencyStatistics(endpointName);
+    final long hedgeDelayMillis = latencyStatistics.getP95LatencyMillis();
+    if (isHedgingEnabled
+        && idempotent
+        && hedgeDelayMillis > 0
+        && (deadlineMillis <= 0 || hedgeDelayMillis < deadlineMillis)) {
+      return sendHedgedRequest(
+          request,
+          endpointName,
+          deviceName,
+          lane,
+          deadlineMillis,
+          hedgeDelayMillis,
+          wrappedCallback);
+    }
+    return sendInLane(
+        request,
+        lane,
+        deadlineMillis,
+        endpointName,
+        deviceName,
+        createStringResponseConsumer(endpointName),
+        wrappedCallback);
   }
 
   /**
@@ -275,11 +513,543 @@ public class AsyncHttpRequestManager {
    * HTTP manager must be initialized before this method is called.
    *
    * @param request HTTP request to send
+   * @param endpointName name of the Talk2M API endpoint, for transfer and latency statistics
+   * @param deviceName name of the device (Ewon) which the request is sent to via the M2Web proxy,
+   *     or null if the request is not sent to a single device
+   * @param lane request lane to admit the request in
+   * @param deadlineMillis deadline (in milliseconds) of the request, or 0 for no deadline
+   * @param idempotent boolean indicating if the request is idempotent, and may be hedged
+   * @return {@link Future} object representing the request
+   * @since 1.0.0
+   */
+  public static Future<Message<HttpResponse, String>> sendAsyncRequest(
+      SimpleHttpRequest request,
+      String endpointName,
+      String deviceName,
+      RequestLane lane,
+      long deadlineMillis,
+      boolean idempotent) {
+    final FutureCallback<Message<HttpResponse, String>> callback = null;
+    return sendAsyncRequest(
+        request, endpointName, deviceName, lane, deadlineMillis, idempotent, callback);
+  }
+
+  /**
+   * Sends the specified idempotent HTTP request as a hedged request. The request is sent once, and
+   * if it has not completed after the specified hedge delay, an identical request is sent. The
+   * first successful response completes the returned future and the other request is cancelled.
+   * The returned future only fails if both requests fail.
+   *
+   * @param request HTTP request to send
+   * @param endpointName name of the Talk2M API endpoint, for transfer and latency statistics
+   * @param deviceName name of the device (Ewon) which the request is sent to via the M2Web proxy,
+   *     or null if the request is not sent to a single device
+   * @param lane request lane to admit the requests in
+   * @param deadlineMillis deadline (in milliseconds) of the hedged request, or 0 for no deadline
+   * @param hedgeDelayMillis delay (in milliseconds) after which the second request is sent
+   * @param callback callback to execute when the hedged request completes
+   * @return {@link Future} object representing the hedged request
+   * @since 1.0.0
+   */
+  private static Future<Message<HttpResponse, String>> sendHedgedRequest(
+      final SimpleHttpRequest request,
+      final String endpointName,
+      final String deviceName,
+      final RequestLane lane,
+      final long deadlineMillis,
+      final long hedgeDelayMillis,
+      final FutureCallback<Message<HttpResponse, String>> callback) {
+    final EndpointLatencyStatistics latencyStatistics = getLatencyStatistics(endpointName);
+
+    // Create hedged future, which cancels all outstanding requests and timers when cancelled
+    final List<Future<?>> outstandingFutures = new CopyOnWriteArrayList<>();
+    final BasicFuture<Message<HttpResponse, String>> hedgedFuture =
+        new BasicFuture<>(callback) {
+          @Override
+          public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+              cancelAll(outstandingFutures);
+            }
+            return cancelled;
+          }
+        };
+
+    // Create callback for each request, which completes the hedged future with the first success
+    final AtomicInteger pendingRequestCount = new AtomicInteger(1);
+    final FutureCallback<Message<HttpResponse, String>> requestCallback =
+        new FutureCallback<>() {
+          @Override
+          public void completed(Message<HttpResponse, String> response) {
+            if (hedgedFuture.completed(response)) {
+              cancelAll(outstandingFutures);
+            }
+          }
+
+          @Override
+          public void failed(Exception ex) {
+            if (pendingRequestCount.decrementAndGet() == 0) {
+              hedgedFuture.failed(ex);
+            }
+          }
+
+          @Override
+          public void cancelled() {
+            if (pendingRequestCount.decrementAndGet() == 0) {
+              hedgedFuture.cancel();
+            }
+          }
+        };
+
+    // Send the first request
+    outstandingFutures.add(
+        sendInLane(
+            request,
+            lane,
+            deadlineMillis,
+            endpointName,
+            deviceName,
+            createStringResponseConsumer(endpointName),
+            requestCallback));
+
+    // Schedule the second request, unless the first request has already completed or failed
+    final ScheduledThreadPoolExecutor timerExecutor = requestTimerExecutor;
+    final long hedgeDeadlineMillis =
+        deadlineMillis > 0 ? deadlineMillis - hedgeDelayMillis : deadlineMillis;
+    final Runnable hedgeSender =
+        () -> {
+          if (hedgedFuture.isDone()
+              || pendingRequestCount.getAndUpdate(count -> count > 0 ? count + 1 : count) == 0) {
+            return;
+          }
+          latencyStatistics.recordHedged();
+          outstandingFutures.add(
+              sendInLane(
+                  request,
+                  lane,
+                  hedgeDeadlineMillis,
+                  endpointName,
+                  deviceName,
+                  createStringResponseConsumer(endpointName),
+                  requestCallback));
+          if (hedgedFuture.isDone()) {
+            cancelAll(outstandingFutures);
+          }
+        };
+    if (timerExecutor != null) {
+      try {
+        outstandingFutures.add(
+            timerExecutor.schedule(hedgeSender, hedgeDelayMillis, TimeUnit.MILLISECONDS));
+      } catch (RejectedExecutionException e) {
+        // Timer executor has been shut down, so the first request is not hedged
+      }
+    }
+    return hedgedFuture;
+  }
+
+  /**
+   * Cancels each of the specified futures which is not yet done.
+   *
+   * @param futures the futures to cancel
+   * @since 1.0.0
+   */
+  private static void cancelAll(List<Future<?>> futures) {
+    final boolean mayInterruptIfRunning = false;
+    for (Future<?> future : futures) {
+      future.cancel(mayInterruptIfRunning);
+    }
+  }
+
+  /**
+   * Creates a consumer for an HTTP response from the specified Talk2M API endpoint, which
+   * decompresses the response content as it is received and decodes it to a string.
+   *
+   * @param endpointName name of the Talk2M API endpoint, for transfer statistics
+   * @return consumer for the HTTP response
+   * @since 1.0.0
+   */
+  private static AsyncResponseConsumer<Message<HttpResponse, String>>
+      createStringResponseConsumer(String endpointName) {
+    AsyncEntityConsumer<String> responseEntityConsumer =
+        new DecompressingAsyncEntityConsumer<>(
+            new StringAsyncEntityConsumer(), getTransferStatistics(endpointName));
+    return new BasicResponseConsumer<>(responseEntityConsumer);
+  }
+
+  /**
+   * Sends the specified HTTP request to the desired Talk2M API asynchronously, and decodes the
+   * response content as it is streamed using the specified {@link ResponseStreamParser}. The
+   * request is admitted to the HTTP connection pool in the priority order of the specified request
+   * lane. Compressed response content is decompressed as it is streamed. The response content is
+   * never fully buffered in memory. If the request does not complete within the specified deadline
+   * (including time spent queued), it fails with a {@link java.util.concurrent.TimeoutException}
+   * and the HTTP exchange is cancelled. The asynchronous HTTP manager must be initialized before
+   * this method is called.
+   *
+   * @param request HTTP request to send
+   * @param endpointName name of the Talk2M API endpoint, for transfer and latency statistics
+   * @param deviceName name of the device (Ewon) which the request is sent to via the M2Web proxy,
+   *     or null if the request is not sent to a single device
+   * @param lane request lane to admit the request in
+   * @param deadlineMillis deadline (in milliseconds) of the request, or 0 for no deadline
+   * @param responseStreamParser parser to decode the response content stream with
+   * @param callback callback to execute when the request completes and the response is decoded
+   * @param <T> the type of the decoded response
    * @return {@link Future} object representing the request
    * @since 1.0.0
    */
-  public static Future<SimpleHttpResponse> sendAsyncRequest(SimpleHttpRequest request) {
-    return sendAsyncRequest(request, null);
+  public static <T> Future<Message<HttpResponse, T>> sendAsyncStreamingRequest(
+      final SimpleHttpRequest request,
+      final String endpointName,
+      final String deviceName,
+      final RequestLane lane,
+      final long deadlineMillis,
+      final ResponseStreamParser<T> responseStreamParser,
+      final FutureCallback<Message<HttpResponse, T>> callback) {
+    // Throw IllegalStateException if asynchronous HTTP manager not initialized
+    if (isNotInitialized()) {
+      throw new IllegalStateException("Asynchronous HTTP manager has not been initialized.");
+    }
+
+    // Create entity consumer to decode the response content stream on a response stream thread
+    AsyncEntityConsumer<T> decodingEntityConsumer =
+        new AbstractClassicEntityConsumer<>(
+            RESPONSE_STREAM_BUFFER_SIZE_BYTES, responseStreamExecutor) {
+          @Override
+          protected T consumeData(ContentType contentType, InputStream inputStream)
+              throws IOException {
+            Charset charset =
+                contentType != null && contentType.getCharset() != null
+                    ? contentType.getCharset()
+                    : StandardCharsets.UTF_8;
+            try (Reader responseReader = new InputStreamReader(inputStream, charset)) {
+              return responseStreamParser.parse(responseReader);
+            }
+          }
+        };
+
+    // Create entity consumer to decompress the response content stream as it is received
+    AsyncEntityConsumer<T> responseEntityConsumer =
+        new DecompressingAsyncEntityConsumer<>(
+            decodingEntityConsumer, getTransferStatistics(endpointName));
+
+    // Log the request execution (debug only)
+    if (AsyncHttpRequestManager.isDebugEnabled) {
+      LOGGER.debug("Executing asynchronous HTTP streaming request: " + request.hashCode());
+    }
+
+    // Send the request
+    return sendInLane(
+        request,
+        lane,
+        deadlineMillis,
+        endpointName,
+        deviceName,
+        new BasicResponseConsumer<>(responseEntityConsumer),
+        callback);
+  }
+
+  /**
+   * Submits the specified HTTP request to the request lane scheduler of its route, and sends it
+   * once it is admitted. If the route is saturated, the request is rejected and the returned future
+   * fails with a {@link RejectedExecutionException}. The deadline of the request starts when it is
+   * submitted, and requests which are cancelled or exceed their deadline while queued are not sent.
+   *
+   * @param request HTTP request to send
+   * @param lane request lane to admit the request in
+   * @param deadlineMillis deadline (in milliseconds) of the request, or 0 for no deadline
+   * @param endpointName name of the Talk2M API endpoint, for latency statistics and the adaptive
+   *     in-flight request limit of the route
+   * @param deviceName name of the device (Ewon) which the request is sent to via the M2Web proxy,
+   *     or null if the request is not sent to a single device
+   * @param responseConsumer consumer for the HTTP response
+   * @param callback callback to execute when the request completes
+   * @param <T> the type of the response body
+   * @return {@link Future} object representing the request, including time spent queued
+   * @since 1.0.0
+   */
+  private static <T> Future<Message<HttpResponse, T>> sendInLane(
+      final SimpleHttpRequest request,
+      final RequestLane lane,
+      final long deadlineMillis,
+      final String endpointName,
+      final String deviceName,
+      final AsyncResponseConsumer<Message<HttpResponse, T>> responseConsumer,
+      final FutureCallback<Message<HttpResponse, T>> callback) {
+    final String routeName = String.valueOf(request.getAuthority());
+    final RequestLaneScheduler routeLaneScheduler =
+        ROUTE_LANE_SCHEDULERS.computeIfAbsent(
+            routeName,
+            name ->
+                new RequestLaneScheduler(HTTP_CXN_POOL_MAX_REQUESTS_PER_ROUTE, LANE_STATISTICS));
+    final LaneRequestFuture<T> future =
+        new LaneRequestFuture<>(callback, getLatencyStatistics(endpointName));
+
+    // Schedule the deadline of the request
+    final ScheduledThreadPoolExecutor timerExecutor = requestTimerExecutor;
+    if (deadlineMillis > 0 && timerExecutor != null) {
+      try {
+        future.setDeadlineTimer(
+            timerExecutor.schedule(
+                () -> future.expireDeadline(deadlineMillis),
+                deadlineMillis,
+                TimeUnit.MILLISECONDS));
+      } catch (RejectedExecutionException e) {
+        // Timer executor has been shut down, so the request fails when dispatched
+      }
+    }
+
+    // Submit the request, to be sent once admitted
+    final boolean accepted =
+        routeLaneScheduler.submit(
+            lane,
+            () ->
+                dispatchInLane(
+                    request,
+                    lane,
+                    endpointName,
+                    deviceName,
+                    routeLaneScheduler,
+                    responseConsumer,
+                    future));
+    if (!accepted) {
+      future.failed(
+          new RejectedExecutionException(
+              "Request rejected because the Talk2M route [" + routeName + "] is saturated."));
+    }
+    return future;
+  }
+
+  /**
+   * Sends the specified HTTP request, which has been admitted by the specified request lane
+   * scheduler. The in-flight request slot of the request is released when it completes, fails or is
+   * cancelled, and the latency and result of the request are recorded in the adaptive in-flight
+   * request limit of the route. Server overload responses (HTTP 429 and 5xx) and requests which
+   * exceed their deadline are recorded as failures. Server error responses (HTTP 5xx) and requests
+   * which exceed their deadline are attributed to the device of the request (if any), as they are
+   * then usually caused by the device behind the M2Web proxy rather than by the route.
+   *
+   * @param request HTTP request to send
+   * @param lane request lane the request was admitted in
+   * @param endpointName name of the Talk2M API endpoint of the request
+   * @param deviceName name of the device (Ewon) which the request is sent to via the M2Web proxy,
+   *     or null if the request is not sent to a single device
+   * @param routeLaneScheduler request lane scheduler of the route of the request
+   * @param responseConsumer consumer for the HTTP response
+   * @param future future to complete with the response
+   * @param <T> the type of the response body
+   * @since 1.0.0
+   */
+  private static <T> void dispatchInLane(
+      final SimpleHttpRequest request,
+      final RequestLane lane,
+      final String endpointName,
+      final String deviceName,
+      final RequestLaneScheduler routeLaneScheduler,
+      final AsyncResponseConsumer<Message<HttpResponse, T>> responseConsumer,
+      final LaneRequestFuture<T> future) {
+    // Skip request if cancelled or expired while queued, or fail if shut down while queued
+    final CloseableHttpAsyncClient client = httpAsyncClient;
+    if (future.isDone()) {
+      routeLaneScheduler.release(lane);
+      return;
+    }
+    if (client == null) {
+      routeLaneScheduler.release(lane);
+      future.failed(new IllegalStateException("Asynchronous HTTP manager has been shut down."));
+      return;
+    }
+
+    // Create callback to release the in-flight request slot before completing the future
+    final long sentTimeNanos = System.nanoTime();
+    final FutureCallback<Message<HttpResponse, T>> releasingCallback =
+        new FutureCallback<>() {
+          @Override
+          public void completed(Message<HttpResponse, T> response) {
+            final int statusCode = response.getHead().getCode();
+            final boolean rateLimited = statusCode == HttpStatus.SC_TOO_MANY_REQUESTS;
+            final boolean overloaded = rateLimited || statusCode >= HttpStatus.SC_SERVER_ERROR;
+            final String sampleDeviceName = rateLimited ? null : deviceName;
+            routeLaneScheduler.release(
+                lane,
+                endpointName,
+                sampleDeviceName,
+                System.nanoTime() - sentTimeNanos,
+                overloaded);
+            future.completed(response);
+          }
+
+          @Override
+          public void failed(Exception ex) {
+            final boolean failed = true;
+            final String connectionFailureDeviceName = null;
+            routeLaneScheduler.release(
+                lane,
+                endpointName,
+                connectionFailureDeviceName,
+                System.nanoTime() - sentTimeNanos,
+                failed);
+            future.failed(ex);
+          }
+
+          @Override
+          public void cancelled() {
+            if (future.isDeadlineExceeded()) {
+              final boolean failed = true;
+              routeLaneScheduler.release(
+                  lane, endpointName, deviceName, System.nanoTime() - sentTimeNanos, failed);
+            } else {
+              routeLaneScheduler.release(lane);
+            }
+            future.cancel();
+          }
+        };
+
+    // Send the request
+    try {
+      future.setExchange(
+          client.execute(
+              SimpleRequestProducer.create(request), responseConsumer, releasingCallback));
+    } catch (Exception e) {
+      routeLaneScheduler.release(lane);
+      future.failed(e);
+    }
+  }
+
+  /**
+   * Creates the map of request lanes to their statistics, with empty statistics for each lane.
+   *
+   * @return map of request lanes to their statistics
+   * @since 1.0.0
+   */
+  private static Map<RequestLane, RequestLaneStatistics> createLaneStatistics() {
+    Map<RequestLane, RequestLaneStatistics> laneStatistics = new EnumMap<>(RequestLane.class);
+    for (RequestLane lane : RequestLane.values()) {
+      laneStatistics.put(lane, new RequestLaneStatistics());
+    }
+    return Collections.unmodifiableMap(laneStatistics);
+  }
+
+  /**
+   * Gets the statistics (queue depth, in-flight requests and admission wait times) of each request
+   * lane, across all routes.
+   *
+   * @return unmodifiable map of request lanes to their statistics
+   * @since 1.0.0
+   */
+  public static Map<RequestLane, RequestLaneStatistics> getLaneStatistics() {
+    return LANE_STATISTICS;
+  }
+
+  /**
+   * Gets the transfer statistics for the specified Talk2M API endpoint, creating them if they do
+   * not yet exist.
+   *
+   * @param endpointName name of the Talk2M API endpoint
+   * @return transfer statistics for the Talk2M API endpoint
+   * @since 1.0.0
+   */
+  private static HttpTransferStatistics getTransferStatistics(String endpointName) {
+    return ENDPOINT_TRANSFER_STATISTICS.computeIfAbsent(
+        endpointName, name -> new HttpTransferStatistics());
+  }
+
+  /**
+   * Gets the latency statistics for the specified Talk2M API endpoint, creating them if they do not
+   * yet exist.
+   *
+   * @param endpointName name of the Talk2M API endpoint
+   * @return latency statistics for the Talk2M API endpoint
+   * @since 1.0.0
+   */
+  private static EndpointLatencyStatistics getLatencyStatistics(String endpointName) {
+    return ENDPOINT_LATENCY_STATISTICS.computeIfAbsent(
+        endpointName, name -> new EndpointLatencyStatistics());
+  }
+
+  /**
+   * Gets the latency statistics (95th percentile latency, hedged request count and deadline
+   * exceeded count) for each Talk2M API endpoint which has been used.
+   *
+   * @return unmodifiable map of endpoint names to their latency statistics
+   * @since 1.0.0
+   */
+  public static Map<String, EndpointLatencyStatistics> getEndpointLatencyStatistics() {
+    return Collections.unmodifiableMap(ENDPOINT_LATENCY_STATISTICS);
+  }
+
+  /**
+   * Gets the statistics of the response content transferred (bytes received on the wire and bytes
+   * after decompression) for each Talk2M API endpoint which has been used.
+   *
+   * @return unmodifiable map of endpoint names to their transfer statistics
+   * @since 1.0.0
+   */
+  public static Map<String, HttpTransferStatistics> getEndpointTransferStatistics() {
+    return Collections.unmodifiableMap(ENDPOINT_TRANSFER_STATISTICS);
+  }
+
+  /**
+   * Gets the request lane scheduler of each route (i.e. Talk2M host) which is in use, which
+   * report the adaptive in-flight request limit, in-flight request count and rejected request count
+   * of the route.
+   *
+   * @return unmodifiable map of route names ({@code host[:port]}) to their request lane schedulers
+   * @since 1.0.0
+   */
+  public static Map<String, RequestLaneScheduler> getRouteLaneSchedulers() {
+    return Collections.unmodifiableMap(ROUTE_LANE_SCHEDULERS);
+  }
+
+  /**
+   * Discards the request lane schedulers of routes which have had no requests in flight or queued
+   * for at least the specified time. A request which obtained a scheduler just before it was
+   * discarded is still admitted and released by that scheduler, and later requests to the route
+   * create a new scheduler.
+   *
+   * @param routeIdleTimeoutNanos the time (in nanoseconds) after which an idle route's scheduler is
+   *     discarded
+   * @since 1.0.0
+   */
+  private static void removeIdleRouteLaneSchedulers(long routeIdleTimeoutNanos) {
+    final long nowNanos = System.nanoTime();
+    ROUTE_LANE_SCHEDULERS
+        .values()
+        .removeIf(routeLaneScheduler -> routeLaneScheduler.isIdle(routeIdleTimeoutNanos, nowNanos));
+  }
+
+  /**
+   * Gets the statistics (leased, pending, available and maximum connections) of the HTTP connection
+   * pool for each route (i.e. Talk2M host) which has been used.
+   *
+   * @return map of route names ({@code host:port}) to their connection pool statistics. Empty if
+   *     the asynchronous HTTP manager has not been initialized.
+   * @since 1.0.0
+   */
+  public static Map<String, PoolStats> getRoutePoolStats() {
+    final PoolingAsyncClientConnectionManager connectionManager = asyncClientConnectionManager;
+    if (connectionManager == null) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, PoolStats> routePoolStats = new HashMap<>();
+    for (HttpRoute route : connectionManager.getRoutes()) {
+      routePoolStats.put(route.getTargetHost().toHostString(), connectionManager.getStats(route));
+    }
+    return routePoolStats;
+  }
+
+  /**
+   * Gets the total statistics (leased, pending, available and maximum connections) of the HTTP
+   * connection pool for all routes.
+   *
+   * @return total connection pool statistics, or null if the asynchronous HTTP manager has not been
+   *     initialized.
+   * @since 1.0.0
+   */
+  public static PoolStats getTotalPoolStats() {
+    final PoolingAsyncClientConnectionManager connectionManager = asyncClientConnectionManager;
+    return connectionManager != null ? connectionManager.getTotalStats() : null;
   }
 
   /**
@@ -6,6 +6,7 @@ import java.util.Date;
 import java.util.TimeZone;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.NameValuePair;
 
 /**
@@ -19,7 +20,19 @@ import org.apache.hc.core5.http.NameValuePair;
 public class CommunicationUtilities {
 
   /**
-   * Creates an HTTP post request with the given URL and parameters.
+   * The value of the {@code Accept-Encoding} header sent with HTTP post requests. Compressed
+   * response content is decompressed as it is streamed by {@link AsyncHttpRequestManager}.
+   *
+   * @since 1.0.0
+   */
+  private static final String ACCEPT_ENCODING_HEADER_VALUE =
+      DecompressingAsyncEntityConsumer.CONTENT_ENCODING_GZIP
+          + ", "
+          + DecompressingAsyncEntityConsumer.CONTENT_ENCODING_DEFLATE;
+
+  /**
+   * Creates an HTTP post request with the given URL and parameters. The request accepts {@code
+   * gzip} or {@code deflate} compressed response content.
    *
    * @param httpPostRequestUrl URL of the request
    * @param httpPostRequestParams parameters of the request
@@ -30,6 +43,7 @@ public class CommunicationUtilities {
       String httpPostRequestUrl, NameValuePair[] httpPostRequestParams) {
     return SimpleRequestBuilder.post(httpPostRequestUrl)
         .addParameters(httpPostRequestParams)
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING_HEADER_VALUE)
         .build();
   }
 
@@ -4,9 +4,8 @@ import com.hms_networks.americas.sc.ignition.comm.requests.dmw.DMWebGetEwonsRequ
 import com.hms_networks.americas.sc.ignition.comm.requests.dmw.DMWebSyncDataRequest;
 import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebGetEwonsResponse;
 import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebSyncDataResponse;
-import com.hms_networks.americas.sc.ignition.threading.FutureUtilities;
-import java.util.concurrent.Future;
-import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebSyncDataTagHandler;
+import java.util.concurrent.CompletableFuture;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
 /**
@@ -23,17 +22,17 @@ public class DMWebCommunicationManager {
    *
    * @param communicationAuthInfo the authentication information to use for the request
    * @param httpResponseFutureCallback the callback to use for the request
+   * @return future for asynchronous retrieval of the decoded response
    * @since 1.0.0
    */
-  public static Future<DMWebGetEwonsResponse> getEwonGatewayList(
+  public static CompletableFuture<DMWebGetEwonsResponse> getEwonGatewayList(
       CommunicationAuthInfo communicationAuthInfo,
-      FutureCallback<SimpleHttpResponse> httpResponseFutureCallback) {
+      FutureCallback<DMWebGetEwonsResponse> httpResponseFutureCallback) {
     // Build Ewon gateway list request
     DMWebGetEwonsRequest getEwonsRequest = new DMWebGetEwonsRequest(communicationAuthInfo);
 
     // Perform Ewon gateway list request
-    return FutureUtilities.getWrappedFuture(
-        getEwonsRequest.doRequest(httpResponseFutureCallback), DMWebGetEwonsResponse.class);
+    return getEwonsRequest.doRequest(httpResponseFutureCallback);
   }
 
   /**
@@ -44,20 +43,20 @@ public class DMWebCommunicationManager {
    * @param lastTransactionId the last transaction ID to use for the request
    * @param createTransaction the create transaction flag to use for the request
    * @param httpResponseFutureCallback the callback to use for the request
+   * @return future for asynchronous retrieval of the decoded response
    * @since 1.0.0
    */
-  public static Future<DMWebSyncDataResponse> syncData(
+  public static CompletableFuture<DMWebSyncDataResponse> syncData(
       CommunicationAuthInfo communicationAuthInfo,
       long lastTransactionId,
       boolean createTransaction,
-      FutureCallback<SimpleHttpResponse> httpResponseFutureCallback) {
+      FutureCallback<DMWebSyncDataResponse> httpResponseFutureCallback) {
     // Build Ewon gateway list request
     DMWebSyncDataRequest syncDataRequest =
         new DMWebSyncDataRequest(communicationAuthInfo, lastTransactionId, createTransaction);
 
     // Perform Ewon gateway list request
-    return FutureUtilities.getWrappedFuture(
-        syncDataRequest.doRequest(httpResponseFutureCallback), DMWebSyncDataResponse.class);
+    return syncDataRequest.doRequest(httpResponseFutureCallback);
   }
 
   /**
@@ -67,18 +66,70 @@ public class DMWebCommunicationManager {
    * @param communicationAuthInfo the authentication information to use for the request
    * @param createTransaction the create transaction flag to use for the request
    * @param httpResponseFutureCallback the callback to use for the request
+   * @return future for asynchronous retrieval of the decoded response
    * @since 1.0.0
    */
-  public static Future<DMWebSyncDataResponse> syncData(
+  public static CompletableFuture<DMWebSyncDataResponse> syncData(
       CommunicationAuthInfo communicationAuthInfo,
       boolean createTransaction,
-      FutureCallback<SimpleHttpResponse> httpResponseFutureCallback) {
+      FutureCallback<DMWebSyncDataResponse> httpResponseFutureCallback) {
     // Build Ewon gateway list request
     DMWebSyncDataRequest syncDataRequest =
         new DMWebSyncDataRequest(communicationAuthInfo, createTransaction);
 
     // Perform Ewon gateway list request
-    return FutureUtilities.getWrappedFuture(
-        syncDataRequest.doRequest(httpResponseFutureCallback), DMWebSyncDataResponse.class);
+    return syncDataRequest.doRequest(httpResponseFutureCallback);
+  }
+
+  /**
+   * Gets the latest DMWeb sync data using the specified authentication information, last
+   * transaction ID, and create transaction flag. The sync data response is parsed as it is
+   * streamed, and each tag is passed to the specified tag handler as soon as it has been parsed.
+   *
+   * @param communicationAuthInfo the authentication information to use for the request
+   * @param lastTransactionId the last transaction ID to use for the request
+   * @param createTransaction the create transaction flag to use for the request
+   * @param tagHandler the handler for each tag parsed from the sync data response
+   * @param httpResponseFutureCallback the callback to use for the request
+   * @return future for asynchronous retrieval of the decoded response, without tag data
+   * @since 1.0.0
+   */
+  public static CompletableFuture<DMWebSyncDataResponse> streamSyncData(
+      CommunicationAuthInfo communicationAuthInfo,
+      long lastTransactionId,
+      boolean createTransaction,
+      DMWebSyncDataTagHandler tagHandler,
+      FutureCallback<DMWebSyncDataResponse> httpResponseFutureCallback) {
+    // Build sync data request
+    DMWebSyncDataRequest syncDataRequest =
+        new DMWebSyncDataRequest(communicationAuthInfo, lastTransactionId, createTransaction);
+
+    // Perform streaming sync data request
+    return syncDataRequest.doStreamingRequest(tagHandler, httpResponseFutureCallback);
+  }
+
+  /**
+   * Gets the latest DMWeb sync data using the specified authentication information and create
+   * transaction flag. The sync data response is parsed as it is streamed, and each tag is passed to
+   * the specified tag handler as soon as it has been parsed.
+   *
+   * @param communicationAuthInfo the authentication information to use for the request
+   * @param createTransaction the create transaction flag to use for the request
+   * @param tagHandler the handler for each tag parsed from the sync data response
+   * @param httpResponseFutureCallback the callback to use for the request
+   * @return future for asynchronous retrieval of the decoded response, without tag data
+   * @since 1.0.0
+   */
+  public static CompletableFuture<DMWebSyncDataResponse> streamSyncData(
+      CommunicationAuthInfo communicationAuthInfo,
+      boolean createTransaction,
+      DMWebSyncDataTagHandler tagHandler,
+      FutureCallback<DMWebSyncDataResponse> httpResponseFutureCallback) {
+    // Build sync data request
+    DMWebSyncDataRequest syncDataRequest =
+        new DMWebSyncDataRequest(communicationAuthInfo, createTransaction);
+
+    // Perform streaming sync data request
+    return syncDataRequest.doStreamingRequest(tagHandler, httpResponseFutureCallback);
   }
 }
@@ -0,0 +1,732 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.nio.AsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+
+/**
+ * Asynchronous entity consumer which decompresses {@code gzip} or {@code deflate} encoded response
+ * content as it is received, and passes the decompressed content to a delegate {@link
+ * AsyncEntityConsumer}. Response content is decompressed in chunks directly from the I/O buffers,
+ * so the compressed response content is never buffered in full. Response content without a
+ * content encoding (or with the {@code identity} content encoding) is passed to the delegate
+ * unchanged.
+ *
+ * <p>The capacity requested by the delegate is a number of decompressed bytes, so it is scaled by
+ * the compression ratio observed so far before it is requested from the connection as compressed
+ * bytes. Otherwise, each window of compressed content would inflate into several times the content
+ * the delegate has room for.
+ *
+ * <p>The CRC32 and size in the trailer of each gzip member are checked against the decompressed
+ * content, and a gzip member may be followed by further members, which are decompressed in turn.
+ * Any other content after the end of the compressed data is rejected.
+ *
+ * <p>The number of response content bytes received on the wire and the number of bytes after
+ * decompression are added to the specified {@link HttpTransferStatistics}.
+ *
+ * @param <T> The type of the content produced by the delegate entity consumer.
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class DecompressingAsyncEntityConsumer<T> implements AsyncEntityConsumer<T> {
+
+  /**
+   * The {@code gzip} content encoding.
+   *
+   * @since 1.0.0
+   */
+  static final String CONTENT_ENCODING_GZIP = "gzip";
+
+  /**
+   * The legacy {@code x-gzip} content encoding, which is equivalent to {@code gzip}.
+   *
+   * @since 1.0.0
+   */
+  private static final String CONTENT_ENCODING_X_GZIP = "x-gzip";
+
+  /**
+   * The {@code deflate} content encoding (zlib format).
+   *
+   * @since 1.0.0
+   */
+  static final String CONTENT_ENCODING_DEFLATE = "deflate";
+
+  /**
+   * The {@code identity} content encoding (no encoding).
+   *
+   * @since 1.0.0
+   */
+  private static final String CONTENT_ENCODING_IDENTITY = "identity";
+
+  /**
+   * The size (in bytes) of the buffer used to pass decompressed content to the delegate.
+   *
+   * @since 1.0.0
+   */
+  private static final int DECOMPRESSED_BUFFER_SIZE_BYTES = 8 * 1024;
+
+  /**
+   * The assumed ratio of compressed to decompressed bytes, used to scale the capacity requested by
+   * the delegate before any content has been decompressed.
+   *
+   * @since 1.0.0
+   */
+  private static final double INITIAL_COMPRESSION_RATIO = 0.1;
+
+  /**
+   * The first byte of the gzip header magic number.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_MAGIC_BYTE_1 = 0x1F;
+
+  /**
+   * The second byte of the gzip header magic number.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_MAGIC_BYTE_2 = 0x8B;
+
+  /**
+   * The gzip header compression method value for deflate, which is the only defined method.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_METHOD_DEFLATE = 8;
+
+  /**
+   * The length (in bytes) of the fixed portion of the gzip header.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FIXED_HEADER_LENGTH = 10;
+
+  /**
+   * The index of the flags byte in the fixed portion of the gzip header.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FLAGS_INDEX = 3;
+
+  /**
+   * The gzip header flag indicating that a header CRC16 is present.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FLAG_HCRC = 0x02;
+
+  /**
+   * The gzip header flag indicating that an extra field is present.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FLAG_EXTRA = 0x04;
+
+  /**
+   * The gzip header flag indicating that a zero-terminated file name is present.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FLAG_NAME = 0x08;
+
+  /**
+   * The gzip header flag indicating that a zero-terminated file comment is present.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FLAG_COMMENT = 0x10;
+
+  /**
+   * The length (in bytes) of the gzip extra field length and header CRC16 fields.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_TWO_BYTE_FIELD_LENGTH = 2;
+
+  /**
+   * The length (in bytes) of the gzip trailer, which contains the CRC32 and the size (modulo 2^32)
+   * of the decompressed data of the member.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_TRAILER_LENGTH = 8;
+
+  /**
+   * The length (in bytes) of the CRC32 field of the gzip trailer.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_TRAILER_CRC_LENGTH = 4;
+
+  /**
+   * The mask applied to the decompressed size of a gzip member, which is stored modulo 2^32 in the
+   * trailer.
+   *
+   * @since 1.0.0
+   */
+  private static final long GZIP_TRAILER_SIZE_MASK = 0xFFFFFFFFL;
+
+  /**
+   * The gzip header parsing stage for the fixed portion of the header.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_FIXED = 0;
+
+  /**
+   * The gzip header parsing stage for the extra field length.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_EXTRA_LENGTH = 1;
+
+  /**
+   * The gzip header parsing stage for the extra field data.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_EXTRA_DATA = 2;
+
+  /**
+   * The gzip header parsing stage for the file name.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_NAME = 3;
+
+  /**
+   * The gzip header parsing stage for the file comment.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_COMMENT = 4;
+
+  /**
+   * The gzip header parsing stage for the header CRC16.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_HCRC = 5;
+
+  /**
+   * The gzip header parsing stage once the header has been fully parsed.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_HEADER_STAGE_DONE = 6;
+
+  /**
+   * The delegate entity consumer which receives the decompressed response content.
+   *
+   * @since 1.0.0
+   */
+  private final AsyncEntityConsumer<T> delegate;
+
+  /**
+   * The transfer statistics to add the received and decompressed byte counts to.
+   *
+   * @since 1.0.0
+   */
+  private final HttpTransferStatistics transferStatistics;
+
+  /**
+   * The inflater used to decompress the response content, or null if the response content is not
+   * compressed.
+   *
+   * @since 1.0.0
+   */
+  private Inflater inflater = null;
+
+  /**
+   * The buffer used to pass decompressed content to the delegate.
+   *
+   * @since 1.0.0
+   */
+  private ByteBuffer decompressedBuffer = null;
+
+  /**
+   * The checksum of the decompressed data of the current gzip member, or null if the response
+   * content is not gzip encoded.
+   *
+   * @since 1.0.0
+   */
+  private CRC32 gzipCrc = null;
+
+  /**
+   * The number of decompressed bytes of the current gzip member.
+   *
+   * @since 1.0.0
+   */
+  private long gzipMemberSize = 0;
+
+  /**
+   * The number of gzip members which have been fully decompressed and checked.
+   *
+   * @since 1.0.0
+   */
+  private int gzipMembersCompleted = 0;
+
+  /**
+   * The current gzip header parsing stage. Response content which is not gzip encoded starts at
+   * {@link #GZIP_HEADER_STAGE_DONE}.
+   *
+   * @since 1.0.0
+   */
+  private int gzipHeaderStage = GZIP_HEADER_STAGE_DONE;
+
+  /**
+   * The number of bytes of the fixed portion of the gzip header which have been parsed.
+   *
+   * @since 1.0.0
+   */
+  private int gzipHeaderFixedBytesParsed = 0;
+
+  /**
+   * The flags of the gzip header.
+   *
+   * @since 1.0.0
+   */
+  private int gzipHeaderFlags = 0;
+
+  /**
+   * The number of bytes remaining in the current gzip header field.
+   *
+   * @since 1.0.0
+   */
+  private int gzipHeaderFieldBytesRemaining = 0;
+
+  /**
+   * The value of the gzip extra field length, as parsed so far.
+   *
+   * @since 1.0.0
+   */
+  private int gzipHeaderExtraLength = 0;
+
+  /**
+   * The number of bytes of the trailer of the current gzip member which have been parsed.
+   *
+   * @since 1.0.0
+   */
+  private int gzipTrailerBytesParsed = 0;
+
+  /**
+   * The value of the trailer of the current gzip member (CRC32 in the low 32 bits, size in the high
+   * 32 bits), as parsed so far.
+   *
+   * @since 1.0.0
+   */
+  private long gzipTrailer = 0;
+
+  /**
+   * The total number of compressed response content bytes received, used to estimate the
+   * compression ratio.
+   *
+   * @since 1.0.0
+   */
+  private volatile long compressedByteCount = 0;
+
+  /**
+   * The total number of decompressed bytes passed to the delegate, used to estimate the compression
+   * ratio.
+   *
+   * @since 1.0.0
+   */
+  private volatile long decompressedByteCount = 0;
+
+  /**
+   * Constructs a new {@link DecompressingAsyncEntityConsumer} which passes decompressed response
+   * content to the specified delegate.
+   *
+   * @param delegate the delegate entity consumer which receives the decompressed response content
+   * @param transferStatistics the transfer statistics to add the received and decompressed byte
+   *     counts to
+   * @since 1.0.0
+   */
+  DecompressingAsyncEntityConsumer(
+      AsyncEntityConsumer<T> delegate, HttpTransferStatistics transferStatistics) {
+    this.delegate = delegate;
+    this.transferStatistics = transferStatistics;
+  }
+
+  /**
+   * Prepares to decompress the response content according to its content encoding, then starts the
+   * delegate entity consumer.
+   *
+   * @param entityDetails the details of the response entity
+   * @param resultCallback the callback for the result of the delegate entity consumer
+   * @throws HttpException if the delegate entity consumer fails to start
+   * @throws IOException if the content encoding is not supported
+   * @since 1.0.0
+   */
+  @Override
+  public void streamStart(EntityDetails entityDetails, FutureCallback<T> resultCallback)
+      throws HttpException, IOException {
+    // Create inflater for content encoding (if applicable)
+    final String contentEncoding = entityDetails.getContentEncoding();
+    if (contentEncoding != null) {
+      final String normalizedContentEncoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+      if (normalizedContentEncoding.equals(CONTENT_ENCODING_GZIP)
+          || normalizedContentEncoding.equals(CONTENT_ENCODING_X_GZIP)) {
+        final boolean nowrap = true;
+        inflater = new Inflater(nowrap);
+        gzipCrc = new CRC32();
+        gzipHeaderStage = GZIP_HEADER_STAGE_FIXED;
+      } else if (normalizedContentEncoding.equals(CONTENT_ENCODING_DEFLATE)) {
+        final boolean nowrap = false;
+        inflater = new Inflater(nowrap);
+      } else if (!normalizedContentEncoding.isEmpty()
+          && !normalizedContentEncoding.equals(CONTENT_ENCODING_IDENTITY)) {
+        throw new IOException("Unsupported response content encoding: " + contentEncoding);
+      }
+    }
+    if (inflater != null) {
+      decompressedBuffer = ByteBuffer.allocate(DECOMPRESSED_BUFFER_SIZE_BYTES);
+    }
+
+    delegate.streamStart(entityDetails, resultCallback);
+  }
+
+  /**
+   * Updates the capacity of the delegate entity consumer. If the response content is compressed,
+   * the capacity requested by the delegate (in decompressed bytes) is scaled by the observed
+   * compression ratio before it is requested from the specified capacity channel.
+   *
+   * @param capacityChannel the capacity channel
+   * @throws IOException if the capacity could not be updated
+   * @since 1.0.0
+   */
+  @Override
+  public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+    if (inflater == null) {
+      delegate.updateCapacity(capacityChannel);
+    } else {
+      delegate.updateCapacity(
+          increment -> capacityChannel.update(getCompressedCapacityIncrement(increment)));
+    }
+  }
+
+  /**
+   * Consumes a chunk of response content, decompressing it (if applicable) and passing it to the
+   * delegate entity consumer.
+   *
+   * @param src the chunk of response content
+   * @throws IOException if the response content could not be decompressed or consumed
+   * @since 1.0.0
+   */
+  @Override
+  public void consume(ByteBuffer src) throws IOException {
+    transferStatistics.addWireBytes(src.remaining());
+
+    // Pass content directly to delegate if not compressed
+    if (inflater == null) {
+      transferStatistics.addDecodedBytes(src.remaining());
+      delegate.consume(src);
+      return;
+    }
+    compressedByteCount += src.remaining();
+
+    while (src.hasRemaining()) {
+      // Parse gzip header (if applicable)
+      if (gzipHeaderStage != GZIP_HEADER_STAGE_DONE) {
+        parseGzipHeader(src);
+        if (gzipHeaderStage != GZIP_HEADER_STAGE_DONE) {
+          break;
+        }
+      }
+
+      // Decompress content and pass it to delegate
+      if (!inflater.finished()) {
+        inflate(src);
+        if (!inflater.finished()) {
+          break;
+        }
+      }
+
+      // Check gzip trailer, then continue with the next gzip member (if any)
+      if (gzipCrc != null) {
+        parseGzipTrailer(src);
+      } else if (src.hasRemaining()) {
+        throw new IOException("Unexpected response content after the end of the compressed data.");
+      }
+    }
+  }
+
+  /**
+   * Completes the response content stream, and the delegate entity consumer.
+   *
+   * @param trailers the trailers of the response, if any
+   * @throws HttpException if the delegate entity consumer fails to complete
+   * @throws IOException if the compressed response content is truncated
+   * @since 1.0.0
+   */
+  @Override
+  public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+    if (inflater != null) {
+      final boolean complete =
+          gzipCrc != null
+              ? gzipMembersCompleted > 0
+                  && gzipHeaderStage == GZIP_HEADER_STAGE_FIXED
+                  && gzipHeaderFixedBytesParsed == 0
+              : inflater.finished();
+      if (!complete) {
+        throw new IOException("Compressed response content is truncated.");
+      }
+    }
+    delegate.streamEnd(trailers);
+  }
+
+  /**
+   * Passes the specified failure to the delegate entity consumer.
+   *
+   * @param cause the cause of the failure
+   * @since 1.0.0
+   */
+  @Override
+  public void failed(Exception cause) {
+    delegate.failed(cause);
+  }
+
+  /**
+   * Gets the content produced by the delegate entity consumer.
+   *
+   * @return the content produced by the delegate entity consumer
+   * @since 1.0.0
+   */
+  @Override
+  public T getContent() {
+    return delegate.getContent();
+  }
+
+  /**
+   * Releases the inflater (if applicable), and the resources of the delegate entity consumer.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void releaseResources() {
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+    delegate.releaseResources();
+  }
+
+  /**
+   * Gets the number of compressed bytes to request from the connection for the specified capacity
+   * increment of the delegate (in decompressed bytes), using the compression ratio observed so far.
+   * At least one byte is requested, so that the response content stream never stalls.
+   *
+   * @param decompressedIncrement the capacity increment of the delegate, in decompressed bytes
+   * @return the capacity increment to request from the connection, in compressed bytes
+   * @since 1.0.0
+   */
+  private int getCompressedCapacityIncrement(int decompressedIncrement) {
+    final long compressed = compressedByteCount;
+    final long decompressed = decompressedByteCount;
+    final double compressionRatio =
+        compressed > 0 && decompressed > 0
+            ? Math.min(1, (double) compressed / decompressed)
+            : INITIAL_COMPRESSION_RATIO;
+    return (int) Math.max(1, Math.ceil(decompressedIncrement * compressionRatio));
+  }
+
+  /**
+   * Decompresses the specified chunk of response content, passing the decompressed content to the
+   * delegate entity consumer, until the chunk has been fully consumed or the end of the compressed
+   * data has been reached. Any content after the end of the compressed data is left in the chunk.
+   *
+   * @param src the chunk of response content
+   * @throws IOException if the response content could not be decompressed or consumed
+   * @since 1.0.0
+   */
+  private void inflate(ByteBuffer src) throws IOException {
+    inflater.setInput(src);
+    try {
+      int inflatedByteCount;
+      do {
+        decompressedBuffer.clear();
+        inflatedByteCount = inflater.inflate(decompressedBuffer);
+        if (inflatedByteCount == 0 && inflater.needsDictionary()) {
+          throw new IOException("Compressed response content requires a preset dictionary.");
+        }
+        if (inflatedByteCount > 0) {
+          if (gzipCrc != null) {
+            gzipCrc.update(decompressedBuffer.array(), 0, inflatedByteCount);
+            gzipMemberSize += inflatedByteCount;
+          }
+          decompressedByteCount += inflatedByteCount;
+          decompressedBuffer.flip();
+          transferStatistics.addDecodedBytes(inflatedByteCount);
+          delegate.consume(decompressedBuffer);
+        }
+
+        // Continue while input remains, or the output buffer was filled (more output pending)
+      } while (!inflater.finished()
+          && (!inflater.needsInput() || inflatedByteCount == decompressedBuffer.capacity()));
+    } catch (DataFormatException e) {
+      throw new IOException("Invalid compressed response content.", e);
+    }
+  }
+
+  /**
+   * Parses and checks the trailer of the current gzip member from the specified chunk of response
+   * content. The gzip trailer may span multiple chunks, so parsing continues from the number of
+   * trailer bytes already parsed. Once the trailer has been fully parsed and checked, the inflater
+   * is reset to decompress the next gzip member (if any).
+   *
+   * @param src the chunk of response content
+   * @throws IOException if the CRC32 or size in the gzip trailer does not match the decompressed
+   *     data of the member
+   * @since 1.0.0
+   */
+  private void parseGzipTrailer(ByteBuffer src) throws IOException {
+    while (gzipTrailerBytesParsed < GZIP_TRAILER_LENGTH && src.hasRemaining()) {
+      // Trailer fields are little-endian
+      gzipTrailer |= (long) (src.get() & 0xFF) << (Byte.SIZE * gzipTrailerBytesParsed);
+      gzipTrailerBytesParsed++;
+    }
+
+    if (gzipTrailerBytesParsed == GZIP_TRAILER_LENGTH) {
+      final long trailerCrc = gzipTrailer & GZIP_TRAILER_SIZE_MASK;
+      final long trailerSize =
+          (gzipTrailer >>> (Byte.SIZE * GZIP_TRAILER_CRC_LENGTH)) & GZIP_TRAILER_SIZE_MASK;
+      if (trailerCrc != gzipCrc.getValue()) {
+        throw new IOException("Invalid CRC32 in gzip trailer of response content.");
+      }
+      if (trailerSize != (gzipMemberSize & GZIP_TRAILER_SIZE_MASK)) {
+        throw new IOException("Invalid size in gzip trailer of response content.");
+      }
+
+      // Prepare for the next gzip member (if any)
+      gzipMembersCompleted++;
+      inflater.reset();
+      gzipCrc.reset();
+      gzipMemberSize = 0;
+      gzipTrailer = 0;
+      gzipTrailerBytesParsed = 0;
+      gzipHeaderStage = GZIP_HEADER_STAGE_FIXED;
+      gzipHeaderFixedBytesParsed = 0;
+      gzipHeaderFlags = 0;
+      gzipHeaderExtraLength = 0;
+    }
+  }
+
+  /**
+   * Parses (and discards) the gzip header from the specified chunk of response content. The gzip
+   * header may span multiple chunks, so parsing continues from the current gzip header parsing
+   * stage, and stops when the header has been fully parsed or the chunk has been fully consumed.
+   *
+   * @param src the chunk of response content
+   * @throws IOException if the gzip header is invalid
+   * @since 1.0.0
+   */
+  private void parseGzipHeader(ByteBuffer src) throws IOException {
+    while (gzipHeaderStage != GZIP_HEADER_STAGE_DONE && src.hasRemaining()) {
+      final int headerByte = src.get() & 0xFF;
+      switch (gzipHeaderStage) {
+        case GZIP_HEADER_STAGE_FIXED:
+          if ((gzipHeaderFixedBytesParsed == 0 && headerByte != GZIP_MAGIC_BYTE_1)
+              || (gzipHeaderFixedBytesParsed == 1 && headerByte != GZIP_MAGIC_BYTE_2)
+              || (gzipHeaderFixedBytesParsed == 2 && headerByte != GZIP_METHOD_DEFLATE)) {
+            throw new IOException("Invalid gzip header in response content.");
+          }
+          if (gzipHeaderFixedBytesParsed == GZIP_FLAGS_INDEX) {
+            gzipHeaderFlags = headerByte;
+          }
+          gzipHeaderFixedBytesParsed++;
+          if (gzipHeaderFixedBytesParsed == GZIP_FIXED_HEADER_LENGTH) {
+            advanceGzipHeaderStage();
+          }
+          break;
+        case GZIP_HEADER_STAGE_EXTRA_LENGTH:
+          // Extra field length is little-endian
+          final int extraLengthByteIndex =
+              GZIP_TWO_BYTE_FIELD_LENGTH - gzipHeaderFieldBytesRemaining;
+          gzipHeaderExtraLength |= headerByte << (Byte.SIZE * extraLengthByteIndex);
+          gzipHeaderFieldBytesRemaining--;
+          if (gzipHeaderFieldBytesRemaining == 0) {
+            gzipHeaderStage = GZIP_HEADER_STAGE_EXTRA_DATA;
+            gzipHeaderFieldBytesRemaining = gzipHeaderExtraLength;
+            if (gzipHeaderFieldBytesRemaining == 0) {
+              advanceGzipHeaderStage();
+            }
+          }
+          break;
+        case GZIP_HEADER_STAGE_EXTRA_DATA:
+        case GZIP_HEADER_STAGE_HCRC:
+          gzipHeaderFieldBytesRemaining--;
+          if (gzipHeaderFieldBytesRemaining == 0) {
+            advanceGzipHeaderStage();
+          }
+          break;
+        case GZIP_HEADER_STAGE_NAME:
+        case GZIP_HEADER_STAGE_COMMENT:
+        default:
+          // File name and comment are zero-terminated
+          if (headerByte == 0) {
+            advanceGzipHeaderStage();
+          }
+          break;
+      }
+    }
+  }
+
+  /**
+   * Advances the gzip header parsing stage to the next stage which is present in the header,
+   * according to the gzip header flags.
+   *
+   * @since 1.0.0
+   */
+  private void advanceGzipHeaderStage() {
+    do {
+      gzipHeaderStage++;
+    } while (gzipHeaderStage != GZIP_HEADER_STAGE_DONE && !isGzipHeaderStagePresent());
+
+    if (gzipHeaderStage == GZIP_HEADER_STAGE_EXTRA_LENGTH
+        || gzipHeaderStage == GZIP_HEADER_STAGE_HCRC) {
+      gzipHeaderFieldBytesRemaining = GZIP_TWO_BYTE_FIELD_LENGTH;
+    }
+  }
+
+  /**
+   * Checks if the current gzip header parsing stage is present in the header, according to the
+   * gzip header flags. The extra field data stage is only entered from the extra field length
+   * stage, so it is never considered present here.
+   *
+   * @return true if the current gzip header parsing stage is present, false otherwise
+   * @since 1.0.0
+   */
+  private boolean isGzipHeaderStagePresent() {
+    boolean present;
+    switch (gzipHeaderStage) {
+      case GZIP_HEADER_STAGE_EXTRA_LENGTH:
+        present = (gzipHeaderFlags & GZIP_FLAG_EXTRA) != 0;
+        break;
+      case GZIP_HEADER_STAGE_NAME:
+        present = (gzipHeaderFlags & GZIP_FLAG_NAME) != 0;
+        break;
+      case GZIP_HEADER_STAGE_COMMENT:
+        present = (gzipHeaderFlags & GZIP_FLAG_COMMENT) != 0;
+        break;
+      case GZIP_HEADER_STAGE_HCRC:
+        present = (gzipHeaderFlags & GZIP_FLAG_HCRC) != 0;
+        break;
+      case GZIP_HEADER_STAGE_EXTRA_DATA:
+      default:
+        present = false;
+        break;
+    }
+    return present;
+  }
+}
@@ -0,0 +1,157 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for tracking the latency of requests to a Talk2M API endpoint, from submission to
+ * completion, and the number of requests to the endpoint which were hedged or exceeded their
+ * deadline. The 95th percentile latency is calculated from a window of the most recent successful
+ * requests, and is used to decide when an idempotent request is hedged.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class EndpointLatencyStatistics {
+
+  /**
+   * The number of most recent request latencies which the 95th percentile latency is calculated
+   * from.
+   *
+   * @since 1.0.0
+   */
+  private static final int LATENCY_WINDOW_SIZE = 200;
+
+  /**
+   * The minimum number of recorded request latencies required to calculate the 95th percentile
+   * latency.
+   *
+   * @since 1.0.0
+   */
+  private static final int MIN_PERCENTILE_SAMPLE_COUNT = 20;
+
+  /**
+   * The number of request latencies recorded between recalculations of the 95th percentile
+   * latency.
+   *
+   * @since 1.0.0
+   */
+  private static final int PERCENTILE_RECALCULATION_INTERVAL = 10;
+
+  /**
+   * The percentile of request latencies which is calculated.
+   *
+   * @since 1.0.0
+   */
+  private static final double LATENCY_PERCENTILE = 0.95;
+
+  /**
+   * Ring buffer of the most recent request latencies (in milliseconds).
+   *
+   * @since 1.0.0
+   */
+  private final long[] latencyWindowMillis = new long[LATENCY_WINDOW_SIZE];
+
+  /**
+   * The total number of request latencies recorded.
+   *
+   * @since 1.0.0
+   */
+  private long recordedCount = 0;
+
+  /**
+   * The most recently calculated 95th percentile latency (in milliseconds), or 0 if not enough
+   * request latencies have been recorded.
+   *
+   * @since 1.0.0
+   */
+  private volatile long p95LatencyMillis = 0;
+
+  /**
+   * The total number of hedged requests sent to the endpoint.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder hedgedCount = new LongAdder();
+
+  /**
+   * The total number of requests to the endpoint which exceeded their deadline.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder deadlineExceededCount = new LongAdder();
+
+  /**
+   * Records the latency of a successful request to the endpoint, and periodically recalculates the
+   * 95th percentile latency.
+   *
+   * @param latencyMillis the latency (in milliseconds) of the request, from submission to
+   *     completion
+   * @since 1.0.0
+   */
+  synchronized void recordLatency(long latencyMillis) {
+    latencyWindowMillis[(int) (recordedCount % LATENCY_WINDOW_SIZE)] = latencyMillis;
+    recordedCount++;
+
+    // Recalculate percentile periodically, once enough latencies are recorded
+    if (recordedCount >= MIN_PERCENTILE_SAMPLE_COUNT
+        && recordedCount % PERCENTILE_RECALCULATION_INTERVAL == 0) {
+      final int sampleCount = (int) Math.min(recordedCount, LATENCY_WINDOW_SIZE);
+      final long[] sortedLatenciesMillis = Arrays.copyOf(latencyWindowMillis, sampleCount);
+      Arrays.sort(sortedLatenciesMillis);
+      final int percentileIndex = (int) Math.ceil(sampleCount * LATENCY_PERCENTILE) - 1;
+      p95LatencyMillis = sortedLatenciesMillis[percentileIndex];
+    }
+  }
+
+  /**
+   * Records that a hedged request was sent to the endpoint.
+   *
+   * @since 1.0.0
+   */
+  void recordHedged() {
+    hedgedCount.increment();
+  }
+
+  /**
+   * Records that a request to the endpoint exceeded its deadline.
+   *
+   * @since 1.0.0
+   */
+  void recordDeadlineExceeded() {
+    deadlineExceededCount.increment();
+  }
+
+  /**
+   * Gets the 95th percentile latency (in milliseconds) of recent successful requests to the
+   * endpoint.
+   *
+   * @return the 95th percentile latency (in milliseconds), or 0 if not enough requests have
+   *     completed to calculate it
+   * @since 1.0.0
+   */
+  public long getP95LatencyMillis() {
+    return p95LatencyMillis;
+  }
+
+  /**
+   * Gets the total number of hedged requests sent to the endpoint.
+   *
+   * @return the total number of hedged requests
+   * @since 1.0.0
+   */
+  public long getHedgedCount() {
+    return hedgedCount.sum();
+  }
+
+  /**
+   * Gets the total number of requests to the endpoint which exceeded their deadline.
+   *
+   * @return the total number of requests which exceeded their deadline
+   * @since 1.0.0
+   */
+  public long getDeadlineExceededCount() {
+    return deadlineExceededCount.sum();
+  }
+}
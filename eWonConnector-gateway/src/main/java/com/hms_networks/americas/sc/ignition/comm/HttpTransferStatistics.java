@@ -0,0 +1,68 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for tracking the amount of HTTP response content transferred for a Talk2M API endpoint,
+ * both as received on the wire (possibly compressed) and after decoding (decompressed).
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class HttpTransferStatistics {
+
+  /**
+   * The total number of response content bytes received on the wire.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder wireBytes = new LongAdder();
+
+  /**
+   * The total number of response content bytes after decoding.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder decodedBytes = new LongAdder();
+
+  /**
+   * Adds the specified number of response content bytes received on the wire.
+   *
+   * @param byteCount the number of bytes received on the wire
+   * @since 1.0.0
+   */
+  void addWireBytes(long byteCount) {
+    wireBytes.add(byteCount);
+  }
+
+  /**
+   * Adds the specified number of response content bytes after decoding.
+   *
+   * @param byteCount the number of bytes after decoding
+   * @since 1.0.0
+   */
+  void addDecodedBytes(long byteCount) {
+    decodedBytes.add(byteCount);
+  }
+
+  /**
+   * Gets the total number of response content bytes received on the wire.
+   *
+   * @return the total number of response content bytes received on the wire
+   * @since 1.0.0
+   */
+  public long getWireBytes() {
+    return wireBytes.sum();
+  }
+
+  /**
+   * Gets the total number of response content bytes after decoding.
+   *
+   * @return the total number of response content bytes after decoding
+   * @since 1.0.0
+   */
+  public long getDecodedBytes() {
+    return decodedBytes.sum();
+  }
+}
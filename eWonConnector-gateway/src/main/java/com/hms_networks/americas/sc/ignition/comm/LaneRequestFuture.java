@@ -0,0 +1,190 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.core5.concurrent.BasicFuture;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+
+/**
+ * Class for the future of an HTTP request which is submitted to a {@link RequestLaneScheduler},
+ * from submission until the response is received. The future may have a deadline, after which it
+ * fails with a {@link TimeoutException} and the in-flight HTTP exchange (if any) is cancelled,
+ * regardless of whether response content is still being received. The latency of successful
+ * requests and the number of requests which exceed their deadline are recorded in the {@link
+ * EndpointLatencyStatistics} of the endpoint.
+ *
+ * @param <T> the type of the response body
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class LaneRequestFuture<T> extends BasicFuture<Message<HttpResponse, T>> {
+
+  /**
+   * The latency statistics of the endpoint of the request.
+   *
+   * @since 1.0.0
+   */
+  private final EndpointLatencyStatistics latencyStatistics;
+
+  /**
+   * The time (from {@link System#nanoTime()}) at which the request was submitted.
+   *
+   * @since 1.0.0
+   */
+  private final long submittedTimeNanos = System.nanoTime();
+
+  /**
+   * The future of the in-flight HTTP exchange, or null if the request has not been sent.
+   *
+   * @since 1.0.0
+   */
+  private volatile Future<?> exchange = null;
+
+  /**
+   * The timer which expires the deadline of the request, or null if the request has no deadline.
+   *
+   * @since 1.0.0
+   */
+  private volatile Future<?> deadlineTimer = null;
+
+  /**
+   * Boolean indicating if the request failed because it exceeded its deadline.
+   *
+   * @since 1.0.0
+   */
+  private volatile boolean deadlineExceeded = false;
+
+  /**
+   * Constructs a new {@link LaneRequestFuture}.
+   *
+   * @param callback the callback to execute when the request completes, fails or is cancelled
+   * @param latencyStatistics the latency statistics of the endpoint of the request
+   * @since 1.0.0
+   */
+  LaneRequestFuture(
+      FutureCallback<Message<HttpResponse, T>> callback,
+      EndpointLatencyStatistics latencyStatistics) {
+    super(callback);
+    this.latencyStatistics = latencyStatistics;
+  }
+
+  /**
+   * Sets the timer which expires the deadline of the request. The timer is cancelled when the
+   * request completes, fails or is cancelled.
+   *
+   * @param deadlineTimer the timer which calls {@link #expireDeadline(long)}
+   * @since 1.0.0
+   */
+  void setDeadlineTimer(Future<?> deadlineTimer) {
+    this.deadlineTimer = deadlineTimer;
+    if (isDone()) {
+      cancelDeadlineTimer();
+    }
+  }
+
+  /**
+   * Sets the future of the in-flight HTTP exchange of the request, which is cancelled if the
+   * request exceeds its deadline or is cancelled.
+   *
+   * @param exchange the future of the in-flight HTTP exchange
+   * @since 1.0.0
+   */
+  void setExchange(Future<?> exchange) {
+    this.exchange = exchange;
+    if (isDone()) {
+      cancelExchange();
+    }
+  }
+
+  /**
+   * Fails the request with a {@link TimeoutException} because it exceeded its deadline, and
+   * cancels the in-flight HTTP exchange (if any). Does nothing if the request is already done.
+   *
+   * @param deadlineMillis the deadline (in milliseconds) of the request, for the exception message
+   * @since 1.0.0
+   */
+  void expireDeadline(long deadlineMillis) {
+    final boolean expired =
+        super.failed(
+            new TimeoutException(
+                "Request did not complete within its deadline of " + deadlineMillis + " ms."));
+    if (expired) {
+      deadlineExceeded = true;
+      latencyStatistics.recordDeadlineExceeded();
+      cancelExchange();
+    }
+  }
+
+  /**
+   * Returns a boolean indicating if the request failed because it exceeded its deadline.
+   *
+   * @return true if the request exceeded its deadline, false otherwise
+   * @since 1.0.0
+   */
+  boolean isDeadlineExceeded() {
+    return deadlineExceeded;
+  }
+
+  @Override
+  public boolean completed(Message<HttpResponse, T> result) {
+    final boolean completed = super.completed(result);
+    if (completed) {
+      cancelDeadlineTimer();
+      if (result.getHead().getCode() < HttpStatus.SC_CLIENT_ERROR) {
+        latencyStatistics.recordLatency(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedTimeNanos));
+      }
+    }
+    return completed;
+  }
+
+  @Override
+  public boolean failed(Exception exception) {
+    final boolean failed = super.failed(exception);
+    if (failed) {
+      cancelDeadlineTimer();
+    }
+    return failed;
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    final boolean cancelled = super.cancel(mayInterruptIfRunning);
+    if (cancelled) {
+      cancelDeadlineTimer();
+      cancelExchange();
+    }
+    return cancelled;
+  }
+
+  /**
+   * Cancels the deadline timer of the request, if it has one.
+   *
+   * @since 1.0.0
+   */
+  private void cancelDeadlineTimer() {
+    final Future<?> timer = deadlineTimer;
+    if (timer != null) {
+      final boolean mayInterruptIfRunning = false;
+      timer.cancel(mayInterruptIfRunning);
+    }
+  }
+
+  /**
+   * Cancels the in-flight HTTP exchange of the request, if it has been sent.
+   *
+   * @since 1.0.0
+   */
+  private void cancelExchange() {
+    final Future<?> inFlightExchange = exchange;
+    if (inFlightExchange != null) {
+      final boolean mayInterruptIfRunning = true;
+      inFlightExchange.cancel(mayInterruptIfRunning);
+    }
+  }
+}
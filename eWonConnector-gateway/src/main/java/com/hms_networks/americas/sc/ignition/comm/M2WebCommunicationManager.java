@@ -1,23 +1,34 @@
 package com.hms_networks.americas.sc.ignition.comm;
 
+import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
 import com.hms_networks.americas.sc.ignition.comm.requests.m2w.M2WebEwonEBDInstantValuesRequest;
 import com.hms_networks.americas.sc.ignition.comm.requests.m2w.M2WebEwonEBDTagListRequest;
 import com.hms_networks.americas.sc.ignition.comm.requests.m2w.M2WebEwonUpdateTagValuesRequest;
 import com.hms_networks.americas.sc.ignition.comm.requests.m2w.M2WebGetEwonsRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwon;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDInstantValuesResponse;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTagListResponse;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonUpdateTagValuesResponse;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebGetEwonsResponse;
-import com.hms_networks.americas.sc.ignition.threading.FutureUtilities;
 import java.util.Collection;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.apache.commons.collections4.KeyValue;
-import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
 /**
- * Communication manager for the Talk2M M2Web API.
+ * Communication manager for the Talk2M M2Web API. Requests are performed with the session of the
+ * Talk2M server, which is obtained from {@link M2WebSessionManager} without blocking. If the M2Web
+ * API reports that the session has expired, the session is renewed and the request is performed
+ * again once.
+ *
+ * <p>Requests for a specific Ewon should be sent to the M2Web server which hosts the Ewon (see
+ * {@link #getM2WebServerUrl(M2WebEwon)}), so they are not proxied through the global M2Web entry
+ * point. Sessions and HTTP connections are maintained separately for each M2Web server.
  *
  * @since 2.0.0
  * @version 1.0.0
@@ -32,6 +43,37 @@ public class M2WebCommunicationManager {
    */
   public static final String M2WEB_URL = "https://m2web.talk2m.com/";
 
+  /**
+   * The scheme prefix of the URL of the M2Web server which hosts an Ewon.
+   *
+   * @since 1.0.0
+   */
+  private static final String M2WEB_SERVER_URL_PREFIX = "https://";
+
+  /**
+   * The path suffix of the URL of the M2Web server which hosts an Ewon.
+   *
+   * @since 1.0.0
+   */
+  private static final String M2WEB_SERVER_URL_SUFFIX = "/";
+
+  /**
+   * Gets the URL of the M2Web server which hosts the specified Ewon, from the M2Web server hostname
+   * reported for the Ewon. If no M2Web server is reported for the Ewon, the global M2Web URL
+   * ({@link #M2WEB_URL}) is returned.
+   *
+   * @param ewon the Ewon to get the M2Web server URL for
+   * @return the URL of the M2Web server which hosts the Ewon
+   * @since 1.0.0
+   */
+  public static String getM2WebServerUrl(M2WebEwon ewon) {
+    final String m2webServer = ewon != null ? ewon.getM2webServer() : null;
+    if (m2webServer == null || m2webServer.isBlank()) {
+      return M2WEB_URL;
+    }
+    return M2WEB_SERVER_URL_PREFIX + m2webServer.trim() + M2WEB_SERVER_URL_SUFFIX;
+  }
+
   /**
    * Gets the tag list for the specified Ewon using the specified authentication information and the
    * server specified by {@link #M2WEB_URL}.
@@ -42,7 +84,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the tag list
    * @since 1.0.0
    */
-  public static Future<M2WebEwonEBDTagListResponse> getEwonTagList(
+  public static CompletableFuture<M2WebEwonEBDTagListResponse> getEwonTagList(
       CommunicationAuthInfo communicationAuthInfo,
       String ewonName,
       FutureCallback<M2WebEwonEBDTagListResponse> httpResponseFutureCallback) {
@@ -60,60 +102,19 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the tag list
    * @since 1.0.0
    */
-  public static Future<M2WebEwonEBDTagListResponse> getEwonTagList(
+  public static CompletableFuture<M2WebEwonEBDTagListResponse> getEwonTagList(
       CommunicationAuthInfo communicationAuthInfo,
       String server,
       String ewonName,
       FutureCallback<M2WebEwonEBDTagListResponse> httpResponseFutureCallback) {
-    // Get session ID
-    String sessionId = M2WebSessionManager.getLoginSessionId(communicationAuthInfo, server);
-
-    // Build tag list request
-    M2WebEwonEBDTagListRequest tagListRequest =
-        new M2WebEwonEBDTagListRequest(server, sessionId, communicationAuthInfo, ewonName);
-
-    // Build tag list request future and callback
-    CompletableFuture<M2WebEwonEBDTagListResponse> future = new CompletableFuture<>();
-    FutureCallback<SimpleHttpResponse> wrappedHttpResponseFutureCallback =
-        new FutureCallback<>() {
-          @Override
-          public void completed(SimpleHttpResponse simpleHttpResponse) {
-            try {
-              M2WebEwonEBDTagListResponse response =
-                  M2WebEwonEBDTagListResponse.getFromString(simpleHttpResponse.getBodyText());
-              future.complete(response);
-              if (httpResponseFutureCallback != null) {
-                httpResponseFutureCallback.completed(response);
-              }
-            } catch (Exception e) {
-              future.completeExceptionally(e);
-              if (httpResponseFutureCallback != null) {
-                httpResponseFutureCallback.failed(e);
-              }
-            }
-          }
-
-          @Override
-          public void failed(Exception e) {
-            future.completeExceptionally(e);
-            if (httpResponseFutureCallback != null) {
-              httpResponseFutureCallback.failed(e);
-            }
-          }
-
-          @Override
-          public void cancelled() {
-            boolean mayInterruptIfRunning = true;
-            future.cancel(mayInterruptIfRunning);
-            if (httpResponseFutureCallback != null) {
-              httpResponseFutureCallback.cancelled();
-            }
-          }
-        };
-
-    // Perform tag request and return future
-    tagListRequest.doRequest(wrappedHttpResponseFutureCallback);
-    return future;
+    // Perform tag list request with session and return future
+    return doSessionRequest(
+        communicationAuthInfo,
+        server,
+        sessionId ->
+            new M2WebEwonEBDTagListRequest(server, sessionId, communicationAuthInfo, ewonName),
+        M2WebEwonEBDTagListResponse::isSessionExpired,
+        httpResponseFutureCallback);
   }
 
   /**
@@ -124,9 +125,9 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the Ewon gateway list
    * @since 1.0.0
    */
-  public static Future<M2WebGetEwonsResponse> getEwonGatewayList(
+  public static CompletableFuture<M2WebGetEwonsResponse> getEwonGatewayList(
       CommunicationAuthInfo communicationAuthInfo) {
-    FutureCallback<SimpleHttpResponse> httpResponseFutureCallback = null;
+    FutureCallback<M2WebGetEwonsResponse> httpResponseFutureCallback = null;
     return getEwonGatewayList(communicationAuthInfo, M2WEB_URL, httpResponseFutureCallback);
   }
 
@@ -139,9 +140,9 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the Ewon gateway list
    * @since 1.0.0
    */
-  public static Future<M2WebGetEwonsResponse> getEwonGatewayList(
+  public static CompletableFuture<M2WebGetEwonsResponse> getEwonGatewayList(
       CommunicationAuthInfo communicationAuthInfo,
-      FutureCallback<SimpleHttpResponse> httpResponseFutureCallback) {
+      FutureCallback<M2WebGetEwonsResponse> httpResponseFutureCallback) {
     return getEwonGatewayList(communicationAuthInfo, M2WEB_URL, httpResponseFutureCallback);
   }
 
@@ -153,9 +154,9 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the Ewon gateway list
    * @since 1.0.0
    */
-  public static Future<M2WebGetEwonsResponse> getEwonGatewayList(
+  public static CompletableFuture<M2WebGetEwonsResponse> getEwonGatewayList(
       CommunicationAuthInfo communicationAuthInfo, String server) {
-    FutureCallback<SimpleHttpResponse> httpResponseFutureCallback = null;
+    FutureCallback<M2WebGetEwonsResponse> httpResponseFutureCallback = null;
     return getEwonGatewayList(communicationAuthInfo, server, httpResponseFutureCallback);
   }
 
@@ -168,20 +169,17 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the Ewon gateway list
    * @since 1.0.0
    */
-  public static Future<M2WebGetEwonsResponse> getEwonGatewayList(
+  public static CompletableFuture<M2WebGetEwonsResponse> getEwonGatewayList(
       CommunicationAuthInfo communicationAuthInfo,
       String server,
-      FutureCallback<SimpleHttpResponse> httpResponseFutureCallback) {
-    // Get session ID
-    String sessionId = M2WebSessionManager.getLoginSessionId(communicationAuthInfo, server);
-
-    // Build Ewon gateway list request
-    M2WebGetEwonsRequest getEwonsRequest =
-        new M2WebGetEwonsRequest(server, sessionId, communicationAuthInfo);
-
-    // Perform Ewon gateway list request and return future
-    return FutureUtilities.getWrappedFuture(
-        getEwonsRequest.doRequest(httpResponseFutureCallback), M2WebGetEwonsResponse.class);
+      FutureCallback<M2WebGetEwonsResponse> httpResponseFutureCallback) {
+    // Perform Ewon gateway list request with session and return future
+    return doSessionRequest(
+        communicationAuthInfo,
+        server,
+        sessionId -> new M2WebGetEwonsRequest(server, sessionId, communicationAuthInfo),
+        M2WebGetEwonsResponse::isSessionExpired,
+        httpResponseFutureCallback);
   }
 
   /**
@@ -194,7 +192,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the instant tag values
    * @since 1.0.0
    */
-  public static Future<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
+  public static CompletableFuture<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
       CommunicationAuthInfo communicationAuthInfo,
       String ewonName,
       FutureCallback<M2WebEwonEBDInstantValuesResponse> httpResponseFutureCallback) {
@@ -212,7 +210,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the instant tag values
    * @since 1.0.0
    */
-  public static Future<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
+  public static CompletableFuture<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
       CommunicationAuthInfo communicationAuthInfo, String server, String ewonName) {
     FutureCallback<M2WebEwonEBDInstantValuesResponse> httpResponseFutureCallback = null;
     return getEwonInstantValues(
@@ -228,7 +226,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the instant tag values
    * @since 1.0.0
    */
-  public static Future<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
+  public static CompletableFuture<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
       CommunicationAuthInfo communicationAuthInfo, String ewonName) {
     return getEwonInstantValues(communicationAuthInfo, M2WEB_URL, ewonName);
   }
@@ -244,60 +242,44 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the instant tag values
    * @since 1.0.0
    */
-  public static Future<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
+  public static CompletableFuture<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
       CommunicationAuthInfo communicationAuthInfo,
       String server,
       String ewonName,
       FutureCallback<M2WebEwonEBDInstantValuesResponse> httpResponseFutureCallback) {
-    // Get session ID
-    String sessionId = M2WebSessionManager.getLoginSessionId(communicationAuthInfo, server);
-
-    // Build instant tag values request
-    M2WebEwonEBDInstantValuesRequest instantValuesRequest =
-        new M2WebEwonEBDInstantValuesRequest(server, sessionId, communicationAuthInfo, ewonName);
-
-    // Build instant tag values request future and callback
-    CompletableFuture<M2WebEwonEBDInstantValuesResponse> future = new CompletableFuture<>();
-    FutureCallback<SimpleHttpResponse> wrappedHttpResponseFutureCallback =
-        new FutureCallback<>() {
-          @Override
-          public void completed(SimpleHttpResponse simpleHttpResponse) {
-            try {
-              M2WebEwonEBDInstantValuesResponse response =
-                  M2WebEwonEBDInstantValuesResponse.getFromString(simpleHttpResponse.getBodyText());
-              future.complete(response);
-              if (httpResponseFutureCallback != null) {
-                httpResponseFutureCallback.completed(response);
-              }
-            } catch (Exception e) {
-              future.completeExceptionally(e);
-              if (httpResponseFutureCallback != null) {
-                httpResponseFutureCallback.failed(e);
-              }
-            }
-          }
-
-          @Override
-          public void failed(Exception e) {
-            future.completeExceptionally(e);
-            if (httpResponseFutureCallback != null) {
-              httpResponseFutureCallback.failed(e);
-            }
-          }
-
-          @Override
-          public void cancelled() {
-            boolean mayInterruptIfRunning = true;
-            future.cancel(mayInterruptIfRunning);
-            if (httpResponseFutureCallback != null) {
-              httpResponseFutureCallback.cancelled();
-            }
-          }
-        };
+    final String tagGroupFilter = null;
+    return getEwonInstantValues(
+        communicationAuthInfo, server, ewonName, tagGroupFilter, httpResponseFutureCallback);
+  }
 
-    // Perform instant tag values request and return future
-    instantValuesRequest.doRequest(wrappedHttpResponseFutureCallback);
-    return future;
+  /**
+   * Gets the instant tag values of the tags in the specified tag group for the specified Ewon using
+   * the specified authentication information, server, and callback.
+   *
+   * @param communicationAuthInfo the authentication information to use for the request
+   * @param server the Talk2M server to use for the request
+   * @param ewonName the name of the Ewon to get the instant tag values for
+   * @param tagGroupFilter the tag group (A, B, C or D) to get the instant tag values of, or null to
+   *     get the instant tag values of all tags
+   * @param httpResponseFutureCallback the callback to use for the request
+   * @return future for asynchronous retrieval of the instant tag values
+   * @since 1.0.0
+   */
+  public static CompletableFuture<M2WebEwonEBDInstantValuesResponse> getEwonInstantValues(
+      CommunicationAuthInfo communicationAuthInfo,
+      String server,
+      String ewonName,
+      String tagGroupFilter,
+      FutureCallback<M2WebEwonEBDInstantValuesResponse> httpResponseFutureCallback) {
+    // Perform instant tag values request with session and return future
+    return doSessionRequest(
+        communicationAuthInfo,
+        server,
+        sessionId ->
+            new M2WebEwonEBDInstantValuesRequest(
+                server, sessionId, communicationAuthInfo, ewonName, tagGroupFilter),
+        M2WebEwonEBDInstantValuesResponse::isSessionExpired,
+        httpResponseFutureCallback);
   }
 
   /**
@@ -311,7 +293,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the update tag values response
    * @since 1.0.0
    */
-  public static Future<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
+  public static CompletableFuture<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
       CommunicationAuthInfo communicationAuthInfo,
       String ewonName,
       Collection<KeyValue<String, Object>> tagNameValuePairs,
@@ -331,7 +313,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the update tag values response
    * @since 1.0.0
    */
-  public static Future<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
+  public static CompletableFuture<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
       CommunicationAuthInfo communicationAuthInfo,
       String server,
       String ewonName,
@@ -351,7 +333,7 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the update tag values response
    * @since 1.0.0
    */
-  public static Future<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
+  public static CompletableFuture<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
       CommunicationAuthInfo communicationAuthInfo,
       String ewonName,
       Collection<KeyValue<String, Object>> tagNameValuePairs) {
@@ -370,61 +352,87 @@ public class M2WebCommunicationManager {
    * @return future for asynchronous retrieval of the update tag values response
    * @since 1.0.0
    */
-  public static Future<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
+  public static CompletableFuture<M2WebEwonUpdateTagValuesResponse> updateEwonTagValues(
       CommunicationAuthInfo communicationAuthInfo,
       String server,
       String ewonName,
       Collection<KeyValue<String, Object>> tagNameValuePairs,
       FutureCallback<M2WebEwonUpdateTagValuesResponse> httpResponseFutureCallback) {
-    // Get session ID
-    String sessionId = M2WebSessionManager.getLoginSessionId(communicationAuthInfo, server);
-
-    // Build update tag values request
-    M2WebEwonUpdateTagValuesRequest updateTagValuesRequest =
-        new M2WebEwonUpdateTagValuesRequest(
-            server, sessionId, communicationAuthInfo, ewonName, tagNameValuePairs);
-
-    // Build update tag values request future and callback
-    CompletableFuture<M2WebEwonUpdateTagValuesResponse> future = new CompletableFuture<>();
-    FutureCallback<SimpleHttpResponse> wrappedHttpResponseFutureCallback =
-        new FutureCallback<>() {
-          @Override
-          public void completed(SimpleHttpResponse simpleHttpResponse) {
-            try {
-              M2WebEwonUpdateTagValuesResponse response =
-                  M2WebEwonUpdateTagValuesResponse.getFromString(simpleHttpResponse.getBodyText());
-              future.complete(response);
-              if (httpResponseFutureCallback != null) {
-                httpResponseFutureCallback.completed(response);
-              }
-            } catch (Exception e) {
-              future.completeExceptionally(e);
-              if (httpResponseFutureCallback != null) {
-                httpResponseFutureCallback.failed(e);
-              }
-            }
-          }
+    // Perform update tag values request with session and return future
+    return doSessionRequest(
+        communicationAuthInfo,
+        server,
+        sessionId ->
+            new M2WebEwonUpdateTagValuesRequest(
+                server, sessionId, communicationAuthInfo, ewonName, tagNameValuePairs),
+        M2WebEwonUpdateTagValuesResponse::isSessionExpired,
+        httpResponseFutureCallback);
+  }
 
-          @Override
-          public void failed(Exception e) {
-            future.completeExceptionally(e);
-            if (httpResponseFutureCallback != null) {
-              httpResponseFutureCallback.failed(e);
-            }
+  /**
+   * Performs a request to the M2Web API with the session of the specified Talk2M server. The
+   * session ID is obtained asynchronously (logging in if required), and the request is built with
+   * it using the specified request builder. If the response indicates that the session has
+   * expired, the session is invalidated, a new session is obtained, and the request is built and
+   * performed again once with the new session.
+   *
+   * @param communicationAuthInfo the authentication information to use for the request
+   * @param server the Talk2M server to use for the request
+   * @param requestBuilder the function which builds the request with a session ID
+   * @param sessionExpiredCheck the function which checks if a response indicates that the session
+   *     has expired
+   * @param httpResponseFutureCallback the callback to use for the request. May be null.
+   * @param <T> the type of the decoded response
+   * @return future for asynchronous retrieval of the decoded response
+   * @since 1.0.0
+   */
+  private static <T> CompletableFuture<T> doSessionRequest(
+      CommunicationAuthInfo communicationAuthInfo,
+      String server,
+      Function<String, Talk2MRequest<T>> requestBuilder,
+      Predicate<T> sessionExpiredCheck,
+      FutureCallback<T> httpResponseFutureCallback) {
+    // Perform request with session, then renew session and replay once if it has expired
+    CompletableFuture<T> responseFuture =
+        M2WebSessionManager.getLoginSessionIdAsync(communicationAuthInfo, server)
+            .thenCompose(
+                sessionId ->
+                    requestBuilder
+                        .apply(sessionId)
+                        .doRequest()
+                        .thenCompose(
+                            response -> {
+                              if (!sessionExpiredCheck.test(response)) {
+                                return CompletableFuture.completedFuture(response);
+                              }
+                              M2WebSessionManager.invalidateSession(server, sessionId);
+                              return M2WebSessionManager.getLoginSessionIdAsync(
+                                      communicationAuthInfo, server)
+                                  .thenCompose(
+                                      renewedSessionId ->
+                                          requestBuilder.apply(renewedSessionId).doRequest());
+                            }));
+
+    // Execute callback (if provided) before the returned future completes
+    if (httpResponseFutureCallback == null) {
+      return responseFuture;
+    }
+    return responseFuture.whenComplete(
+        (response, exception) -> {
+          if (exception == null) {
+            httpResponseFutureCallback.completed(response);
+            return;
           }
-
-          @Override
-          public void cancelled() {
-            boolean mayInterruptIfRunning = true;
-            future.cancel(mayInterruptIfRunning);
-            if (httpResponseFutureCallback != null) {
-              httpResponseFutureCallback.cancelled();
-            }
+          Throwable cause =
+              exception instanceof CompletionException && exception.getCause() != null
+                  ? exception.getCause()
+                  : exception;
+          if (cause instanceof CancellationException) {
+            httpResponseFutureCallback.cancelled();
+          } else if (cause instanceof Exception) {
+            httpResponseFutureCallback.failed((Exception) cause);
+          } else {
+            httpResponseFutureCallback.failed(new ExecutionException(cause));
           }
-        };
-
-    // Perform update tag values request and return future
-    updateTagValuesRequest.doRequest(wrappedHttpResponseFutureCallback);
-    return future;
-  }
-}
+        });
+  }}
@@ -2,14 +2,14 @@ package com.hms_networks.americas.sc.ignition.comm;
 
 import com.hms_networks.americas.sc.ignition.comm.requests.m2w.M2WebLoginRequest;
 import com.hms_networks.americas.sc.ignition.comm.requests.m2w.M2WebLogoutRequest;
-import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebLoginResponse;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebLogoutResponse;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +21,10 @@ import org.slf4j.LoggerFactory;
  * of existing sessions.
  *
  * <p>Support has been included for multiple/simultaneous sessions across different Talk2M servers.
+ * Logins are performed asynchronously, and concurrent requests for the session of a server share a
+ * single in-flight login request. Sessions which are reported as expired by the M2Web API can be
+ * invalidated using {@link #invalidateSession(String, String)}, so that the next request for the
+ * session of the server performs a new login.
  *
  * @since 2.0.0
  * @version 1.0.0
@@ -36,69 +40,121 @@ public class M2WebSessionManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(M2WebSessionManager.class);
 
   /**
-   * The map of Talk2M servers to their session IDs. This is used to maintain a single session per
-   * server.
+   * The map of Talk2M servers to the futures of their session IDs. This is used to maintain a
+   * single session (and a single in-flight login request) per server. Futures of failed logins are
+   * removed from the map, so the next request for the session of the server performs a new login.
    *
    * @since 1.0.0
    */
-  private static final Map<String, String> m2wSessionIdMap = new HashMap<>();
+  private static final Map<String, CompletableFuture<String>> m2wSessionIdFutureMap =
+      new ConcurrentHashMap<>();
 
   /**
-   * Logs in to the specified Talk2M server using the specified authentication information.
+   * Gets the session ID for the specified server asynchronously. If a login has been performed (or
+   * is in progress) for the server, the existing session ID future is returned, otherwise a login
+   * request is performed using the provided {@link CommunicationAuthInfo}. Concurrent calls for the
+   * same server share a single login request. If the login request fails, the returned future
+   * completes exceptionally.
+   *
+   * @param communicationAuthInfo The authentication information to use for the login request.
+   * @param server The server to get the session ID for.
+   * @return The future of the session ID for the specified server.
+   * @since 1.0.0
+   */
+  public static CompletableFuture<String> getLoginSessionIdAsync(
+      CommunicationAuthInfo communicationAuthInfo, String server) {
+    // Return existing session ID future (completed or in-flight login), if present
+    CompletableFuture<String> sessionIdFuture = m2wSessionIdFutureMap.get(server);
+    if (sessionIdFuture != null) {
+      return sessionIdFuture;
+    }
+
+    // Register new login, unless another thread registered a login first
+    CompletableFuture<String> loginSessionIdFuture = new CompletableFuture<>();
+    sessionIdFuture = m2wSessionIdFutureMap.putIfAbsent(server, loginSessionIdFuture);
+    if (sessionIdFuture != null) {
+      return sessionIdFuture;
+    }
+
+    // Perform login
+    login(server, communicationAuthInfo, loginSessionIdFuture);
+    return loginSessionIdFuture;
+  }
+
+  /**
+   * Logs in to the specified Talk2M server using the specified authentication information, and
+   * completes the specified future with the resulting session ID. If the login fails, the future
+   * is completed exceptionally and removed from the session ID map.
    *
    * @param server the Talk2M server to login to
    * @param communicationAuthInfo the authentication information to use for the login
+   * @param loginSessionIdFuture the session ID future to complete
    * @since 1.0.0
    */
-  public static void login(String server, CommunicationAuthInfo communicationAuthInfo) {
-    // Create login request
+  private static void login(
+      String server,
+      CommunicationAuthInfo communicationAuthInfo,
+      CompletableFuture<String> loginSessionIdFuture) {
+    // Create and perform login request
     M2WebLoginRequest loginRequest = new M2WebLoginRequest(server, communicationAuthInfo);
-
-    // Perform login request
-    FutureCallback<SimpleHttpResponse> httpResponseFutureCallback = null;
-    Future<SimpleHttpResponse> httpResponseFuture =
-        loginRequest.doRequest(httpResponseFutureCallback);
-
-    // Wait for login request to complete and parse
     try {
-      SimpleHttpResponse loginRequestResponse = httpResponseFuture.get();
-      try {
-        // Parse response
-        M2WebLoginResponse loginResponse =
-            M2WebLoginResponse.getFromJson(loginRequestResponse.getBodyText());
-
-        // Check if login was successful
-        if (loginResponse.getSuccess()) {
-          // Store resulting session ID
-          m2wSessionIdMap.put(server, loginResponse.getT2msession());
-
-          // Log debug message
-          if (AsyncHttpRequestManager.isDebugEnabled()) {
-            LOGGER.error("Successfully logged in to Talk2M server \"" + server + "\".");
-          }
-        } else {
-          LOGGER.error(
-              "Failed to login to Talk2M server \""
-                  + server
-                  + "\" because the API reported that the request was unsuccessful!");
-        }
+      loginRequest
+          .doRequest()
+          .whenComplete(
+              (loginResponse, exception) -> {
+                if (exception != null) {
+                  LOGGER.error(
+                      "Failed to login to Talk2M server \"" + server + "\" due to an exception!",
+                      exception);
+                  m2wSessionIdFutureMap.remove(server, loginSessionIdFuture);
+                  loginSessionIdFuture.completeExceptionally(exception);
+                } else if (!loginResponse.getSuccess()) {
+                  LOGGER.error(
+                      "Failed to login to Talk2M server \""
+                          + server
+                          + "\" because the API reported that the request was unsuccessful!");
+                  m2wSessionIdFutureMap.remove(server, loginSessionIdFuture);
+                  loginSessionIdFuture.completeExceptionally(
+                      new IllegalStateException(
+                          "Login to Talk2M server \""
+                              + server
+                              + "\" was unsuccessful: "
+                              + loginResponse.getMessage()));
+                } else {
+                  // Log debug message
+                  if (AsyncHttpRequestManager.isDebugEnabled()) {
+                    LOGGER.debug("Successfully logged in to Talk2M server \"" + server + "\".");
+                  }
+                  loginSessionIdFuture.complete(loginResponse.getT2msession());
+                }
+              });
+    } catch (Exception e) {
+      LOGGER.error("Failed to login to Talk2M server \"" + server + "\" due to an exception!", e);
+      m2wSessionIdFutureMap.remove(server, loginSessionIdFuture);
+      loginSessionIdFuture.completeExceptionally(e);
+    }
+  }
 
-      } catch (Exception e) {
-        LOGGER.error(
-            "Failed to login to Talk2M server \""
-                + server
-                + "\" due to an error parsing the response!",
-            e);
+  /**
+   * Invalidates the specified session ID of the specified Talk2M server, because the M2Web API
+   * reported that it has expired. The next request for the session of the server performs a new
+   * login. If the session of the server has already been renewed (i.e. by another request which
+   * received the same expired session response), this method does nothing, so concurrent requests
+   * with an expired session only perform a single new login.
+   *
+   * @param server the Talk2M server of the expired session
+   * @param expiredSessionId the session ID which has expired
+   * @since 1.0.0
+   */
+  public static void invalidateSession(String server, String expiredSessionId) {
+    CompletableFuture<String> sessionIdFuture = m2wSessionIdFutureMap.get(server);
+    if (sessionIdFuture != null
+        && sessionIdFuture.isDone()
+        && !sessionIdFuture.isCompletedExceptionally()
+        && sessionIdFuture.join().equals(expiredSessionId)) {
+      if (m2wSessionIdFutureMap.remove(server, sessionIdFuture)) {
+        LOGGER.info("Session with Talk2M server \"" + server + "\" expired. Logging in again.");
       }
-    } catch (CancellationException e) {
-      LOGGER.error("Failed to login to Talk2M server \"" + server + "\" due to cancellation!");
-    } catch (InterruptedException e) {
-      LOGGER.error(
-          "Failed to login to Talk2M server \""
-              + server
-              + "\" due to an interruption while awaiting completion!");
-    } catch (ExecutionException e) {
-      LOGGER.error("Failed to login to Talk2M server \"" + server + "\" due to an exception!", e);
     }
   }
 
@@ -109,7 +165,7 @@ public class M2WebSessionManager {
    * @since 1.0.0
    */
   public static void logoutAll(CommunicationAuthInfo communicationAuthInfo) {
-    for (String server : m2wSessionIdMap.keySet()) {
+    for (String server : new ArrayList<>(m2wSessionIdFutureMap.keySet())) {
       logout(server, communicationAuthInfo);
     }
   }
@@ -125,41 +181,30 @@ public class M2WebSessionManager {
     // If logged in, logout
     if (isLoggedIn(server)) {
       // Create logout request
-      String logoutSessionId = m2wSessionIdMap.get(server);
+      String logoutSessionId = m2wSessionIdFutureMap.get(server).join();
       M2WebLogoutRequest logoutRequest =
           new M2WebLogoutRequest(server, logoutSessionId, communicationAuthInfo);
 
       // Perform logout request
-      FutureCallback<SimpleHttpResponse> httpResponseFutureCallback = null;
-      Future<SimpleHttpResponse> httpResponseFuture =
-          logoutRequest.doRequest(httpResponseFutureCallback);
+      FutureCallback<M2WebLogoutResponse> logoutResponseFutureCallback = null;
+      Future<M2WebLogoutResponse> logoutResponseFuture =
+          logoutRequest.doRequest(logoutResponseFutureCallback);
 
-      // Wait for logout request to complete and parse
+      // Wait for logout request to complete and be parsed
       try {
-        SimpleHttpResponse logoutRequestResponse = httpResponseFuture.get();
-        try {
-          // Parse response
-          M2WebLogoutResponse logoutResponse =
-              M2WebLogoutResponse.getFromJson(logoutRequestResponse.getBodyText());
-
-          // Check if logout was successful
-          if (logoutResponse.getSuccess()) {
-            // Log debug message
-            if (AsyncHttpRequestManager.isDebugEnabled()) {
-              LOGGER.error("Successfully logged out of Talk2M server \"" + server + "\".");
-            }
-          } else {
-            LOGGER.error(
-                "Failed to logout of Talk2M server \""
-                    + server
-                    + "\" because the API reported that the request was unsuccessful!");
+        M2WebLogoutResponse logoutResponse = logoutResponseFuture.get();
+
+        // Check if logout was successful
+        if (logoutResponse.getSuccess()) {
+          // Log debug message
+          if (AsyncHttpRequestManager.isDebugEnabled()) {
+            LOGGER.error("Successfully logged out of Talk2M server \"" + server + "\".");
           }
-        } catch (Exception e) {
+        } else {
           LOGGER.error(
               "Failed to logout of Talk2M server \""
                   + server
-                  + "\" due to an error parsing the response!",
-              e);
+                  + "\" because the API reported that the request was unsuccessful!");
         }
       } catch (CancellationException e) {
         LOGGER.error("Failed to logout of Talk2M server \"" + server + "\" due to cancellation!");
@@ -172,10 +217,10 @@ public class M2WebSessionManager {
         LOGGER.error(
             "Failed to logout of Talk2M server \"" + server + "\" due to an exception!", e);
       }
-
-      // Remove session ID from map
-      m2wSessionIdMap.remove(server);
     }
+
+    // Remove session ID future from map
+    m2wSessionIdFutureMap.remove(server);
   }
 
   /**
@@ -186,13 +231,18 @@ public class M2WebSessionManager {
    * @since 1.0.0
    */
   public static boolean isLoggedIn(String server) {
-    return m2wSessionIdMap.containsKey(server);
+    CompletableFuture<String> sessionIdFuture = m2wSessionIdFutureMap.get(server);
+    return sessionIdFuture != null
+        && sessionIdFuture.isDone()
+        && !sessionIdFuture.isCompletedExceptionally();
   }
 
   /**
    * Gets the session ID for the specified server. If the login has not been performed, or a session
    * ID has not been stored, this method will perform a login request using the provided {@link
-   * CommunicationAuthInfo}. If the login request fails, this method will return {@code null}.
+   * CommunicationAuthInfo}, and wait for it to complete. If the login request fails, this method
+   * will return {@code null}. Use {@link #getLoginSessionIdAsync(CommunicationAuthInfo, String)}
+   * to get the session ID without blocking.
    *
    * @param communicationAuthInfo The authentication information to use for the login request.
    * @param server The server to get the session ID for.
@@ -201,12 +251,17 @@ public class M2WebSessionManager {
    */
   public static String getLoginSessionId(
       CommunicationAuthInfo communicationAuthInfo, String server) {
-    // If not logged in, login
-    if (!isLoggedIn(server)) {
-      login(server, communicationAuthInfo);
+    try {
+      return getLoginSessionIdAsync(communicationAuthInfo, server).get();
+    } catch (InterruptedException e) {
+      LOGGER.error(
+          "Failed to login to Talk2M server \""
+              + server
+              + "\" due to an interruption while awaiting completion!");
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | CancellationException e) {
+      // Login failure has already been logged
     }
-
-    // Return session ID
-    return m2wSessionIdMap.get(server);
+    return null;
   }
 }
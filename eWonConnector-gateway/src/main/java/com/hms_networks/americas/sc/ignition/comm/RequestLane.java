@@ -0,0 +1,44 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+/**
+ * Enumeration of the request lanes (classes of Talk2M API requests) which are admitted to the HTTP
+ * connection pool by {@link RequestLaneScheduler}. Lanes are declared in order of priority, from
+ * highest to lowest. Queued requests are admitted from the highest priority lane first, except that
+ * lanes other than {@link #WRITE} age, so lower priority lanes are not starved.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public enum RequestLane {
+
+  /**
+   * Request lane for tag value writes and other operator-initiated Ewon commands. Requests in this
+   * lane have the highest priority, and may use in-flight request slots which are reserved for
+   * them.
+   *
+   * @since 1.0.0
+   */
+  WRITE,
+
+  /**
+   * Request lane for polling live (instant) tag values from Ewons via M2Web.
+   *
+   * @since 1.0.0
+   */
+  LIVE_POLL,
+
+  /**
+   * Request lane for synchronizing historical data with DMWeb.
+   *
+   * @since 1.0.0
+   */
+  DMWEB_SYNC,
+
+  /**
+   * Request lane for retrieving Ewon and tag metadata (tag lists, Ewon lists, account information).
+   *
+   * @since 1.0.0
+   */
+  METADATA
+}
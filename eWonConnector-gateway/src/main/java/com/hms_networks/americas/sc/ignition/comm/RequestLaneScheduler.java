@@ -0,0 +1,542 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for admitting requests to a single route (Talk2M host) of the HTTP connection pool by
+ * {@link RequestLane}. The number of requests in flight on the route is limited, so requests never
+ * queue inside the connection pool, and requests which exceed the limit are queued per lane.
+ * Queued requests are admitted in lane priority order (first-in, first-out within a lane), and a
+ * number of in-flight request slots are reserved for the {@link RequestLane#WRITE} lane, so writes
+ * are admitted promptly even when all other slots are held by long-running requests.
+ *
+ * <p>Queued writes are always admitted first. Other lanes age, so that a steady stream of higher
+ * priority requests does not starve them: once {@link #LANE_AGING_ADMISSIONS} requests of higher
+ * priority lanes have been admitted ahead of the first request queued in a lane, or it has waited
+ * longer than {@link #LANE_AGING_WAIT_NANOS}, it is admitted before the requests of the higher
+ * priority lanes (other than writes).
+ *
+ * <p>The in-flight request limit adapts to the observed latency and failures of requests on the
+ * route (see {@link AimdConcurrencyLimit}). When the route is saturated, such that a new request
+ * would be expected to wait longer than {@link #MAX_ESTIMATED_QUEUE_WAIT_NANOS} for admission, the
+ * request is rejected immediately instead of being queued, unless it is in the {@link
+ * RequestLane#WRITE} lane. The wait is estimated from the recent average latency of the lane of
+ * the request, so that long-running requests in other lanes do not cause short requests to be
+ * rejected.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class RequestLaneScheduler {
+
+  /**
+   * The number of in-flight request slots reserved for the {@link RequestLane#WRITE} lane. At most
+   * half of the in-flight request limit is reserved.
+   *
+   * @since 1.0.0
+   */
+  private static final int WRITE_LANE_RESERVED_SLOTS = 10;
+
+  /**
+   * The maximum estimated time (in nanoseconds) which a new request may wait for admission. New
+   * requests (other than writes) are rejected when the estimated wait is longer.
+   *
+   * @since 1.0.0
+   */
+  private static final long MAX_ESTIMATED_QUEUE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  /**
+   * The smoothing factor of the exponentially weighted recent average latency of each lane.
+   *
+   * @since 1.0.0
+   */
+  private static final double LANE_LATENCY_SMOOTHING = 0.2;
+
+  /**
+   * The number of requests of higher priority lanes which may be admitted ahead of the first
+   * request queued in a lane before it is admitted regardless of lane priority.
+   *
+   * @since 1.0.0
+   */
+  private static final int LANE_AGING_ADMISSIONS = 16;
+
+  /**
+   * The time (in nanoseconds) which the first request queued in a lane may wait before it is
+   * admitted regardless of lane priority.
+   *
+   * @since 1.0.0
+   */
+  private static final long LANE_AGING_WAIT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  /**
+   * Lock guarding the lane queues and the in-flight request count.
+   *
+   * @since 1.0.0
+   */
+  private final Object lock = new Object();
+
+  /**
+   * The queue of requests waiting for admission in each lane.
+   *
+   * @since 1.0.0
+   */
+  private final Map<RequestLane, Deque<QueuedRequest>> laneQueues =
+      new EnumMap<>(RequestLane.class);
+
+  /**
+   * The exponentially weighted recent average latency (in nanoseconds) of requests in each lane on
+   * the route, or 0 if no samples have been recorded for the lane.
+   *
+   * @since 1.0.0
+   */
+  private final double[] laneRecentLatencyNanos = new double[RequestLane.values().length];
+
+  /**
+   * The number of requests of higher priority lanes which have been admitted ahead of the first
+   * request queued in each lane, since a request was last admitted from the lane.
+   *
+   * @since 1.0.0
+   */
+  private final int[] laneBypassedCounts = new int[RequestLane.values().length];
+
+  /**
+   * The time (from {@link System#nanoTime()}) at which a request was last submitted to or released
+   * from the route.
+   *
+   * @since 1.0.0
+   */
+  private long lastActiveTimeNanos = System.nanoTime();
+
+  /**
+   * The statistics of each lane, shared by the schedulers of all routes.
+   *
+   * @since 1.0.0
+   */
+  private final Map<RequestLane, RequestLaneStatistics> laneStatistics;
+
+  /**
+   * The adaptive limit of the number of requests in flight on the route.
+   *
+   * @since 1.0.0
+   */
+  private final AimdConcurrencyLimit concurrencyLimit;
+
+  /**
+   * The total number of requests rejected because the route was saturated.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder rejectedCount = new LongAdder();
+
+  /**
+   * Flag indicating if the current thread is dispatching queued requests admitted by {@link
+   * #release(RequestLane)}. Slots released by the dispatchers of those requests (i.e. requests
+   * which were cancelled or expired while queued) are refilled by the dispatching loop, instead of
+   * by a nested call which could recurse once per queued request.
+   *
+   * @since 1.0.0
+   */
+  private final ThreadLocal<Boolean> dispatchingQueued = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * The number of requests currently in flight on the route.
+   *
+   * @since 1.0.0
+   */
+  private volatile int inFlight = 0;
+
+  /**
+   * Constructs a new {@link RequestLaneScheduler} with the specified maximum in-flight request
+   * limit.
+   *
+   * @param maxInFlight the maximum number of requests in flight on the route, which the adaptive
+   *     in-flight request limit never exceeds
+   * @param laneStatistics the statistics of each lane, shared by the schedulers of all routes
+   * @since 1.0.0
+   */
+  RequestLaneScheduler(int maxInFlight, Map<RequestLane, RequestLaneStatistics> laneStatistics) {
+    this.concurrencyLimit = new AimdConcurrencyLimit(maxInFlight);
+    this.laneStatistics = laneStatistics;
+    for (RequestLane lane : RequestLane.values()) {
+      laneQueues.put(lane, new ArrayDeque<>());
+    }
+  }
+
+  /**
+   * Submits a request in the specified lane. If the request can be admitted immediately, the
+   * specified dispatcher is run on the calling thread, otherwise it is queued and run on the thread
+   * which releases the slot it is admitted to. The dispatcher must call {@link
+   * #release(RequestLane, String, String, long, boolean)} (or {@link #release(RequestLane)} if the
+   * request was not sent) exactly once when the request completes. If the route is saturated, the
+   * request is rejected and the dispatcher is not run.
+   *
+   * @param lane the lane of the request
+   * @param dispatcher the dispatcher which sends the request
+   * @return true if the request was admitted or queued, false if it was rejected
+   * @since 1.0.0
+   */
+  boolean submit(RequestLane lane, Runnable dispatcher) {
+    // Admit request immediately if no requests of the same or higher priority are queued
+    boolean admitted = false;
+    boolean rejected = false;
+    synchronized (lock) {
+      lastActiveTimeNanos = System.nanoTime();
+      final int queuedAhead = getQueuedRequestCountAtOrAbove(lane);
+      if (queuedAhead == 0 && canAdmit(lane)) {
+        admitted = true;
+        inFlight++;
+      } else if (lane != RequestLane.WRITE && isSaturated(lane, queuedAhead)) {
+        rejected = true;
+      } else {
+        laneQueues.get(lane).addLast(new QueuedRequest(dispatcher, System.nanoTime()));
+      }
+    }
+
+    // Dispatch, reject or record queued request
+    if (admitted) {
+      final long waitMillis = 0;
+      laneStatistics.get(lane).recordAdmitted(waitMillis);
+      dispatcher.run();
+    } else if (rejected) {
+      rejectedCount.increment();
+    } else {
+      laneStatistics.get(lane).recordQueued();
+    }
+    return !rejected;
+  }
+
+  /**
+   * Releases the in-flight request slot of a request in the specified lane which completed after
+   * being sent, and records its latency and result in the adaptive in-flight request limit and the
+   * recent average latency of the lane. Queued requests are then admitted and dispatched as by
+   * {@link #release(RequestLane)}.
+   *
+   * @param lane the lane of the completed request
+   * @param endpointName the name of the Talk2M API endpoint of the completed request
+   * @param deviceName the name of the device (Ewon) which the result of the request is attributed
+   *     to, or null if it is attributed to the route
+   * @param latencyNanos the latency (in nanoseconds) of the request, from when it was sent
+   * @param failed true if the request failed (timeout, connection error, or server overload
+   *     response), false otherwise
+   * @since 1.0.0
+   */
+  void release(
+      RequestLane lane,
+      String endpointName,
+      String deviceName,
+      long latencyNanos,
+      boolean failed) {
+    synchronized (lock) {
+      concurrencyLimit.recordSample(endpointName, deviceName, latencyNanos, failed, inFlight);
+      final int laneIndex = lane.ordinal();
+      if (laneRecentLatencyNanos[laneIndex] == 0) {
+        laneRecentLatencyNanos[laneIndex] = latencyNanos;
+      } else {
+        laneRecentLatencyNanos[laneIndex] +=
+            (latencyNanos - laneRecentLatencyNanos[laneIndex]) * LANE_LATENCY_SMOOTHING;
+      }
+    }
+    release(lane);
+  }
+
+  /**
+   * Releases the in-flight request slot of a request in the specified lane, without recording a
+   * sample in the adaptive in-flight request limit (i.e. the request was not sent). Queued requests
+   * are then admitted and dispatched in lane priority order (with aging of lanes other than {@link
+   * RequestLane#WRITE}) while slots are available. Queued
+   * requests are dispatched in a loop rather than recursively, so a long queue of requests which
+   * were cancelled or expired while queued does not grow the stack of the releasing thread.
+   *
+   * @param lane the lane of the request
+   * @since 1.0.0
+   */
+  void release(RequestLane lane) {
+    laneStatistics.get(lane).recordReleased();
+    synchronized (lock) {
+      inFlight--;
+      lastActiveTimeNanos = System.nanoTime();
+    }
+
+    // Leave slot to be refilled by the dispatching loop if released by a queued request dispatcher
+    if (dispatchingQueued.get()) {
+      return;
+    }
+
+    // Admit and dispatch queued requests outside the lock until no more can be admitted
+    List<RequestLane> admittedLanes = new ArrayList<>();
+    List<QueuedRequest> admittedRequests = new ArrayList<>();
+    dispatchingQueued.set(true);
+    try {
+      do {
+        admittedLanes.clear();
+        admittedRequests.clear();
+        synchronized (lock) {
+          takeAdmissibleQueuedRequests(admittedLanes, admittedRequests);
+        }
+        dispatchQueuedRequests(admittedLanes, admittedRequests);
+      } while (!admittedRequests.isEmpty());
+    } finally {
+      dispatchingQueued.set(false);
+    }
+  }
+
+  /**
+   * Takes queued requests which can be admitted with the current number of requests in flight, in
+   * lane priority order (with aging of lanes other than {@link RequestLane#WRITE}), and counts them
+   * as in flight. Must be called while holding {@link #lock}.
+   *
+   * @param admittedLanes the list to add the lane of each admitted request to
+   * @param admittedRequests the list to add each admitted request to
+   * @since 1.0.0
+   */
+  private void takeAdmissibleQueuedRequests(
+      List<RequestLane> admittedLanes, List<QueuedRequest> admittedRequests) {
+    final long nowNanos = System.nanoTime();
+    RequestLane nextLane = getNextQueuedLane(nowNanos);
+    while (nextLane != null && canAdmit(nextLane)) {
+      // Count admission against the first queued request of each lower priority lane
+      for (RequestLane queuedLane : RequestLane.values()) {
+        if (queuedLane.ordinal() > nextLane.ordinal() && !laneQueues.get(queuedLane).isEmpty()) {
+          laneBypassedCounts[queuedLane.ordinal()]++;
+        }
+      }
+      laneBypassedCounts[nextLane.ordinal()] = 0;
+
+      inFlight++;
+      admittedLanes.add(nextLane);
+      admittedRequests.add(laneQueues.get(nextLane).pollFirst());
+      nextLane = getNextQueuedLane(nowNanos);
+    }
+  }
+
+  /**
+   * Gets the lane of the queued request which should be admitted next. Queued writes are always
+   * admitted first. Otherwise, the highest priority lane with queued requests is admitted next,
+   * unless the first request queued in a lower priority lane has aged (see {@link
+   * #LANE_AGING_ADMISSIONS} and {@link #LANE_AGING_WAIT_NANOS}), in which case the aged lane whose
+   * first request has waited the longest is admitted next. Must be called while holding {@link
+   * #lock}.
+   *
+   * @param nowNanos the current time (from {@link System#nanoTime()})
+   * @return the lane of the queued request which should be admitted next, or null if no requests
+   *     are queued
+   * @since 1.0.0
+   */
+  private RequestLane getNextQueuedLane(long nowNanos) {
+    RequestLane nextLane = null;
+    long nextLaneQueuedTimeNanos = 0;
+    for (RequestLane queuedLane : RequestLane.values()) {
+      final QueuedRequest firstQueuedRequest = laneQueues.get(queuedLane).peekFirst();
+      if (firstQueuedRequest == null) {
+        continue;
+      }
+      if (nextLane == null) {
+        // Highest priority lane with queued requests (writes are never preceded by aged lanes)
+        if (queuedLane == RequestLane.WRITE) {
+          return queuedLane;
+        }
+        nextLane = queuedLane;
+        nextLaneQueuedTimeNanos = firstQueuedRequest.queuedTimeNanos;
+      } else if ((laneBypassedCounts[queuedLane.ordinal()] >= LANE_AGING_ADMISSIONS
+              || nowNanos - firstQueuedRequest.queuedTimeNanos >= LANE_AGING_WAIT_NANOS)
+          && firstQueuedRequest.queuedTimeNanos - nextLaneQueuedTimeNanos < 0) {
+        // Aged lower priority lane whose first request has waited longer
+        nextLane = queuedLane;
+        nextLaneQueuedTimeNanos = firstQueuedRequest.queuedTimeNanos;
+      }
+    }
+    return nextLane;
+  }
+
+  /**
+   * Dispatches all queued requests, regardless of the in-flight request limit. This is used when
+   * the asynchronous HTTP manager is shut down, so that queued requests fail promptly instead of
+   * waiting indefinitely.
+   *
+   * @since 1.0.0
+   */
+  void dispatchAllQueued() {
+    // Take all queued requests
+    List<RequestLane> admittedLanes = new ArrayList<>();
+    List<QueuedRequest> admittedRequests = new ArrayList<>();
+    synchronized (lock) {
+      for (RequestLane queuedLane : RequestLane.values()) {
+        Deque<QueuedRequest> laneQueue = laneQueues.get(queuedLane);
+        while (!laneQueue.isEmpty()) {
+          inFlight++;
+          admittedLanes.add(queuedLane);
+          admittedRequests.add(laneQueue.pollFirst());
+        }
+      }
+    }
+
+    // Dispatch queued requests outside the lock
+    dispatchQueuedRequests(admittedLanes, admittedRequests);
+  }
+
+  /**
+   * Records the admission of the specified previously queued requests, then runs their
+   * dispatchers.
+   *
+   * @param lanes the lane of each admitted request
+   * @param queuedRequests the admitted requests
+   * @since 1.0.0
+   */
+  private void dispatchQueuedRequests(List<RequestLane> lanes, List<QueuedRequest> queuedRequests) {
+    final long admittedTimeNanos = System.nanoTime();
+    for (int i = 0; i < queuedRequests.size(); i++) {
+      final QueuedRequest queuedRequest = queuedRequests.get(i);
+      final RequestLaneStatistics statistics = laneStatistics.get(lanes.get(i));
+      statistics.recordDequeued();
+      statistics.recordAdmitted(
+          TimeUnit.NANOSECONDS.toMillis(admittedTimeNanos - queuedRequest.queuedTimeNanos));
+      queuedRequest.dispatcher.run();
+    }
+  }
+
+  /**
+   * Checks if a request in the specified lane can be admitted with the current number of requests
+   * in flight. Must be called while holding {@link #lock}.
+   *
+   * @param lane the lane of the request
+   * @return true if the request can be admitted, false otherwise
+   * @since 1.0.0
+   */
+  private boolean canAdmit(RequestLane lane) {
+    final int limit = concurrencyLimit.getLimit();
+    final int laneLimit =
+        lane == RequestLane.WRITE ? limit : limit - Math.min(WRITE_LANE_RESERVED_SLOTS, limit / 2);
+    return inFlight < laneLimit;
+  }
+
+  /**
+   * Checks if the route is saturated for the specified lane, such that a new request in the lane
+   * queued behind the specified number of requests would be expected to wait longer than {@link
+   * #MAX_ESTIMATED_QUEUE_WAIT_NANOS} for admission. The wait is estimated from the recent average
+   * latency of the lane and the current in-flight request limit. Must be called while holding
+   * {@link #lock}.
+   *
+   * @param lane the lane of the new request
+   * @param queuedAhead the number of requests which would be admitted before the new request
+   * @return true if the route is saturated, false otherwise
+   * @since 1.0.0
+   */
+  private boolean isSaturated(RequestLane lane, int queuedAhead) {
+    final long estimatedWaitNanos =
+        (queuedAhead + 1)
+            * (long) laneRecentLatencyNanos[lane.ordinal()]
+            / concurrencyLimit.getLimit();
+    return estimatedWaitNanos > MAX_ESTIMATED_QUEUE_WAIT_NANOS;
+  }
+
+  /**
+   * Gets the number of requests queued in the specified lane and lanes of higher priority. Must be
+   * called while holding {@link #lock}.
+   *
+   * @param lane the lane to check
+   * @return the number of requests queued in the lane and higher priority lanes
+   * @since 1.0.0
+   */
+  private int getQueuedRequestCountAtOrAbove(RequestLane lane) {
+    int queuedRequestCount = 0;
+    for (RequestLane queuedLane : RequestLane.values()) {
+      if (queuedLane.ordinal() > lane.ordinal()) {
+        break;
+      }
+      queuedRequestCount += laneQueues.get(queuedLane).size();
+    }
+    return queuedRequestCount;
+  }
+
+  /**
+   * Checks if the route has had no requests in flight or queued for at least the specified time.
+   *
+   * @param idleTimeoutNanos the minimum time (in nanoseconds) since a request was last submitted to
+   *     or released from the route
+   * @param nowNanos the current time (from {@link System#nanoTime()})
+   * @return true if the route is idle, false otherwise
+   * @since 1.0.0
+   */
+  boolean isIdle(long idleTimeoutNanos, long nowNanos) {
+    synchronized (lock) {
+      boolean idle = inFlight == 0 && nowNanos - lastActiveTimeNanos >= idleTimeoutNanos;
+      for (Deque<QueuedRequest> laneQueue : laneQueues.values()) {
+        idle &= laneQueue.isEmpty();
+      }
+      return idle;
+    }
+  }
+
+  /**
+   * Gets the current adaptive in-flight request limit of the route.
+   *
+   * @return the current in-flight request limit
+   * @since 1.0.0
+   */
+  public int getConcurrencyLimit() {
+    return concurrencyLimit.getLimit();
+  }
+
+  /**
+   * Gets the number of requests currently in flight on the route.
+   *
+   * @return the number of requests in flight
+   * @since 1.0.0
+   */
+  public int getInFlightCount() {
+    return inFlight;
+  }
+
+  /**
+   * Gets the total number of requests rejected because the route was saturated.
+   *
+   * @return the total number of rejected requests
+   * @since 1.0.0
+   */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /**
+   * Class for a request queued for admission, with the time it was queued.
+   *
+   * @since 1.0.0
+   */
+  private static class QueuedRequest {
+
+    /**
+     * The dispatcher which sends the request once admitted.
+     *
+     * @since 1.0.0
+     */
+    private final Runnable dispatcher;
+
+    /**
+     * The time (from {@link System#nanoTime()}) at which the request was queued.
+     *
+     * @since 1.0.0
+     */
+    private final long queuedTimeNanos;
+
+    /**
+     * Constructs a new {@link QueuedRequest}.
+     *
+     * @param dispatcher the dispatcher which sends the request once admitted
+     * @param queuedTimeNanos the time (from {@link System#nanoTime()}) at which the request was
+     *     queued
+     * @since 1.0.0
+     */
+    private QueuedRequest(Runnable dispatcher, long queuedTimeNanos) {
+      this.dispatcher = dispatcher;
+      this.queuedTimeNanos = queuedTimeNanos;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for tracking the queue depth, in-flight request count and admission wait times of a {@link
+ * RequestLane}, across all routes (Talk2M hosts).
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class RequestLaneStatistics {
+
+  /**
+   * The number of requests currently queued (waiting for admission) in the lane.
+   *
+   * @since 1.0.0
+   */
+  private final AtomicInteger queueDepth = new AtomicInteger();
+
+  /**
+   * The number of requests currently admitted (in flight) from the lane.
+   *
+   * @since 1.0.0
+   */
+  private final AtomicInteger inFlightCount = new AtomicInteger();
+
+  /**
+   * The total number of requests admitted from the lane.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder admittedCount = new LongAdder();
+
+  /**
+   * The total time (in milliseconds) which requests admitted from the lane waited for admission.
+   *
+   * @since 1.0.0
+   */
+  private final LongAdder totalWaitMillis = new LongAdder();
+
+  /**
+   * The maximum time (in milliseconds) which a request admitted from the lane waited for admission.
+   *
+   * @since 1.0.0
+   */
+  private final AtomicLong maxWaitMillis = new AtomicLong();
+
+  /**
+   * The time (in milliseconds) which the most recently admitted request from the lane waited for
+   * admission.
+   *
+   * @since 1.0.0
+   */
+  private volatile long lastWaitMillis = 0;
+
+  /**
+   * Records that a request has been queued in the lane.
+   *
+   * @since 1.0.0
+   */
+  void recordQueued() {
+    queueDepth.incrementAndGet();
+  }
+
+  /**
+   * Records that a previously queued request has been removed from the lane queue.
+   *
+   * @since 1.0.0
+   */
+  void recordDequeued() {
+    queueDepth.decrementAndGet();
+  }
+
+  /**
+   * Records that a request from the lane has been admitted after waiting the specified time.
+   *
+   * @param waitMillis the time (in milliseconds) which the request waited for admission
+   * @since 1.0.0
+   */
+  void recordAdmitted(long waitMillis) {
+    inFlightCount.incrementAndGet();
+    admittedCount.increment();
+    totalWaitMillis.add(waitMillis);
+    maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+    lastWaitMillis = waitMillis;
+  }
+
+  /**
+   * Records that an admitted request from the lane has completed and released its slot.
+   *
+   * @since 1.0.0
+   */
+  void recordReleased() {
+    inFlightCount.decrementAndGet();
+  }
+
+  /**
+   * Gets the number of requests currently queued (waiting for admission) in the lane.
+   *
+   * @return the number of requests currently queued in the lane
+   * @since 1.0.0
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  /**
+   * Gets the number of requests currently admitted (in flight) from the lane.
+   *
+   * @return the number of requests currently in flight from the lane
+   * @since 1.0.0
+   */
+  public int getInFlightCount() {
+    return inFlightCount.get();
+  }
+
+  /**
+   * Gets the time (in milliseconds) which the most recently admitted request from the lane waited
+   * for admission.
+   *
+   * @return the most recent admission wait time (in milliseconds)
+   * @since 1.0.0
+   */
+  public long getLastWaitMillis() {
+    return lastWaitMillis;
+  }
+
+  /**
+   * Gets the maximum time (in milliseconds) which a request admitted from the lane waited for
+   * admission.
+   *
+   * @return the maximum admission wait time (in milliseconds)
+   * @since 1.0.0
+   */
+  public long getMaxWaitMillis() {
+    return maxWaitMillis.get();
+  }
+
+  /**
+   * Gets the average time (in milliseconds) which requests admitted from the lane waited for
+   * admission.
+   *
+   * @return the average admission wait time (in milliseconds), or 0 if no requests have been
+   *     admitted
+   * @since 1.0.0
+   */
+  public long getAverageWaitMillis() {
+    final long admitted = admittedCount.sum();
+    return admitted > 0 ? totalWaitMillis.sum() / admitted : 0;
+  }
+}
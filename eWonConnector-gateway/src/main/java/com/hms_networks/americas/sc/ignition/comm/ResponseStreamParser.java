@@ -0,0 +1,28 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Interface for parsers which decode the response of a Talk2M API request directly from the
+ * response content stream, as it is received, instead of from a fully buffered response body.
+ *
+ * @param <T> The type of the decoded response.
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ResponseStreamParser<T> {
+
+  /**
+   * Decodes the response from the specified response content stream. This method is called on a
+   * response stream thread, and blocks while waiting for response content to be received.
+   *
+   * @param responseReader The reader for the response content stream.
+   * @return The decoded response.
+   * @throws IOException if the response content stream could not be read or decoded.
+   * @since 1.0.0
+   */
+  T parse(Reader responseReader) throws IOException;
+}
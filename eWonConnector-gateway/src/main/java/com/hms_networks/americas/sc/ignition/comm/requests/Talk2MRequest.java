@@ -2,38 +2,258 @@ package com.hms_networks.americas.sc.ignition.comm.requests;
 
 import com.hms_networks.americas.sc.ignition.comm.AsyncHttpRequestManager;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationUtilities;
-import java.util.concurrent.Future;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
+import com.hms_networks.americas.sc.ignition.comm.ResponseStreamParser;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
-import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
 import org.apache.hc.core5.http.NameValuePair;
 
 /**
  * An abstract class for performing an HTTP POST request to a Talk2M API. This class performs any
- * common functionality for all Talk2M requests, such as setting the content type header.
+ * common functionality for all Talk2M requests, such as setting the content type header, and
+ * decoding the response body exactly once using the implementation of the {@link
+ * Talk2MRequest#parseResponse(String)} method.
  *
+ * @param <T> The type of the decoded response for the request.
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
  * @version 1.0.0
  */
-public abstract class Talk2MRequest {
+public abstract class Talk2MRequest<T> {
+
+  /**
+   * The default deadline (in milliseconds) of requests to a Talk2M API, which is used unless
+   * overridden by the implementation of {@link Talk2MRequest#getRequestDeadlineMillis()}.
+   *
+   * @since 1.0.0
+   */
+  private static final long DEFAULT_REQUEST_DEADLINE_MILLIS = TimeUnit.MINUTES.toMillis(2);
 
   /**
    * Performs the HTTP POST request to a Talk2M API using the request URL and body defined by the
    * implementation of the {@link Talk2MRequest#getRequestUrl()} and {@link
-   * Talk2MRequest#getRequestParams()} methods.
+   * Talk2MRequest#getRequestParams()} methods. The response body is decoded once, and the decoded
+   * response is used to complete both the returned {@link CompletableFuture} and the specified
+   * callback (if provided).
    *
-   * @param callback The callback to be executed when the request is completed.
-   * @return The {@link Future} object for the request.
+   * @param callback The callback to be executed when the request is completed and the response is
+   *     decoded. May be null.
+   * @return The {@link CompletableFuture} object for the decoded response of the request.
    * @since 1.0.0
    */
-  public Future<SimpleHttpResponse> doRequest(FutureCallback<SimpleHttpResponse> callback) {
+  public CompletableFuture<T> doRequest(FutureCallback<T> callback) {
     // Build HTTP POST request
     SimpleHttpRequest request =
         CommunicationUtilities.createPostRequest(getRequestUrl(), getRequestParams());
 
+    // Build request future and callback to decode the response
+    CompletableFuture<T> future = new CompletableFuture<>();
+    FutureCallback<T> completingCallback = getCompletingCallback(future, callback);
+    FutureCallback<Message<HttpResponse, String>> decodingCallback =
+        new FutureCallback<>() {
+          @Override
+          public void completed(Message<HttpResponse, String> responseMessage) {
+            // Decode response
+            T response;
+            try {
+              response = parseResponse(responseMessage.getBody());
+            } catch (Exception e) {
+              completingCallback.failed(e);
+              return;
+            }
+            completingCallback.completed(response);
+          }
+
+          @Override
+          public void failed(Exception e) {
+            completingCallback.failed(e);
+          }
+
+          @Override
+          public void cancelled() {
+            completingCallback.cancelled();
+          }
+        };
+
     // Perform HTTP POST request
-    return AsyncHttpRequestManager.sendAsyncRequest(request, callback);
+    AsyncHttpRequestManager.sendAsyncRequest(
+        request,
+        getEndpointName(),
+        getDeviceName(),
+        getRequestLane(),
+        getRequestDeadlineMillis(),
+        isIdempotent(),
+        decodingCallback);
+    return future;
+  }
+
+  /**
+   * Performs the HTTP POST request to a Talk2M API using the request URL and body defined by the
+   * implementation of the {@link Talk2MRequest#getRequestUrl()} and {@link
+   * Talk2MRequest#getRequestParams()} methods. The response is decoded by the specified {@link
+   * ResponseStreamParser} as the response content is streamed, instead of from a fully buffered
+   * response body, and is used to complete both the returned {@link CompletableFuture} and the
+   * specified callback (if provided).
+   *
+   * @param responseStreamParser The parser to decode the response content stream with.
+   * @param callback The callback to be executed when the request is completed and the response is
+   *     decoded. May be null.
+   * @return The {@link CompletableFuture} object for the decoded response of the request.
+   * @since 1.0.0
+   */
+  protected CompletableFuture<T> doStreamingRequest(
+      ResponseStreamParser<T> responseStreamParser, FutureCallback<T> callback) {
+    // Build HTTP POST request
+    SimpleHttpRequest request =
+        CommunicationUtilities.createPostRequest(getRequestUrl(), getRequestParams());
+
+    // Build request future and callback to unwrap the decoded response
+    CompletableFuture<T> future = new CompletableFuture<>();
+    FutureCallback<T> completingCallback = getCompletingCallback(future, callback);
+    FutureCallback<Message<HttpResponse, T>> unwrappingCallback =
+        new FutureCallback<>() {
+          @Override
+          public void completed(Message<HttpResponse, T> responseMessage) {
+            completingCallback.completed(responseMessage.getBody());
+          }
+
+          @Override
+          public void failed(Exception e) {
+            completingCallback.failed(e);
+          }
+
+          @Override
+          public void cancelled() {
+            completingCallback.cancelled();
+          }
+        };
+
+    // Perform HTTP POST request
+    AsyncHttpRequestManager.sendAsyncStreamingRequest(
+        request,
+        getEndpointName(),
+        getDeviceName(),
+        getRequestLane(),
+        getRequestDeadlineMillis(),
+        responseStreamParser,
+        unwrappingCallback);
+    return future;
+  }
+
+  /**
+   * Gets a callback which completes the specified {@link CompletableFuture} with the decoded
+   * response of the request, then executes the specified callback (if provided).
+   *
+   * @param future The future to complete with the decoded response.
+   * @param callback The callback to execute after the future is completed. May be null.
+   * @return The callback which completes the future and executes the specified callback.
+   * @since 1.0.0
+   */
+  private FutureCallback<T> getCompletingCallback(
+      CompletableFuture<T> future, FutureCallback<T> callback) {
+    return new FutureCallback<>() {
+      @Override
+      public void completed(T response) {
+        future.complete(response);
+        if (callback != null) {
+          callback.completed(response);
+        }
+      }
+
+      @Override
+      public void failed(Exception e) {
+        future.completeExceptionally(e);
+        if (callback != null) {
+          callback.failed(e);
+        }
+      }
+
+      @Override
+      public void cancelled() {
+        final boolean mayInterruptIfRunning = true;
+        future.cancel(mayInterruptIfRunning);
+        if (callback != null) {
+          callback.cancelled();
+        }
+      }
+    };
+  }
+
+  /**
+   * Performs the HTTP POST request to a Talk2M API without a callback. See {@link
+   * Talk2MRequest#doRequest(FutureCallback)}.
+   *
+   * @return The {@link CompletableFuture} object for the decoded response of the request.
+   * @since 1.0.0
+   */
+  public CompletableFuture<T> doRequest() {
+    final FutureCallback<T> callback = null;
+    return doRequest(callback);
+  }
+
+  /**
+   * Gets the name of the Talk2M API endpoint of the request, which is used to group the transfer
+   * statistics of the request. The name is the simple name of the request class.
+   *
+   * @return The name of the Talk2M API endpoint of the request.
+   * @since 1.0.0
+   */
+  public String getEndpointName() {
+    return getClass().getSimpleName();
+  }
+
+  /**
+   * Gets the name of the device (Ewon) which the request is sent to via the M2Web proxy, to which
+   * failures of the request are attributed instead of to the Talk2M route. Requests are not sent to
+   * a single device unless overridden by the implementation.
+   *
+   * @return The name of the device of the request, or null if the request is not sent to a single
+   *     device.
+   * @since 1.0.0
+   */
+  public String getDeviceName() {
+    return null;
+  }
+
+  /**
+   * Gets the request lane in which the request is admitted to the HTTP connection pool. Requests
+   * are in the {@link RequestLane#METADATA} lane unless overridden by the implementation.
+   *
+   * @return The request lane of the request.
+   * @since 1.0.0
+   */
+  public RequestLane getRequestLane() {
+    return RequestLane.METADATA;
+  }
+
+  /**
+   * Gets the deadline (in milliseconds) of the request, from when it is sent until the response is
+   * received and decoded, including any time spent waiting for admission to the HTTP connection
+   * pool. The request fails with a {@link java.util.concurrent.TimeoutException} if it does not
+   * complete within its deadline. Requests have a deadline of two minutes unless overridden by the
+   * implementation.
+   *
+   * @return The deadline (in milliseconds) of the request.
+   * @since 1.0.0
+   */
+  public long getRequestDeadlineMillis() {
+    return DEFAULT_REQUEST_DEADLINE_MILLIS;
+  }
+
+  /**
+   * Gets a boolean indicating if the request is idempotent (i.e. only reads data), such that it can
+   * safely be sent more than once. Idempotent requests may be hedged when hedged requests are
+   * enabled. Requests are not idempotent unless overridden by the implementation.
+   *
+   * @return {@code true} if the request is idempotent, {@code false} otherwise.
+   * @since 1.0.0
+   */
+  public boolean isIdempotent() {
+    return false;
   }
 
   /**
@@ -53,4 +273,16 @@ public abstract class Talk2MRequest {
    * @since 1.0.0
    */
   public abstract NameValuePair[] getRequestParams();
+
+  /**
+   * Decodes the response body of the request to a Talk2M API into the response type of the request,
+   * which is defined by the implementation of this method. This method is called exactly once per
+   * completed request.
+   *
+   * @param responseBody The response body of the request to a Talk2M API.
+   * @return The decoded response of the request to a Talk2M API.
+   * @throws Exception if the response body could not be decoded.
+   * @since 1.0.0
+   */
+  protected abstract T parseResponse(String responseBody) throws Exception;
 }
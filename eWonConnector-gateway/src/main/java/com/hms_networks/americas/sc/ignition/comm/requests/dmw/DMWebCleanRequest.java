@@ -2,7 +2,9 @@ package com.hms_networks.americas.sc.ignition.comm.requests.dmw;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebCleanResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +15,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class DMWebCleanRequest extends Talk2MRequest {
+public class DMWebCleanRequest extends Talk2MRequest<DMWebCleanResponse> {
 
   /**
    * The URL for the DMWeb/Talk2M clean service.
@@ -113,4 +115,27 @@ public class DMWebCleanRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets the request lane of the clean request, which is {@link RequestLane#DMWEB_SYNC}.
+   *
+   * @return The request lane of the clean request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.DMWEB_SYNC;
+  }
+
+  /**
+   * Decodes the response body of the clean request to the DMWeb API.
+   *
+   * @param responseBody The response body of the clean request to the DMWeb API.
+   * @return The decoded {@link DMWebCleanResponse} of the clean request to the DMWeb API.
+   * @since 1.0.0
+   */
+  @Override
+  protected DMWebCleanResponse parseResponse(String responseBody) {
+    return DMWebCleanResponse.getFromJson(responseBody);
+  }
 }
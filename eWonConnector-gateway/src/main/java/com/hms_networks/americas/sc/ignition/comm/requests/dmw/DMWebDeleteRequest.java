@@ -3,7 +3,9 @@ package com.hms_networks.americas.sc.ignition.comm.requests.dmw;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationUtilities;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebDeleteResponse;
 import java.util.Date;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
@@ -15,7 +17,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class DMWebDeleteRequest extends Talk2MRequest {
+public class DMWebDeleteRequest extends Talk2MRequest<DMWebDeleteResponse> {
 
   /**
    * The URL for the DMWeb/Talk2M delete service.
@@ -159,4 +161,27 @@ public class DMWebDeleteRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets the request lane of the delete request, which is {@link RequestLane#DMWEB_SYNC}.
+   *
+   * @return The request lane of the delete request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.DMWEB_SYNC;
+  }
+
+  /**
+   * Decodes the response body of the delete request to the DMWeb API.
+   *
+   * @param responseBody The response body of the delete request to the DMWeb API.
+   * @return The decoded {@link DMWebDeleteResponse} of the delete request to the DMWeb API.
+   * @since 1.0.0
+   */
+  @Override
+  protected DMWebDeleteResponse parseResponse(String responseBody) {
+    return DMWebDeleteResponse.getFromJson(responseBody);
+  }
 }
@@ -3,9 +3,12 @@ package com.hms_networks.americas.sc.ignition.comm.requests.dmw;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationUtilities;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebGetDataResponse;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -16,7 +19,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class DMWebGetDataRequest extends Talk2MRequest {
+public class DMWebGetDataRequest extends Talk2MRequest<DMWebGetDataResponse> {
 
   /**
    * The default value for the full config parameter.
@@ -3139,4 +3142,51 @@ public class DMWebGetDataRequest extends Talk2MRequest {
       super(toDate);
     }
   }
+
+  /**
+   * Gets the request lane of the get data request, which is {@link RequestLane#DMWEB_SYNC}.
+   *
+   * @return The request lane of the get data request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.DMWEB_SYNC;
+  }
+
+  /**
+   * Gets the deadline of the getdata request, which is 10 minutes, as historical data responses may
+   * be large.
+   *
+   * @return The deadline (in milliseconds) of the getdata request.
+   * @since 1.0.0
+   */
+  @Override
+  public long getRequestDeadlineMillis() {
+    return TimeUnit.MINUTES.toMillis(10);
+  }
+
+  /**
+   * Gets a boolean indicating if the getdata request is idempotent, which it is, as it only reads
+   * data.
+   *
+   * @return {@code true}, as the getdata request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the getdata request to the DMWeb API.
+   *
+   * @param responseBody The response body of the getdata request to the DMWeb API.
+   * @return The decoded {@link DMWebGetDataResponse} of the getdata request to the DMWeb API.
+   * @since 1.0.0
+   */
+  @Override
+  protected DMWebGetDataResponse parseResponse(String responseBody) {
+    return DMWebGetDataResponse.getFromJson(responseBody);
+  }
 }
@@ -3,6 +3,7 @@ package com.hms_networks.americas.sc.ignition.comm.requests.dmw;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebGetEwonResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +14,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class DMWebGetEwonRequest extends Talk2MRequest {
+public class DMWebGetEwonRequest extends Talk2MRequest<DMWebGetEwonResponse> {
 
   /**
    * The URL for the DMWeb/Talk2M getewon service.
@@ -113,4 +114,28 @@ public class DMWebGetEwonRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets a boolean indicating if the getewon request is idempotent, which it is, as it only reads
+   * data.
+   *
+   * @return {@code true}, as the getewon request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the getewon request to the DMWeb API.
+   *
+   * @param responseBody The response body of the getewon request to the DMWeb API.
+   * @return The decoded {@link DMWebGetEwonResponse} of the getewon request to the DMWeb API.
+   * @since 1.0.0
+   */
+  @Override
+  protected DMWebGetEwonResponse parseResponse(String responseBody) {
+    return DMWebGetEwonResponse.getFromJson(responseBody);
+  }
 }
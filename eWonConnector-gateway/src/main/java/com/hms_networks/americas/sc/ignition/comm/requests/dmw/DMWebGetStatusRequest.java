@@ -3,6 +3,7 @@ package com.hms_networks.americas.sc.ignition.comm.requests.dmw;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebGetStatusResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +14,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class DMWebGetStatusRequest extends Talk2MRequest {
+public class DMWebGetStatusRequest extends Talk2MRequest<DMWebGetStatusResponse> {
 
   /**
    * The URL for the DMWeb/Talk2M getstatus service.
@@ -79,4 +80,28 @@ public class DMWebGetStatusRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets a boolean indicating if the getstatus request is idempotent, which it is, as it only reads
+   * data.
+   *
+   * @return {@code true}, as the getstatus request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the getstatus request to the DMWeb API.
+   *
+   * @param responseBody The response body of the getstatus request to the DMWeb API.
+   * @return The decoded {@link DMWebGetStatusResponse} of the getstatus request to the DMWeb API.
+   * @since 1.0.0
+   */
+  @Override
+  protected DMWebGetStatusResponse parseResponse(String responseBody) {
+    return DMWebGetStatusResponse.getFromJson(responseBody);
+  }
 }
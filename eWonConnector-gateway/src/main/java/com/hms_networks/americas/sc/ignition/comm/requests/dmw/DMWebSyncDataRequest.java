@@ -2,8 +2,15 @@ package com.hms_networks.americas.sc.ignition.comm.requests.dmw;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebSyncDataResponse;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebSyncDataStreamParser;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebSyncDataTagHandler;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -14,7 +21,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class DMWebSyncDataRequest extends Talk2MRequest {
+public class DMWebSyncDataRequest extends Talk2MRequest<DMWebSyncDataResponse> {
 
   /**
    * The URL for the DMWeb/Talk2M syncdata service.
@@ -396,6 +403,23 @@ public class DMWebSyncDataRequest extends Talk2MRequest {
     return Arrays.stream(ewonIds).mapToObj(String::valueOf).reduce("", (a, b) -> a + "," + b);
   }
 
+  /**
+   * Performs the syncdata request to the DMWeb API, and parses the response as it is streamed. Each
+   * tag in the response is passed to the specified {@link DMWebSyncDataTagHandler} as soon as it
+   * has been parsed, instead of after the full response has been received and parsed.
+   *
+   * @param tagHandler The handler for each tag parsed from the syncdata response.
+   * @param callback The callback to be executed when the request is completed and the response has
+   *     been fully parsed. May be null.
+   * @return The {@link CompletableFuture} object for the parsed {@link DMWebSyncDataResponse},
+   *     which does not contain the list of tags for each Ewon.
+   * @since 1.0.0
+   */
+  public CompletableFuture<DMWebSyncDataResponse> doStreamingRequest(
+      DMWebSyncDataTagHandler tagHandler, FutureCallback<DMWebSyncDataResponse> callback) {
+    return doStreamingRequest(new DMWebSyncDataStreamParser(tagHandler), callback);
+  }
+
   /**
    * Gets the URL of the syncdata request to the DMWeb API.
    *
@@ -417,4 +441,39 @@ public class DMWebSyncDataRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets the request lane of the sync data request, which is {@link RequestLane#DMWEB_SYNC}.
+   *
+   * @return The request lane of the sync data request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.DMWEB_SYNC;
+  }
+
+  /**
+   * Gets the deadline of the syncdata request, which is 10 minutes, as historical data responses
+   * may be large.
+   *
+   * @return The deadline (in milliseconds) of the syncdata request.
+   * @since 1.0.0
+   */
+  @Override
+  public long getRequestDeadlineMillis() {
+    return TimeUnit.MINUTES.toMillis(10);
+  }
+
+  /**
+   * Decodes the response body of the syncdata request to the DMWeb API.
+   *
+   * @param responseBody The response body of the syncdata request to the DMWeb API.
+   * @return The decoded {@link DMWebSyncDataResponse} of the syncdata request to the DMWeb API.
+   * @since 1.0.0
+   */
+  @Override
+  protected DMWebSyncDataResponse parseResponse(String responseBody) {
+    return DMWebSyncDataResponse.getFromJson(responseBody);
+  }
 }
@@ -1,6 +1,9 @@
 package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDInstantValuesResponse;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class for building and performing Ewon Export Block Descriptor (EBD) Instant Values requests via
@@ -10,15 +13,30 @@ import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebEwonEBDInstantValuesRequest extends M2WebEwonGetRequest {
+public class M2WebEwonEBDInstantValuesRequest
+    extends M2WebEwonGetRequest<M2WebEwonEBDInstantValuesResponse> {
 
   /**
-   * The Ewon GET request path for EBD Instant Values requests.
+   * The Ewon GET request path prefix for EBD Instant Values requests.
    *
    * @since 1.0.0
    */
-  private static final String EBD_TAG_LIST_GET_REQUEST_PATH =
-      "/rcgi.bin/ParamForm?AST_Param=$dtIV$ftT";
+  private static final String EBD_INSTANT_VALUES_GET_REQUEST_PATH_PREFIX =
+      "/rcgi.bin/ParamForm?AST_Param=$dtIV";
+
+  /**
+   * The EBD parameter which filters the exported instant values by tag group.
+   *
+   * @since 1.0.0
+   */
+  private static final String EBD_TAG_GROUP_FILTER_PARAMETER = "$fl";
+
+  /**
+   * The EBD parameter which selects the text export format.
+   *
+   * @since 1.0.0
+   */
+  private static final String EBD_TEXT_FORMAT_PARAMETER = "$ftT";
 
   /**
    * Constructs a new {@link M2WebEwonEBDInstantValuesRequest} object with the specified
@@ -36,13 +54,36 @@ public class M2WebEwonEBDInstantValuesRequest extends M2WebEwonGetRequest {
       String t2mSessionId,
       CommunicationAuthInfo communicationAuthInfo,
       String ewonName) {
+    this(server, t2mSessionId, communicationAuthInfo, ewonName, null);
+  }
+
+  /**
+   * Constructs a new {@link M2WebEwonEBDInstantValuesRequest} object with the specified
+   * M2Web/Talk2M server session ID, {@link CommunicationAuthInfo}, Ewon name, and tag group filter.
+   *
+   * @param server The M2Web/Talk2M server to perform the Ewon EBD Instant Values request on.
+   * @param t2mSessionId The Talk2M session ID to authenticate with.
+   * @param communicationAuthInfo The Talk2M account {@link CommunicationAuthInfo} object to use for
+   *     the request.
+   * @param ewonName The name of the Ewon to perform the EBD Instant Values request on.
+   * @param tagGroupFilter The tag group (A, B, C or D) to export the instant values of, or null to
+   *     export the instant values of all tags.
+   * @since 1.0.0
+   */
+  public M2WebEwonEBDInstantValuesRequest(
+      String server,
+      String t2mSessionId,
+      CommunicationAuthInfo communicationAuthInfo,
+      String ewonName,
+      String tagGroupFilter) {
     this(
         server,
         t2mSessionId,
         communicationAuthInfo.getDevId(),
         communicationAuthInfo.getEwonUsername(),
         communicationAuthInfo.getEwonPassword(),
-        ewonName);
+        ewonName,
+        tagGroupFilter);
   }
 
   /**
@@ -64,6 +105,39 @@ public class M2WebEwonEBDInstantValuesRequest extends M2WebEwonGetRequest {
       String t2mDeviceUsername,
       String t2mDevicePassword,
       String ewonName) {
+    this(
+        server,
+        t2mSessionId,
+        t2mDeveloperId,
+        t2mDeviceUsername,
+        t2mDevicePassword,
+        ewonName,
+        null);
+  }
+
+  /**
+   * Constructs a new {@link M2WebEwonEBDInstantValuesRequest} object with the specified
+   * M2Web/Talk2M server, session ID, developer ID, device username, device password, Ewon name, and
+   * tag group filter.
+   *
+   * @param server The M2Web/Talk2M server to perform the Ewon EBD Instant Values request on.
+   * @param t2mSessionId The Talk2M session ID to authenticate with.
+   * @param t2mDeveloperId The Talk2M developer ID to use for the request.
+   * @param t2mDeviceUsername The Talk2M device username to use for the request. Can not be null.
+   * @param t2mDevicePassword The Talk2M device password to use for the request. Can not be null.
+   * @param ewonName The name of the Ewon to perform the EBD Instant Values request on.
+   * @param tagGroupFilter The tag group (A, B, C or D) to export the instant values of, or null to
+   *     export the instant values of all tags.
+   * @since 1.0.0
+   */
+  public M2WebEwonEBDInstantValuesRequest(
+      String server,
+      String t2mSessionId,
+      String t2mDeveloperId,
+      String t2mDeviceUsername,
+      String t2mDevicePassword,
+      String ewonName,
+      String tagGroupFilter) {
     super(
         server,
         t2mSessionId,
@@ -71,6 +145,73 @@ public class M2WebEwonEBDInstantValuesRequest extends M2WebEwonGetRequest {
         t2mDeviceUsername,
         t2mDevicePassword,
         ewonName,
-        EBD_TAG_LIST_GET_REQUEST_PATH);
+        getRequestPath(tagGroupFilter));
+  }
+
+  /**
+   * Gets the Ewon GET request path of an EBD instant values request with the specified tag group
+   * filter.
+   *
+   * @param tagGroupFilter The tag group (A, B, C or D) to export the instant values of, or null to
+   *     export the instant values of all tags.
+   * @return The Ewon GET request path of the EBD instant values request.
+   * @since 1.0.0
+   */
+  private static String getRequestPath(String tagGroupFilter) {
+    return tagGroupFilter != null
+        ? EBD_INSTANT_VALUES_GET_REQUEST_PATH_PREFIX
+            + EBD_TAG_GROUP_FILTER_PARAMETER
+            + tagGroupFilter
+            + EBD_TEXT_FORMAT_PARAMETER
+        : EBD_INSTANT_VALUES_GET_REQUEST_PATH_PREFIX + EBD_TEXT_FORMAT_PARAMETER;
+  }
+
+  /**
+   * Gets the request lane of the EBD instant values request, which is {@link
+   * RequestLane#LIVE_POLL}.
+   *
+   * @return The request lane of the EBD instant values request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.LIVE_POLL;
+  }
+
+  /**
+   * Gets the deadline of the EBD instant values request, which is 20 seconds, as instant values are
+   * polled frequently and a late response is superseded by the next poll.
+   *
+   * @return The deadline (in milliseconds) of the EBD instant values request.
+   * @since 1.0.0
+   */
+  @Override
+  public long getRequestDeadlineMillis() {
+    return TimeUnit.SECONDS.toMillis(20);
+  }
+
+  /**
+   * Gets a boolean indicating if the EBD instant values request is idempotent, which it is, as it
+   * only reads data.
+   *
+   * @return {@code true}, as the EBD instant values request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the EBD instant values request to the M2Web API.
+   *
+   * @param responseBody The response body of the EBD instant values request to the M2Web API.
+   * @return The decoded {@link M2WebEwonEBDInstantValuesResponse} of the EBD instant values request
+   *     to the M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebEwonEBDInstantValuesResponse parseResponse(String responseBody) {
+    return M2WebEwonEBDInstantValuesResponse.getFromString(responseBody);
   }
 }
@@ -1,6 +1,8 @@
 package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTagListResponse;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class for building and performing Ewon Export Block Descriptor (EBD) Tag List requests via M2Web.
@@ -9,7 +11,7 @@ import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebEwonEBDTagListRequest extends M2WebEwonGetRequest {
+public class M2WebEwonEBDTagListRequest extends M2WebEwonGetRequest<M2WebEwonEBDTagListResponse> {
 
   /**
    * The Ewon GET request path for EBD Tag List requests.
@@ -72,4 +74,41 @@ public class M2WebEwonEBDTagListRequest extends M2WebEwonGetRequest {
         ewonName,
         EBD_TAG_LIST_GET_REQUEST_PATH);
   }
+
+  /**
+   * Gets the deadline of the EBD tag list request, which is 5 minutes, as the tag list of an Ewon
+   * with many tags may be large.
+   *
+   * @return The deadline (in milliseconds) of the EBD tag list request.
+   * @since 1.0.0
+   */
+  @Override
+  public long getRequestDeadlineMillis() {
+    return TimeUnit.MINUTES.toMillis(5);
+  }
+
+  /**
+   * Gets a boolean indicating if the EBD tag list request is idempotent, which it is, as it only
+   * reads data.
+   *
+   * @return {@code true}, as the EBD tag list request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the EBD tag list request to the M2Web API.
+   *
+   * @param responseBody The response body of the EBD tag list request to the M2Web API.
+   * @return The decoded {@link M2WebEwonEBDTagListResponse} of the EBD tag list request to the
+   *     M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebEwonEBDTagListResponse parseResponse(String responseBody) {
+    return M2WebEwonEBDTagListResponse.getFromString(responseBody);
+  }
 }
@@ -7,13 +7,15 @@ import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
 /**
- * Class for building and performing Ewon GET requests via M2Web.
+ * Base class for building and performing Ewon GET requests via M2Web. Implementations define the
+ * Ewon request path and the decoding of the Ewon response.
  *
+ * @param <T> The type of the decoded Ewon response.
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebEwonGetRequest extends Talk2MRequest {
+public abstract class M2WebEwonGetRequest<T> extends Talk2MRequest<T> {
 
   /**
    * The endpoint for the M2Web/Talk2M Ewon GET request service.
@@ -38,6 +40,13 @@ public class M2WebEwonGetRequest extends Talk2MRequest {
    */
   private final NameValuePair[] requestParams;
 
+  /**
+   * The name of the Ewon to perform the GET request on.
+   *
+   * @since 1.0.0
+   */
+  private final String ewonName;
+
   /**
    * Constructs a new {@link M2WebEwonGetRequest} object with the specified M2Web/Talk2M server
    * session ID, {@link CommunicationAuthInfo}, Ewon name, and Ewon request path (i.e.
@@ -97,6 +106,7 @@ public class M2WebEwonGetRequest extends Talk2MRequest {
       throw new IllegalArgumentException("Device password cannot be null.");
     }
 
+    this.ewonName = ewonName;
     this.requestUrl = server + GETEWON_SERVICE_ENDPOINT + "/" + ewonName + "/" + ewonRequestPath;
     this.requestParams =
         new NameValuePair[] {
@@ -109,6 +119,17 @@ public class M2WebEwonGetRequest extends Talk2MRequest {
         };
   }
 
+  /**
+   * Gets the name of the Ewon which the getewon request is sent to via the M2Web proxy.
+   *
+   * @return The name of the Ewon of the getewon request.
+   * @since 1.0.0
+   */
+  @Override
+  public String getDeviceName() {
+    return ewonName;
+  }
+
   /**
    * Gets the URL of the getewon request to the M2Web API.
    *
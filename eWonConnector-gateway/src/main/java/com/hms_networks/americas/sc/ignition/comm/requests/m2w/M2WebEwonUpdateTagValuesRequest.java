@@ -1,7 +1,10 @@
 package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonUpdateTagValuesResponse;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.collections4.KeyValue;
 
 /**
@@ -11,7 +14,8 @@ import org.apache.commons.collections4.KeyValue;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebEwonUpdateTagValuesRequest extends M2WebEwonGetRequest {
+public class M2WebEwonUpdateTagValuesRequest
+    extends M2WebEwonGetRequest<M2WebEwonUpdateTagValuesResponse> {
 
   /**
    * The Ewon GET request path base for update tag values requests.
@@ -141,4 +145,40 @@ public class M2WebEwonUpdateTagValuesRequest extends M2WebEwonGetRequest {
 
     return requestPath.toString();
   }
+
+  /**
+   * Gets the request lane of the update tag values request, which is {@link RequestLane#WRITE}. Tag
+   * value writes are operator-initiated, so they are admitted before polling and metadata requests.
+   *
+   * @return The request lane of the update tag values request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.WRITE;
+  }
+
+  /**
+   * Gets the deadline of the update tag values request, which is 30 seconds.
+   *
+   * @return The deadline (in milliseconds) of the update tag values request.
+   * @since 1.0.0
+   */
+  @Override
+  public long getRequestDeadlineMillis() {
+    return TimeUnit.SECONDS.toMillis(30);
+  }
+
+  /**
+   * Decodes the response body of the update tag values request to the M2Web API.
+   *
+   * @param responseBody The response body of the update tag values request to the M2Web API.
+   * @return The decoded {@link M2WebEwonUpdateTagValuesResponse} of the update tag values request
+   *     to the M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebEwonUpdateTagValuesResponse parseResponse(String responseBody) {
+    return M2WebEwonUpdateTagValuesResponse.getFromString(responseBody);
+  }
 }
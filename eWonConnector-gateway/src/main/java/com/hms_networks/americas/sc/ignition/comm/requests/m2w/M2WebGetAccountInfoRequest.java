@@ -3,6 +3,7 @@ package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebGetAccountInfoResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +14,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebGetAccountInfoRequest extends Talk2MRequest {
+public class M2WebGetAccountInfoRequest extends Talk2MRequest<M2WebGetAccountInfoResponse> {
 
   /**
    * The endpoint for the M2Web/Talk2M getaccountinfo service.
@@ -92,4 +93,29 @@ public class M2WebGetAccountInfoRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets a boolean indicating if the getaccountinfo request is idempotent, which it is, as it only
+   * reads data.
+   *
+   * @return {@code true}, as the getaccountinfo request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the getaccountinfo request to the M2Web API.
+   *
+   * @param responseBody The response body of the getaccountinfo request to the M2Web API.
+   * @return The decoded {@link M2WebGetAccountInfoResponse} of the getaccountinfo request to the
+   *     M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebGetAccountInfoResponse parseResponse(String responseBody) {
+    return M2WebGetAccountInfoResponse.getFromJson(responseBody);
+  }
 }
@@ -3,6 +3,7 @@ package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebGetEwonsResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +14,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebGetEwonsRequest extends Talk2MRequest {
+public class M2WebGetEwonsRequest extends Talk2MRequest<M2WebGetEwonsResponse> {
 
   /**
    * The endpoint for the M2Web/Talk2M getewons service.
@@ -132,4 +133,28 @@ public class M2WebGetEwonsRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets a boolean indicating if the getewons request is idempotent, which it is, as it only reads
+   * data.
+   *
+   * @return {@code true}, as the getewons request is idempotent.
+   * @since 1.0.0
+   */
+  @Override
+  public boolean isIdempotent() {
+    return true;
+  }
+
+  /**
+   * Decodes the response body of the getewons request to the M2Web API.
+   *
+   * @param responseBody The response body of the getewons request to the M2Web API.
+   * @return The decoded {@link M2WebGetEwonsResponse} of the getewons request to the M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebGetEwonsResponse parseResponse(String responseBody) {
+    return M2WebGetEwonsResponse.getFromJson(responseBody);
+  }
 }
@@ -2,7 +2,9 @@ package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebLoginResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +15,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebLoginRequest extends Talk2MRequest {
+public class M2WebLoginRequest extends Talk2MRequest<M2WebLoginResponse> {
 
   /**
    * The endpoint for the M2Web/Talk2M login service.
@@ -104,4 +106,29 @@ public class M2WebLoginRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets the request lane of the login request, which is {@link RequestLane#WRITE}. All other M2Web
+   * requests depend on the session created by the login request, so it is admitted with the highest
+   * priority.
+   *
+   * @return The request lane of the login request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.WRITE;
+  }
+
+  /**
+   * Decodes the response body of the login request to the M2Web API.
+   *
+   * @param responseBody The response body of the login request to the M2Web API.
+   * @return The decoded {@link M2WebLoginResponse} of the login request to the M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebLoginResponse parseResponse(String responseBody) {
+    return M2WebLoginResponse.getFromJson(responseBody);
+  }
 }
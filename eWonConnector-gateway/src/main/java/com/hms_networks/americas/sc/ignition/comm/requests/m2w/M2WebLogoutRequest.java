@@ -3,6 +3,7 @@ package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebLogoutResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +14,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebLogoutRequest extends Talk2MRequest {
+public class M2WebLogoutRequest extends Talk2MRequest<M2WebLogoutResponse> {
 
   /**
    * The endpoint for the M2Web/Talk2M logout service.
@@ -92,4 +93,16 @@ public class M2WebLogoutRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Decodes the response body of the logout request to the M2Web API.
+   *
+   * @param responseBody The response body of the logout request to the M2Web API.
+   * @return The decoded {@link M2WebLogoutResponse} of the logout request to the M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebLogoutResponse parseResponse(String responseBody) {
+    return M2WebLogoutResponse.getFromJson(responseBody);
+  }
 }
@@ -2,7 +2,9 @@ package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebSendOfflineResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +15,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebSendOfflineRequest extends Talk2MRequest {
+public class M2WebSendOfflineRequest extends Talk2MRequest<M2WebSendOfflineResponse> {
 
   /**
    * The endpoint for the M2Web/Talk2M sendoffline service.
@@ -136,4 +138,30 @@ public class M2WebSendOfflineRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets the request lane of the send offline request, which is {@link RequestLane#WRITE}. Sending
+   * an Ewon offline is an operator-initiated command, so it is admitted before polling and metadata
+   * requests.
+   *
+   * @return The request lane of the send offline request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.WRITE;
+  }
+
+  /**
+   * Decodes the response body of the sendoffline request to the M2Web API.
+   *
+   * @param responseBody The response body of the sendoffline request to the M2Web API.
+   * @return The decoded {@link M2WebSendOfflineResponse} of the sendoffline request to the M2Web
+   *     API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebSendOfflineResponse parseResponse(String responseBody) {
+    return M2WebSendOfflineResponse.getFromJson(responseBody);
+  }
 }
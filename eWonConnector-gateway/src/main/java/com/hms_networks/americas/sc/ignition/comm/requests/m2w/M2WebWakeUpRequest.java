@@ -2,7 +2,9 @@ package com.hms_networks.americas.sc.ignition.comm.requests.m2w;
 
 import com.hms_networks.americas.sc.ignition.comm.CommunicationAuthInfo;
 import com.hms_networks.americas.sc.ignition.comm.CommunicationConstants;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
 import com.hms_networks.americas.sc.ignition.comm.requests.Talk2MRequest;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebWakeUpResponse;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 
@@ -13,7 +15,7 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
  * @since 2.0.0
  * @version 1.0.0
  */
-public class M2WebWakeUpRequest extends Talk2MRequest {
+public class M2WebWakeUpRequest extends Talk2MRequest<M2WebWakeUpResponse> {
 
   /**
    * The endpoint for the M2Web/Talk2M wakeup service.
@@ -135,4 +137,28 @@ public class M2WebWakeUpRequest extends Talk2MRequest {
   public NameValuePair[] getRequestParams() {
     return requestParams;
   }
+
+  /**
+   * Gets the request lane of the wake up request, which is {@link RequestLane#WRITE}. Waking up an
+   * Ewon is an operator-initiated command, so it is admitted before polling and metadata requests.
+   *
+   * @return The request lane of the wake up request.
+   * @since 1.0.0
+   */
+  @Override
+  public RequestLane getRequestLane() {
+    return RequestLane.WRITE;
+  }
+
+  /**
+   * Decodes the response body of the wakeup request to the M2Web API.
+   *
+   * @param responseBody The response body of the wakeup request to the M2Web API.
+   * @return The decoded {@link M2WebWakeUpResponse} of the wakeup request to the M2Web API.
+   * @since 1.0.0
+   */
+  @Override
+  protected M2WebWakeUpResponse parseResponse(String responseBody) {
+    return M2WebWakeUpResponse.getFromJson(responseBody);
+  }
 }
@@ -3,6 +3,8 @@ package com.hms_networks.americas.sc.ignition.comm.responses;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
 
@@ -16,6 +18,22 @@ import java.util.Date;
  */
 public class Talk2MResponse {
 
+  /**
+   * The length of an ISO 8601 UTC date string with second precision (i.e. 2023-01-31T23:59:59Z),
+   * which is the date format used by the Talk2M APIs.
+   *
+   * @since 1.0.0
+   */
+  private static final int ISO_8601_UTC_SECONDS_LENGTH = 20;
+
+  /**
+   * The number of days between 0000-03-01 and the Unix epoch (1970-01-01), used for converting
+   * dates to epoch days.
+   *
+   * @since 1.0.0
+   */
+  private static final long DAYS_0000_TO_1970 = 719468L;
+
   /**
    * The success status of the Talk2M request.
    *
@@ -62,4 +80,75 @@ public class Talk2MResponse {
   public static Date toDate(String dateString) throws DateTimeParseException {
     return Date.from(Instant.parse(dateString));
   }
+
+  /**
+   * Converts the specified ISO 8601 date string to milliseconds since the Unix epoch. Date strings
+   * in the format used by the Talk2M APIs (i.e. 2023-01-31T23:59:59Z) are converted directly
+   * without intermediate objects, and all other date strings are parsed using <a
+   * href="https://docs.oracle.com/javase/8/docs/api/java/time/format/DateTimeFormatter.html#ISO_INSTANT">DateTimeFormatter.ISO_INSTANT</a>.
+   *
+   * @param dateString text string of date in UTC
+   * @return the milliseconds since the Unix epoch from date string
+   * @throws DateTimeParseException if the date string is not valid
+   * @since 1.0.0
+   */
+  public static long toEpochMillis(String dateString) throws DateTimeParseException {
+    // Convert Talk2M date format directly, if applicable
+    if (dateString.length() == ISO_8601_UTC_SECONDS_LENGTH
+        && dateString.charAt(4) == '-'
+        && dateString.charAt(7) == '-'
+        && dateString.charAt(10) == 'T'
+        && dateString.charAt(13) == ':'
+        && dateString.charAt(16) == ':'
+        && dateString.charAt(19) == 'Z') {
+      try {
+        final int radix = 10;
+        int year = Integer.parseInt(dateString, 0, 4, radix);
+        int month = Integer.parseInt(dateString, 5, 7, radix);
+        int day = Integer.parseInt(dateString, 8, 10, radix);
+        int hour = Integer.parseInt(dateString, 11, 13, radix);
+        int minute = Integer.parseInt(dateString, 14, 16, radix);
+        int second = Integer.parseInt(dateString, 17, 19, radix);
+        if (month >= 1
+            && month <= 12
+            && day >= 1
+            && day <= Month.of(month).length(Year.isLeap(year))
+            && hour >= 0
+            && hour <= 23
+            && minute >= 0
+            && minute <= 59
+            && second >= 0
+            && second <= 59) {
+          long epochSeconds =
+              getEpochDay(year, month, day) * 86400L + hour * 3600L + minute * 60L + second;
+          return epochSeconds * 1000L;
+        }
+      } catch (NumberFormatException e) {
+        // Fall through to full ISO 8601 parsing, which reports the invalid date string
+      }
+    }
+
+    // Parse all other date formats (or invalid date strings)
+    return Instant.parse(dateString).toEpochMilli();
+  }
+
+  /**
+   * Gets the number of days since the Unix epoch (1970-01-01) for the specified proleptic
+   * Gregorian calendar date. The specified date must be valid.
+   *
+   * @param year the year of the date
+   * @param month the month of the date (1-12)
+   * @param day the day of the month of the date (1-31)
+   * @return the number of days since the Unix epoch
+   * @since 1.0.0
+   */
+  private static long getEpochDay(int year, int month, int day) {
+    // Shift year to begin in March, so the leap day is the last day of the year
+    long shiftedYear = month <= 2 ? year - 1 : year;
+    long era = (shiftedYear >= 0 ? shiftedYear : shiftedYear - 399) / 400;
+    long yearOfEra = shiftedYear - era * 400;
+    long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - DAYS_0000_TO_1970;
+  }
 }
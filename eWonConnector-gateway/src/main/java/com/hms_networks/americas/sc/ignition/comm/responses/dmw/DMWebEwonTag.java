@@ -1,5 +1,6 @@
 package com.hms_networks.americas.sc.ignition.comm.responses.dmw;
 
+import com.hms_networks.americas.sc.ignition.data.EwonTagType;
 import java.util.List;
 
 /**
@@ -76,6 +77,24 @@ public class DMWebEwonTag {
    */
   private List<DMWebEwonTagHistoryEntry> history;
 
+  /**
+   * The historical values of the Ewon tag, in columnar form. This field is populated directly by
+   * the {@link DMWebSyncDataStreamParser} when streaming, or built from the {@link #history} list
+   * when first requested otherwise.
+   *
+   * @since 1.0.0
+   */
+  private transient DMWebEwonTagHistoryBlock historyBlock;
+
+  /**
+   * The exception which occurred while decoding the historical values of the Ewon tag directly to
+   * columnar form, if any. This exception is thrown by {@link #getHistoryBlock()}, so that an
+   * invalid history entry only affects the Ewon tag it belongs to.
+   *
+   * @since 1.0.0
+   */
+  private transient RuntimeException historyBlockException;
+
   /**
    * Gets the ID of the Ewon tag.
    *
@@ -206,4 +225,48 @@ public class DMWebEwonTag {
   public List<DMWebEwonTagHistoryEntry> getHistory() {
     return history;
   }
+
+  /**
+   * Gets the historical values of the Ewon tag in columnar form. If the history of the Ewon tag was
+   * not decoded directly to columnar form, it is built from the list of history entries the first
+   * time this method is called. If the Ewon tag has no history, an empty block is returned.
+   *
+   * @return The historical values of the Ewon tag, in columnar form.
+   * @throws IllegalArgumentException if the tag data type or a history entry quality is invalid
+   * @throws NumberFormatException if a history entry value cannot be converted to the tag type
+   * @since 1.0.0
+   */
+  public DMWebEwonTagHistoryBlock getHistoryBlock() {
+    if (historyBlockException != null) {
+      throw historyBlockException;
+    }
+    if (historyBlock == null) {
+      historyBlock =
+          DMWebEwonTagHistoryBlock.fromHistoryEntries(
+              EwonTagType.getTagTypeFromString(dataType), history);
+    }
+    return historyBlock;
+  }
+
+  /**
+   * Sets the historical values of the Ewon tag in columnar form. This method is used by the {@link
+   * DMWebSyncDataStreamParser} to populate the history of the Ewon tag directly.
+   *
+   * @param historyBlock The historical values of the Ewon tag, in columnar form.
+   * @since 1.0.0
+   */
+  void setHistoryBlock(DMWebEwonTagHistoryBlock historyBlock) {
+    this.historyBlock = historyBlock;
+  }
+
+  /**
+   * Sets the exception which occurred while decoding the historical values of the Ewon tag directly
+   * to columnar form. The exception is thrown by subsequent calls to {@link #getHistoryBlock()}.
+   *
+   * @param historyBlockException The exception which occurred while decoding the history.
+   * @since 1.0.0
+   */
+  void setHistoryBlockException(RuntimeException historyBlockException) {
+    this.historyBlockException = historyBlockException;
+  }
 }
@@ -0,0 +1,479 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.dmw;
+
+import com.hms_networks.americas.sc.ignition.comm.responses.Talk2MResponse;
+import com.hms_networks.americas.sc.ignition.data.EwonTagQuality;
+import com.hms_networks.americas.sc.ignition.data.EwonTagType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar representation of the historical values of an Ewon tag in a DMWeb API response. Each
+ * history point is stored as an entry in a set of parallel primitive arrays (columns), instead of
+ * as an individual object, which significantly reduces the number of objects allocated per history
+ * point.
+ *
+ * <p>The timestamp of each history point is stored as milliseconds since the Unix epoch, the
+ * quality of each history point is stored as its Ewon tag quality integer, and the value of each
+ * history point is stored in a primitive column which is chosen by the {@link EwonTagType} of the
+ * tag.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class DMWebEwonTagHistoryBlock {
+
+  /**
+   * The initial capacity (number of history points) of each column.
+   *
+   * @since 1.0.0
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The fallback/default quality for a history point. The DMWeb API documentation indicates that
+   * the quality field is optional, and if not present, the quality is assumed to be good.
+   *
+   * @since 1.0.0
+   */
+  private static final String FALLBACK_DEFAULT_QUALITY = "good";
+
+  /**
+   * The Ewon tag type of the tag, which determines the value column in use.
+   *
+   * @since 1.0.0
+   */
+  private final EwonTagType tagType;
+
+  /**
+   * The number of history points in the block.
+   *
+   * @since 1.0.0
+   */
+  private int size = 0;
+
+  /**
+   * Flag indicating if the history points were added in ascending order of timestamp.
+   *
+   * @since 1.0.0
+   */
+  private boolean sortedByTimestamp = true;
+
+  /**
+   * The timestamp column, containing the timestamp (in milliseconds since the Unix epoch) of each
+   * history point.
+   *
+   * @since 1.0.0
+   */
+  private long[] timestamps;
+
+  /**
+   * The quality column, containing the Ewon tag quality integer of each history point.
+   *
+   * @since 1.0.0
+   */
+  private byte[] qualities;
+
+  /**
+   * The value column for {@link EwonTagType#BOOLEAN} tags.
+   *
+   * @since 1.0.0
+   */
+  private boolean[] booleanValues;
+
+  /**
+   * The value column for {@link EwonTagType#INTEGER} tags.
+   *
+   * @since 1.0.0
+   */
+  private int[] integerValues;
+
+  /**
+   * The value column for {@link EwonTagType#DWORD} tags.
+   *
+   * @since 1.0.0
+   */
+  private long[] dwordValues;
+
+  /**
+   * The value column for {@link EwonTagType#FLOAT} tags.
+   *
+   * @since 1.0.0
+   */
+  private float[] floatValues;
+
+  /**
+   * The value column for {@link EwonTagType#STRING} tags.
+   *
+   * @since 1.0.0
+   */
+  private String[] stringValues;
+
+  /**
+   * Constructs a new, empty {@link DMWebEwonTagHistoryBlock} for a tag with the specified {@link
+   * EwonTagType}.
+   *
+   * @param tagType The Ewon tag type of the tag.
+   * @since 1.0.0
+   */
+  public DMWebEwonTagHistoryBlock(EwonTagType tagType) {
+    this.tagType = tagType;
+    this.timestamps = new long[INITIAL_CAPACITY];
+    this.qualities = new byte[INITIAL_CAPACITY];
+    switch (tagType) {
+      case BOOLEAN:
+        booleanValues = new boolean[INITIAL_CAPACITY];
+        break;
+      case INTEGER:
+        integerValues = new int[INITIAL_CAPACITY];
+        break;
+      case DWORD:
+        dwordValues = new long[INITIAL_CAPACITY];
+        break;
+      case FLOAT:
+        floatValues = new float[INITIAL_CAPACITY];
+        break;
+      case STRING:
+      default:
+        stringValues = new String[INITIAL_CAPACITY];
+        break;
+    }
+  }
+
+  /**
+   * Creates a new {@link DMWebEwonTagHistoryBlock} for a tag with the specified {@link EwonTagType}
+   * from the specified list of {@link DMWebEwonTagHistoryEntry} objects.
+   *
+   * @param tagType The Ewon tag type of the tag.
+   * @param historyEntries The list of history entries. May be null.
+   * @return The {@link DMWebEwonTagHistoryBlock} containing the history entries.
+   * @throws NumberFormatException if a history entry value cannot be converted to the tag type
+   * @since 1.0.0
+   */
+  public static DMWebEwonTagHistoryBlock fromHistoryEntries(
+      EwonTagType tagType, List<DMWebEwonTagHistoryEntry> historyEntries) {
+    DMWebEwonTagHistoryBlock historyBlock = new DMWebEwonTagHistoryBlock(tagType);
+    if (historyEntries != null) {
+      for (DMWebEwonTagHistoryEntry historyEntry : historyEntries) {
+        historyBlock.add(
+            historyEntry.getDate().getTime(),
+            EwonTagQuality.getQualityFromString(historyEntry.getQuality()),
+            historyEntry.getValue());
+      }
+    }
+    return historyBlock;
+  }
+
+  /**
+   * Gets the Ewon tag quality integer for the specified DMWeb quality string, using the
+   * fallback/default quality if the specified quality string is null.
+   *
+   * @param quality The DMWeb quality string. May be null.
+   * @return The Ewon tag quality integer.
+   * @throws IllegalArgumentException if the specified quality string is invalid
+   * @since 1.0.0
+   */
+  static int getQualityFromString(String quality) {
+    return EwonTagQuality.getQualityFromString(
+        quality != null ? quality : FALLBACK_DEFAULT_QUALITY);
+  }
+
+  /**
+   * Converts the specified ISO 8601 date string from the DMWeb API to milliseconds since the Unix
+   * epoch.
+   *
+   * @param date The DMWeb date string.
+   * @return The milliseconds since the Unix epoch.
+   * @since 1.0.0
+   */
+  static long getTimestampFromString(String date) {
+    return Talk2MResponse.toEpochMillis(date);
+  }
+
+  /**
+   * Adds a history point with the specified boxed value (i.e. as parsed by Gson) to the block. The
+   * value is converted to the value column of the tag type.
+   *
+   * @param timestamp The timestamp (in milliseconds since the Unix epoch) of the history point.
+   * @param quality The Ewon tag quality integer of the history point.
+   * @param value The value of the history point. May be null.
+   * @throws NumberFormatException if the value cannot be converted to the tag type
+   * @since 1.0.0
+   */
+  public void add(long timestamp, int quality, Object value) {
+    if (value instanceof Number) {
+      addNumber(timestamp, quality, ((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      addBoolean(timestamp, quality, (Boolean) value);
+    } else {
+      addString(timestamp, quality, value != null ? value.toString() : null);
+    }
+  }
+
+  /**
+   * Adds a history point with the specified numeric value to the block. The value is converted to
+   * the value column of the tag type.
+   *
+   * @param timestamp The timestamp (in milliseconds since the Unix epoch) of the history point.
+   * @param quality The Ewon tag quality integer of the history point.
+   * @param value The numeric value of the history point.
+   * @since 1.0.0
+   */
+  public void addNumber(long timestamp, int quality, double value) {
+    int index = addPoint(timestamp, quality);
+    switch (tagType) {
+      case BOOLEAN:
+        booleanValues[index] = ((int) value) != 0;
+        break;
+      case INTEGER:
+        integerValues[index] = (int) value;
+        break;
+      case DWORD:
+        dwordValues[index] = (long) value;
+        break;
+      case FLOAT:
+        floatValues[index] = (float) value;
+        break;
+      case STRING:
+      default:
+        stringValues[index] = Double.toString(value);
+        break;
+    }
+  }
+
+  /**
+   * Adds a history point with the specified boolean value to the block. The value is converted to
+   * the value column of the tag type.
+   *
+   * @param timestamp The timestamp (in milliseconds since the Unix epoch) of the history point.
+   * @param quality The Ewon tag quality integer of the history point.
+   * @param value The boolean value of the history point.
+   * @since 1.0.0
+   */
+  public void addBoolean(long timestamp, int quality, boolean value) {
+    int index = addPoint(timestamp, quality);
+    switch (tagType) {
+      case BOOLEAN:
+        booleanValues[index] = value;
+        break;
+      case INTEGER:
+        integerValues[index] = value ? 1 : 0;
+        break;
+      case DWORD:
+        dwordValues[index] = value ? 1 : 0;
+        break;
+      case FLOAT:
+        floatValues[index] = value ? 1 : 0;
+        break;
+      case STRING:
+      default:
+        stringValues[index] = Boolean.toString(value);
+        break;
+    }
+  }
+
+  /**
+   * Adds a history point with the specified string value to the block. The value is converted to
+   * the value column of the tag type. Null values are added as an empty string for {@link
+   * EwonTagType#STRING} tags, and are not added for all other tag types.
+   *
+   * @param timestamp The timestamp (in milliseconds since the Unix epoch) of the history point.
+   * @param quality The Ewon tag quality integer of the history point.
+   * @param value The string value of the history point. May be null.
+   * @throws NumberFormatException if the value cannot be converted to the tag type
+   * @since 1.0.0
+   */
+  public void addString(long timestamp, int quality, String value) {
+    // Skip null values for non-string tags, as they cannot be represented
+    if (value == null && tagType != EwonTagType.STRING) {
+      return;
+    }
+
+    // Convert value before adding the point, so an invalid value does not add a point
+    switch (tagType) {
+      case BOOLEAN:
+        boolean booleanValue =
+            !(value.equals("0") || value.equals("false") || value.equals("False"));
+        booleanValues[addPoint(timestamp, quality)] = booleanValue;
+        break;
+      case INTEGER:
+        int integerValue = Integer.parseInt(value);
+        integerValues[addPoint(timestamp, quality)] = integerValue;
+        break;
+      case DWORD:
+        long dwordValue = Long.parseLong(value);
+        dwordValues[addPoint(timestamp, quality)] = dwordValue;
+        break;
+      case FLOAT:
+        float floatValue = Float.parseFloat(value);
+        floatValues[addPoint(timestamp, quality)] = floatValue;
+        break;
+      case STRING:
+      default:
+        stringValues[addPoint(timestamp, quality)] = value != null ? value : "";
+        break;
+    }
+  }
+
+  /**
+   * Adds the timestamp and quality of a new history point to the block, growing the columns if
+   * necessary, and returns the index of the new history point.
+   *
+   * @param timestamp The timestamp (in milliseconds since the Unix epoch) of the history point.
+   * @param quality The Ewon tag quality integer of the history point.
+   * @return The index of the new history point.
+   * @since 1.0.0
+   */
+  private int addPoint(long timestamp, int quality) {
+    // Grow columns if full
+    if (size == timestamps.length) {
+      int newCapacity = timestamps.length * 2;
+      timestamps = Arrays.copyOf(timestamps, newCapacity);
+      qualities = Arrays.copyOf(qualities, newCapacity);
+      if (booleanValues != null) {
+        booleanValues = Arrays.copyOf(booleanValues, newCapacity);
+      } else if (integerValues != null) {
+        integerValues = Arrays.copyOf(integerValues, newCapacity);
+      } else if (dwordValues != null) {
+        dwordValues = Arrays.copyOf(dwordValues, newCapacity);
+      } else if (floatValues != null) {
+        floatValues = Arrays.copyOf(floatValues, newCapacity);
+      } else {
+        stringValues = Arrays.copyOf(stringValues, newCapacity);
+      }
+    }
+
+    // Track timestamp ordering
+    if (size > 0 && timestamp < timestamps[size - 1]) {
+      sortedByTimestamp = false;
+    }
+
+    // Store timestamp and quality
+    int index = size++;
+    timestamps[index] = timestamp;
+    qualities[index] = (byte) quality;
+    return index;
+  }
+
+  /**
+   * Gets the Ewon tag type of the tag, which determines the value column in use.
+   *
+   * @return The Ewon tag type of the tag.
+   * @since 1.0.0
+   */
+  public EwonTagType getTagType() {
+    return tagType;
+  }
+
+  /**
+   * Gets the number of history points in the block.
+   *
+   * @return The number of history points in the block.
+   * @since 1.0.0
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets a flag indicating if the history points in the block are in ascending order of timestamp.
+   *
+   * @return true if the history points are in ascending order of timestamp, false otherwise
+   * @since 1.0.0
+   */
+  public boolean isSortedByTimestamp() {
+    return sortedByTimestamp;
+  }
+
+  /**
+   * Gets the timestamp (in milliseconds since the Unix epoch) of the history point at the
+   * specified index.
+   *
+   * @param index The index of the history point.
+   * @return The timestamp of the history point.
+   * @since 1.0.0
+   */
+  public long getTimestamp(int index) {
+    checkIndex(index);
+    return timestamps[index];
+  }
+
+  /**
+   * Gets the latest timestamp (in milliseconds since the Unix epoch) of all history points in the
+   * block.
+   *
+   * @return The latest timestamp of all history points, or {@link Long#MIN_VALUE} if empty.
+   * @since 1.0.0
+   */
+  public long getLatestTimestamp() {
+    long latestTimestamp = Long.MIN_VALUE;
+    if (sortedByTimestamp) {
+      if (size > 0) {
+        latestTimestamp = timestamps[size - 1];
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        latestTimestamp = Math.max(latestTimestamp, timestamps[i]);
+      }
+    }
+    return latestTimestamp;
+  }
+
+  /**
+   * Gets the Ewon tag quality integer of the history point at the specified index.
+   *
+   * @param index The index of the history point.
+   * @return The Ewon tag quality integer of the history point.
+   * @since 1.0.0
+   */
+  public int getQuality(int index) {
+    checkIndex(index);
+    return qualities[index] & 0xFF;
+  }
+
+  /**
+   * Gets the value of the history point at the specified index, boxed to the class which
+   * corresponds to the tag type (i.e. {@link Boolean}, {@link Integer}, {@link Long}, {@link Float}
+   * or {@link String}).
+   *
+   * @param index The index of the history point.
+   * @return The value of the history point.
+   * @since 1.0.0
+   */
+  public Object getValue(int index) {
+    checkIndex(index);
+    Object value;
+    switch (tagType) {
+      case BOOLEAN:
+        value = booleanValues[index];
+        break;
+      case INTEGER:
+        value = integerValues[index];
+        break;
+      case DWORD:
+        value = dwordValues[index];
+        break;
+      case FLOAT:
+        value = floatValues[index];
+        break;
+      case STRING:
+      default:
+        value = stringValues[index];
+        break;
+    }
+    return value;
+  }
+
+  /**
+   * Checks that the specified index is within the bounds of the block.
+   *
+   * @param index The index to check.
+   * @throws IndexOutOfBoundsException if the index is out of bounds
+   * @since 1.0.0
+   */
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
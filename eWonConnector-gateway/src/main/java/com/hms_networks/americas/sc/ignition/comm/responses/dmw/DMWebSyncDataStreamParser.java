@@ -0,0 +1,379 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.dmw;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import com.hms_networks.americas.sc.ignition.comm.ResponseStreamParser;
+import com.hms_networks.americas.sc.ignition.data.EwonTagType;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for DMWeb syncdata responses. Each {@link DMWebEwonTag} (and its history) is
+ * passed to a {@link DMWebSyncDataTagHandler} as soon as it has been parsed from the response
+ * content stream, so only a single tag is held in memory at a time, regardless of the size of the
+ * syncdata response. The history of each tag is decoded directly into a columnar {@link
+ * DMWebEwonTagHistoryBlock}, without creating an object per history entry.
+ *
+ * <p>The resulting {@link DMWebSyncDataResponse} contains the response information (i.e. success,
+ * transaction ID, more data available flag) and the information of each {@link DMWebEwon}, but the
+ * Ewons do not contain their list of tags.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class DMWebSyncDataStreamParser implements ResponseStreamParser<DMWebSyncDataResponse> {
+
+  /**
+   * The name of the syncdata response member which contains the list of Ewons.
+   *
+   * @since 1.0.0
+   */
+  private static final String EWONS_MEMBER_NAME = "ewons";
+
+  /**
+   * The name of the syncdata response member which contains the transaction ID.
+   *
+   * @since 1.0.0
+   */
+  private static final String TRANSACTION_ID_MEMBER_NAME = "transactionId";
+
+  /**
+   * The name of the syncdata response member which contains the more data available flag.
+   *
+   * @since 1.0.0
+   */
+  private static final String MORE_DATA_AVAILABLE_MEMBER_NAME = "moreDataAvailable";
+
+  /**
+   * The name of the Ewon member which contains the list of tags.
+   *
+   * @since 1.0.0
+   */
+  private static final String TAGS_MEMBER_NAME = "tags";
+
+  /**
+   * The name of the Ewon member which contains the name of the Ewon.
+   *
+   * @since 1.0.0
+   */
+  private static final String NAME_MEMBER_NAME = "name";
+
+  /**
+   * The name of the tag member which contains the data type of the tag.
+   *
+   * @since 1.0.0
+   */
+  private static final String DATA_TYPE_MEMBER_NAME = "dataType";
+
+  /**
+   * The name of the tag member which contains the list of history entries.
+   *
+   * @since 1.0.0
+   */
+  private static final String HISTORY_MEMBER_NAME = "history";
+
+  /**
+   * The name of the history entry member which contains the date of the history entry.
+   *
+   * @since 1.0.0
+   */
+  private static final String HISTORY_DATE_MEMBER_NAME = "date";
+
+  /**
+   * The name of the history entry member which contains the quality of the history entry.
+   *
+   * @since 1.0.0
+   */
+  private static final String HISTORY_QUALITY_MEMBER_NAME = "quality";
+
+  /**
+   * The name of the history entry member which contains the value of the history entry.
+   *
+   * @since 1.0.0
+   */
+  private static final String HISTORY_VALUE_MEMBER_NAME = "value";
+
+  /**
+   * The {@link Gson} instance used to parse each individual tag and the response information.
+   *
+   * @since 1.0.0
+   */
+  private final Gson gson = new Gson();
+
+  /**
+   * The handler for each tag parsed from the syncdata response.
+   *
+   * @since 1.0.0
+   */
+  private final DMWebSyncDataTagHandler tagHandler;
+
+  /**
+   * Constructs a new {@link DMWebSyncDataStreamParser} which passes each parsed tag to the
+   * specified {@link DMWebSyncDataTagHandler}.
+   *
+   * @param tagHandler The handler for each tag parsed from the syncdata response.
+   * @since 1.0.0
+   */
+  public DMWebSyncDataStreamParser(DMWebSyncDataTagHandler tagHandler) {
+    this.tagHandler = tagHandler;
+  }
+
+  /**
+   * Parses the syncdata response from the specified response content stream, passing each parsed
+   * tag, and the transaction ID and more data available flag as soon as both have been parsed, to
+   * the {@link DMWebSyncDataTagHandler}.
+   *
+   * @param responseReader The reader for the response content stream.
+   * @return The parsed {@link DMWebSyncDataResponse}, without the list of tags for each Ewon.
+   * @throws IOException if the response content stream could not be read or parsed.
+   * @since 1.0.0
+   */
+  @Override
+  public DMWebSyncDataResponse parse(Reader responseReader) throws IOException {
+    JsonReader jsonReader = new JsonReader(responseReader);
+    JsonObject responseInfo = new JsonObject();
+    boolean pageInfoHandled = false;
+
+    // Read response members, streaming the list of Ewons
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      String memberName = jsonReader.nextName();
+      if (memberName.equals(EWONS_MEMBER_NAME) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+        JsonArray ewonsInfo = new JsonArray();
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+          ewonsInfo.add(parseEwon(jsonReader));
+        }
+        jsonReader.endArray();
+        responseInfo.add(memberName, ewonsInfo);
+      } else {
+        responseInfo.add(memberName, JsonParser.parseReader(jsonReader));
+      }
+
+      // Pass transaction ID and more data available flag to handler once both have been read
+      JsonElement transactionId = responseInfo.get(TRANSACTION_ID_MEMBER_NAME);
+      JsonElement moreDataAvailable = responseInfo.get(MORE_DATA_AVAILABLE_MEMBER_NAME);
+      if (!pageInfoHandled
+          && transactionId != null
+          && transactionId.isJsonPrimitive()
+          && moreDataAvailable != null
+          && moreDataAvailable.isJsonPrimitive()) {
+        pageInfoHandled = true;
+        tagHandler.handlePageInfo(transactionId.getAsLong(), moreDataAvailable.getAsBoolean());
+      }
+    }
+    jsonReader.endObject();
+
+    return gson.fromJson(responseInfo, DMWebSyncDataResponse.class);
+  }
+
+  /**
+   * Parses a single Ewon from the specified {@link JsonReader}, passing each of its parsed tags to
+   * the {@link DMWebSyncDataTagHandler}. Tags are passed to the handler as soon as they are parsed
+   * if the Ewon name precedes the list of tags in the response, otherwise the tags are held until
+   * the Ewon information has been read.
+   *
+   * @param jsonReader The JSON reader positioned at the beginning of the Ewon object.
+   * @return The Ewon information, without the list of tags.
+   * @throws IOException if the Ewon could not be read or parsed.
+   * @since 1.0.0
+   */
+  private JsonObject parseEwon(JsonReader jsonReader) throws IOException {
+    JsonObject ewonInfo = new JsonObject();
+    DMWebEwon ewon = null;
+    List<DMWebEwonTag> heldTags = new ArrayList<>();
+
+    // Read Ewon members, streaming the list of tags
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      String memberName = jsonReader.nextName();
+      if (memberName.equals(TAGS_MEMBER_NAME) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+          DMWebEwonTag tag = parseTag(jsonReader);
+
+          // Pass tag to handler if Ewon information is available, otherwise hold it
+          if (ewon == null && ewonInfo.has(NAME_MEMBER_NAME)) {
+            ewon = gson.fromJson(ewonInfo, DMWebEwon.class);
+          }
+          if (ewon != null) {
+            tagHandler.handleTag(ewon, tag);
+          } else {
+            heldTags.add(tag);
+          }
+        }
+        jsonReader.endArray();
+      } else {
+        ewonInfo.add(memberName, JsonParser.parseReader(jsonReader));
+      }
+    }
+    jsonReader.endObject();
+
+    // Pass held tags (if any) to handler now that the Ewon information is available
+    if (!heldTags.isEmpty()) {
+      ewon = gson.fromJson(ewonInfo, DMWebEwon.class);
+      for (DMWebEwonTag heldTag : heldTags) {
+        tagHandler.handleTag(ewon, heldTag);
+      }
+    }
+
+    return ewonInfo;
+  }
+
+  /**
+   * Parses a single tag from the specified {@link JsonReader}. If the data type of the tag precedes
+   * the list of history entries in the response, the history entries are decoded directly into a
+   * {@link DMWebEwonTagHistoryBlock}, otherwise they are decoded to a list of {@link
+   * DMWebEwonTagHistoryEntry} objects, and converted to columnar form when first requested.
+   *
+   * @param jsonReader The JSON reader positioned at the beginning of the tag object.
+   * @return The parsed tag.
+   * @throws IOException if the tag could not be read or parsed.
+   * @since 1.0.0
+   */
+  private DMWebEwonTag parseTag(JsonReader jsonReader) throws IOException {
+    JsonObject tagInfo = new JsonObject();
+    DMWebEwonTagHistoryBlock historyBlock = null;
+    RuntimeException historyBlockException = null;
+
+    // Read tag members, decoding the list of history entries to columnar form if possible
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      String memberName = jsonReader.nextName();
+      EwonTagType tagType = null;
+      if (memberName.equals(HISTORY_MEMBER_NAME) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+        tagType = getTagType(tagInfo);
+      }
+      if (tagType != null) {
+        historyBlock = new DMWebEwonTagHistoryBlock(tagType);
+        historyBlockException = parseHistory(jsonReader, historyBlock);
+      } else {
+        tagInfo.add(memberName, JsonParser.parseReader(jsonReader));
+      }
+    }
+    jsonReader.endObject();
+
+    // Build tag and attach columnar history (if decoded)
+    DMWebEwonTag tag = gson.fromJson(tagInfo, DMWebEwonTag.class);
+    if (historyBlock != null) {
+      tag.setHistoryBlock(historyBlock);
+      tag.setHistoryBlockException(historyBlockException);
+    }
+    return tag;
+  }
+
+  /**
+   * Parses the list of history entries of a tag from the specified {@link JsonReader} directly into
+   * the specified {@link DMWebEwonTagHistoryBlock}. If a history entry cannot be converted (i.e.
+   * invalid date, quality or value), the remaining history entries are skipped and the exception is
+   * returned, so that it only affects the tag it belongs to.
+   *
+   * @param jsonReader The JSON reader positioned at the beginning of the history entry array.
+   * @param historyBlock The history block to add the history entries to.
+   * @return The exception which occurred while converting a history entry, or null if none.
+   * @throws IOException if the history entries could not be read or parsed.
+   * @since 1.0.0
+   */
+  private RuntimeException parseHistory(
+      JsonReader jsonReader, DMWebEwonTagHistoryBlock historyBlock) throws IOException {
+    RuntimeException historyBlockException = null;
+
+    jsonReader.beginArray();
+    while (jsonReader.hasNext()) {
+      // Skip remaining history entries if a previous entry could not be converted
+      if (historyBlockException != null) {
+        jsonReader.skipValue();
+        continue;
+      }
+
+      // Read history entry members
+      String date = null;
+      String quality = null;
+      JsonToken valueToken = JsonToken.NULL;
+      double numberValue = 0;
+      boolean booleanValue = false;
+      String stringValue = null;
+      jsonReader.beginObject();
+      while (jsonReader.hasNext()) {
+        String memberName = jsonReader.nextName();
+        JsonToken memberToken = jsonReader.peek();
+        if (memberToken == JsonToken.NULL) {
+          jsonReader.nextNull();
+        } else if (memberName.equals(HISTORY_DATE_MEMBER_NAME)) {
+          date = jsonReader.nextString();
+        } else if (memberName.equals(HISTORY_QUALITY_MEMBER_NAME)) {
+          quality = jsonReader.nextString();
+        } else if (memberName.equals(HISTORY_VALUE_MEMBER_NAME)
+            && memberToken == JsonToken.NUMBER) {
+          valueToken = memberToken;
+          numberValue = jsonReader.nextDouble();
+        } else if (memberName.equals(HISTORY_VALUE_MEMBER_NAME)
+            && memberToken == JsonToken.BOOLEAN) {
+          valueToken = memberToken;
+          booleanValue = jsonReader.nextBoolean();
+        } else if (memberName.equals(HISTORY_VALUE_MEMBER_NAME)
+            && memberToken == JsonToken.STRING) {
+          valueToken = memberToken;
+          stringValue = jsonReader.nextString();
+        } else {
+          jsonReader.skipValue();
+        }
+      }
+      jsonReader.endObject();
+
+      // Check for required date member
+      if (date == null) {
+        throw new MalformedJsonException("History entry is missing the date member.");
+      }
+
+      // Convert and add history entry to history block
+      try {
+        long timestamp = DMWebEwonTagHistoryBlock.getTimestampFromString(date);
+        int qualityInt = DMWebEwonTagHistoryBlock.getQualityFromString(quality);
+        if (valueToken == JsonToken.NUMBER) {
+          historyBlock.addNumber(timestamp, qualityInt, numberValue);
+        } else if (valueToken == JsonToken.BOOLEAN) {
+          historyBlock.addBoolean(timestamp, qualityInt, booleanValue);
+        } else {
+          historyBlock.addString(timestamp, qualityInt, stringValue);
+        }
+      } catch (RuntimeException e) {
+        historyBlockException = e;
+      }
+    }
+    jsonReader.endArray();
+
+    return historyBlockException;
+  }
+
+  /**
+   * Gets the {@link EwonTagType} of a tag from the specified tag information, if the data type of
+   * the tag has been read and is valid.
+   *
+   * @param tagInfo The tag information read so far.
+   * @return The {@link EwonTagType} of the tag, or null if unavailable or invalid.
+   * @since 1.0.0
+   */
+  private EwonTagType getTagType(JsonObject tagInfo) {
+    EwonTagType tagType = null;
+    JsonElement dataType = tagInfo.get(DATA_TYPE_MEMBER_NAME);
+    if (dataType != null && dataType.isJsonPrimitive()) {
+      try {
+        tagType = EwonTagType.getTagTypeFromString(dataType.getAsString());
+      } catch (IllegalArgumentException e) {
+        // Invalid data type, history entries will be decoded to objects
+        tagType = null;
+      }
+    }
+    return tagType;
+  }
+}
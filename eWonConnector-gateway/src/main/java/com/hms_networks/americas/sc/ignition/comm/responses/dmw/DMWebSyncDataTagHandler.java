@@ -0,0 +1,37 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.dmw;
+
+/**
+ * Interface for handling each {@link DMWebEwonTag} (and its history) from a DMWeb syncdata
+ * response as soon as it has been parsed from the response content stream.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface DMWebSyncDataTagHandler {
+
+  /**
+   * Handles the specified {@link DMWebEwonTag} from the specified {@link DMWebEwon}. The specified
+   * {@link DMWebEwon} contains the Ewon information (i.e. ID, name) only, and does not contain its
+   * list of tags.
+   *
+   * @param ewon The Ewon which the tag belongs to.
+   * @param tag The parsed tag, including its history.
+   * @since 1.0.0
+   */
+  void handleTag(DMWebEwon ewon, DMWebEwonTag tag);
+
+  /**
+   * Handles the transaction ID and more data available flag of the syncdata response as soon as
+   * both have been parsed from the response content stream. If they precede the list of Ewons in
+   * the response, this method is called before any tag is handled, otherwise it is called once all
+   * tags have been handled. By default, this method does nothing.
+   *
+   * @param transactionId The transaction ID of the syncdata response.
+   * @param moreDataAvailable The flag indicating if more sync data is available after this
+   *     response.
+   * @since 1.0.0
+   */
+  default void handlePageInfo(long transactionId, boolean moreDataAvailable) {}
+}
@@ -9,6 +9,13 @@ package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
  */
 public class M2WebEwon {
 
+  /**
+   * The status of an Ewon which is not connected to Talk2M.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_OFFLINE = "offline";
+
   /**
    * The ID of the Ewon.
    *
@@ -100,6 +107,17 @@ public class M2WebEwon {
     return status;
   }
 
+  /**
+   * Gets a boolean indicating if the Ewon is offline (not connected to Talk2M), according to its
+   * status. An Ewon with an unknown status is not considered offline.
+   *
+   * @return true if the Ewon is offline, false otherwise
+   * @since 1.0.0
+   */
+  public boolean isOffline() {
+    return STATUS_OFFLINE.equalsIgnoreCase(status);
+  }
+
   /**
    * Gets the description of the Ewon.
    *
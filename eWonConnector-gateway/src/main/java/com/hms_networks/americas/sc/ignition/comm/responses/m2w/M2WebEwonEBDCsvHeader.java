@@ -0,0 +1,105 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Header row of the semicolon-separated CSV content of an M2Web Ewon EBD response. The header maps
+ * column names to column indices, and is shared by all rows parsed from the same response. Column
+ * names are not case-sensitive.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class M2WebEwonEBDCsvHeader {
+
+  /**
+   * The column index value indicating that a column is not present in the header.
+   *
+   * @since 1.0.0
+   */
+  public static final int COLUMN_INDEX_NOT_PRESENT = -1;
+
+  /**
+   * The names of the columns in the header, in order.
+   *
+   * @since 1.0.0
+   */
+  private final String[] columnNames;
+
+  /**
+   * Private constructor for a header with the specified column names.
+   *
+   * @param columnNames The names of the columns in the header, in order.
+   * @since 1.0.0
+   */
+  private M2WebEwonEBDCsvHeader(String[] columnNames) {
+    this.columnNames = columnNames;
+  }
+
+  /**
+   * Reads the header from the next row of the specified {@link M2WebEwonEBDCsvParser}.
+   *
+   * @param csvParser The CSV parser positioned before the header row.
+   * @return The header, or null if the CSV content is empty.
+   * @since 1.0.0
+   */
+  public static M2WebEwonEBDCsvHeader read(M2WebEwonEBDCsvParser csvParser) {
+    M2WebEwonEBDCsvHeader header = null;
+    if (csvParser.nextRow()) {
+      List<String> columnNames = new ArrayList<>();
+      while (csvParser.hasNextField()) {
+        csvParser.nextField();
+        columnNames.add(csvParser.getFieldString());
+      }
+      header = new M2WebEwonEBDCsvHeader(columnNames.toArray(new String[0]));
+    }
+    return header;
+  }
+
+  /**
+   * Gets the number of columns in the header.
+   *
+   * @return The number of columns in the header.
+   * @since 1.0.0
+   */
+  public int getColumnCount() {
+    return columnNames.length;
+  }
+
+  /**
+   * Gets the index of the column with the specified name, ignoring case.
+   *
+   * @param columnName The name of the column.
+   * @return The index of the column, or {@link #COLUMN_INDEX_NOT_PRESENT} if not present.
+   * @since 1.0.0
+   */
+  public int getColumnIndex(String columnName) {
+    int columnIndex = COLUMN_INDEX_NOT_PRESENT;
+    for (int i = 0; i < columnNames.length; i++) {
+      if (columnNames[i].equalsIgnoreCase(columnName)) {
+        columnIndex = i;
+        break;
+      }
+    }
+    return columnIndex;
+  }
+
+  /**
+   * Gets the index of the required column with the specified name, ignoring case.
+   *
+   * @param columnName The name of the column.
+   * @return The index of the column.
+   * @throws IllegalArgumentException if the column is not present
+   * @since 1.0.0
+   */
+  public int getRequiredColumnIndex(String columnName) {
+    int columnIndex = getColumnIndex(columnName);
+    if (columnIndex == COLUMN_INDEX_NOT_PRESENT) {
+      throw new IllegalArgumentException(
+          "The EBD response is missing the required column [" + columnName + "].");
+    }
+    return columnIndex;
+  }
+}
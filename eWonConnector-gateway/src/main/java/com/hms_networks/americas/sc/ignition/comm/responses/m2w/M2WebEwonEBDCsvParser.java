@@ -0,0 +1,314 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
+
+/**
+ * Lightweight parser for the semicolon-separated CSV content of M2Web Ewon EBD responses. The
+ * parser moves a cursor over the response string, one row and field at a time, and only tracks the
+ * bounds of the current field. Integer fields are parsed directly from the response string, and
+ * string fields are only copied from the response string when requested, so no intermediate
+ * objects are created for fields which are not used.
+ *
+ * <p>Fields may be quoted with double quotes, in which case they may contain separators, line
+ * breaks and escaped (doubled) double quotes. Rows may be terminated by {@code \n}, {@code \r\n} or
+ * {@code \r}, and empty rows are ignored.
+ *
+ * <p>This parser replaces the reflection-based OpenCSV bean mapping previously used for instant
+ * values, which created a bean and a string per field for every row. That mapping is no longer a
+ * dependency, so the unit tests of this parser instead include a simple timed comparison with
+ * splitting each row into a string per field.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+public class M2WebEwonEBDCsvParser {
+
+  /**
+   * The separator character used to separate columns/fields in M2Web Ewon EBD responses.
+   *
+   * @since 1.0.0
+   */
+  public static final char EWON_EBD_SEPARATOR_CHAR = ';';
+
+  /**
+   * The quote character used to quote columns/fields in M2Web Ewon EBD responses.
+   *
+   * @since 1.0.0
+   */
+  private static final char EWON_EBD_QUOTE_CHAR = '"';
+
+  /**
+   * The string of an escaped quote character in a quoted column/field.
+   *
+   * @since 1.0.0
+   */
+  private static final String EWON_EBD_ESCAPED_QUOTE = "\"\"";
+
+  /**
+   * The string of an unescaped quote character.
+   *
+   * @since 1.0.0
+   */
+  private static final String EWON_EBD_UNESCAPED_QUOTE = "\"";
+
+  /**
+   * The radix used to parse integer columns/fields.
+   *
+   * @since 1.0.0
+   */
+  private static final int INTEGER_FIELD_RADIX = 10;
+
+  /**
+   * The CSV content being parsed.
+   *
+   * @since 1.0.0
+   */
+  private final String content;
+
+  /**
+   * The current position of the parser in the CSV content.
+   *
+   * @since 1.0.0
+   */
+  private int position = 0;
+
+  /**
+   * The start index (inclusive) of the current field in the CSV content, excluding quotes.
+   *
+   * @since 1.0.0
+   */
+  private int fieldStart = 0;
+
+  /**
+   * The end index (exclusive) of the current field in the CSV content, excluding quotes.
+   *
+   * @since 1.0.0
+   */
+  private int fieldEnd = 0;
+
+  /**
+   * Flag indicating if the current field contains escaped (doubled) quote characters.
+   *
+   * @since 1.0.0
+   */
+  private boolean fieldHasEscapedQuotes = false;
+
+  /**
+   * The start index (inclusive) of the current row in the CSV content.
+   *
+   * @since 1.0.0
+   */
+  private int rowStart = 0;
+
+  /**
+   * The end index (exclusive) of the current row in the CSV content, excluding the row terminator.
+   *
+   * @since 1.0.0
+   */
+  private int rowEnd = 0;
+
+  /**
+   * Flag indicating if all fields of the current row have been read.
+   *
+   * @since 1.0.0
+   */
+  private boolean rowEnded = true;
+
+  /**
+   * Constructs a new {@link M2WebEwonEBDCsvParser} for the specified CSV content.
+   *
+   * @param content The CSV content to parse.
+   * @since 1.0.0
+   */
+  public M2WebEwonEBDCsvParser(String content) {
+    this.content = content;
+  }
+
+  /**
+   * Checks if the specified M2Web Ewon EBD response string is in JSON format (i.e. an error
+   * response) instead of CSV format, by checking the first non-whitespace character of the
+   * response string.
+   *
+   * @param responseString The response string to check.
+   * @return true if the response string is in JSON format, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean isJsonResponse(String responseString) {
+    boolean isJson = false;
+    for (int i = 0; i < responseString.length(); i++) {
+      char c = responseString.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        isJson = c == '{';
+        break;
+      }
+    }
+    return isJson;
+  }
+
+  /**
+   * Advances the parser to the next non-empty row of the CSV content. Any unread fields of the
+   * current row are skipped.
+   *
+   * @return true if there is a next row, false if the end of the CSV content has been reached
+   * @since 1.0.0
+   */
+  public boolean nextRow() {
+    // Skip unread fields of current row
+    while (!rowEnded) {
+      nextField();
+    }
+
+    // Skip empty rows
+    while (position < content.length()
+        && (content.charAt(position) == '\r' || content.charAt(position) == '\n')) {
+      position++;
+    }
+
+    boolean hasNextRow = position < content.length();
+    rowStart = position;
+    rowEnded = !hasNextRow;
+    return hasNextRow;
+  }
+
+  /**
+   * Checks if the current row has another field to be read.
+   *
+   * @return true if the current row has another field, false otherwise
+   * @since 1.0.0
+   */
+  public boolean hasNextField() {
+    return !rowEnded;
+  }
+
+  /**
+   * Advances the parser to the next field of the current row. The field can then be read using
+   * {@link #getFieldInt()} or {@link #getFieldString()}.
+   *
+   * @throws IllegalStateException if the current row has no more fields
+   * @throws IllegalArgumentException if a quoted field is not terminated
+   * @since 1.0.0
+   */
+  public void nextField() {
+    if (rowEnded) {
+      throw new IllegalStateException("The current row has no more fields.");
+    }
+
+    fieldHasEscapedQuotes = false;
+    boolean quoted =
+        position < content.length() && content.charAt(position) == EWON_EBD_QUOTE_CHAR;
+    if (quoted) {
+      // Find closing quote of quoted field, skipping escaped quotes
+      fieldStart = ++position;
+      while (true) {
+        int quoteIndex = content.indexOf(EWON_EBD_QUOTE_CHAR, position);
+        if (quoteIndex == -1) {
+          throw new IllegalArgumentException(
+              "Unterminated quoted field at index " + (fieldStart - 1) + ".");
+        }
+        if (quoteIndex + 1 < content.length()
+            && content.charAt(quoteIndex + 1) == EWON_EBD_QUOTE_CHAR) {
+          fieldHasEscapedQuotes = true;
+          position = quoteIndex + 2;
+        } else {
+          fieldEnd = quoteIndex;
+          position = quoteIndex + 1;
+          break;
+        }
+      }
+    } else {
+      fieldStart = position;
+    }
+
+    // Find end of field (separator or end of row), ignoring any characters after a closing quote
+    while (position < content.length()) {
+      char c = content.charAt(position);
+      if (c == EWON_EBD_SEPARATOR_CHAR || c == '\r' || c == '\n') {
+        break;
+      }
+      position++;
+    }
+    if (!quoted) {
+      fieldEnd = position;
+    }
+
+    // Consume separator or end of row
+    if (position >= content.length()) {
+      rowEnd = position;
+      rowEnded = true;
+    } else if (content.charAt(position) == EWON_EBD_SEPARATOR_CHAR) {
+      position++;
+    } else {
+      rowEnd = position;
+      if (content.charAt(position) == '\r'
+          && position + 1 < content.length()
+          && content.charAt(position + 1) == '\n') {
+        position++;
+      }
+      position++;
+      rowEnded = true;
+    }
+  }
+
+  /**
+   * Gets the value of the current field as an integer, parsed directly from the CSV content.
+   *
+   * @return The integer value of the current field.
+   * @throws NumberFormatException if the current field is empty or not a valid integer
+   * @since 1.0.0
+   */
+  public int getFieldInt() {
+    if (fieldStart == fieldEnd) {
+      throw new NumberFormatException("Empty field cannot be parsed as an integer.");
+    }
+    return Integer.parseInt(content, fieldStart, fieldEnd, INTEGER_FIELD_RADIX);
+  }
+
+  /**
+   * Gets the value of the current field as a double.
+   *
+   * @return The double value of the current field.
+   * @throws NumberFormatException if the current field is empty or not a valid double
+   * @since 1.0.0
+   */
+  public double getFieldDouble() {
+    return Double.parseDouble(getFieldString());
+  }
+
+  /**
+   * Checks if the current field is empty.
+   *
+   * @return true if the current field is empty, false otherwise
+   * @since 1.0.0
+   */
+  public boolean isFieldEmpty() {
+    return fieldStart == fieldEnd;
+  }
+
+  /**
+   * Gets the raw content of the current row, excluding the row terminator. This method must only be
+   * called after all fields of the current row have been read.
+   *
+   * @return The raw content of the current row.
+   * @throws IllegalStateException if the current row has unread fields
+   * @since 1.0.0
+   */
+  public String getRowString() {
+    if (!rowEnded) {
+      throw new IllegalStateException("The current row has unread fields.");
+    }
+    return content.substring(rowStart, rowEnd);
+  }
+
+  /**
+   * Gets the value of the current field as a string, with any escaped quotes unescaped.
+   *
+   * @return The string value of the current field.
+   * @since 1.0.0
+   */
+  public String getFieldString() {
+    String fieldString = content.substring(fieldStart, fieldEnd);
+    if (fieldHasEscapedQuotes) {
+      fieldString = fieldString.replace(EWON_EBD_ESCAPED_QUOTE, EWON_EBD_UNESCAPED_QUOTE);
+    }
+    return fieldString;
+  }
+}
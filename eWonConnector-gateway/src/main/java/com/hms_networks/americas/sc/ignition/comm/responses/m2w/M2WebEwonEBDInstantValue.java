@@ -1,9 +1,10 @@
 package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
 
-import com.opencsv.bean.CsvBindByName;
-
 /**
- * CSV object for an instant value in the M2Web EBD instant value response.
+ * Object for an instant value in the M2Web EBD instant value response. A single instance of this
+ * class is reused for each row of the response by {@link
+ * M2WebEwonEBDInstantValuesResponse#forEachInstantValue}, so instances must not be retained after
+ * they have been consumed.
  *
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
@@ -16,7 +17,6 @@ public class M2WebEwonEBDInstantValue {
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TagId", required = true)
   private int tagId;
 
   /**
@@ -24,7 +24,6 @@ public class M2WebEwonEBDInstantValue {
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TagName", required = true)
   private String tagName;
 
   /**
@@ -32,7 +31,6 @@ public class M2WebEwonEBDInstantValue {
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Value")
   private String value;
 
   /**
@@ -40,7 +38,6 @@ public class M2WebEwonEBDInstantValue {
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlStatus", required = true)
   private int alStatus;
 
   /**
@@ -48,7 +45,6 @@ public class M2WebEwonEBDInstantValue {
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlType", required = true)
   private int alType;
 
   /**
@@ -56,7 +52,6 @@ public class M2WebEwonEBDInstantValue {
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Quality", required = true)
   private int quality;
 
   /**
@@ -118,4 +113,25 @@ public class M2WebEwonEBDInstantValue {
   public int getQuality() {
     return quality;
   }
+
+  /**
+   * Sets the values of all columns for a tag in the M2Web EBD instant value response. This method
+   * is used to reuse a single instance for each row of the response.
+   *
+   * @param tagId The value of the {@code TagId} column.
+   * @param tagName The value of the {@code TagName} column.
+   * @param value The value of the {@code Value} column.
+   * @param alStatus The value of the {@code AlStatus} column.
+   * @param alType The value of the {@code AlType} column.
+   * @param quality The value of the {@code Quality} column.
+   * @since 1.0.0
+   */
+  void set(int tagId, String tagName, String value, int alStatus, int alType, int quality) {
+    this.tagId = tagId;
+    this.tagName = tagName;
+    this.value = value;
+    this.alStatus = alStatus;
+    this.alType = alType;
+    this.quality = quality;
+  }
 }
@@ -1,11 +1,12 @@
 package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
 
-import com.opencsv.bean.CsvToBeanBuilder;
-import java.io.StringReader;
-import java.util.List;
+import java.util.Arrays;
+import java.util.function.Consumer;
 
 /**
- * Object for an M2Web Ewon EBD instant values response.
+ * Object for an M2Web Ewon EBD instant values response. The instant values are stored in columns
+ * (one array per CSV column) instead of as an object per row, and are passed to consumers using a
+ * single, reused {@link M2WebEwonEBDInstantValue} instance.
  *
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
@@ -14,68 +15,266 @@ import java.util.List;
 public class M2WebEwonEBDInstantValuesResponse extends M2WebEwonEBDResponse {
 
   /**
-   * The separator character used to separate columns/fields in the EBD instant values response.
+   * The name of the {@code TagId} column in the EBD instant values response.
    *
    * @since 1.0.0
    */
-  private static final char EWON_EBD_INSTANTVALUES_SEPARATOR_CHAR = ';';
+  private static final String TAG_ID_COLUMN_NAME = "TagId";
 
   /**
-   * The list of instant values from the EBD instant values response.
+   * The name of the {@code TagName} column in the EBD instant values response.
    *
    * @since 1.0.0
    */
-  private final List<M2WebEwonEBDInstantValue> instantValues;
+  private static final String TAG_NAME_COLUMN_NAME = "TagName";
 
   /**
-   * Private constructor for an M2Web Ewon EBD instant values response.
+   * The name of the {@code Value} column in the EBD instant values response.
    *
-   * @param instantValues The list of instant values from the EBD instant values response.
    * @since 1.0.0
    */
-  private M2WebEwonEBDInstantValuesResponse(List<M2WebEwonEBDInstantValue> instantValues) {
-    this.instantValues = instantValues;
+  private static final String VALUE_COLUMN_NAME = "Value";
+
+  /**
+   * The name of the {@code AlStatus} column in the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private static final String AL_STATUS_COLUMN_NAME = "AlStatus";
+
+  /**
+   * The name of the {@code AlType} column in the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private static final String AL_TYPE_COLUMN_NAME = "AlType";
+
+  /**
+   * The name of the {@code Quality} column in the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private static final String QUALITY_COLUMN_NAME = "Quality";
+
+  /**
+   * The initial capacity (number of rows) of the instant value columns.
+   *
+   * @since 1.0.0
+   */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /**
+   * The number of instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient int size;
+
+  /**
+   * The {@code TagId} column of the instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient int[] tagIds;
+
+  /**
+   * The {@code TagName} column of the instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient String[] tagNames;
+
+  /**
+   * The {@code Value} column of the instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient String[] values;
+
+  /**
+   * The {@code AlStatus} column of the instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient int[] alStatuses;
+
+  /**
+   * The {@code AlType} column of the instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient int[] alTypes;
+
+  /**
+   * The {@code Quality} column of the instant values from the EBD instant values response.
+   *
+   * @since 1.0.0
+   */
+  private transient int[] qualities;
+
+  /**
+   * Private constructor for an M2Web Ewon EBD instant values response with empty instant value
+   * columns.
+   *
+   * @since 1.0.0
+   */
+  private M2WebEwonEBDInstantValuesResponse() {
+    this.size = 0;
+    this.tagIds = new int[INITIAL_CAPACITY];
+    this.tagNames = new String[INITIAL_CAPACITY];
+    this.values = new String[INITIAL_CAPACITY];
+    this.alStatuses = new int[INITIAL_CAPACITY];
+    this.alTypes = new int[INITIAL_CAPACITY];
+    this.qualities = new int[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Gets the number of instant values from the EBD instant values response.
+   *
+   * @return The number of instant values from the EBD instant values response.
+   * @since 1.0.0
+   */
+  public int getInstantValueCount() {
+    return size;
+  }
+
+  /**
+   * Passes each instant value from the EBD instant values response to the specified consumer. A
+   * single {@link M2WebEwonEBDInstantValue} instance is reused for all instant values, so the
+   * consumer must not retain it.
+   *
+   * @param consumer The consumer for each instant value.
+   * @since 1.0.0
+   */
+  public void forEachInstantValue(Consumer<M2WebEwonEBDInstantValue> consumer) {
+    M2WebEwonEBDInstantValue instantValue = new M2WebEwonEBDInstantValue();
+    for (int i = 0; i < size; i++) {
+      instantValue.set(
+          tagIds[i], tagNames[i], values[i], alStatuses[i], alTypes[i], qualities[i]);
+      consumer.accept(instantValue);
+    }
   }
 
   /**
-   * Gets the list of instant values from the EBD tag list response.
+   * Adds an instant value to the instant value columns, growing the columns if necessary.
    *
-   * @return The list of instant values from the EBD tag list response.
+   * @param tagId The value of the {@code TagId} column.
+   * @param tagName The value of the {@code TagName} column.
+   * @param value The value of the {@code Value} column.
+   * @param alStatus The value of the {@code AlStatus} column.
+   * @param alType The value of the {@code AlType} column.
+   * @param quality The value of the {@code Quality} column.
    * @since 1.0.0
    */
-  public List<M2WebEwonEBDInstantValue> getInstantValues() {
-    return instantValues;
+  private void addInstantValue(
+      int tagId, String tagName, String value, int alStatus, int alType, int quality) {
+    // Grow columns if full
+    if (size == tagIds.length) {
+      int newCapacity = tagIds.length * 2;
+      tagIds = Arrays.copyOf(tagIds, newCapacity);
+      tagNames = Arrays.copyOf(tagNames, newCapacity);
+      values = Arrays.copyOf(values, newCapacity);
+      alStatuses = Arrays.copyOf(alStatuses, newCapacity);
+      alTypes = Arrays.copyOf(alTypes, newCapacity);
+      qualities = Arrays.copyOf(qualities, newCapacity);
+    }
+
+    // Store instant value
+    tagIds[size] = tagId;
+    tagNames[size] = tagName;
+    values[size] = value;
+    alStatuses[size] = alStatus;
+    alTypes[size] = alType;
+    qualities[size] = quality;
+    size++;
   }
 
   /**
-   * Gets an instance of {@link M2WebEwonEBDInstantValuesResponse} from a response string.
+   * Gets an instance of {@link M2WebEwonEBDInstantValuesResponse} from a response string. The
+   * format of the response string (CSV for a successful response, JSON for an unsuccessful
+   * response) is determined from its first character, so each response is only parsed once.
    *
    * @param responseString The response string to parse.
    * @return An instance of {@link M2WebEwonEBDInstantValuesResponse} parsed from the response
    *     string.
-   * @throws IllegalStateException If a necessary parameter was not specified. Currently, this means
-   *     that both the mapping strategy and the bean type are not set, so it is impossible to
-   *     determine a mapping strategy.
+   * @throws IllegalArgumentException if the CSV response string is missing a required column, or
+   *     contains an invalid row or integer value
+   * @throws com.google.gson.JsonSyntaxException if the JSON response string is not valid
    * @since 1.0.0
    */
-  public static M2WebEwonEBDInstantValuesResponse getFromString(String responseString)
-      throws IllegalStateException {
-    // Parse CSV response into list of tag objects
+  public static M2WebEwonEBDInstantValuesResponse getFromString(String responseString) {
     M2WebEwonEBDInstantValuesResponse response;
-    try {
-      List<M2WebEwonEBDInstantValue> instantValues =
-          new CsvToBeanBuilder<M2WebEwonEBDInstantValue>(new StringReader(responseString))
-              .withSeparator(EWON_EBD_INSTANTVALUES_SEPARATOR_CHAR)
-              .withType(M2WebEwonEBDInstantValue.class)
-              .build()
-              .parse();
-      response = new M2WebEwonEBDInstantValuesResponse(instantValues);
-    } catch (Exception e1) {
-      try {
-        response = getFromJson(responseString, M2WebEwonEBDInstantValuesResponse.class);
-      } catch (Exception e2) {
-        throw e1;
+    if (M2WebEwonEBDCsvParser.isJsonResponse(responseString)) {
+      response = getFromJson(responseString, M2WebEwonEBDInstantValuesResponse.class);
+    } else {
+      response = getFromCsv(responseString);
+    }
+    return response;
+  }
+
+  /**
+   * Gets an instance of {@link M2WebEwonEBDInstantValuesResponse} from a CSV response string.
+   *
+   * @param responseString The CSV response string to parse.
+   * @return An instance of {@link M2WebEwonEBDInstantValuesResponse} parsed from the CSV response
+   *     string.
+   * @throws IllegalArgumentException if the CSV response string is missing a required column, or
+   *     contains an invalid row or integer value
+   * @since 1.0.0
+   */
+  private static M2WebEwonEBDInstantValuesResponse getFromCsv(String responseString) {
+    M2WebEwonEBDInstantValuesResponse response = new M2WebEwonEBDInstantValuesResponse();
+    M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser(responseString);
+
+    // Read header row to get column indices
+    M2WebEwonEBDCsvHeader header = M2WebEwonEBDCsvHeader.read(csvParser);
+    if (header == null) {
+      return response;
+    }
+    final int tagIdColumnIndex = header.getRequiredColumnIndex(TAG_ID_COLUMN_NAME);
+    final int tagNameColumnIndex = header.getRequiredColumnIndex(TAG_NAME_COLUMN_NAME);
+    final int valueColumnIndex = header.getColumnIndex(VALUE_COLUMN_NAME);
+    final int alStatusColumnIndex = header.getRequiredColumnIndex(AL_STATUS_COLUMN_NAME);
+    final int alTypeColumnIndex = header.getRequiredColumnIndex(AL_TYPE_COLUMN_NAME);
+    final int qualityColumnIndex = header.getRequiredColumnIndex(QUALITY_COLUMN_NAME);
+    final int requiredColumnCount =
+        Math.max(
+                Math.max(tagIdColumnIndex, tagNameColumnIndex),
+                Math.max(alStatusColumnIndex, Math.max(alTypeColumnIndex, qualityColumnIndex)))
+            + 1;
+
+    // Read each row, parsing only the used columns
+    while (csvParser.nextRow()) {
+      int tagId = 0;
+      String tagName = null;
+      String value = null;
+      int alStatus = 0;
+      int alType = 0;
+      int quality = 0;
+      int columnIndex = 0;
+      for (; csvParser.hasNextField(); columnIndex++) {
+        csvParser.nextField();
+        if (columnIndex == tagIdColumnIndex) {
+          tagId = csvParser.getFieldInt();
+        } else if (columnIndex == tagNameColumnIndex) {
+          tagName = csvParser.getFieldString();
+        } else if (columnIndex == valueColumnIndex) {
+          value = csvParser.getFieldString();
+        } else if (columnIndex == alStatusColumnIndex) {
+          alStatus = csvParser.getFieldInt();
+        } else if (columnIndex == alTypeColumnIndex) {
+          alType = csvParser.getFieldInt();
+        } else if (columnIndex == qualityColumnIndex) {
+          quality = csvParser.getFieldInt();
+        }
+      }
+
+      // Check that row contains all required columns
+      if (columnIndex < requiredColumnCount) {
+        throw new IllegalArgumentException(
+            "The EBD instant values response contains a row with missing columns.");
       }
+      response.addInstantValue(tagId, tagName, value, alStatus, alType, quality);
     }
 
     return response;
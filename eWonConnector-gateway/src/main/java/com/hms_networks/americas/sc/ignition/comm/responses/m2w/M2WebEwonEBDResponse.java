@@ -2,6 +2,7 @@ package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -74,6 +75,14 @@ public class M2WebEwonEBDResponse {
    */
   private static final int UNABLE_TO_REACH_DEVICE_MESSAGE_REGEX_GROUP_INDEX_ERROR_CODE = 1;
 
+  /**
+   * The regex pattern for matching the resulting error message provided by the API when the Talk2M
+   * session of the request is invalid or has expired.
+   *
+   * @since 1.0.0
+   */
+  private static final String SESSION_EXPIRED_MESSAGE_REGEX = "(?i).*\\bsession\\b.*";
+
   /**
    * The resulting error code provided by the API when an Ewon is unavailable.
    *
@@ -102,6 +111,14 @@ public class M2WebEwonEBDResponse {
    */
   private static final int UNABLE_TO_REACH_DEVICE_CODE = 502;
 
+  /**
+   * The error codes provided by the API when the Talk2M session of the request is invalid or has
+   * expired.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<Integer> SESSION_EXPIRED_CODES = Set.of(401, 403);
+
   /**
    * The resulting success flag provided by the API.
    *
@@ -190,6 +207,19 @@ public class M2WebEwonEBDResponse {
         && message.matches(INCORRECT_CREDENTIALS_MESSAGE_REGEX);
   }
 
+  /**
+   * Checks if the response indicates that the Talk2M session of the request is invalid or has
+   * expired, in which case the request should be performed again with a new session.
+   *
+   * @return {@code true} if the Talk2M session is invalid or has expired, {@code false} otherwise
+   * @since 1.0.0
+   */
+  public boolean isSessionExpired() {
+    return SESSION_EXPIRED_CODES.contains(code)
+        && message != null
+        && message.matches(SESSION_EXPIRED_MESSAGE_REGEX);
+  }
+
   /**
    * Checks if the response indicates that the API timed out while reaching the Ewon.
    *
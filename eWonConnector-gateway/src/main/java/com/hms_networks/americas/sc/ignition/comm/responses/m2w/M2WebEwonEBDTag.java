@@ -1,9 +1,10 @@
 package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
 
-import com.opencsv.bean.CsvBindByName;
-
 /**
- * CSV object for a tag in the M2Web EBD tag list response.
+ * Object for a tag in the M2Web EBD tag list response. Only the columns used by the connector
+ * ({@code ID}, {@code Name}, {@code Description}, {@code Type} and {@code IVGroupA}-{@code
+ * IVGroupD}) are decoded when the response is parsed. The raw row of the tag is retained, and all
+ * other columns are decoded from it on demand by their getter methods.
  *
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
@@ -12,500 +13,549 @@ import com.opencsv.bean.CsvBindByName;
 public class M2WebEwonEBDTag {
 
   /**
-   * The value of the {@code ID} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ID} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ID", required = true)
-  private int id;
+  static final String ID_COLUMN_NAME = "ID";
 
   /**
-   * The value of the {@code Name} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Name} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Name", required = true)
-  private String name;
+  static final String NAME_COLUMN_NAME = "Name";
 
   /**
-   * The value of the {@code Description} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Description} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Description")
-  private String description;
+  static final String DESCRIPTION_COLUMN_NAME = "Description";
 
   /**
-   * The value of the {@code ServerName} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ServerName} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ServerName", required = true)
-  private String serverName;
+  static final String SERVER_NAME_COLUMN_NAME = "ServerName";
 
   /**
-   * The value of the {@code TopicName} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code TopicName} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TopicName")
-  private String topicName;
+  static final String TOPIC_NAME_COLUMN_NAME = "TopicName";
 
   /**
-   * The value of the {@code Address} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Address} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Address", required = true)
-  private String address;
+  static final String ADDRESS_COLUMN_NAME = "Address";
 
   /**
-   * The value of the {@code Coef} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Coef} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Coef", required = true)
-  private double coef;
+  static final String COEF_COLUMN_NAME = "Coef";
 
   /**
-   * The value of the {@code Offset} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Offset} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Offset", required = true)
-  private double offset;
+  static final String OFFSET_COLUMN_NAME = "Offset";
 
   /**
-   * The value of the {@code LogEnabled} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code LogEnabled} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "LogEnabled", required = true)
-  private int logEnabled;
+  static final String LOG_ENABLED_COLUMN_NAME = "LogEnabled";
 
   /**
-   * The value of the {@code AlEnabled} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlEnabled} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlEnabled", required = true)
-  private int alEnabled;
+  static final String AL_ENABLED_COLUMN_NAME = "AlEnabled";
 
   /**
-   * The value of the {@code AlBool} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlBool} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlBool", required = true)
-  private int alBool;
+  static final String AL_BOOL_COLUMN_NAME = "AlBool";
 
   /**
-   * The value of the {@code MemTag} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code MemTag} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "MemTag", required = true)
-  private int memTag;
+  static final String MEM_TAG_COLUMN_NAME = "MemTag";
 
   /**
-   * The value of the {@code MbsTcpEnabled} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code MbsTcpEnabled} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "MbsTcpEnabled", required = true)
-  private int mbsTcpEnabled;
+  static final String MBS_TCP_ENABLED_COLUMN_NAME = "MbsTcpEnabled";
 
   /**
-   * The value of the {@code MbsTcpFloat} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code MbsTcpFloat} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "MbsTcpFloat", required = true)
-  private int mbsTcpFloat;
+  static final String MBS_TCP_FLOAT_COLUMN_NAME = "MbsTcpFloat";
 
   /**
-   * The value of the {@code SnmpEnabled} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code SnmpEnabled} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "SnmpEnabled", required = true)
-  private int snmpEnabled;
+  static final String SNMP_ENABLED_COLUMN_NAME = "SnmpEnabled";
 
   /**
-   * The value of the {@code RTLogEnabled} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code RTLogEnabled} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "RTLogEnabled", required = true)
-  private int rtLogEnabled;
+  static final String RT_LOG_ENABLED_COLUMN_NAME = "RTLogEnabled";
 
   /**
-   * The value of the {@code AlAutoAck} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlAutoAck} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlAutoAck", required = true)
-  private int alAutoAck;
+  static final String AL_AUTO_ACK_COLUMN_NAME = "AlAutoAck";
 
   /**
-   * The value of the {@code ForceRO} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ForceRO} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ForceRO", required = true)
-  private int forceRo;
+  static final String FORCE_RO_COLUMN_NAME = "ForceRO";
 
   /**
-   * The value of the {@code SnmpOID} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code SnmpOID} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "SnmpOID", required = true)
-  private int snmpOid;
+  static final String SNMP_OID_COLUMN_NAME = "SnmpOID";
 
   /**
-   * The value of the {@code AutoType} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AutoType} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AutoType", required = true)
-  private int autoType;
+  static final String AUTO_TYPE_COLUMN_NAME = "AutoType";
 
   /**
-   * The value of the {@code AlHint} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlHint} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlHint")
-  private String alHint;
+  static final String AL_HINT_COLUMN_NAME = "AlHint";
 
   /**
-   * The value of the {@code AlHigh} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlHigh} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlHigh", required = true)
-  private double alHigh;
+  static final String AL_HIGH_COLUMN_NAME = "AlHigh";
 
   /**
-   * The value of the {@code AlLow} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlLow} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlLow", required = true)
-  private double alLow;
+  static final String AL_LOW_COLUMN_NAME = "AlLow";
 
   /**
-   * The value of the {@code AlTimeDB} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlTimeDB} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlTimeDB", required = true)
-  private int alTimeDb;
+  static final String AL_TIME_DB_COLUMN_NAME = "AlTimeDB";
 
   /**
-   * The value of the {@code AlLevelDB} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlLevelDB} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlLevelDB", required = true)
-  private double alLevelDb;
+  static final String AL_LEVEL_DB_COLUMN_NAME = "AlLevelDB";
 
   /**
-   * The value of the {@code IVGroupA} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code IVGroupA} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "IVGroupA", required = true)
-  private int ivGroupA;
+  static final String IV_GROUP_A_COLUMN_NAME = "IVGroupA";
 
   /**
-   * The value of the {@code IVGroupB} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code IVGroupB} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "IVGroupB", required = true)
-  private int ivGroupB;
+  static final String IV_GROUP_B_COLUMN_NAME = "IVGroupB";
 
   /**
-   * The value of the {@code IVGroupC} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code IVGroupC} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "IVGroupC", required = true)
-  private int ivGroupC;
+  static final String IV_GROUP_C_COLUMN_NAME = "IVGroupC";
 
   /**
-   * The value of the {@code IVGroupD} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code IVGroupD} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "IVGroupD", required = true)
-  private int ivGroupD;
+  static final String IV_GROUP_D_COLUMN_NAME = "IVGroupD";
 
   /**
-   * The value of the {@code PageId} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code PageId} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "PageId", required = true)
-  private int pageId;
+  static final String PAGE_ID_COLUMN_NAME = "PageId";
 
   /**
-   * The value of the {@code RTLogWindow} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code RTLogWindow} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "RTLogWindow", required = true)
-  private int rtLogWindow;
+  static final String RT_LOG_WINDOW_COLUMN_NAME = "RTLogWindow";
 
   /**
-   * The value of the {@code RTLogTimer} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code RTLogTimer} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "RTLogTimer", required = true)
-  private int rtLogTimer;
+  static final String RT_LOG_TIMER_COLUMN_NAME = "RTLogTimer";
 
   /**
-   * The value of the {@code LogDB} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code LogDB} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "LogDB", required = true)
-  private double logDB;
+  static final String LOG_DB_COLUMN_NAME = "LogDB";
 
   /**
-   * The value of the {@code LogTimer} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code LogTimer} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "LogTimer", required = true)
-  private int logTimer;
+  static final String LOG_TIMER_COLUMN_NAME = "LogTimer";
 
   /**
-   * The value of the {@code AlLoLo} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlLoLo} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlLoLo")
-  private int alLoLo;
+  static final String AL_LO_LO_COLUMN_NAME = "AlLoLo";
 
   /**
-   * The value of the {@code AlHiHi} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlHiHi} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlHiHi")
-  private int alHiHi;
+  static final String AL_HI_HI_COLUMN_NAME = "AlHiHi";
 
   /**
-   * The value of the {@code MbsTcpRegister} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code MbsTcpRegister} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "MbsTcpRegister", required = true)
-  private int mbsTcpRegister;
+  static final String MBS_TCP_REGISTER_COLUMN_NAME = "MbsTcpRegister";
 
   /**
-   * The value of the {@code MbsTcpCoef} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code MbsTcpCoef} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "MbsTcpCoef", required = true)
-  private double mbsTcpCoef;
+  static final String MBS_TCP_COEF_COLUMN_NAME = "MbsTcpCoef";
 
   /**
-   * The value of the {@code MbsTcpOffset} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code MbsTcpOffset} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "MbsTcpOffset", required = true)
-  private double mbsTcpOffset;
+  static final String MBS_TCP_OFFSET_COLUMN_NAME = "MbsTcpOffset";
 
   /**
-   * The value of the {@code EEN} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code EEN} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "EEN")
-  private int een;
+  static final String EEN_COLUMN_NAME = "EEN";
 
   /**
-   * The value of the {@code ETO} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ETO} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ETO")
-  private String eto;
+  static final String ETO_COLUMN_NAME = "ETO";
 
   /**
-   * The value of the {@code ECC} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ECC} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ECC")
-  private String ecc;
+  static final String ECC_COLUMN_NAME = "ECC";
 
   /**
-   * The value of the {@code ESU} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ESU} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ESU")
-  private String esu;
+  static final String ESU_COLUMN_NAME = "ESU";
 
   /**
-   * The value of the {@code EAT} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code EAT} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "EAT")
-  private String eat;
+  static final String EAT_COLUMN_NAME = "EAT";
 
   /**
-   * The value of the {@code ESH} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ESH} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ESH")
-  private String esh;
+  static final String ESH_COLUMN_NAME = "ESH";
 
   /**
-   * The value of the {@code SEN} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code SEN} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "SEN")
-  private int sen;
+  static final String SEN_COLUMN_NAME = "SEN";
 
   /**
-   * The value of the {@code STO} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code STO} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "STO")
-  private String sto;
+  static final String STO_COLUMN_NAME = "STO";
 
   /**
-   * The value of the {@code SSU} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code SSU} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "SSU")
-  private String ssu;
+  static final String SSU_COLUMN_NAME = "SSU";
 
   /**
-   * The value of the {@code TEN} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code TEN} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TEN")
-  private int ten;
+  static final String TEN_COLUMN_NAME = "TEN";
 
   /**
-   * The value of the {@code TSU} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code TSU} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TSU")
-  private String tsu;
+  static final String TSU_COLUMN_NAME = "TSU";
 
   /**
-   * The value of the {@code FEN} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code FEN} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "FEN")
-  private int fen;
+  static final String FEN_COLUMN_NAME = "FEN";
 
   /**
-   * The value of the {@code FFN} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code FFN} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "FFN")
-  private String ffn;
+  static final String FFN_COLUMN_NAME = "FFN";
 
   /**
-   * The value of the {@code FCO} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code FCO} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "FCO")
-  private String fco;
+  static final String FCO_COLUMN_NAME = "FCO";
 
   /**
-   * The value of the {@code KPI} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code KPI} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "KPI")
-  private int kpi;
+  static final String KPI_COLUMN_NAME = "KPI";
 
   /**
-   * The value of the {@code UseCustomUnit} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code UseCustomUnit} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "UseCustomUnit")
-  private int useCustomUnit;
+  static final String USE_CUSTOM_UNIT_COLUMN_NAME = "UseCustomUnit";
 
   /**
-   * The value of the {@code Type} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Type} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Type", required = true)
-  private int type;
+  static final String TYPE_COLUMN_NAME = "Type";
 
   /**
-   * The value of the {@code Unit} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code Unit} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "Unit")
-  private String unit;
+  static final String UNIT_COLUMN_NAME = "Unit";
 
   /**
-   * The value of the {@code AlStat} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlStat} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlStat", required = true)
-  private int alStat;
+  static final String AL_STAT_COLUMN_NAME = "AlStat";
 
   /**
-   * The value of the {@code ChangeTime} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code ChangeTime} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "ChangeTime", required = true)
-  private String changeTime;
+  static final String CHANGE_TIME_COLUMN_NAME = "ChangeTime";
 
   /**
-   * The value of the {@code TagValue} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code TagValue} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TagValue")
-  private String tagValue;
+  static final String TAG_VALUE_COLUMN_NAME = "TagValue";
 
   /**
-   * The value of the {@code TagQuality} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code TagQuality} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "TagQuality", required = true)
-  private int tagQuality;
+  static final String TAG_QUALITY_COLUMN_NAME = "TagQuality";
 
   /**
-   * The value of the {@code AlType} column for a tag in the M2Web EBD tag list response.
+   * The name of the {@code AlType} column in the M2Web EBD tag list response.
    *
    * @since 1.0.0
    */
-  @CsvBindByName(column = "AlType", required = true)
-  private int alType;
+  static final String AL_TYPE_COLUMN_NAME = "AlType";
+
+  /**
+   * The value of the {@code ID} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final int id;
+
+  /**
+   * The value of the {@code Name} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final String name;
+
+  /**
+   * The value of the {@code Description} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final String description;
+
+  /**
+   * The value of the {@code IVGroupA} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final int ivGroupA;
+
+  /**
+   * The value of the {@code IVGroupB} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final int ivGroupB;
+
+  /**
+   * The value of the {@code IVGroupC} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final int ivGroupC;
+
+  /**
+   * The value of the {@code IVGroupD} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final int ivGroupD;
+
+  /**
+   * The value of the {@code Type} column for a tag in the M2Web EBD tag list response.
+   *
+   * @since 1.0.0
+   */
+  private final int type;
+
+  /**
+   * The raw content of the row for the tag in the M2Web EBD tag list response, from which the
+   * columns which are not eagerly decoded are decoded on demand.
+   *
+   * @since 1.0.0
+   */
+  private final String rawRow;
+
+  /**
+   * The header of the M2Web EBD tag list response, which is shared by all tags from the response
+   * and used to locate columns in the raw row.
+   *
+   * @since 1.0.0
+   */
+  private final M2WebEwonEBDCsvHeader header;
+
+  /**
+   * Constructs a new {@link M2WebEwonEBDTag} with the specified eagerly decoded columns, and the
+   * raw row from which all other columns are decoded on demand.
+   *
+   * @param id The value of the {@code ID} column.
+   * @param name The value of the {@code Name} column.
+   * @param description The value of the {@code Description} column.
+   * @param type The value of the {@code Type} column.
+   * @param ivGroupA The value of the {@code IVGroupA} column.
+   * @param ivGroupB The value of the {@code IVGroupB} column.
+   * @param ivGroupC The value of the {@code IVGroupC} column.
+   * @param ivGroupD The value of the {@code IVGroupD} column.
+   * @param rawRow The raw content of the row for the tag.
+   * @param header The header of the M2Web EBD tag list response.
+   * @since 1.0.0
+   */
+  M2WebEwonEBDTag(
+      int id,
+      String name,
+      String description,
+      int type,
+      int ivGroupA,
+      int ivGroupB,
+      int ivGroupC,
+      int ivGroupD,
+      String rawRow,
+      M2WebEwonEBDCsvHeader header) {
+    this.id = id;
+    this.name = name;
+    this.description = description;
+    this.type = type;
+    this.ivGroupA = ivGroupA;
+    this.ivGroupB = ivGroupB;
+    this.ivGroupC = ivGroupC;
+    this.ivGroupD = ivGroupD;
+    this.rawRow = rawRow;
+    this.header = header;
+  }
 
   /**
    * Gets the value of the {@code Id} column for a tag in the M2Web EBD tag list response.
@@ -546,7 +596,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getServerName() {
-    return serverName;
+    return getLazyString(SERVER_NAME_COLUMN_NAME);
   }
 
   /**
@@ -556,7 +606,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getTopicName() {
-    return topicName;
+    return getLazyString(TOPIC_NAME_COLUMN_NAME);
   }
 
   /**
@@ -566,7 +616,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getAddress() {
-    return address;
+    return getLazyString(ADDRESS_COLUMN_NAME);
   }
 
   /**
@@ -576,7 +626,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getCoef() {
-    return coef;
+    return getLazyDouble(COEF_COLUMN_NAME);
   }
 
   /**
@@ -586,7 +636,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getOffset() {
-    return offset;
+    return getLazyDouble(OFFSET_COLUMN_NAME);
   }
 
   /**
@@ -597,7 +647,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getLogEnabled() {
-    return logEnabled;
+    return getLazyInt(LOG_ENABLED_COLUMN_NAME);
   }
 
   /**
@@ -607,7 +657,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlEnabled() {
-    return alEnabled;
+    return getLazyInt(AL_ENABLED_COLUMN_NAME);
   }
 
   /**
@@ -617,7 +667,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlBool() {
-    return alBool;
+    return getLazyInt(AL_BOOL_COLUMN_NAME);
   }
 
   /**
@@ -627,7 +677,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getMemTag() {
-    return memTag;
+    return getLazyInt(MEM_TAG_COLUMN_NAME);
   }
 
   /**
@@ -639,7 +689,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getMbsTcpEnabled() {
-    return mbsTcpEnabled;
+    return getLazyInt(MBS_TCP_ENABLED_COLUMN_NAME);
   }
 
   /**
@@ -650,7 +700,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getMbsTcpFloat() {
-    return mbsTcpFloat;
+    return getLazyInt(MBS_TCP_FLOAT_COLUMN_NAME);
   }
 
   /**
@@ -661,7 +711,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getSnmpEnabled() {
-    return snmpEnabled;
+    return getLazyInt(SNMP_ENABLED_COLUMN_NAME);
   }
 
   /**
@@ -672,7 +722,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getRtLogEnabled() {
-    return rtLogEnabled;
+    return getLazyInt(RT_LOG_ENABLED_COLUMN_NAME);
   }
 
   /**
@@ -682,7 +732,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlAutoAck() {
-    return alAutoAck;
+    return getLazyInt(AL_AUTO_ACK_COLUMN_NAME);
   }
 
   /**
@@ -692,7 +742,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getForceRo() {
-    return forceRo;
+    return getLazyInt(FORCE_RO_COLUMN_NAME);
   }
 
   /**
@@ -702,7 +752,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getSnmpOid() {
-    return snmpOid;
+    return getLazyInt(SNMP_OID_COLUMN_NAME);
   }
 
   /**
@@ -712,7 +762,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAutoType() {
-    return autoType;
+    return getLazyInt(AUTO_TYPE_COLUMN_NAME);
   }
 
   /**
@@ -722,7 +772,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getAlHint() {
-    return alHint;
+    return getLazyString(AL_HINT_COLUMN_NAME);
   }
 
   /**
@@ -732,7 +782,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getAlHigh() {
-    return alHigh;
+    return getLazyDouble(AL_HIGH_COLUMN_NAME);
   }
 
   /**
@@ -742,7 +792,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getAlLow() {
-    return alLow;
+    return getLazyDouble(AL_LOW_COLUMN_NAME);
   }
 
   /**
@@ -752,7 +802,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getAlTimeDb() {
-    return alTimeDb;
+    return getLazyInt(AL_TIME_DB_COLUMN_NAME);
   }
 
   /**
@@ -762,7 +812,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getAlLevelDb() {
-    return alLevelDb;
+    return getLazyDouble(AL_LEVEL_DB_COLUMN_NAME);
   }
 
   /**
@@ -812,7 +862,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getPageId() {
-    return pageId;
+    return getLazyInt(PAGE_ID_COLUMN_NAME);
   }
 
   /**
@@ -823,7 +873,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getRtLogWindow() {
-    return rtLogWindow;
+    return getLazyInt(RT_LOG_WINDOW_COLUMN_NAME);
   }
 
   /**
@@ -834,7 +884,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getRtLogTimer() {
-    return rtLogTimer;
+    return getLazyInt(RT_LOG_TIMER_COLUMN_NAME);
   }
 
   /**
@@ -844,7 +894,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getLogDB() {
-    return logDB;
+    return getLazyDouble(LOG_DB_COLUMN_NAME);
   }
 
   /**
@@ -854,7 +904,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getLogTimer() {
-    return logTimer;
+    return getLazyInt(LOG_TIMER_COLUMN_NAME);
   }
 
   /**
@@ -864,7 +914,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlLoLo() {
-    return alLoLo;
+    return getLazyInt(AL_LO_LO_COLUMN_NAME);
   }
 
   /**
@@ -874,7 +924,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlHiHi() {
-    return alHiHi;
+    return getLazyInt(AL_HI_HI_COLUMN_NAME);
   }
 
   /**
@@ -886,7 +936,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getMbsTcpRegister() {
-    return mbsTcpRegister;
+    return getLazyInt(MBS_TCP_REGISTER_COLUMN_NAME);
   }
 
   /**
@@ -897,7 +947,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getMbsTcpCoef() {
-    return mbsTcpCoef;
+    return getLazyDouble(MBS_TCP_COEF_COLUMN_NAME);
   }
 
   /**
@@ -908,7 +958,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public double getMbsTcpOffset() {
-    return mbsTcpOffset;
+    return getLazyDouble(MBS_TCP_OFFSET_COLUMN_NAME);
   }
 
   /**
@@ -918,7 +968,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getEen() {
-    return een;
+    return getLazyInt(EEN_COLUMN_NAME);
   }
 
   /**
@@ -928,7 +978,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getEto() {
-    return eto;
+    return getLazyString(ETO_COLUMN_NAME);
   }
 
   /**
@@ -938,7 +988,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getEcc() {
-    return ecc;
+    return getLazyString(ECC_COLUMN_NAME);
   }
 
   /**
@@ -948,7 +998,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getEsu() {
-    return esu;
+    return getLazyString(ESU_COLUMN_NAME);
   }
 
   /**
@@ -958,7 +1008,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getEat() {
-    return eat;
+    return getLazyString(EAT_COLUMN_NAME);
   }
 
   /**
@@ -968,7 +1018,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getEsh() {
-    return esh;
+    return getLazyString(ESH_COLUMN_NAME);
   }
 
   /**
@@ -978,7 +1028,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getSen() {
-    return sen;
+    return getLazyInt(SEN_COLUMN_NAME);
   }
 
   /**
@@ -988,7 +1038,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getSto() {
-    return sto;
+    return getLazyString(STO_COLUMN_NAME);
   }
 
   /**
@@ -998,7 +1048,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getSsu() {
-    return ssu;
+    return getLazyString(SSU_COLUMN_NAME);
   }
 
   /**
@@ -1008,7 +1058,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getTen() {
-    return ten;
+    return getLazyInt(TEN_COLUMN_NAME);
   }
 
   /**
@@ -1018,7 +1068,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getTsu() {
-    return tsu;
+    return getLazyString(TSU_COLUMN_NAME);
   }
 
   /**
@@ -1028,7 +1078,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getFen() {
-    return fen;
+    return getLazyInt(FEN_COLUMN_NAME);
   }
 
   /**
@@ -1038,7 +1088,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getFfn() {
-    return ffn;
+    return getLazyString(FFN_COLUMN_NAME);
   }
 
   /**
@@ -1048,7 +1098,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getFco() {
-    return fco;
+    return getLazyString(FCO_COLUMN_NAME);
   }
 
   /**
@@ -1058,7 +1108,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getKpi() {
-    return kpi;
+    return getLazyInt(KPI_COLUMN_NAME);
   }
 
   /**
@@ -1070,7 +1120,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getUseCustomUnit() {
-    return useCustomUnit;
+    return getLazyInt(USE_CUSTOM_UNIT_COLUMN_NAME);
   }
 
   /**
@@ -1090,7 +1140,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getUnit() {
-    return unit;
+    return getLazyString(UNIT_COLUMN_NAME);
   }
 
   /**
@@ -1100,7 +1150,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlStat() {
-    return alStat;
+    return getLazyInt(AL_STAT_COLUMN_NAME);
   }
 
   /**
@@ -1111,7 +1161,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getChangeTime() {
-    return changeTime;
+    return getLazyString(CHANGE_TIME_COLUMN_NAME);
   }
 
   /**
@@ -1121,7 +1171,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public String getTagValue() {
-    return tagValue;
+    return getLazyString(TAG_VALUE_COLUMN_NAME);
   }
 
   /**
@@ -1132,7 +1182,7 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getTagQuality() {
-    return tagQuality;
+    return getLazyInt(TAG_QUALITY_COLUMN_NAME);
   }
 
   /**
@@ -1142,6 +1192,71 @@ public class M2WebEwonEBDTag {
    * @since 1.0.0
    */
   public int getAlType() {
-    return alType;
+    return getLazyInt(AL_TYPE_COLUMN_NAME);
+  }
+
+  /**
+   * Moves the specified {@link M2WebEwonEBDCsvParser} (for the raw row of the tag) to the column
+   * with the specified name.
+   *
+   * @param csvParser The CSV parser for the raw row of the tag.
+   * @param columnName The name of the column to move to.
+   * @return true if the column is present in the raw row, false otherwise
+   * @since 1.0.0
+   */
+  private boolean moveToColumn(M2WebEwonEBDCsvParser csvParser, String columnName) {
+    int columnIndex = header.getColumnIndex(columnName);
+    if (columnIndex == M2WebEwonEBDCsvHeader.COLUMN_INDEX_NOT_PRESENT || !csvParser.nextRow()) {
+      return false;
+    }
+    for (int i = 0; i <= columnIndex; i++) {
+      if (!csvParser.hasNextField()) {
+        return false;
+      }
+      csvParser.nextField();
+    }
+    return true;
+  }
+
+  /**
+   * Decodes the string value of the column with the specified name from the raw row of the tag.
+   *
+   * @param columnName The name of the column.
+   * @return The string value of the column, or null if not present.
+   * @since 1.0.0
+   */
+  private String getLazyString(String columnName) {
+    M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser(rawRow);
+    return moveToColumn(csvParser, columnName) ? csvParser.getFieldString() : null;
+  }
+
+  /**
+   * Decodes the integer value of the column with the specified name from the raw row of the tag.
+   *
+   * @param columnName The name of the column.
+   * @return The integer value of the column, or 0 if not present or empty.
+   * @throws NumberFormatException if the column value is not a valid integer
+   * @since 1.0.0
+   */
+  private int getLazyInt(String columnName) {
+    M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser(rawRow);
+    return moveToColumn(csvParser, columnName) && !csvParser.isFieldEmpty()
+        ? csvParser.getFieldInt()
+        : 0;
+  }
+
+  /**
+   * Decodes the double value of the column with the specified name from the raw row of the tag.
+   *
+   * @param columnName The name of the column.
+   * @return The double value of the column, or 0 if not present or empty.
+   * @throws NumberFormatException if the column value is not a valid double
+   * @since 1.0.0
+   */
+  private double getLazyDouble(String columnName) {
+    M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser(rawRow);
+    return moveToColumn(csvParser, columnName) && !csvParser.isFieldEmpty()
+        ? csvParser.getFieldDouble()
+        : 0;
   }
 }
@@ -1,7 +1,6 @@
 package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
 
-import com.opencsv.bean.CsvToBeanBuilder;
-import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,13 +12,6 @@ import java.util.List;
  */
 public class M2WebEwonEBDTagListResponse extends M2WebEwonEBDResponse {
 
-  /**
-   * The separator character used to separate columns/fields in the EBD tag list response.
-   *
-   * @since 1.0.0
-   */
-  private static final char EWON_EBD_TAGLIST_SEPARATOR_CHAR = ';';
-
   /**
    * The list of tags from the EBD tag list response.
    *
@@ -48,36 +40,119 @@ public class M2WebEwonEBDTagListResponse extends M2WebEwonEBDResponse {
   }
 
   /**
-   * Gets an instance of {@link M2WebEwonEBDTagListResponse} from a response string.
+   * Gets an instance of {@link M2WebEwonEBDTagListResponse} from a response string. The format of
+   * the response string (CSV for a successful response, JSON for an unsuccessful response) is
+   * determined from its first character, so each response is only parsed once.
    *
    * @param responseString The response string to parse.
    * @return An instance of {@link M2WebEwonEBDTagListResponse} parsed from the response string.
-   * @throws IllegalStateException If a necessary parameter was not specified. Currently this means
-   *     that both the mapping strategy and the bean type are not set, so it is impossible to
-   *     determine a mapping strategy.
+   * @throws IllegalArgumentException if the CSV response string is missing a required column, or
+   *     contains an invalid row or integer value
+   * @throws com.google.gson.JsonSyntaxException if the JSON response string is not valid
    * @since 1.0.0
    */
-  public static M2WebEwonEBDTagListResponse getFromString(String responseString)
-      throws IllegalStateException {
-    // Parse CSV response into list of tag objects
+  public static M2WebEwonEBDTagListResponse getFromString(String responseString) {
     M2WebEwonEBDTagListResponse response;
-    try {
-      List<M2WebEwonEBDTag> tags =
-          new CsvToBeanBuilder<M2WebEwonEBDTag>(new StringReader(responseString))
-              .withSeparator(EWON_EBD_TAGLIST_SEPARATOR_CHAR)
-              .withType(M2WebEwonEBDTag.class)
-              .build()
-              .parse();
+    if (M2WebEwonEBDCsvParser.isJsonResponse(responseString)) {
+      response = getFromJson(responseString, M2WebEwonEBDTagListResponse.class);
+    } else {
+      response = new M2WebEwonEBDTagListResponse(getTagsFromCsv(responseString));
+    }
+    return response;
+  }
 
-      response = new M2WebEwonEBDTagListResponse(tags);
-    } catch (Exception e1) {
-      try {
-        response = getFromJson(responseString, M2WebEwonEBDTagListResponse.class);
-      } catch (Exception e2) {
-        throw e1;
+  /**
+   * Gets the list of tags from a CSV response string. Only the columns used by the connector are
+   * decoded, and the raw row of each tag is retained so that other columns can be decoded on
+   * demand.
+   *
+   * @param responseString The CSV response string to parse.
+   * @return The list of tags parsed from the CSV response string.
+   * @throws IllegalArgumentException if the CSV response string is missing a required column, or
+   *     contains an invalid row or integer value
+   * @since 1.0.0
+   */
+  private static List<M2WebEwonEBDTag> getTagsFromCsv(String responseString) {
+    List<M2WebEwonEBDTag> tags = new ArrayList<>();
+    M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser(responseString);
+
+    // Read header row to get column indices
+    M2WebEwonEBDCsvHeader header = M2WebEwonEBDCsvHeader.read(csvParser);
+    if (header == null) {
+      return tags;
+    }
+    final int idColumnIndex = header.getRequiredColumnIndex(M2WebEwonEBDTag.ID_COLUMN_NAME);
+    final int nameColumnIndex = header.getRequiredColumnIndex(M2WebEwonEBDTag.NAME_COLUMN_NAME);
+    final int descriptionColumnIndex =
+        header.getColumnIndex(M2WebEwonEBDTag.DESCRIPTION_COLUMN_NAME);
+    final int typeColumnIndex = header.getRequiredColumnIndex(M2WebEwonEBDTag.TYPE_COLUMN_NAME);
+    final int ivGroupAColumnIndex =
+        header.getRequiredColumnIndex(M2WebEwonEBDTag.IV_GROUP_A_COLUMN_NAME);
+    final int ivGroupBColumnIndex =
+        header.getRequiredColumnIndex(M2WebEwonEBDTag.IV_GROUP_B_COLUMN_NAME);
+    final int ivGroupCColumnIndex =
+        header.getRequiredColumnIndex(M2WebEwonEBDTag.IV_GROUP_C_COLUMN_NAME);
+    final int ivGroupDColumnIndex =
+        header.getRequiredColumnIndex(M2WebEwonEBDTag.IV_GROUP_D_COLUMN_NAME);
+    final int requiredColumnCount =
+        Math.max(
+                Math.max(Math.max(idColumnIndex, nameColumnIndex), typeColumnIndex),
+                Math.max(
+                    Math.max(ivGroupAColumnIndex, ivGroupBColumnIndex),
+                    Math.max(ivGroupCColumnIndex, ivGroupDColumnIndex)))
+            + 1;
+
+    // Read each row, decoding only the projected columns
+    while (csvParser.nextRow()) {
+      int id = 0;
+      String name = null;
+      String description = null;
+      int type = 0;
+      int ivGroupA = 0;
+      int ivGroupB = 0;
+      int ivGroupC = 0;
+      int ivGroupD = 0;
+      int columnIndex = 0;
+      for (; csvParser.hasNextField(); columnIndex++) {
+        csvParser.nextField();
+        if (columnIndex == idColumnIndex) {
+          id = csvParser.getFieldInt();
+        } else if (columnIndex == nameColumnIndex) {
+          name = csvParser.getFieldString();
+        } else if (columnIndex == descriptionColumnIndex) {
+          description = csvParser.getFieldString();
+        } else if (columnIndex == typeColumnIndex) {
+          type = csvParser.getFieldInt();
+        } else if (columnIndex == ivGroupAColumnIndex) {
+          ivGroupA = csvParser.getFieldInt();
+        } else if (columnIndex == ivGroupBColumnIndex) {
+          ivGroupB = csvParser.getFieldInt();
+        } else if (columnIndex == ivGroupCColumnIndex) {
+          ivGroupC = csvParser.getFieldInt();
+        } else if (columnIndex == ivGroupDColumnIndex) {
+          ivGroupD = csvParser.getFieldInt();
+        }
       }
+
+      // Check that row contains all required columns
+      if (columnIndex < requiredColumnCount) {
+        throw new IllegalArgumentException(
+            "The EBD tag list response contains a row with missing columns.");
+      }
+      tags.add(
+          new M2WebEwonEBDTag(
+              id,
+              name,
+              description,
+              type,
+              ivGroupA,
+              ivGroupB,
+              ivGroupC,
+              ivGroupD,
+              csvParser.getRowString(),
+              header));
     }
 
-    return response;
+    return tags;
   }
 }
@@ -3,6 +3,7 @@ package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
 import com.google.gson.JsonSyntaxException;
 import com.hms_networks.americas.sc.ignition.comm.responses.Talk2MResponse;
 import java.util.List;
+import java.util.Set;
 
 /**
  * JSON object for an M2Web getewons response.
@@ -13,6 +14,22 @@ import java.util.List;
  */
 public class M2WebGetEwonsResponse extends Talk2MResponse {
 
+  /**
+   * The regex pattern for matching the error message provided by the API when the Talk2M session of
+   * the request is invalid or has expired.
+   *
+   * @since 1.0.0
+   */
+  private static final String SESSION_EXPIRED_MESSAGE_REGEX = "(?i).*\\bsession\\b.*";
+
+  /**
+   * The error codes provided by the API when the Talk2M session of the request is invalid or has
+   * expired.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<Integer> SESSION_EXPIRED_CODES = Set.of(401, 403);
+
   /**
    * The list of {@link M2WebEwon}s for the getewons request. (Only populated if success is true)
    *
@@ -20,6 +37,20 @@ public class M2WebGetEwonsResponse extends Talk2MResponse {
    */
   private List<M2WebEwon> ewons;
 
+  /**
+   * The error code for the getewons request. (Only populated if success is false)
+   *
+   * @since 1.0.0
+   */
+  private int code;
+
+  /**
+   * The error message for the getewons request. (Only populated if success is false)
+   *
+   * @since 1.0.0
+   */
+  private String message;
+
   /**
    * Gets the list of {@link M2WebEwon}s for the getewons request.
    *
@@ -30,6 +61,40 @@ public class M2WebGetEwonsResponse extends Talk2MResponse {
     return ewons;
   }
 
+  /**
+   * Gets the error code for the getewons request.
+   *
+   * @return The error code for the getewons request.
+   * @since 1.0.0
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * Gets the error message for the getewons request.
+   *
+   * @return The error message for the getewons request.
+   * @since 1.0.0
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Checks if the getewons response indicates that the Talk2M session of the request is invalid or
+   * has expired, in which case the request should be performed again with a new session.
+   *
+   * @return {@code true} if the Talk2M session is invalid or has expired, {@code false} otherwise
+   * @since 1.0.0
+   */
+  public boolean isSessionExpired() {
+    return !getSuccess()
+        && SESSION_EXPIRED_CODES.contains(code)
+        && message != null
+        && message.matches(SESSION_EXPIRED_MESSAGE_REGEX);
+  }
+
   /**
    * Gets an instance of {@link M2WebGetEwonsResponse} from a JSON string.
    *
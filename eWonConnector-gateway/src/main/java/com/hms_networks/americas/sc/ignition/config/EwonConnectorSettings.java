@@ -50,6 +50,76 @@ public class EwonConnectorSettings extends PersistentRecord {
    */
   public static final int DEFAULT_METADATA_POLL_RATE = 30;
 
+  /**
+   * Default value for the {@link #HTTP_CONNECTION_TTL_SECS} setting (seconds).
+   *
+   * @since 2.0.0
+   */
+  public static final int DEFAULT_HTTP_CONNECTION_TTL_SECS = 300;
+
+  /**
+   * Default value for the {@link #HEDGED_REQUESTS_ENABLED} setting.
+   *
+   * @since 2.0.0
+   */
+  public static final boolean DEFAULT_HEDGED_REQUESTS_ENABLED = false;
+
+  /**
+   * Default value for the {@link #LIVE_VALUE_DEADBAND} setting.
+   *
+   * @since 2.0.0
+   */
+  public static final double DEFAULT_LIVE_VALUE_DEADBAND = 0.0;
+
+  /**
+   * Default value for the {@link #LIVE_VALUE_DEADBAND_PERCENT} setting (percent).
+   *
+   * @since 2.0.0
+   */
+  public static final double DEFAULT_LIVE_VALUE_DEADBAND_PERCENT = 0.0;
+
+  /**
+   * Default value for the {@link #LIVE_VALUE_KEEP_ALIVE_SECS} setting (seconds).
+   *
+   * @since 2.0.0
+   */
+  public static final int DEFAULT_LIVE_VALUE_KEEP_ALIVE_SECS = 60;
+
+  /**
+   * Default value for the {@link #LIVE_POLL_TAG_GROUPS_ENABLED} setting.
+   *
+   * @since 2.0.0
+   */
+  public static final boolean DEFAULT_LIVE_POLL_TAG_GROUPS_ENABLED = false;
+
+  /**
+   * Default value for the {@link #LIVE_POLL_RATE_GROUP_A} setting (seconds).
+   *
+   * @since 2.0.0
+   */
+  public static final int DEFAULT_LIVE_POLL_RATE_GROUP_A = 0;
+
+  /**
+   * Default value for the {@link #LIVE_POLL_RATE_GROUP_B} setting (seconds).
+   *
+   * @since 2.0.0
+   */
+  public static final int DEFAULT_LIVE_POLL_RATE_GROUP_B = 60;
+
+  /**
+   * Default value for the {@link #LIVE_POLL_RATE_GROUP_C} setting (seconds).
+   *
+   * @since 2.0.0
+   */
+  public static final int DEFAULT_LIVE_POLL_RATE_GROUP_C = 300;
+
+  /**
+   * Default value for the {@link #LIVE_POLL_RATE_GROUP_D} setting (seconds).
+   *
+   * @since 2.0.0
+   */
+  public static final int DEFAULT_LIVE_POLL_RATE_GROUP_D = 3600;
+
   /**
    * Record meta information for the Ewon Connector.
    *
@@ -205,6 +275,96 @@ public class EwonConnectorSettings extends PersistentRecord {
   public static final BooleanField TAG_NAME_CHECK_DISABLED =
       new BooleanField(META, "tagNameCheckDisabled");
 
+  /**
+   * Configured time-to-live (in seconds) of persistent HTTP connections to the Talk2M APIs.
+   *
+   * @since 2.0.0
+   */
+  public static final IntField HTTP_CONNECTION_TTL_SECS =
+      new IntField(META, "httpConnectionTtlSecs").setDefault(DEFAULT_HTTP_CONNECTION_TTL_SECS);
+
+  /**
+   * Configured boolean if hedged requests are enabled for idempotent Talk2M API reads.
+   *
+   * @since 2.0.0
+   */
+  public static final BooleanField HEDGED_REQUESTS_ENABLED =
+      new BooleanField(META, "hedgedRequestsEnabled").setDefault(DEFAULT_HEDGED_REQUESTS_ENABLED);
+
+  /**
+   * Configured absolute deadband of realtime tag values. Numeric values which differ from the last
+   * value sent to the tag provider by no more than the deadband are not sent to the tag provider.
+   *
+   * @since 2.0.0
+   */
+  public static final DoubleField LIVE_VALUE_DEADBAND =
+      new DoubleField(META, "liveValueDeadband").setDefault(DEFAULT_LIVE_VALUE_DEADBAND);
+
+  /**
+   * Configured percent deadband of realtime tag values, relative to the last value sent to the tag
+   * provider.
+   *
+   * @since 2.0.0
+   */
+  public static final DoubleField LIVE_VALUE_DEADBAND_PERCENT =
+      new DoubleField(META, "liveValueDeadbandPercent")
+          .setDefault(DEFAULT_LIVE_VALUE_DEADBAND_PERCENT);
+
+  /**
+   * Configured maximum time (in seconds) between updates of an unchanged realtime tag value in the
+   * tag provider, or 0 to update every polled realtime tag value.
+   *
+   * @since 2.0.0
+   */
+  public static final IntField LIVE_VALUE_KEEP_ALIVE_SECS =
+      new IntField(META, "liveValueKeepAliveSecs").setDefault(DEFAULT_LIVE_VALUE_KEEP_ALIVE_SECS);
+
+  /**
+   * Configured boolean if the tag groups (A, B, C and D) of Ewons are polled separately in
+   * realtime, each at its own poll rate.
+   *
+   * @since 2.0.0
+   */
+  public static final BooleanField LIVE_POLL_TAG_GROUPS_ENABLED =
+      new BooleanField(META, "livePollTagGroupsEnabled")
+          .setDefault(DEFAULT_LIVE_POLL_TAG_GROUPS_ENABLED);
+
+  /**
+   * Configured realtime poll rate (in seconds) of tag group A (fast data), or 0 to poll the tag
+   * group at the realtime poll rate, when tag groups are polled separately.
+   *
+   * @since 2.0.0
+   */
+  public static final IntField LIVE_POLL_RATE_GROUP_A =
+      new IntField(META, "livePollRateGroupA").setDefault(DEFAULT_LIVE_POLL_RATE_GROUP_A);
+
+  /**
+   * Configured realtime poll rate (in seconds) of tag group B (medium data), or 0 to poll the tag
+   * group at the realtime poll rate, when tag groups are polled separately.
+   *
+   * @since 2.0.0
+   */
+  public static final IntField LIVE_POLL_RATE_GROUP_B =
+      new IntField(META, "livePollRateGroupB").setDefault(DEFAULT_LIVE_POLL_RATE_GROUP_B);
+
+  /**
+   * Configured realtime poll rate (in seconds) of tag group C (slow data), or 0 to poll the tag
+   * group at the realtime poll rate, when tag groups are polled separately.
+   *
+   * @since 2.0.0
+   */
+  public static final IntField LIVE_POLL_RATE_GROUP_C =
+      new IntField(META, "livePollRateGroupC").setDefault(DEFAULT_LIVE_POLL_RATE_GROUP_C);
+
+  /**
+   * Configured realtime poll rate (in seconds) of tag group D (configuration data), or 0 to poll
+   * the tag group at the realtime poll rate, when tag groups are polled separately.
+   *
+   * @since 2.0.0
+   */
+  public static final IntField LIVE_POLL_RATE_GROUP_D =
+      new IntField(META, "livePollRateGroupD").setDefault(DEFAULT_LIVE_POLL_RATE_GROUP_D);
+
   /**
    * Settings category for general configuration options.
    *
@@ -254,6 +414,16 @@ public class EwonConnectorSettings extends PersistentRecord {
               TAG_WRITE_BUFFER_LENGTH_MS,
               SORT_TAGS_BY_GROUP,
               TAG_NAME_CHECK_DISABLED,
+              HTTP_CONNECTION_TTL_SECS,
+              HEDGED_REQUESTS_ENABLED,
+              LIVE_VALUE_DEADBAND,
+              LIVE_VALUE_DEADBAND_PERCENT,
+              LIVE_VALUE_KEEP_ALIVE_SECS,
+              LIVE_POLL_TAG_GROUPS_ENABLED,
+              LIVE_POLL_RATE_GROUP_A,
+              LIVE_POLL_RATE_GROUP_B,
+              LIVE_POLL_RATE_GROUP_C,
+              LIVE_POLL_RATE_GROUP_D,
               DEBUG_ENABLED);
 
   // Configure passwords and history provider fields information
@@ -446,6 +616,115 @@ public class EwonConnectorSettings extends PersistentRecord {
     return getBoolean(TAG_NAME_CHECK_DISABLED);
   }
 
+  /**
+   * Gets the configured time-to-live (in seconds) of persistent HTTP connections to the Talk2M
+   * APIs.
+   *
+   * @return the configured time-to-live (in seconds) of persistent HTTP connections
+   * @since 2.0.0
+   */
+  public Integer getHttpConnectionTtlSecs() {
+    return getInt(HTTP_CONNECTION_TTL_SECS);
+  }
+
+  /**
+   * Gets the configured boolean indicating if hedged requests are enabled for idempotent Talk2M API
+   * reads.
+   *
+   * @return {@code true} if hedged requests are enabled, {@code false} otherwise
+   * @since 2.0.0
+   */
+  public boolean isHedgedRequestsEnabled() {
+    return getBoolean(HEDGED_REQUESTS_ENABLED);
+  }
+
+  /**
+   * Gets the configured absolute deadband of realtime tag values.
+   *
+   * @return the configured absolute deadband of realtime tag values
+   * @since 2.0.0
+   */
+  public Double getLiveValueDeadband() {
+    return getDouble(LIVE_VALUE_DEADBAND);
+  }
+
+  /**
+   * Gets the configured percent deadband of realtime tag values.
+   *
+   * @return the configured percent deadband of realtime tag values
+   * @since 2.0.0
+   */
+  public Double getLiveValueDeadbandPercent() {
+    return getDouble(LIVE_VALUE_DEADBAND_PERCENT);
+  }
+
+  /**
+   * Gets the configured maximum time (in seconds) between updates of an unchanged realtime tag
+   * value in the tag provider.
+   *
+   * @return the configured realtime tag value keep-alive time (in seconds), or 0 if every polled
+   *     realtime tag value is updated
+   * @since 2.0.0
+   */
+  public Integer getLiveValueKeepAliveSecs() {
+    return getInt(LIVE_VALUE_KEEP_ALIVE_SECS);
+  }
+
+  /**
+   * Gets the configured boolean indicating if the tag groups (A, B, C and D) of Ewons are polled
+   * separately in realtime, each at its own poll rate.
+   *
+   * @return {@code true} if tag groups are polled separately, {@code false} otherwise
+   * @since 2.0.0
+   */
+  public boolean isLivePollTagGroupsEnabled() {
+    return getBoolean(LIVE_POLL_TAG_GROUPS_ENABLED);
+  }
+
+  /**
+   * Gets the configured realtime poll rate (in seconds) of tag group A.
+   *
+   * @return the configured realtime poll rate of tag group A (in seconds), or 0 if the tag group is
+   *     polled at the realtime poll rate
+   * @since 2.0.0
+   */
+  public Integer getLivePollRateGroupA() {
+    return getInt(LIVE_POLL_RATE_GROUP_A);
+  }
+
+  /**
+   * Gets the configured realtime poll rate (in seconds) of tag group B.
+   *
+   * @return the configured realtime poll rate of tag group B (in seconds), or 0 if the tag group is
+   *     polled at the realtime poll rate
+   * @since 2.0.0
+   */
+  public Integer getLivePollRateGroupB() {
+    return getInt(LIVE_POLL_RATE_GROUP_B);
+  }
+
+  /**
+   * Gets the configured realtime poll rate (in seconds) of tag group C.
+   *
+   * @return the configured realtime poll rate of tag group C (in seconds), or 0 if the tag group is
+   *     polled at the realtime poll rate
+   * @since 2.0.0
+   */
+  public Integer getLivePollRateGroupC() {
+    return getInt(LIVE_POLL_RATE_GROUP_C);
+  }
+
+  /**
+   * Gets the configured realtime poll rate (in seconds) of tag group D.
+   *
+   * @return the configured realtime poll rate of tag group D (in seconds), or 0 if the tag group is
+   *     polled at the realtime poll rate
+   * @since 2.0.0
+   */
+  public Integer getLivePollRateGroupD() {
+    return getInt(LIVE_POLL_RATE_GROUP_D);
+  }
+
   /**
    * Create and return AuthInfo object with configured information
    *
@@ -44,6 +44,15 @@ public class CacheManager {
   private static final Map<String, Boolean> CACHED_M2WEB_EWON_UNAVAILABLE_STATUS_MAP =
       new HashMap<>();
 
+  /**
+   * The cached set of names of the M2Web Ewon gateways ({@link M2WebEwon}s) which tag sets are
+   * stale, because their tag list refresh was skipped while they were offline. A stale tag set is
+   * kept until the tag list of the Ewon is received again.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES = new HashSet<>();
+
   /**
    * Gets the cached collection of M2Web Ewon gateways ({@link M2WebEwon}s).
    *
@@ -88,6 +97,21 @@ public class CacheManager {
     }
   }
 
+  /**
+   * Checks if the tag set of the specified M2Web Ewon gateway ({@link M2WebEwon}) has been cached,
+   * i.e. its tag list has been received at least once. An Ewon is only polled once its tag set has
+   * been cached.
+   *
+   * @param m2WebEwonName the name of the M2Web Ewon gateway ({@link M2WebEwon})
+   * @return true if the tag set of the M2Web Ewon gateway has been cached, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean isCachedM2WebEwonTagSetLoaded(String m2WebEwonName) {
+    synchronized (CACHED_M2WEB_EWON_TAG_MAP) {
+      return CACHED_M2WEB_EWON_TAG_MAP.containsKey(m2WebEwonName);
+    }
+  }
+
   /**
    * Updates the cached set of M2Web Ewon gateways ({@link M2WebEwon}s) with the contents of the
    * specified collection. The cached tag sets for each M2Web Ewon gateway will be cleared and must
@@ -128,6 +152,37 @@ public class CacheManager {
             .put(m2WebEwonEBDTag.getName(), m2WebEwonEBDTag);
       }
     }
+    synchronized (CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES) {
+      CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES.remove(m2WebEwonName);
+    }
+  }
+
+  /**
+   * Marks the cached tag set of the specified M2Web Ewon gateway ({@link M2WebEwon}) as stale,
+   * because its tag list refresh was skipped while it was offline. The tag set is no longer stale
+   * once it is updated (see {@link #updateCachedM2WebEwonTagSet(String, Collection)}).
+   *
+   * @param m2WebEwonName the name of the M2Web Ewon gateway ({@link M2WebEwon})
+   * @since 1.0.0
+   */
+  public static void markCachedM2WebEwonTagSetStale(String m2WebEwonName) {
+    synchronized (CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES) {
+      CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES.add(m2WebEwonName);
+    }
+  }
+
+  /**
+   * Checks if the cached tag set of the specified M2Web Ewon gateway ({@link M2WebEwon}) is stale,
+   * because its tag list refresh was skipped while it was offline.
+   *
+   * @param m2WebEwonName the name of the M2Web Ewon gateway ({@link M2WebEwon})
+   * @return true if the cached tag set of the M2Web Ewon gateway is stale, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean isCachedM2WebEwonTagSetStale(String m2WebEwonName) {
+    synchronized (CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES) {
+      return CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES.contains(m2WebEwonName);
+    }
   }
 
   /**
@@ -210,5 +265,8 @@ public class CacheManager {
     synchronized (CACHED_M2WEB_EWON_UNAVAILABLE_STATUS_MAP) {
       CACHED_M2WEB_EWON_UNAVAILABLE_STATUS_MAP.clear();
     }
+    synchronized (CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES) {
+      CACHED_M2WEB_EWON_STALE_TAG_SET_NAMES.clear();
+    }
   }
 }
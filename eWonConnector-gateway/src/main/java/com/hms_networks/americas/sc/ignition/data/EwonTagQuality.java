@@ -139,6 +139,20 @@ public class EwonTagQuality {
    */
   private final int quality;
 
+  /**
+   * The cached {@link EwonTagQuality} instances for quality integers in the range of 0-255,
+   * indexed by quality integer.
+   *
+   * @since 1.0.0
+   */
+  private static final EwonTagQuality[] CACHED_QUALITIES = new EwonTagQuality[256];
+
+  static {
+    for (int i = 0; i < CACHED_QUALITIES.length; i++) {
+      CACHED_QUALITIES[i] = new EwonTagQuality(i);
+    }
+  }
+
   /**
    * Creates a new {@link EwonTagQuality} instance with the specified quality integer.
    *
@@ -157,6 +171,37 @@ public class EwonTagQuality {
    * @since 1.0.0
    */
   public EwonTagQuality(String quality) {
+    this(getQualityFromString(quality));
+  }
+
+  /**
+   * Gets an {@link EwonTagQuality} instance for the specified quality integer. Instances for
+   * quality integers in the range of 0-255 (which includes all DMWeb API qualities) are cached and
+   * shared, as {@link EwonTagQuality} is immutable.
+   *
+   * @param quality the Ewon tag quality integer
+   * @return the {@link EwonTagQuality} instance for the specified quality integer
+   * @since 1.0.0
+   */
+  public static EwonTagQuality valueOf(int quality) {
+    EwonTagQuality ewonTagQuality;
+    if (quality >= 0 && quality < CACHED_QUALITIES.length) {
+      ewonTagQuality = CACHED_QUALITIES[quality];
+    } else {
+      ewonTagQuality = new EwonTagQuality(quality);
+    }
+    return ewonTagQuality;
+  }
+
+  /**
+   * Converts the specified quality string from the DMWeb API to its equivalent quality integer.
+   *
+   * @param quality the Ewon tag quality string
+   * @return the Ewon tag quality integer
+   * @throws IllegalArgumentException if the specified quality string is {@code null} or invalid
+   * @since 1.0.0
+   */
+  public static int getQualityFromString(String quality) {
     // Convert quality string to integer
     int qualityInt;
     if (quality == null) {
@@ -174,9 +219,7 @@ public class EwonTagQuality {
     } else {
       throw new IllegalArgumentException("Invalid quality string");
     }
-
-    // Set quality integer
-    this.quality = qualityInt;
+    return qualityInt;
   }
 
   /**
@@ -0,0 +1,217 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwon;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class for the in-memory index of Ewon Flexy devices and tags which are forced to be polled via
+ * M2Web (realtime data override). The index is built in bulk from the tag provider configuration
+ * when the connector starts, then kept current by the realtime override write handlers and tag
+ * configuration change notifications, so that the pollers can check whether an Ewon or tag is
+ * forced to be polled via M2Web without reading the tag configuration.
+ *
+ * <p>Tags are indexed using their tag provider tag name (i.e. 'EwonName/TagName'), and are also
+ * grouped by the name of their Ewon, which is the first component of the tag provider tag name.
+ * All methods of this class are thread-safe.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class ForcedRealtimeIndex {
+
+  /**
+   * The separator between components of a tag provider tag name.
+   *
+   * @since 1.0.0
+   */
+  private static final String TAG_PATH_SEPARATOR = "/";
+
+  /**
+   * The map of Ewon Flexy names to the Ewon Flexy devices which are forced to be polled via M2Web.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, M2WebEwon> FORCED_EWON_MAP = new ConcurrentHashMap<>();
+
+  /**
+   * The set of tag provider tag names of the tags which are forced to be polled via M2Web.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> FORCED_TAG_NAMES = ConcurrentHashMap.newKeySet();
+
+  /**
+   * The map of Ewon Flexy names to the tag provider tag names of their tags which are forced to be
+   * polled via M2Web. Ewon Flexy devices without forced tags are not present in the map.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Set<String>> FORCED_EWON_TAG_NAMES_MAP =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Sets whether the specified Ewon Flexy device is forced to be polled via M2Web.
+   *
+   * @param m2WebEwon the Ewon Flexy device
+   * @param isForced true if the Ewon Flexy device is forced to be polled via M2Web, false otherwise
+   * @return true if the index was changed, false if it already contained the specified state
+   * @since 1.0.0
+   */
+  public static boolean setEwonForced(M2WebEwon m2WebEwon, boolean isForced) {
+    final boolean changed;
+    if (isForced) {
+      changed = FORCED_EWON_MAP.put(m2WebEwon.getName(), m2WebEwon) == null;
+    } else {
+      changed = FORCED_EWON_MAP.remove(m2WebEwon.getName()) != null;
+    }
+    return changed;
+  }
+
+  /**
+   * Checks if the Ewon Flexy device with the specified name is forced to be polled via M2Web.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return true if the Ewon Flexy device is forced to be polled via M2Web, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean isEwonForced(String ewonName) {
+    return FORCED_EWON_MAP.containsKey(ewonName);
+  }
+
+  /**
+   * Gets the Ewon Flexy devices which are forced to be polled via M2Web. The returned collection is
+   * a live, unmodifiable view of the index.
+   *
+   * @return the Ewon Flexy devices which are forced to be polled via M2Web
+   * @since 1.0.0
+   */
+  public static Collection<M2WebEwon> getForcedEwons() {
+    return Collections.unmodifiableCollection(FORCED_EWON_MAP.values());
+  }
+
+  /**
+   * Sets whether the tag with the specified tag provider tag name is forced to be polled via M2Web.
+   *
+   * @param providerTagName the tag provider tag name of the tag
+   * @param isForced true if the tag is forced to be polled via M2Web, false otherwise
+   * @return true if the index was changed, false if it already contained the specified state
+   * @since 1.0.0
+   */
+  public static boolean setTagForced(String providerTagName, boolean isForced) {
+    final String ewonName = getEwonName(providerTagName);
+    final boolean changed;
+    if (isForced) {
+      changed = FORCED_TAG_NAMES.add(providerTagName);
+      FORCED_EWON_TAG_NAMES_MAP.compute(
+          ewonName,
+          (name, tagNames) -> {
+            Set<String> forcedTagNames =
+                tagNames != null ? tagNames : ConcurrentHashMap.newKeySet();
+            forcedTagNames.add(providerTagName);
+            return forcedTagNames;
+          });
+    } else {
+      changed = FORCED_TAG_NAMES.remove(providerTagName);
+      FORCED_EWON_TAG_NAMES_MAP.computeIfPresent(
+          ewonName,
+          (name, tagNames) -> {
+            tagNames.remove(providerTagName);
+            return tagNames.isEmpty() ? null : tagNames;
+          });
+    }
+    return changed;
+  }
+
+  /**
+   * Checks if the tag with the specified tag provider tag name is forced to be polled via M2Web.
+   *
+   * @param providerTagName the tag provider tag name of the tag
+   * @return true if the tag is forced to be polled via M2Web, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean isTagForced(String providerTagName) {
+    return FORCED_TAG_NAMES.contains(providerTagName);
+  }
+
+  /**
+   * Gets the tag provider tag names of the tags of the specified Ewon Flexy device which are forced
+   * to be polled via M2Web. The returned set is a live, unmodifiable view of the index.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return the tag provider tag names of the forced tags, or an empty set if the Ewon Flexy device
+   *     has no forced tags
+   * @since 1.0.0
+   */
+  public static Set<String> getForcedTagNames(String ewonName) {
+    final Set<String> forcedTagNames = FORCED_EWON_TAG_NAMES_MAP.get(ewonName);
+    return forcedTagNames != null
+        ? Collections.unmodifiableSet(forcedTagNames)
+        : Collections.emptySet();
+  }
+
+  /**
+   * Removes the tag or folder with the specified tag provider path from the index, including all
+   * tags within the folder. If the path is the folder of an Ewon Flexy device, the Ewon Flexy
+   * device is also removed.
+   *
+   * @param providerTagPath the tag provider path of the removed tag or folder
+   * @since 1.0.0
+   */
+  public static void remove(String providerTagPath) {
+    // Remove Ewon, if path is the Ewon folder
+    if (!providerTagPath.contains(TAG_PATH_SEPARATOR)) {
+      FORCED_EWON_MAP.remove(providerTagPath);
+    }
+
+    // Remove tag and tags within folder
+    final String folderPrefix = providerTagPath + TAG_PATH_SEPARATOR;
+    final Set<String> forcedTagNames = FORCED_EWON_TAG_NAMES_MAP.get(getEwonName(providerTagPath));
+    if (forcedTagNames != null) {
+      for (String forcedTagName : forcedTagNames) {
+        if (forcedTagName.equals(providerTagPath) || forcedTagName.startsWith(folderPrefix)) {
+          final boolean isForced = false;
+          setTagForced(forcedTagName, isForced);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the number of tags which are forced to be polled via M2Web.
+   *
+   * @return the number of forced tags
+   * @since 1.0.0
+   */
+  public static int getForcedTagCount() {
+    return FORCED_TAG_NAMES.size();
+  }
+
+  /**
+   * Clears the index of forced Ewon Flexy devices and tags.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    FORCED_EWON_MAP.clear();
+    FORCED_TAG_NAMES.clear();
+    FORCED_EWON_TAG_NAMES_MAP.clear();
+  }
+
+  /**
+   * Gets the name of the Ewon Flexy device of the specified tag provider tag name, which is the
+   * first component of the name.
+   *
+   * @param providerTagName the tag provider tag name
+   * @return the name of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  private static String getEwonName(String providerTagName) {
+    final int separatorIndex = providerTagName.indexOf(TAG_PATH_SEPARATOR);
+    return separatorIndex >= 0 ? providerTagName.substring(0, separatorIndex) : providerTagName;
+  }
+}
@@ -0,0 +1,85 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class for tracking the timestamp of the latest DMWeb history point written for each tag (its
+ * high-water mark), so that writing DMWeb history is idempotent. DMWeb sync data tags are applied
+ * as soon as they are parsed from the response stream, so a sync data page which fails part way
+ * through is requested again by the next poll, and history points at or below the high-water mark
+ * of their tag must be skipped instead of being stored again.
+ *
+ * <p>The high-water marks are held in memory only, and are cleared when the connector is
+ * restarted.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class HistoryHighWaterMarks {
+
+  /**
+   * The value returned when no high-water mark is set for a tag.
+   *
+   * @since 1.0.0
+   */
+  public static final long NO_HIGH_WATER_MARK = Long.MIN_VALUE;
+
+  /**
+   * The map of Ewon names to the high-water marks of their tags, by DMWeb tag ID.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Map<Integer, Long>> EWON_HIGH_WATER_MARKS =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Gets the high-water mark (timestamp in milliseconds of the latest history point written) of the
+   * specified tag.
+   *
+   * @param ewonName the name of the Ewon of the tag
+   * @param tagId the DMWeb tag ID of the tag
+   * @return the high-water mark of the tag, or {@link #NO_HIGH_WATER_MARK} if none is set
+   * @since 1.0.0
+   */
+  public static long get(String ewonName, int tagId) {
+    Map<Integer, Long> tagHighWaterMarks = EWON_HIGH_WATER_MARKS.get(ewonName);
+    Long highWaterMark = tagHighWaterMarks != null ? tagHighWaterMarks.get(tagId) : null;
+    return highWaterMark != null ? highWaterMark : NO_HIGH_WATER_MARK;
+  }
+
+  /**
+   * Raises the high-water mark of the specified tag to the specified timestamp. The high-water mark
+   * is unchanged if it is already at or above the specified timestamp.
+   *
+   * @param ewonName the name of the Ewon of the tag
+   * @param tagId the DMWeb tag ID of the tag
+   * @param timestamp the timestamp (in milliseconds) of the latest history point written
+   * @since 1.0.0
+   */
+  public static void raise(String ewonName, int tagId, long timestamp) {
+    EWON_HIGH_WATER_MARKS
+        .computeIfAbsent(ewonName, name -> new ConcurrentHashMap<>())
+        .merge(tagId, timestamp, Math::max);
+  }
+
+  /**
+   * Removes the high-water marks of the tags of the specified Ewon.
+   *
+   * @param ewonName the name of the Ewon
+   * @since 1.0.0
+   */
+  public static void removeEwon(String ewonName) {
+    EWON_HIGH_WATER_MARKS.remove(ewonName);
+  }
+
+  /**
+   * Clears the high-water marks of all Ewons.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    EWON_HIGH_WATER_MARKS.clear();
+  }
+}
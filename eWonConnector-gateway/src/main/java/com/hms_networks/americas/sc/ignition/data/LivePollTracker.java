@@ -0,0 +1,208 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for tracking the live (M2Web) polls of Ewon Flexy devices. Each Ewon Flexy device has at
+ * most one poll in flight: a poll which becomes due while the previous poll of the device is still
+ * in flight is skipped and counted as an overrun, and all skipped polls of the device are
+ * coalesced into a single poll once the in-flight poll completes.
+ *
+ * <p>The tracker also records the duration of each poll cycle (from sending the polls which are due
+ * on a scheduler tick until all of them complete) and the time of the last successful poll of each
+ * Ewon Flexy device, from which its staleness is calculated. When the tag groups of Ewon Flexy
+ * devices are polled separately, each tag group is tracked as a separate device, named
+ * 'EwonName/TagGroup'. All methods of this class are thread-safe.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class LivePollTracker {
+
+  /**
+   * The map of Ewon Flexy names to the start times (in milliseconds) of their in-flight polls.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Long> IN_FLIGHT_POLL_START_TIMES_MAP =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The set of names of the Ewon Flexy devices which had a poll skipped while a poll was in flight,
+   * and must be polled again once the in-flight poll completes.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> COALESCED_EWON_NAMES = ConcurrentHashMap.newKeySet();
+
+  /**
+   * The map of Ewon Flexy names to the times (in milliseconds) of their last successful polls, or
+   * of their first polls if no poll has succeeded.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Long> LAST_SUCCESSFUL_POLL_TIMES_MAP =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The total number of polls which were skipped because the previous poll of the Ewon Flexy device
+   * was still in flight.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder OVERRUN_COUNT = new LongAdder();
+
+  /**
+   * The duration (in milliseconds) of the last completed poll cycle.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long lastCycleDurationMillis = 0;
+
+  /**
+   * The maximum duration (in milliseconds) of a completed poll cycle.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long maxCycleDurationMillis = 0;
+
+  /**
+   * Starts a poll of the specified Ewon Flexy device, unless a poll of the device is already in
+   * flight, in which case the poll is counted as an overrun and coalesced into a single poll to be
+   * sent once the in-flight poll completes.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return true if the poll was started, false if a poll of the device is already in flight
+   * @since 1.0.0
+   */
+  public static boolean tryStartPoll(String ewonName) {
+    final long nowMillis = System.currentTimeMillis();
+    final boolean started = IN_FLIGHT_POLL_START_TIMES_MAP.putIfAbsent(ewonName, nowMillis) == null;
+    if (started) {
+      LAST_SUCCESSFUL_POLL_TIMES_MAP.putIfAbsent(ewonName, nowMillis);
+    } else {
+      OVERRUN_COUNT.increment();
+      COALESCED_EWON_NAMES.add(ewonName);
+    }
+    return started;
+  }
+
+  /**
+   * Finishes the in-flight poll of the specified Ewon Flexy device.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return true if polls of the device were skipped while the poll was in flight, and should be
+   *     coalesced into a new poll, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean finishPoll(String ewonName) {
+    IN_FLIGHT_POLL_START_TIMES_MAP.remove(ewonName);
+    return COALESCED_EWON_NAMES.remove(ewonName);
+  }
+
+  /**
+   * Records that a poll of the specified Ewon Flexy device succeeded, which resets its staleness.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  public static void recordPollSuccess(String ewonName) {
+    LAST_SUCCESSFUL_POLL_TIMES_MAP.put(ewonName, System.currentTimeMillis());
+  }
+
+  /**
+   * Records the duration of a completed poll cycle.
+   *
+   * @param cycleDurationMillis the duration (in milliseconds) of the poll cycle
+   * @since 1.0.0
+   */
+  public static void recordCycleDuration(long cycleDurationMillis) {
+    lastCycleDurationMillis = cycleDurationMillis;
+    if (cycleDurationMillis > maxCycleDurationMillis) {
+      maxCycleDurationMillis = cycleDurationMillis;
+    }
+  }
+
+  /**
+   * Stops tracking the specified Ewon Flexy device, because it is no longer polled.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  public static void removeEwon(String ewonName) {
+    COALESCED_EWON_NAMES.remove(ewonName);
+    LAST_SUCCESSFUL_POLL_TIMES_MAP.remove(ewonName);
+  }
+
+  /**
+   * Clears all tracked polls and statistics.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    IN_FLIGHT_POLL_START_TIMES_MAP.clear();
+    COALESCED_EWON_NAMES.clear();
+    LAST_SUCCESSFUL_POLL_TIMES_MAP.clear();
+    OVERRUN_COUNT.reset();
+    lastCycleDurationMillis = 0;
+    maxCycleDurationMillis = 0;
+  }
+
+  /**
+   * Gets the number of Ewon Flexy devices with a poll in flight.
+   *
+   * @return the number of in-flight polls
+   * @since 1.0.0
+   */
+  public static int getInFlightCount() {
+    return IN_FLIGHT_POLL_START_TIMES_MAP.size();
+  }
+
+  /**
+   * Gets the total number of polls which were skipped because the previous poll of the Ewon Flexy
+   * device was still in flight.
+   *
+   * @return the total number of overruns
+   * @since 1.0.0
+   */
+  public static long getOverrunCount() {
+    return OVERRUN_COUNT.sum();
+  }
+
+  /**
+   * Gets the duration (in milliseconds) of the last completed poll cycle.
+   *
+   * @return the duration of the last poll cycle
+   * @since 1.0.0
+   */
+  public static long getLastCycleDurationMillis() {
+    return lastCycleDurationMillis;
+  }
+
+  /**
+   * Gets the maximum duration (in milliseconds) of a completed poll cycle.
+   *
+   * @return the maximum duration of a poll cycle
+   * @since 1.0.0
+   */
+  public static long getMaxCycleDurationMillis() {
+    return maxCycleDurationMillis;
+  }
+
+  /**
+   * Gets the map of Ewon Flexy names to the times (in milliseconds) of their last successful polls,
+   * or of their first polls if no poll has succeeded. The staleness of an Ewon Flexy device is the
+   * time elapsed since this time. The returned map is a live, unmodifiable view.
+   *
+   * @return the map of Ewon Flexy names to the times of their last successful polls
+   * @since 1.0.0
+   */
+  public static Map<String, Long> getLastSuccessfulPollTimes() {
+    return Collections.unmodifiableMap(LAST_SUCCESSFUL_POLL_TIMES_MAP);
+  }
+}
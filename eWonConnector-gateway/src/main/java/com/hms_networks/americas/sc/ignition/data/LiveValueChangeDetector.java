@@ -0,0 +1,312 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class for detecting changes of realtime (M2Web) tag values before they are sent to the tag
+ * provider. The last value, quality and update time sent to the tag provider for each tag are
+ * cached per Ewon, in primitive arrays indexed by the Ewon tag ID. A polled value is only sent to
+ * the tag provider if its quality changed, if it changed by more than the configured absolute or
+ * percent deadband, or if the keep-alive time elapsed since the tag was last updated.
+ *
+ * <p>The cached value of a tag must be invalidated (see {@link #invalidateTag(String, int)} and
+ * {@link #invalidateEwon(String)}) when it is updated in the tag provider by other means, such as
+ * tag writes or DMWeb data, so that its next polled value is sent to the tag provider.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class LiveValueChangeDetector {
+
+  /**
+   * The map of Ewon names to the last values sent to the tag provider for their tags.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, EwonLastValues> EWON_LAST_VALUES_MAP =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The total number of polled values which were sent to the tag provider.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder FORWARDED_COUNT = new LongAdder();
+
+  /**
+   * The total number of polled values which were not sent to the tag provider because they did not
+   * change.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder SUPPRESSED_COUNT = new LongAdder();
+
+  /**
+   * The absolute deadband of numeric values.
+   *
+   * @since 1.0.0
+   */
+  private static volatile double absoluteDeadband = 0;
+
+  /**
+   * The percent deadband of numeric values, relative to the last value sent to the tag provider.
+   *
+   * @since 1.0.0
+   */
+  private static volatile double percentDeadband = 0;
+
+  /**
+   * The maximum time (in milliseconds) between updates of an unchanged tag value, or 0 if change
+   * detection is disabled.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long keepAliveMillis = 0;
+
+  /**
+   * Initializes the change detector with the specified deadbands and keep-alive time, and clears
+   * all cached values.
+   *
+   * @param absoluteDeadband the absolute deadband of numeric values
+   * @param percentDeadband the percent deadband of numeric values
+   * @param keepAliveMillis the maximum time (in milliseconds) between updates of an unchanged tag
+   *     value, or 0 to disable change detection
+   * @since 1.0.0
+   */
+  public static void initialize(
+      double absoluteDeadband, double percentDeadband, long keepAliveMillis) {
+    LiveValueChangeDetector.absoluteDeadband = Math.max(0, absoluteDeadband);
+    LiveValueChangeDetector.percentDeadband = Math.max(0, percentDeadband);
+    LiveValueChangeDetector.keepAliveMillis = Math.max(0, keepAliveMillis);
+    EWON_LAST_VALUES_MAP.clear();
+  }
+
+  /**
+   * Checks if the specified polled value of the specified tag should be sent to the tag provider,
+   * and if so, caches it as the last value sent to the tag provider.
+   *
+   * @param ewonName the name of the Ewon of the tag
+   * @param tagId the Ewon tag ID of the tag
+   * @param value the polled value of the tag, converted to the tag type
+   * @param quality the polled quality of the tag
+   * @return true if the value should be sent to the tag provider, false if it is unchanged
+   * @since 1.0.0
+   */
+  public static boolean shouldForward(String ewonName, int tagId, Object value, int quality) {
+    // Forward all values if change detection disabled or tag ID invalid
+    boolean forward = keepAliveMillis <= 0 || tagId < 0;
+    if (!forward) {
+      forward =
+          EWON_LAST_VALUES_MAP
+              .computeIfAbsent(ewonName, name -> new EwonLastValues())
+              .shouldForward(tagId, value, quality, System.currentTimeMillis());
+    }
+
+    // Update counters
+    if (forward) {
+      FORWARDED_COUNT.increment();
+    } else {
+      SUPPRESSED_COUNT.increment();
+    }
+    return forward;
+  }
+
+  /**
+   * Invalidates the cached values of the tags of the specified Ewon, so that their next polled
+   * values are sent to the tag provider.
+   *
+   * @param ewonName the name of the Ewon
+   * @since 1.0.0
+   */
+  public static void invalidateEwon(String ewonName) {
+    EWON_LAST_VALUES_MAP.remove(ewonName);
+  }
+
+  /**
+   * Invalidates the cached value of the specified tag, so that its next polled value is sent to the
+   * tag provider. The cached values of the other tags of the Ewon are kept.
+   *
+   * @param ewonName the name of the Ewon of the tag
+   * @param tagId the Ewon tag ID of the tag
+   * @since 1.0.0
+   */
+  public static void invalidateTag(String ewonName, int tagId) {
+    final EwonLastValues ewonLastValues = EWON_LAST_VALUES_MAP.get(ewonName);
+    if (ewonLastValues != null && tagId >= 0) {
+      ewonLastValues.invalidate(tagId);
+    }
+  }
+
+  /**
+   * Clears the cached values of all Ewons.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    EWON_LAST_VALUES_MAP.clear();
+  }
+
+  /**
+   * Gets the total number of polled values which were sent to the tag provider.
+   *
+   * @return the total number of forwarded values
+   * @since 1.0.0
+   */
+  public static long getForwardedCount() {
+    return FORWARDED_COUNT.sum();
+  }
+
+  /**
+   * Gets the total number of polled values which were not sent to the tag provider because they
+   * did not change.
+   *
+   * @return the total number of suppressed values
+   * @since 1.0.0
+   */
+  public static long getSuppressedCount() {
+    return SUPPRESSED_COUNT.sum();
+  }
+
+  /**
+   * Class for the last values sent to the tag provider for the tags of an Ewon, indexed by Ewon tag
+   * ID. Numeric and boolean values are stored as doubles; other values are stored as objects.
+   *
+   * @since 1.0.0
+   */
+  private static class EwonLastValues {
+
+    /**
+     * The initial number of tag IDs which values can be cached for, before the arrays are grown.
+     *
+     * @since 1.0.0
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Array of booleans indicating if a value has been cached for each tag ID.
+     *
+     * @since 1.0.0
+     */
+    private boolean[] hasValues = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * Array of the last numeric (or boolean) values of each tag ID.
+     *
+     * @since 1.0.0
+     */
+    private double[] numericValues = new double[INITIAL_CAPACITY];
+
+    /**
+     * Array of the last non-numeric values of each tag ID, or null if the last value was numeric.
+     *
+     * @since 1.0.0
+     */
+    private Object[] otherValues = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Array of the last qualities of each tag ID.
+     *
+     * @since 1.0.0
+     */
+    private int[] qualities = new int[INITIAL_CAPACITY];
+
+    /**
+     * Array of the times (in milliseconds) each tag ID was last sent to the tag provider.
+     *
+     * @since 1.0.0
+     */
+    private long[] forwardedTimesMillis = new long[INITIAL_CAPACITY];
+
+    /**
+     * Checks if the specified polled value of the specified tag ID should be sent to the tag
+     * provider, and if so, caches it.
+     *
+     * @param tagId the Ewon tag ID of the tag
+     * @param value the polled value of the tag
+     * @param quality the polled quality of the tag
+     * @param nowMillis the current time (in milliseconds)
+     * @return true if the value should be sent to the tag provider, false if it is unchanged
+     * @since 1.0.0
+     */
+    private synchronized boolean shouldForward(
+        int tagId, Object value, int quality, long nowMillis) {
+      ensureCapacity(tagId + 1);
+
+      // Get numeric representation of value, if numeric or boolean
+      final boolean isBoolean = value instanceof Boolean;
+      final boolean isNumeric = value instanceof Number || isBoolean;
+      double numericValue = 0;
+      if (value instanceof Number) {
+        numericValue = ((Number) value).doubleValue();
+      } else if (isBoolean) {
+        numericValue = (Boolean) value ? 1 : 0;
+      }
+
+      // Check if value changed (beyond deadband for numeric values) or keep-alive elapsed
+      boolean forward =
+          !hasValues[tagId]
+              || qualities[tagId] != quality
+              || nowMillis - forwardedTimesMillis[tagId] >= keepAliveMillis
+              || isNumeric != (otherValues[tagId] == null);
+      if (!forward && isNumeric) {
+        final double lastNumericValue = numericValues[tagId];
+        final double threshold =
+            isBoolean
+                ? 0
+                : Math.max(absoluteDeadband, Math.abs(lastNumericValue) * percentDeadband / 100);
+        forward =
+            threshold > 0
+                ? Math.abs(numericValue - lastNumericValue) > threshold
+                    || Double.isNaN(numericValue) != Double.isNaN(lastNumericValue)
+                : Double.compare(numericValue, lastNumericValue) != 0;
+      } else if (!forward) {
+        forward = !Objects.equals(otherValues[tagId], value);
+      }
+
+      // Cache value if forwarded
+      if (forward) {
+        hasValues[tagId] = true;
+        numericValues[tagId] = numericValue;
+        otherValues[tagId] = isNumeric ? null : value;
+        qualities[tagId] = quality;
+        forwardedTimesMillis[tagId] = nowMillis;
+      }
+      return forward;
+    }
+
+    /**
+     * Invalidates the cached value of the specified tag ID, if any.
+     *
+     * @param tagId the Ewon tag ID of the tag
+     * @since 1.0.0
+     */
+    private synchronized void invalidate(int tagId) {
+      if (tagId < hasValues.length) {
+        hasValues[tagId] = false;
+        otherValues[tagId] = null;
+      }
+    }
+
+    /**
+     * Grows the arrays, if required, to hold the specified number of tag IDs.
+     *
+     * @param capacity the required number of tag IDs
+     * @since 1.0.0
+     */
+    private void ensureCapacity(int capacity) {
+      if (capacity > hasValues.length) {
+        final int newCapacity = Math.max(capacity, hasValues.length * 2);
+        hasValues = Arrays.copyOf(hasValues, newCapacity);
+        numericValues = Arrays.copyOf(numericValues, newCapacity);
+        otherValues = Arrays.copyOf(otherValues, newCapacity);
+        qualities = Arrays.copyOf(qualities, newCapacity);
+        forwardedTimesMillis = Arrays.copyOf(forwardedTimesMillis, newCapacity);
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class for queueing on-demand metadata (tag list) refreshes of single Ewon Flexy devices. A
+ * refresh is requested when a realtime (M2Web) or historical (DMWeb) value is received for a tag
+ * which is not in the metadata cache of its Ewon, so that the tag is created without waiting for
+ * the next full metadata update. A refresh is also requested when an Ewon which metadata refresh
+ * was skipped while it was offline is successfully polled, i.e. it has come back online.
+ *
+ * <p>Requests are deduplicated, as a device is queued at most once until the queue is drained, and
+ * rate limited, as a device is queued at most once per {@link #MIN_REFRESH_INTERVAL_MILLIS}, so
+ * that a tag which cannot be resolved does not cause a refresh on every poll. All methods of this
+ * class are thread-safe.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class MetadataRefreshQueue {
+
+  /**
+   * The minimum time (in milliseconds) between queued metadata refreshes of an Ewon Flexy device.
+   *
+   * @since 1.0.0
+   */
+  private static final long MIN_REFRESH_INTERVAL_MILLIS = 60 * 1000;
+
+  /**
+   * The set of names of the Ewon Flexy devices which have a queued metadata refresh.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> PENDING_EWON_NAMES = ConcurrentHashMap.newKeySet();
+
+  /**
+   * The map of Ewon Flexy names to the times (in milliseconds) their last metadata refreshes were
+   * queued.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Long> LAST_REQUEST_TIMES_MAP = new ConcurrentHashMap<>();
+
+  /**
+   * Requests a metadata refresh of the specified Ewon Flexy device. The request is ignored if a
+   * refresh of the device is already queued, or was queued less than {@link
+   * #MIN_REFRESH_INTERVAL_MILLIS} ago.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return true if the metadata refresh was queued, false if it was ignored
+   * @since 1.0.0
+   */
+  public static boolean request(String ewonName) {
+    // Check and update last request time atomically
+    final long nowMillis = System.currentTimeMillis();
+    final boolean[] queued = {false};
+    LAST_REQUEST_TIMES_MAP.compute(
+        ewonName,
+        (name, lastRequestTimeMillis) -> {
+          if (lastRequestTimeMillis != null
+              && nowMillis - lastRequestTimeMillis < MIN_REFRESH_INTERVAL_MILLIS) {
+            return lastRequestTimeMillis;
+          }
+          queued[0] = PENDING_EWON_NAMES.add(name);
+          return nowMillis;
+        });
+    return queued[0];
+  }
+
+  /**
+   * Removes and returns the names of the Ewon Flexy devices which have a queued metadata refresh.
+   *
+   * @return the names of the Ewon Flexy devices to refresh
+   * @since 1.0.0
+   */
+  public static List<String> drain() {
+    List<String> ewonNames = new ArrayList<>();
+    for (String ewonName : PENDING_EWON_NAMES) {
+      if (PENDING_EWON_NAMES.remove(ewonName)) {
+        ewonNames.add(ewonName);
+      }
+    }
+    return ewonNames;
+  }
+
+  /**
+   * Clears all queued metadata refreshes and request times.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    PENDING_EWON_NAMES.clear();
+    LAST_REQUEST_TIMES_MAP.clear();
+  }
+}
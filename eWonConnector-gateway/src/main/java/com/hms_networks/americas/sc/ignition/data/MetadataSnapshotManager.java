@@ -0,0 +1,299 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import com.google.gson.Gson;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwon;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTag;
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTagListResponse;
+import com.hms_networks.americas.sc.ignition.config.EwonConnectorSettings;
+import com.inductiveautomation.ignition.gateway.model.GatewayContext;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class for persisting the M2Web metadata cache (the Ewon list and the tag list of each Ewon) to a
+ * local snapshot file, so that it can be loaded when the connector is started, instead of waiting
+ * for the metadata of all Ewons to be fetched before polling. A loaded snapshot is reconciled by
+ * the next metadata update, and a new snapshot is saved after each successful metadata update.
+ *
+ * <p>The snapshot is stored as compressed JSON in the gateway data directory. The tag list of each
+ * Ewon is stored in the Ewon EBD CSV format, with only the columns used by the connector (ID, name,
+ * description, type and tag groups), and is parsed back into tags using {@link
+ * M2WebEwonEBDTagListResponse}. Only the tag lists of Ewons which tag lists have been received are
+ * stored, so that an Ewon which tag list has never been received (i.e. offline since startup) is
+ * still treated as such when the snapshot is loaded. A snapshot of a different Talk2M account, or
+ * of a different snapshot format version, is ignored.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class MetadataSnapshotManager {
+
+  /**
+   * Log handler for {@link MetadataSnapshotManager}.
+   *
+   * @since 1.0.0
+   */
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetadataSnapshotManager.class);
+
+  /**
+   * The name of the snapshot file in the gateway data directory.
+   *
+   * @since 1.0.0
+   */
+  private static final String SNAPSHOT_FILE_NAME = "ewon-connector-m2web-metadata.json.gz";
+
+  /**
+   * The version of the snapshot format. Snapshots of other versions are ignored.
+   *
+   * @since 1.0.0
+   */
+  private static final int SNAPSHOT_VERSION = 1;
+
+  /**
+   * The header row of the tag list of each Ewon in the snapshot.
+   *
+   * @since 1.0.0
+   */
+  private static final String SNAPSHOT_TAG_LIST_HEADER =
+      "\"ID\";\"Name\";\"Description\";\"Type\";"
+          + "\"IVGroupA\";\"IVGroupB\";\"IVGroupC\";\"IVGroupD\"";
+
+  /**
+   * The separator of the fields in a row of the tag list of each Ewon in the snapshot.
+   *
+   * @since 1.0.0
+   */
+  private static final char SNAPSHOT_TAG_LIST_SEPARATOR = ';';
+
+  /**
+   * The snapshot file, or null if the snapshot manager has not been initialized.
+   *
+   * @since 1.0.0
+   */
+  private static File snapshotFile;
+
+  /**
+   * The Ewon connector settings.
+   *
+   * @since 1.0.0
+   */
+  private static EwonConnectorSettings connectorSettings;
+
+  /**
+   * Initializes the snapshot manager with the snapshot file in the data directory of the specified
+   * gateway context.
+   *
+   * @param gatewayContext the gateway context
+   * @param connectorSettings the Ewon connector settings
+   * @since 1.0.0
+   */
+  public static void initialize(
+      GatewayContext gatewayContext, EwonConnectorSettings connectorSettings) {
+    MetadataSnapshotManager.connectorSettings = connectorSettings;
+    snapshotFile = new File(gatewayContext.getSystemManager().getDataDir(), SNAPSHOT_FILE_NAME);
+  }
+
+  /**
+   * Loads the Ewons and their tag lists from the snapshot file, if it exists and is a snapshot of
+   * the specified Talk2M account.
+   *
+   * @param account the name of the Talk2M account
+   * @return the map of Ewons to their tag lists (or to null, if the tag list of the Ewon is missing
+   *     or empty in the snapshot), or null if no valid snapshot could be loaded
+   * @since 1.0.0
+   */
+  public static Map<M2WebEwon, List<M2WebEwonEBDTag>> load(String account) {
+    Map<M2WebEwon, List<M2WebEwonEBDTag>> ewonTagLists = null;
+    if (snapshotFile != null && snapshotFile.isFile()) {
+      try (Reader reader =
+          new InputStreamReader(
+              new GZIPInputStream(Files.newInputStream(snapshotFile.toPath())),
+              StandardCharsets.UTF_8)) {
+        MetadataSnapshot snapshot = new Gson().fromJson(reader, MetadataSnapshot.class);
+
+        // Check snapshot version and account
+        if (snapshot == null
+            || snapshot.version != SNAPSHOT_VERSION
+            || !Objects.equals(snapshot.account, account)
+            || snapshot.ewons == null
+            || snapshot.ewonTagLists == null) {
+          LOGGER.info("Ignoring M2Web metadata snapshot of a different account or version.");
+        } else {
+          // Parse tag list of each Ewon (missing or empty tag lists are not loaded)
+          ewonTagLists = new LinkedHashMap<>();
+          for (M2WebEwon m2WebEwon : snapshot.ewons) {
+            final String ewonTagList = snapshot.ewonTagLists.get(m2WebEwon.getName());
+            List<M2WebEwonEBDTag> m2WebEwonEBDTags =
+                ewonTagList != null
+                    ? M2WebEwonEBDTagListResponse.getFromString(ewonTagList).getTags()
+                    : null;
+            ewonTagLists.put(
+                m2WebEwon,
+                m2WebEwonEBDTags != null && !m2WebEwonEBDTags.isEmpty() ? m2WebEwonEBDTags : null);
+          }
+        }
+      } catch (Exception e) {
+        LOGGER.warn("Failed to load M2Web metadata snapshot. The snapshot will be ignored.", e);
+        ewonTagLists = null;
+      }
+    }
+    return ewonTagLists;
+  }
+
+  /**
+   * Saves the specified Ewons and their cached tag lists (see {@link CacheManager}) to the snapshot
+   * file, as a snapshot of the specified Talk2M account. The tag lists of Ewons which tag lists
+   * have not been received are not saved. The snapshot is written to a temporary file, which then
+   * replaces the snapshot file, so that an incomplete snapshot is never loaded.
+   *
+   * @param account the name of the Talk2M account
+   * @param m2WebEwons the Ewons to save
+   * @since 1.0.0
+   */
+  public static void save(String account, Collection<M2WebEwon> m2WebEwons) {
+    if (snapshotFile == null) {
+      return;
+    }
+
+    // Build snapshot of Ewons and their tag lists
+    final long startTimeMillis = System.currentTimeMillis();
+    MetadataSnapshot snapshot = new MetadataSnapshot();
+    snapshot.version = SNAPSHOT_VERSION;
+    snapshot.account = account;
+    snapshot.ewons = new ArrayList<>(m2WebEwons);
+    snapshot.ewonTagLists = new HashMap<>();
+    int tagCount = 0;
+    for (M2WebEwon m2WebEwon : m2WebEwons) {
+      if (!CacheManager.isCachedM2WebEwonTagSetLoaded(m2WebEwon.getName())) {
+        continue;
+      }
+      List<M2WebEwonEBDTag> m2WebEwonEBDTags =
+          new ArrayList<>(CacheManager.getCachedM2WebEwonTagMap(m2WebEwon.getName()).values());
+      snapshot.ewonTagLists.put(m2WebEwon.getName(), getTagListCsv(m2WebEwonEBDTags));
+      tagCount += m2WebEwonEBDTags.size();
+    }
+
+    // Write snapshot to temporary file, then replace snapshot file
+    final Path snapshotPath = snapshotFile.toPath();
+    final Path tempSnapshotPath = snapshotPath.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+    try {
+      try (Writer writer =
+          new OutputStreamWriter(
+              new GZIPOutputStream(Files.newOutputStream(tempSnapshotPath)),
+              StandardCharsets.UTF_8)) {
+        new Gson().toJson(snapshot, writer);
+      }
+      Files.move(
+          tempSnapshotPath,
+          snapshotPath,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      if (connectorSettings.isDebugEnabled()) {
+        LOGGER.debug(
+            "Saved M2Web metadata snapshot of {} Ewon(s) and {} tag(s) in {} ms.",
+            m2WebEwons.size(),
+            tagCount,
+            System.currentTimeMillis() - startTimeMillis);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Failed to save M2Web metadata snapshot.", e);
+    }
+  }
+
+  /**
+   * Gets the tag list CSV of the specified tags, with only the columns used by the connector.
+   *
+   * @param m2WebEwonEBDTags the tags
+   * @return the tag list CSV of the tags
+   * @since 1.0.0
+   */
+  private static String getTagListCsv(Collection<M2WebEwonEBDTag> m2WebEwonEBDTags) {
+    StringBuilder tagListCsv = new StringBuilder(SNAPSHOT_TAG_LIST_HEADER);
+    for (M2WebEwonEBDTag m2WebEwonEBDTag : m2WebEwonEBDTags) {
+      tagListCsv
+          .append('\n')
+          .append(m2WebEwonEBDTag.getId())
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(getQuotedCsvField(m2WebEwonEBDTag.getName()))
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(getQuotedCsvField(m2WebEwonEBDTag.getDescription()))
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(m2WebEwonEBDTag.getType())
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(m2WebEwonEBDTag.getIvGroupA())
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(m2WebEwonEBDTag.getIvGroupB())
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(m2WebEwonEBDTag.getIvGroupC())
+          .append(SNAPSHOT_TAG_LIST_SEPARATOR)
+          .append(m2WebEwonEBDTag.getIvGroupD());
+    }
+    return tagListCsv.toString();
+  }
+
+  /**
+   * Gets the specified string value as a quoted CSV field, with any quotes escaped.
+   *
+   * @param value the string value, or null for an empty field
+   * @return the quoted CSV field
+   * @since 1.0.0
+   */
+  private static String getQuotedCsvField(String value) {
+    return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  /**
+   * Class for the JSON content of the snapshot file.
+   *
+   * @since 1.0.0
+   */
+  private static class MetadataSnapshot {
+
+    /**
+     * The version of the snapshot format.
+     *
+     * @since 1.0.0
+     */
+    private int version;
+
+    /**
+     * The name of the Talk2M account of the snapshot.
+     *
+     * @since 1.0.0
+     */
+    private String account;
+
+    /**
+     * The list of Ewons.
+     *
+     * @since 1.0.0
+     */
+    private List<M2WebEwon> ewons;
+
+    /**
+     * The map of Ewon names to their tag list CSV.
+     *
+     * @since 1.0.0
+     */
+    private Map<String, String> ewonTagLists;
+  }
+}
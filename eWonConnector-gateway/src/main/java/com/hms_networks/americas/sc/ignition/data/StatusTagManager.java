@@ -1,8 +1,19 @@
 package com.hms_networks.americas.sc.ignition.data;
 
+import com.hms_networks.americas.sc.ignition.comm.AsyncHttpRequestManager;
+import com.hms_networks.americas.sc.ignition.comm.EndpointLatencyStatistics;
+import com.hms_networks.americas.sc.ignition.comm.HttpTransferStatistics;
+import com.hms_networks.americas.sc.ignition.comm.RequestLane;
+import com.hms_networks.americas.sc.ignition.comm.RequestLaneScheduler;
+import com.hms_networks.americas.sc.ignition.comm.RequestLaneStatistics;
 import com.inductiveautomation.ignition.common.model.values.QualityCode;
 import com.inductiveautomation.ignition.common.sqltags.model.types.DataType;
 import com.inductiveautomation.ignition.gateway.tags.managed.ManagedTagProvider;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hc.core5.pool.PoolStats;
 
 /**
  * Class for managing Ignition Ewon Connector status tags via {@link TagManager}.
@@ -114,6 +125,347 @@ class StatusTagManager {
   private static final String STATUS_TAG_NAME_FAILED_DMWEB_POLL_COUNT =
       STATUS_TAG_FOLDER_NAME + "/FAILED_DMWEB_POLL_COUNT";
 
+  /**
+   * The name of the status tag that stores the number of DMWeb sync data pages processed during the
+   * most recent DMWeb polling thread execution.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_DMWEB_SYNC_DATA_PAGE_COUNT =
+      STATUS_TAG_FOLDER_NAME + "/DMWEB_SYNC_DATA_PAGE_COUNT";
+
+  /**
+   * The name of the status tag that stores the estimated number of DMWeb sync data pages remaining
+   * in the backlog, from the data time covered by each page drained during the most recent DMWeb
+   * polling thread execution.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_DMWEB_BACKLOG_PAGES_REMAINING =
+      STATUS_TAG_FOLDER_NAME + "/DMWEB_BACKLOG_PAGES_REMAINING";
+
+  /**
+   * The name of the status tag that indicates if a DMWeb sync data backlog remains (i.e. the DMWeb
+   * API reported more data available after the most recently processed page).
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_DMWEB_BACKLOG_REMAINING =
+      STATUS_TAG_FOLDER_NAME + "/DMWEB_BACKLOG_REMAINING";
+
+  /**
+   * The name of the status tag that stores the DMWeb data lag (in milliseconds), which is the time
+   * elapsed since the timestamp of the most recent data point processed from DMWeb.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_DMWEB_DATA_LAG_MS =
+      STATUS_TAG_FOLDER_NAME + "/DMWEB_DATA_LAG_MS";
+
+  /**
+   * The name of the status tag that stores the count of polled realtime tag values which were sent
+   * to the tag provider.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_LIVE_VALUE_FORWARDED_COUNT =
+      STATUS_TAG_FOLDER_NAME + "/LIVE_VALUE_FORWARDED_COUNT";
+
+  /**
+   * The name of the status tag that stores the count of polled realtime tag values which were not
+   * sent to the tag provider because they did not change.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_LIVE_VALUE_SUPPRESSED_COUNT =
+      STATUS_TAG_FOLDER_NAME + "/LIVE_VALUE_SUPPRESSED_COUNT";
+
+  /**
+   * The name of the status tag that stores the number of Ewons with a live (M2Web) poll in flight.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_POLL_IN_FLIGHT =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_POLL_IN_FLIGHT";
+
+  /**
+   * The name of the status tag that stores the count of live (M2Web) polls which were skipped
+   * because the previous poll of the Ewon was still in flight.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_POLL_OVERRUN_COUNT =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_POLL_OVERRUN_COUNT";
+
+  /**
+   * The name of the status tag that stores the duration (in milliseconds) of the last completed
+   * live (M2Web) poll cycle.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_POLL_CYCLE_DURATION_MS =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_POLL_CYCLE_DURATION_MS";
+
+  /**
+   * The name of the status tag that stores the maximum duration (in milliseconds) of a completed
+   * live (M2Web) poll cycle.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_POLL_MAX_CYCLE_DURATION_MS =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_POLL_MAX_CYCLE_DURATION_MS";
+
+  /**
+   * The name of the status tag that stores the count of tags added to the Ewons, and applied to the
+   * tag provider, by the last completed M2Web metadata update.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_METADATA_TAGS_ADDED =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_METADATA_TAGS_ADDED";
+
+  /**
+   * The name of the status tag that stores the count of tags changed on the Ewons, and applied to
+   * the tag provider, by the last completed M2Web metadata update.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_METADATA_TAGS_CHANGED =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_METADATA_TAGS_CHANGED";
+
+  /**
+   * The name of the status tag that stores the count of tags removed from the Ewons, and applied to
+   * the tag provider, by the last completed M2Web metadata update.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_METADATA_TAGS_REMOVED =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_METADATA_TAGS_REMOVED";
+
+  /**
+   * The name of the status tag that stores the count of unchanged tags, which were not applied to
+   * the tag provider, in the last completed M2Web metadata update.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_M2WEB_METADATA_TAGS_UNCHANGED =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_METADATA_TAGS_UNCHANGED";
+
+  /**
+   * The name of the folder that stores the staleness status tags of the live (M2Web) polled Ewons,
+   * with a tag per Ewon storing the time (in milliseconds) since its last successful poll.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_M2WEB_POLL_STALENESS_MS =
+      STATUS_TAG_FOLDER_NAME + "/M2WEB_POLL_STALENESS_MS";
+
+  /**
+   * The name of the folder that stores the HTTP connection pool status tags, with a sub-folder for
+   * the total connection pool statistics and for the statistics of each route (Talk2M host).
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_HTTP_POOL =
+      STATUS_TAG_FOLDER_NAME + "/HTTP_POOL";
+
+  /**
+   * The name of the folder that stores the total HTTP connection pool status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_HTTP_POOL_TOTAL =
+      STATUS_TAG_FOLDER_NAME_HTTP_POOL + "/TOTAL";
+
+  /**
+   * The name (relative to an HTTP connection pool status folder) of the status tag that stores the
+   * number of leased (in use) connections.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_POOL_LEASED = "/LEASED";
+
+  /**
+   * The name (relative to an HTTP connection pool status folder) of the status tag that stores the
+   * number of pending connection requests (waiting for a connection).
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_POOL_PENDING = "/PENDING";
+
+  /**
+   * The name (relative to an HTTP connection pool status folder) of the status tag that stores the
+   * number of available (idle, reusable) connections.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_POOL_AVAILABLE = "/AVAILABLE";
+
+  /**
+   * The name (relative to an HTTP connection pool status folder) of the status tag that stores the
+   * maximum number of connections.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_POOL_MAX = "/MAX";
+
+  /**
+   * The name of the folder that stores the HTTP transfer status tags, with a sub-folder for the
+   * statistics of each Talk2M API endpoint.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_HTTP_TRANSFER =
+      STATUS_TAG_FOLDER_NAME + "/HTTP_TRANSFER";
+
+  /**
+   * The name (relative to an HTTP transfer status folder) of the status tag that stores the total
+   * number of response content bytes received on the wire (possibly compressed).
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_TRANSFER_BYTES_ON_WIRE = "/BYTES_ON_WIRE";
+
+  /**
+   * The name (relative to an HTTP transfer status folder) of the status tag that stores the total
+   * number of response content bytes after decompression.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_TRANSFER_BYTES_DECODED = "/BYTES_DECODED";
+
+  /**
+   * The name of the folder that stores the HTTP request lane status tags, with a sub-folder for the
+   * statistics of each request lane.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_HTTP_LANES =
+      STATUS_TAG_FOLDER_NAME + "/HTTP_LANES";
+
+  /**
+   * The name (relative to an HTTP request lane status folder) of the status tag that stores the
+   * number of requests queued (waiting for admission) in the lane.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LANE_QUEUE_DEPTH = "/QUEUE_DEPTH";
+
+  /**
+   * The name (relative to an HTTP request lane status folder) of the status tag that stores the
+   * number of requests in flight from the lane.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LANE_IN_FLIGHT = "/IN_FLIGHT";
+
+  /**
+   * The name (relative to an HTTP request lane status folder) of the status tag that stores the
+   * admission wait time (in milliseconds) of the most recently admitted request from the lane.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LANE_LAST_WAIT_MS = "/LAST_WAIT_MS";
+
+  /**
+   * The name (relative to an HTTP request lane status folder) of the status tag that stores the
+   * maximum admission wait time (in milliseconds) of requests from the lane.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LANE_MAX_WAIT_MS = "/MAX_WAIT_MS";
+
+  /**
+   * The name (relative to an HTTP request lane status folder) of the status tag that stores the
+   * average admission wait time (in milliseconds) of requests from the lane.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LANE_AVG_WAIT_MS = "/AVG_WAIT_MS";
+
+  /**
+   * The name of the folder that stores the HTTP route concurrency limit status tags, with a
+   * sub-folder for each route (Talk2M host).
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_HTTP_LIMITS =
+      STATUS_TAG_FOLDER_NAME + "/HTTP_LIMITS";
+
+  /**
+   * The name (relative to an HTTP route concurrency limit status folder) of the status tag that
+   * stores the current adaptive in-flight request limit of the route.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LIMIT_CONCURRENCY_LIMIT = "/CONCURRENCY_LIMIT";
+
+  /**
+   * The name (relative to an HTTP route concurrency limit status folder) of the status tag that
+   * stores the number of requests in flight on the route.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LIMIT_IN_FLIGHT = "/IN_FLIGHT";
+
+  /**
+   * The name (relative to an HTTP route concurrency limit status folder) of the status tag that
+   * stores the total number of requests rejected because the route was saturated.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LIMIT_REJECTED_COUNT = "/REJECTED_COUNT";
+
+  /**
+   * The name of the folder that stores the HTTP latency status tags, with a sub-folder for the
+   * statistics of each Talk2M API endpoint.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_FOLDER_NAME_HTTP_LATENCY =
+      STATUS_TAG_FOLDER_NAME + "/HTTP_LATENCY";
+
+  /**
+   * The name (relative to an HTTP latency status folder) of the status tag that stores the 95th
+   * percentile latency (in milliseconds) of recent successful requests to the endpoint.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LATENCY_P95_MS = "/P95_MS";
+
+  /**
+   * The name (relative to an HTTP latency status folder) of the status tag that stores the total
+   * number of hedged requests sent to the endpoint.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LATENCY_HEDGED_COUNT = "/HEDGED_COUNT";
+
+  /**
+   * The name (relative to an HTTP latency status folder) of the status tag that stores the total
+   * number of requests to the endpoint which exceeded their deadline.
+   *
+   * @since 1.0.0
+   */
+  private static final String STATUS_TAG_NAME_HTTP_LATENCY_DEADLINE_EXCEEDED_COUNT =
+      "/DEADLINE_EXCEEDED_COUNT";
+
+  /**
+   * The regular expression matching characters of a route name which are replaced to form the name
+   * of its HTTP connection pool status folder.
+   *
+   * @since 1.0.0
+   */
+  private static final String HTTP_POOL_ROUTE_FOLDER_NAME_INVALID_CHARS_REGEX = "[^A-Za-z0-9_]";
+
+  /**
+   * The replacement for characters of a route name which are not valid in the name of its HTTP
+   * connection pool status folder.
+   *
+   * @since 1.0.0
+   */
+  private static final String HTTP_POOL_ROUTE_FOLDER_NAME_REPLACEMENT = "_";
+
   /**
    * The data type of the status tag that stores the timestamp of the most recent data point
    * processed while the Ewon Connector synchronized data with DMWeb.
@@ -204,6 +556,163 @@ class StatusTagManager {
    */
   private static final DataType STATUS_TAG_DATA_TYPE_FAILED_DMWEB_POLL_COUNT = DataType.Int4;
 
+  /**
+   * The data type of the status tag that stores the number of DMWeb sync data pages processed
+   * during the most recent DMWeb polling thread execution.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_DMWEB_SYNC_DATA_PAGE_COUNT = DataType.Int4;
+
+  /**
+   * The data type of the status tag that stores the estimated number of DMWeb sync data pages
+   * remaining in the backlog.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_DMWEB_BACKLOG_PAGES_REMAINING = DataType.Int4;
+
+  /**
+   * The data type of the status tag that indicates if a DMWeb sync data backlog remains.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_DMWEB_BACKLOG_REMAINING = DataType.Boolean;
+
+  /**
+   * The data type of the status tag that stores the DMWeb data lag (in milliseconds).
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_DMWEB_DATA_LAG_MS = DataType.Int8;
+
+  /**
+   * The data type of the status tags that store the counts of forwarded and suppressed realtime tag
+   * values.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_LIVE_VALUE_COUNT = DataType.Int8;
+
+  /**
+   * The data type of the live (M2Web) poll in-flight status tag.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_M2WEB_POLL_IN_FLIGHT = DataType.Int4;
+
+  /**
+   * The data type of the live (M2Web) poll overrun count, cycle duration and staleness status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_M2WEB_POLL_STATISTIC = DataType.Int8;
+
+  /**
+   * The data type of the M2Web metadata update added, changed, removed and unchanged tag count
+   * status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_M2WEB_METADATA_TAG_COUNT = DataType.Int8;
+
+  /**
+   * The data type of the HTTP connection pool status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_POOL = DataType.Int4;
+
+  /**
+   * The data type of the HTTP transfer status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_TRANSFER = DataType.Int8;
+
+  /**
+   * The data type of the HTTP request lane queue depth and in-flight status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_LANE_COUNT = DataType.Int4;
+
+  /**
+   * The data type of the HTTP request lane wait time status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_LANE_WAIT_MS = DataType.Int8;
+
+  /**
+   * The data type of the HTTP route concurrency limit and in-flight status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_LIMIT_COUNT = DataType.Int4;
+
+  /**
+   * The data type of the HTTP route rejected request count status tag.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_LIMIT_REJECTED_COUNT = DataType.Int8;
+
+  /**
+   * The data type of the HTTP latency status tags.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType STATUS_TAG_DATA_TYPE_HTTP_LATENCY = DataType.Int8;
+
+  /**
+   * The set of live (M2Web) poll staleness status tags which have been configured in the tag
+   * provider. Ewon tags are configured when the Ewon is first polled, and removed once the Ewon is
+   * no longer polled.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> CONFIGURED_M2WEB_POLL_STALENESS_STATUS_TAGS =
+      ConcurrentHashMap.newKeySet();
+
+  /**
+   * The set of HTTP connection pool status folders which have been configured in the tag provider.
+   * Route folders are configured when the route is first used, and removed once the connection
+   * pool of the route is closed.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> CONFIGURED_HTTP_POOL_STATUS_FOLDERS =
+      ConcurrentHashMap.newKeySet();
+
+  /**
+   * The set of HTTP transfer status folders which have been configured in the tag provider.
+   * Endpoint folders are configured when the endpoint is first used.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> CONFIGURED_HTTP_TRANSFER_STATUS_FOLDERS =
+      ConcurrentHashMap.newKeySet();
+
+  /**
+   * The set of HTTP route concurrency limit status folders which have been configured in the tag
+   * provider. Route folders are configured when the route is first used, and removed once the
+   * request lane scheduler of the route is discarded.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> CONFIGURED_HTTP_LIMIT_STATUS_FOLDERS =
+      ConcurrentHashMap.newKeySet();
+
+  /**
+   * The set of HTTP latency status folders which have been configured in the tag provider.
+   * Endpoint folders are configured when the endpoint is first used.
+   *
+   * @since 1.0.0
+   */
+  private static final Set<String> CONFIGURED_HTTP_LATENCY_STATUS_FOLDERS =
+      ConcurrentHashMap.newKeySet();
+
   /**
    * Initializes the status tags in the provided {@link ManagedTagProvider}.
    *
@@ -239,6 +748,159 @@ class StatusTagManager {
         STATUS_TAG_DATA_TYPE_SUCCESSFUL_DMWEB_POLL_COUNT);
     managedTagProvider.configureTag(
         STATUS_TAG_NAME_FAILED_DMWEB_POLL_COUNT, STATUS_TAG_DATA_TYPE_FAILED_DMWEB_POLL_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_DMWEB_SYNC_DATA_PAGE_COUNT,
+        STATUS_TAG_DATA_TYPE_DMWEB_SYNC_DATA_PAGE_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_DMWEB_BACKLOG_PAGES_REMAINING,
+        STATUS_TAG_DATA_TYPE_DMWEB_BACKLOG_PAGES_REMAINING);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_DMWEB_BACKLOG_REMAINING, STATUS_TAG_DATA_TYPE_DMWEB_BACKLOG_REMAINING);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_DMWEB_DATA_LAG_MS, STATUS_TAG_DATA_TYPE_DMWEB_DATA_LAG_MS);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_LIVE_VALUE_FORWARDED_COUNT, STATUS_TAG_DATA_TYPE_LIVE_VALUE_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_LIVE_VALUE_SUPPRESSED_COUNT, STATUS_TAG_DATA_TYPE_LIVE_VALUE_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_POLL_IN_FLIGHT, STATUS_TAG_DATA_TYPE_M2WEB_POLL_IN_FLIGHT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_POLL_OVERRUN_COUNT, STATUS_TAG_DATA_TYPE_M2WEB_POLL_STATISTIC);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_POLL_CYCLE_DURATION_MS, STATUS_TAG_DATA_TYPE_M2WEB_POLL_STATISTIC);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_POLL_MAX_CYCLE_DURATION_MS,
+        STATUS_TAG_DATA_TYPE_M2WEB_POLL_STATISTIC);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_ADDED, STATUS_TAG_DATA_TYPE_M2WEB_METADATA_TAG_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_CHANGED, STATUS_TAG_DATA_TYPE_M2WEB_METADATA_TAG_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_REMOVED, STATUS_TAG_DATA_TYPE_M2WEB_METADATA_TAG_COUNT);
+    managedTagProvider.configureTag(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_UNCHANGED,
+        STATUS_TAG_DATA_TYPE_M2WEB_METADATA_TAG_COUNT);
+    CONFIGURED_M2WEB_POLL_STALENESS_STATUS_TAGS.clear();
+    CONFIGURED_HTTP_POOL_STATUS_FOLDERS.clear();
+    configureHttpPoolStatusTags(managedTagProvider, STATUS_TAG_FOLDER_NAME_HTTP_POOL_TOTAL);
+    CONFIGURED_HTTP_TRANSFER_STATUS_FOLDERS.clear();
+    CONFIGURED_HTTP_LIMIT_STATUS_FOLDERS.clear();
+    CONFIGURED_HTTP_LATENCY_STATUS_FOLDERS.clear();
+    for (RequestLane lane : RequestLane.values()) {
+      final String laneFolderName = getHttpLaneStatusFolderName(lane);
+      managedTagProvider.configureTag(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_QUEUE_DEPTH,
+          STATUS_TAG_DATA_TYPE_HTTP_LANE_COUNT);
+      managedTagProvider.configureTag(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_IN_FLIGHT,
+          STATUS_TAG_DATA_TYPE_HTTP_LANE_COUNT);
+      managedTagProvider.configureTag(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_LAST_WAIT_MS,
+          STATUS_TAG_DATA_TYPE_HTTP_LANE_WAIT_MS);
+      managedTagProvider.configureTag(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_MAX_WAIT_MS,
+          STATUS_TAG_DATA_TYPE_HTTP_LANE_WAIT_MS);
+      managedTagProvider.configureTag(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_AVG_WAIT_MS,
+          STATUS_TAG_DATA_TYPE_HTTP_LANE_WAIT_MS);
+    }
+  }
+
+  /**
+   * Configures the HTTP route concurrency limit status tags in the specified folder of the provided
+   * {@link ManagedTagProvider}, if they have not already been configured.
+   *
+   * @param managedTagProvider the managed tag provider to configure the status tags in
+   * @param folderName the name of the HTTP route concurrency limit status folder
+   * @since 1.0.0
+   */
+  private static void configureHttpLimitStatusTags(
+      ManagedTagProvider managedTagProvider, String folderName) {
+    if (CONFIGURED_HTTP_LIMIT_STATUS_FOLDERS.add(folderName)) {
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_LIMIT_CONCURRENCY_LIMIT,
+          STATUS_TAG_DATA_TYPE_HTTP_LIMIT_COUNT);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_LIMIT_IN_FLIGHT, STATUS_TAG_DATA_TYPE_HTTP_LIMIT_COUNT);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_LIMIT_REJECTED_COUNT,
+          STATUS_TAG_DATA_TYPE_HTTP_LIMIT_REJECTED_COUNT);
+    }
+  }
+
+  /**
+   * Configures the HTTP latency status tags in the specified folder of the provided {@link
+   * ManagedTagProvider}, if they have not already been configured.
+   *
+   * @param managedTagProvider the managed tag provider to configure the status tags in
+   * @param folderName the name of the HTTP latency status folder
+   * @since 1.0.0
+   */
+  private static void configureHttpLatencyStatusTags(
+      ManagedTagProvider managedTagProvider, String folderName) {
+    if (CONFIGURED_HTTP_LATENCY_STATUS_FOLDERS.add(folderName)) {
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_LATENCY_P95_MS, STATUS_TAG_DATA_TYPE_HTTP_LATENCY);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_LATENCY_HEDGED_COUNT,
+          STATUS_TAG_DATA_TYPE_HTTP_LATENCY);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_LATENCY_DEADLINE_EXCEEDED_COUNT,
+          STATUS_TAG_DATA_TYPE_HTTP_LATENCY);
+    }
+  }
+
+  /**
+   * Gets the name of the HTTP request lane status folder for the specified request lane.
+   *
+   * @param lane the request lane
+   * @return the name of the HTTP request lane status folder
+   * @since 1.0.0
+   */
+  private static String getHttpLaneStatusFolderName(RequestLane lane) {
+    return STATUS_TAG_FOLDER_NAME_HTTP_LANES + "/" + lane.name();
+  }
+
+  /**
+   * Configures the HTTP connection pool status tags in the specified folder of the provided {@link
+   * ManagedTagProvider}, if they have not already been configured.
+   *
+   * @param managedTagProvider the managed tag provider to configure the status tags in
+   * @param folderName the name of the HTTP connection pool status folder
+   * @since 1.0.0
+   */
+  private static void configureHttpPoolStatusTags(
+      ManagedTagProvider managedTagProvider, String folderName) {
+    if (CONFIGURED_HTTP_POOL_STATUS_FOLDERS.add(folderName)) {
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_POOL_LEASED, STATUS_TAG_DATA_TYPE_HTTP_POOL);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_POOL_PENDING, STATUS_TAG_DATA_TYPE_HTTP_POOL);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_POOL_AVAILABLE, STATUS_TAG_DATA_TYPE_HTTP_POOL);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_POOL_MAX, STATUS_TAG_DATA_TYPE_HTTP_POOL);
+    }
+  }
+
+  /**
+   * Configures the HTTP transfer status tags in the specified folder of the provided {@link
+   * ManagedTagProvider}, if they have not already been configured.
+   *
+   * @param managedTagProvider the managed tag provider to configure the status tags in
+   * @param folderName the name of the HTTP transfer status folder
+   * @since 1.0.0
+   */
+  private static void configureHttpTransferStatusTags(
+      ManagedTagProvider managedTagProvider, String folderName) {
+    if (CONFIGURED_HTTP_TRANSFER_STATUS_FOLDERS.add(folderName)) {
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_TRANSFER_BYTES_ON_WIRE,
+          STATUS_TAG_DATA_TYPE_HTTP_TRANSFER);
+      managedTagProvider.configureTag(
+          folderName + STATUS_TAG_NAME_HTTP_TRANSFER_BYTES_DECODED,
+          STATUS_TAG_DATA_TYPE_HTTP_TRANSFER);
+    }
   }
 
   /**
@@ -292,5 +954,370 @@ class StatusTagManager {
         STATUS_TAG_NAME_FAILED_DMWEB_POLL_COUNT,
         SyncDataStateManager.getFailedDMWebExecutionCount(),
         QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_DMWEB_SYNC_DATA_PAGE_COUNT,
+        SyncDataStateManager.getDMWebSyncDataPageCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_DMWEB_BACKLOG_PAGES_REMAINING,
+        SyncDataStateManager.getDMWebSyncDataPagesRemaining(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_DMWEB_BACKLOG_REMAINING,
+        SyncDataStateManager.getDMWebSyncDataMoreDataAvailable(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_DMWEB_DATA_LAG_MS,
+        SyncDataStateManager.getDMWebDataLagMillis(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_LIVE_VALUE_FORWARDED_COUNT,
+        LiveValueChangeDetector.getForwardedCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_LIVE_VALUE_SUPPRESSED_COUNT,
+        LiveValueChangeDetector.getSuppressedCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_POLL_IN_FLIGHT,
+        LivePollTracker.getInFlightCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_POLL_OVERRUN_COUNT,
+        LivePollTracker.getOverrunCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_POLL_CYCLE_DURATION_MS,
+        LivePollTracker.getLastCycleDurationMillis(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_POLL_MAX_CYCLE_DURATION_MS,
+        LivePollTracker.getMaxCycleDurationMillis(),
+        QualityCode.Good);
+
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_ADDED,
+        TagConfigurationTracker.getLastRunAddedCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_CHANGED,
+        TagConfigurationTracker.getLastRunChangedCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_REMOVED,
+        TagConfigurationTracker.getLastRunRemovedCount(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        STATUS_TAG_NAME_M2WEB_METADATA_TAGS_UNCHANGED,
+        TagConfigurationTracker.getLastRunUnchangedCount(),
+        QualityCode.Good);
+    // Update live (M2Web) poll staleness status tags
+    updateM2WebPollStalenessStatusTags(managedTagProvider);
+
+    // Update HTTP connection pool status tags
+    updateHttpPoolStatusTags(managedTagProvider);
+
+    // Update HTTP transfer status tags
+    updateHttpTransferStatusTags(managedTagProvider);
+
+    // Update HTTP request lane status tags
+    updateHttpLaneStatusTags(managedTagProvider);
+
+    // Update HTTP route concurrency limit status tags
+    updateHttpLimitStatusTags(managedTagProvider);
+
+    // Update HTTP latency status tags
+    updateHttpLatencyStatusTags(managedTagProvider);
+  }
+
+  /**
+   * Updates the live (M2Web) poll staleness status tags (time since the last successful poll, per
+   * Ewon) in the provided {@link ManagedTagProvider}. Status tags for an Ewon are configured the
+   * first time the Ewon is polled, and removed once the Ewon is no longer polled (i.e. it has been
+   * removed from the {@link LivePollTracker}).
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @since 1.0.0
+   */
+  private static void updateM2WebPollStalenessStatusTags(ManagedTagProvider managedTagProvider) {
+    final long nowMillis = System.currentTimeMillis();
+    final Set<String> ewonTagNames = new HashSet<>();
+    for (Map.Entry<String, Long> ewonLastSuccessfulPollTime :
+        LivePollTracker.getLastSuccessfulPollTimes().entrySet()) {
+      final String ewonTagName =
+          STATUS_TAG_FOLDER_NAME_M2WEB_POLL_STALENESS_MS
+              + "/"
+              + ewonLastSuccessfulPollTime
+                  .getKey()
+                  .replaceAll(
+                      HTTP_POOL_ROUTE_FOLDER_NAME_INVALID_CHARS_REGEX,
+                      HTTP_POOL_ROUTE_FOLDER_NAME_REPLACEMENT);
+      ewonTagNames.add(ewonTagName);
+      if (CONFIGURED_M2WEB_POLL_STALENESS_STATUS_TAGS.add(ewonTagName)) {
+        managedTagProvider.configureTag(ewonTagName, STATUS_TAG_DATA_TYPE_M2WEB_POLL_STATISTIC);
+      }
+      managedTagProvider.updateValue(
+          ewonTagName,
+          Math.max(0, nowMillis - ewonLastSuccessfulPollTime.getValue()),
+          QualityCode.Good);
+    }
+
+    // Remove status tags of Ewons which are no longer polled
+    CONFIGURED_M2WEB_POLL_STALENESS_STATUS_TAGS.removeIf(
+        ewonTagName -> {
+          final boolean removed = !ewonTagNames.contains(ewonTagName);
+          if (removed) {
+            managedTagProvider.removeTag(ewonTagName);
+          }
+          return removed;
+        });
+  }
+
+  /**
+   * Updates the HTTP connection pool status tags (total and per route) in the provided {@link
+   * ManagedTagProvider}. Status tags for a route are configured the first time the route is used,
+   * and removed once the connection pool of the route is closed (e.g. once its idle connections
+   * have been evicted).
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @since 1.0.0
+   */
+  private static void updateHttpPoolStatusTags(ManagedTagProvider managedTagProvider) {
+    // Update total connection pool status tags
+    PoolStats totalPoolStats = AsyncHttpRequestManager.getTotalPoolStats();
+    if (totalPoolStats != null) {
+      updateHttpPoolStatusTags(
+          managedTagProvider, STATUS_TAG_FOLDER_NAME_HTTP_POOL_TOTAL, totalPoolStats);
+    }
+
+    // Update connection pool status tags for each route
+    final Set<String> routeFolderNames = new HashSet<>();
+    routeFolderNames.add(STATUS_TAG_FOLDER_NAME_HTTP_POOL_TOTAL);
+    for (Map.Entry<String, PoolStats> routePoolStats :
+        AsyncHttpRequestManager.getRoutePoolStats().entrySet()) {
+      final String routeFolderName =
+          STATUS_TAG_FOLDER_NAME_HTTP_POOL
+              + "/"
+              + routePoolStats
+                  .getKey()
+                  .replaceAll(
+                      HTTP_POOL_ROUTE_FOLDER_NAME_INVALID_CHARS_REGEX,
+                      HTTP_POOL_ROUTE_FOLDER_NAME_REPLACEMENT);
+      routeFolderNames.add(routeFolderName);
+      configureHttpPoolStatusTags(managedTagProvider, routeFolderName);
+      updateHttpPoolStatusTags(managedTagProvider, routeFolderName, routePoolStats.getValue());
+    }
+
+    // Remove status tags of routes which no longer have a connection pool
+    removeStatusFolders(
+        managedTagProvider,
+        CONFIGURED_HTTP_POOL_STATUS_FOLDERS,
+        routeFolderNames,
+        STATUS_TAG_NAME_HTTP_POOL_LEASED,
+        STATUS_TAG_NAME_HTTP_POOL_PENDING,
+        STATUS_TAG_NAME_HTTP_POOL_AVAILABLE,
+        STATUS_TAG_NAME_HTTP_POOL_MAX);
+  }
+
+  /**
+   * Removes the status tags of the configured status folders which are not in the specified set of
+   * current status folders from the provided {@link ManagedTagProvider}, and stops tracking the
+   * removed folders as configured.
+   *
+   * @param managedTagProvider the managed tag provider to remove the status tags from
+   * @param configuredFolderNames the set of status folders which have been configured
+   * @param currentFolderNames the set of status folders which are still in use
+   * @param tagNames the names of the status tags in each folder (relative to the folder)
+   * @since 1.0.0
+   */
+  private static void removeStatusFolders(
+      ManagedTagProvider managedTagProvider,
+      Set<String> configuredFolderNames,
+      Set<String> currentFolderNames,
+      String... tagNames) {
+    configuredFolderNames.removeIf(
+        folderName -> {
+          final boolean removed = !currentFolderNames.contains(folderName);
+          if (removed) {
+            for (String tagName : tagNames) {
+              managedTagProvider.removeTag(folderName + tagName);
+            }
+          }
+          return removed;
+        });
+  }
+
+  /**
+   * Updates the HTTP connection pool status tags in the specified folder of the provided {@link
+   * ManagedTagProvider} with the specified connection pool statistics.
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @param folderName the name of the HTTP connection pool status folder
+   * @param poolStats the connection pool statistics
+   * @since 1.0.0
+   */
+  private static void updateHttpPoolStatusTags(
+      ManagedTagProvider managedTagProvider, String folderName, PoolStats poolStats) {
+    managedTagProvider.updateValue(
+        folderName + STATUS_TAG_NAME_HTTP_POOL_LEASED, poolStats.getLeased(), QualityCode.Good);
+    managedTagProvider.updateValue(
+        folderName + STATUS_TAG_NAME_HTTP_POOL_PENDING, poolStats.getPending(), QualityCode.Good);
+    managedTagProvider.updateValue(
+        folderName + STATUS_TAG_NAME_HTTP_POOL_AVAILABLE,
+        poolStats.getAvailable(),
+        QualityCode.Good);
+    managedTagProvider.updateValue(
+        folderName + STATUS_TAG_NAME_HTTP_POOL_MAX, poolStats.getMax(), QualityCode.Good);
+  }
+
+  /**
+   * Updates the HTTP transfer status tags (bytes on the wire and bytes decoded, per Talk2M API
+   * endpoint) in the provided {@link ManagedTagProvider}. Status tags for an endpoint are
+   * configured the first time the endpoint is used.
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @since 1.0.0
+   */
+  private static void updateHttpTransferStatusTags(ManagedTagProvider managedTagProvider) {
+    for (Map.Entry<String, HttpTransferStatistics> endpointTransferStatistics :
+        AsyncHttpRequestManager.getEndpointTransferStatistics().entrySet()) {
+      final String endpointFolderName =
+          STATUS_TAG_FOLDER_NAME_HTTP_TRANSFER
+              + "/"
+              + endpointTransferStatistics
+                  .getKey()
+                  .replaceAll(
+                      HTTP_POOL_ROUTE_FOLDER_NAME_INVALID_CHARS_REGEX,
+                      HTTP_POOL_ROUTE_FOLDER_NAME_REPLACEMENT);
+      configureHttpTransferStatusTags(managedTagProvider, endpointFolderName);
+      managedTagProvider.updateValue(
+          endpointFolderName + STATUS_TAG_NAME_HTTP_TRANSFER_BYTES_ON_WIRE,
+          endpointTransferStatistics.getValue().getWireBytes(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          endpointFolderName + STATUS_TAG_NAME_HTTP_TRANSFER_BYTES_DECODED,
+          endpointTransferStatistics.getValue().getDecodedBytes(),
+          QualityCode.Good);
+    }
+  }
+
+  /**
+   * Updates the HTTP request lane status tags (queue depth, in-flight requests and admission wait
+   * times, per request lane) in the provided {@link ManagedTagProvider}.
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @since 1.0.0
+   */
+  private static void updateHttpLaneStatusTags(ManagedTagProvider managedTagProvider) {
+    for (Map.Entry<RequestLane, RequestLaneStatistics> laneStatistics :
+        AsyncHttpRequestManager.getLaneStatistics().entrySet()) {
+      final String laneFolderName = getHttpLaneStatusFolderName(laneStatistics.getKey());
+      final RequestLaneStatistics statistics = laneStatistics.getValue();
+      managedTagProvider.updateValue(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_QUEUE_DEPTH,
+          statistics.getQueueDepth(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_IN_FLIGHT,
+          statistics.getInFlightCount(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_LAST_WAIT_MS,
+          statistics.getLastWaitMillis(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_MAX_WAIT_MS,
+          statistics.getMaxWaitMillis(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          laneFolderName + STATUS_TAG_NAME_HTTP_LANE_AVG_WAIT_MS,
+          statistics.getAverageWaitMillis(),
+          QualityCode.Good);
+    }
+  }
+
+  /**
+   * Updates the HTTP route concurrency limit status tags (adaptive in-flight request limit,
+   * in-flight requests and rejected requests, per route) in the provided {@link
+   * ManagedTagProvider}. Status tags for a route are configured the first time the route is used,
+   * and removed once the request lane scheduler of the route is discarded.
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @since 1.0.0
+   */
+  private static void updateHttpLimitStatusTags(ManagedTagProvider managedTagProvider) {
+    final Set<String> routeFolderNames = new HashSet<>();
+    for (Map.Entry<String, RequestLaneScheduler> routeLaneScheduler :
+        AsyncHttpRequestManager.getRouteLaneSchedulers().entrySet()) {
+      final String routeFolderName =
+          STATUS_TAG_FOLDER_NAME_HTTP_LIMITS
+              + "/"
+              + routeLaneScheduler
+                  .getKey()
+                  .replaceAll(
+                      HTTP_POOL_ROUTE_FOLDER_NAME_INVALID_CHARS_REGEX,
+                      HTTP_POOL_ROUTE_FOLDER_NAME_REPLACEMENT);
+      final RequestLaneScheduler scheduler = routeLaneScheduler.getValue();
+      routeFolderNames.add(routeFolderName);
+      configureHttpLimitStatusTags(managedTagProvider, routeFolderName);
+      managedTagProvider.updateValue(
+          routeFolderName + STATUS_TAG_NAME_HTTP_LIMIT_CONCURRENCY_LIMIT,
+          scheduler.getConcurrencyLimit(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          routeFolderName + STATUS_TAG_NAME_HTTP_LIMIT_IN_FLIGHT,
+          scheduler.getInFlightCount(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          routeFolderName + STATUS_TAG_NAME_HTTP_LIMIT_REJECTED_COUNT,
+          scheduler.getRejectedCount(),
+          QualityCode.Good);
+    }
+
+    // Remove status tags of routes whose request lane scheduler has been discarded
+    removeStatusFolders(
+        managedTagProvider,
+        CONFIGURED_HTTP_LIMIT_STATUS_FOLDERS,
+        routeFolderNames,
+        STATUS_TAG_NAME_HTTP_LIMIT_CONCURRENCY_LIMIT,
+        STATUS_TAG_NAME_HTTP_LIMIT_IN_FLIGHT,
+        STATUS_TAG_NAME_HTTP_LIMIT_REJECTED_COUNT);
+  }
+
+  /**
+   * Updates the HTTP latency status tags (95th percentile latency, hedged requests and requests
+   * which exceeded their deadline, per Talk2M API endpoint) in the provided {@link
+   * ManagedTagProvider}. Status tags for an endpoint are configured the first time the endpoint is
+   * used.
+   *
+   * @param managedTagProvider the managed tag provider to update the status tags in
+   * @since 1.0.0
+   */
+  private static void updateHttpLatencyStatusTags(ManagedTagProvider managedTagProvider) {
+    for (Map.Entry<String, EndpointLatencyStatistics> endpointLatencyStatistics :
+        AsyncHttpRequestManager.getEndpointLatencyStatistics().entrySet()) {
+      final String endpointFolderName =
+          STATUS_TAG_FOLDER_NAME_HTTP_LATENCY
+              + "/"
+              + endpointLatencyStatistics
+                  .getKey()
+                  .replaceAll(
+                      HTTP_POOL_ROUTE_FOLDER_NAME_INVALID_CHARS_REGEX,
+                      HTTP_POOL_ROUTE_FOLDER_NAME_REPLACEMENT);
+      final EndpointLatencyStatistics statistics = endpointLatencyStatistics.getValue();
+      configureHttpLatencyStatusTags(managedTagProvider, endpointFolderName);
+      managedTagProvider.updateValue(
+          endpointFolderName + STATUS_TAG_NAME_HTTP_LATENCY_P95_MS,
+          statistics.getP95LatencyMillis(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          endpointFolderName + STATUS_TAG_NAME_HTTP_LATENCY_HEDGED_COUNT,
+          statistics.getHedgedCount(),
+          QualityCode.Good);
+      managedTagProvider.updateValue(
+          endpointFolderName + STATUS_TAG_NAME_HTTP_LATENCY_DEADLINE_EXCEEDED_COUNT,
+          statistics.getDeadlineExceededCount(),
+          QualityCode.Good);
+    }
   }
 }
@@ -105,6 +105,33 @@ public class SyncDataStateManager {
    */
   private static boolean startupM2WebMetadataSyncCompleted = false;
 
+  /**
+   * The number of DMWeb sync data pages processed during the most recent (or current) DMWeb thread
+   * execution. This value is non-persistent and is reset to zero (0) when the connector is
+   * started/restarted.
+   *
+   * @since 1.0.0
+   */
+  private static int dmWebSyncDataPageCount = 0;
+
+  /**
+   * The estimated number of DMWeb sync data pages remaining in the backlog after the most recently
+   * processed sync data page. This value is non-persistent and is reset to zero (0) when the
+   * connector is started/restarted.
+   *
+   * @since 1.0.0
+   */
+  private static int dmWebSyncDataPagesRemaining = 0;
+
+  /**
+   * Flag indicating if the DMWeb API reported that more sync data was available after the most
+   * recently processed sync data page (i.e. a backlog remains). This value is non-persistent and is
+   * reset to false (false) when the connector is started/restarted.
+   *
+   * @since 1.0.0
+   */
+  private static boolean dmWebSyncDataMoreDataAvailable = false;
+
   /**
    * Initializes the synchronization data state manager. This method will load existing
    * synchronization data, or create it if necessary.
@@ -124,6 +151,9 @@ public class SyncDataStateManager {
     successfulDMWebExecutionCount = 0;
     failedDMWebExecutionCount = 0;
     startupM2WebMetadataSyncCompleted = false;
+    dmWebSyncDataPageCount = 0;
+    dmWebSyncDataPagesRemaining = 0;
+    dmWebSyncDataMoreDataAvailable = false;
 
     // Load and store synchronization data, and create it if necessary
     final long syncDataId = 1L;
@@ -503,4 +533,76 @@ public class SyncDataStateManager {
   public static void setStartupM2WebMetadataSyncCompleted() {
     startupM2WebMetadataSyncCompleted = true;
   }
+
+  /**
+   * Sets the DMWeb sync data backlog status, including the number of sync data pages processed
+   * during the current DMWeb thread execution, the estimated number of sync data pages remaining
+   * and whether more sync data is available.
+   *
+   * @param syncDataPageCount the number of sync data pages processed during the current execution
+   * @param syncDataPagesRemaining the estimated number of sync data pages remaining
+   * @param moreDataAvailable flag indicating if more sync data is available
+   * @since 1.0.0
+   */
+  public static void setDMWebSyncDataBacklogStatus(
+      int syncDataPageCount, int syncDataPagesRemaining, boolean moreDataAvailable) {
+    dmWebSyncDataPageCount = syncDataPageCount;
+    dmWebSyncDataPagesRemaining = syncDataPagesRemaining;
+    dmWebSyncDataMoreDataAvailable = moreDataAvailable;
+  }
+
+  /**
+   * Gets the estimated number of DMWeb sync data pages remaining in the backlog after the most
+   * recently processed sync data page.
+   *
+   * @return The estimated number of DMWeb sync data pages remaining.
+   * @since 1.0.0
+   */
+  public static int getDMWebSyncDataPagesRemaining() {
+    return dmWebSyncDataPagesRemaining;
+  }
+
+  /**
+   * Gets the number of DMWeb sync data pages processed during the most recent (or current) DMWeb
+   * thread execution.
+   *
+   * @return The number of DMWeb sync data pages processed during the most recent execution.
+   * @since 1.0.0
+   */
+  public static int getDMWebSyncDataPageCount() {
+    return dmWebSyncDataPageCount;
+  }
+
+  /**
+   * Gets a flag indicating if the DMWeb API reported that more sync data was available after the
+   * most recently processed sync data page.
+   *
+   * @return true if a DMWeb sync data backlog remains, false otherwise
+   * @since 1.0.0
+   */
+  public static boolean getDMWebSyncDataMoreDataAvailable() {
+    return dmWebSyncDataMoreDataAvailable;
+  }
+
+  /**
+   * Gets the DMWeb data lag (in milliseconds), calculated as the time elapsed between the latest
+   * DMWeb data point time stamp and the current time. If no DMWeb data point has been processed,
+   * zero (0) is returned.
+   *
+   * @return the DMWeb data lag (in milliseconds)
+   * @throws IllegalStateException if the synchronization data state has not been initialized
+   * @since 1.0.0
+   */
+  public static long getDMWebDataLagMillis() {
+    checkSyncDataStateInitialized();
+
+    // Calculate lag from latest DMWeb data point time stamp (if set)
+    long latestDMWebDataPointTimeStampMs = getLatestDMWebDataPointTimeStamp().getTime();
+    long dmWebDataLagMillis = 0;
+    if (latestDMWebDataPointTimeStampMs != EwonSyncDataState.TIME_VALUE_DEFAULT) {
+      dmWebDataLagMillis =
+          Math.max(0, System.currentTimeMillis() - latestDMWebDataPointTimeStampMs);
+    }
+    return dmWebDataLagMillis;
+  }
 }
@@ -0,0 +1,409 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTag;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Class for tracking the tag configurations which have been applied to the tag provider for each
+ * Ewon, so that a metadata (tag list) update only applies the tags which were added, removed or
+ * changed since the previous update. Tags are identified by their Ewon tag ID, and a tag is changed
+ * if the hash of its tag provider name, description and type (the columns which are applied to the
+ * tag provider) differs from the hash of its applied configuration. A tag which was moved to a
+ * different tag provider name is removed from its previous name and added under its new name.
+ *
+ * <p>The applied configurations of an Ewon must be invalidated (see {@link
+ * #invalidateTags(String)}) when its tags are deleted from the tag provider by other means, so that
+ * they are applied again by the next update. The applied configuration of a tag which failed to be
+ * applied must also be invalidated (see {@link #invalidateTag(String, int)}), so that it is applied
+ * again (as a changed tag) by the next update. The number of added, changed, removed and unchanged
+ * tags is counted for each metadata update run. All methods of this class are thread-safe.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+public class TagConfigurationTracker {
+
+  /**
+   * The map of Ewon names to the applied configurations of their tags, keyed by Ewon tag ID.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Map<Integer, AppliedTagConfiguration>> EWON_APPLIED_TAGS_MAP =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The number of tags added in the current metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder RUN_ADDED_COUNT = new LongAdder();
+
+  /**
+   * The number of tags changed in the current metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder RUN_CHANGED_COUNT = new LongAdder();
+
+  /**
+   * The number of tags removed in the current metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder RUN_REMOVED_COUNT = new LongAdder();
+
+  /**
+   * The number of tags unchanged in the current metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static final LongAdder RUN_UNCHANGED_COUNT = new LongAdder();
+
+  /**
+   * The number of tags added in the last completed metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long lastRunAddedCount = 0;
+
+  /**
+   * The number of tags changed in the last completed metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long lastRunChangedCount = 0;
+
+  /**
+   * The number of tags removed in the last completed metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long lastRunRemovedCount = 0;
+
+  /**
+   * The number of tags unchanged in the last completed metadata update run.
+   *
+   * @since 1.0.0
+   */
+  private static volatile long lastRunUnchangedCount = 0;
+
+  /**
+   * Compares the specified tag list of the specified Ewon against the applied configurations of its
+   * tags, records the tag list as applied, and counts the differences in the current metadata
+   * update run.
+   *
+   * @param ewonName the name of the Ewon
+   * @param m2WebEwonEBDTags the tag list of the Ewon
+   * @param tagNameFunction the function which gets the tag provider name of a tag
+   * @return the differences between the tag list and the applied configurations
+   * @since 1.0.0
+   */
+  public static TagConfigurationDiff diff(
+      String ewonName,
+      Collection<M2WebEwonEBDTag> m2WebEwonEBDTags,
+      Function<M2WebEwonEBDTag, String> tagNameFunction) {
+    TagConfigurationDiff tagConfigurationDiff = new TagConfigurationDiff();
+    Map<Integer, AppliedTagConfiguration> appliedTags =
+        EWON_APPLIED_TAGS_MAP.computeIfAbsent(ewonName, name -> new HashMap<>());
+    synchronized (appliedTags) {
+      // Compare tags against applied configurations, replacing the applied configurations
+      Map<Integer, AppliedTagConfiguration> previousAppliedTags = new HashMap<>(appliedTags);
+      appliedTags.clear();
+      for (M2WebEwonEBDTag m2WebEwonEBDTag : m2WebEwonEBDTags) {
+        final String tagName = tagNameFunction.apply(m2WebEwonEBDTag);
+        final int configurationHash =
+            Objects.hash(tagName, m2WebEwonEBDTag.getDescription(), m2WebEwonEBDTag.getType());
+        AppliedTagConfiguration previousAppliedTag =
+            previousAppliedTags.remove(m2WebEwonEBDTag.getId());
+        if (previousAppliedTag == null) {
+          tagConfigurationDiff.addedTags.add(m2WebEwonEBDTag);
+        } else if (!previousAppliedTag.tagName.equals(tagName)) {
+          tagConfigurationDiff.removedTagNames.add(previousAppliedTag.tagName);
+          tagConfigurationDiff.addedTags.add(m2WebEwonEBDTag);
+        } else if (previousAppliedTag.invalidated
+            || previousAppliedTag.configurationHash != configurationHash) {
+          tagConfigurationDiff.changedTags.add(m2WebEwonEBDTag);
+        } else {
+          tagConfigurationDiff.unchangedCount++;
+        }
+        appliedTags.put(
+            m2WebEwonEBDTag.getId(), new AppliedTagConfiguration(tagName, configurationHash));
+      }
+
+      // Remaining applied configurations are of tags which were removed from the Ewon
+      for (AppliedTagConfiguration previousAppliedTag : previousAppliedTags.values()) {
+        tagConfigurationDiff.removedTagNames.add(previousAppliedTag.tagName);
+      }
+    }
+
+    // Update counters of current run
+    RUN_ADDED_COUNT.add(tagConfigurationDiff.addedTags.size());
+    RUN_CHANGED_COUNT.add(tagConfigurationDiff.changedTags.size());
+    RUN_REMOVED_COUNT.add(tagConfigurationDiff.removedTagNames.size());
+    RUN_UNCHANGED_COUNT.add(tagConfigurationDiff.unchangedCount);
+    return tagConfigurationDiff;
+  }
+
+  /**
+   * Invalidates the applied configurations of all tags of the specified Ewon, so that all of its
+   * tags are applied by the next metadata update.
+   *
+   * @param ewonName the name of the Ewon
+   * @since 1.0.0
+   */
+  public static void invalidateEwon(String ewonName) {
+    EWON_APPLIED_TAGS_MAP.remove(ewonName);
+  }
+
+  /**
+   * Invalidates the applied configuration of the specified tag of the specified Ewon, because it
+   * failed to be applied to the tag provider, so that it is applied again (as a changed tag) by the
+   * next metadata update. The tag provider name of the tag is kept, so that the tag is still
+   * removed from the tag provider if it is removed from the Ewon.
+   *
+   * @param ewonName the name of the Ewon
+   * @param tagId the Ewon tag ID of the tag
+   * @since 1.0.0
+   */
+  public static void invalidateTag(String ewonName, int tagId) {
+    Map<Integer, AppliedTagConfiguration> appliedTags = EWON_APPLIED_TAGS_MAP.get(ewonName);
+    if (appliedTags != null) {
+      synchronized (appliedTags) {
+        AppliedTagConfiguration appliedTag = appliedTags.get(tagId);
+        if (appliedTag != null) {
+          appliedTag.invalidated = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Invalidates the applied configurations of the tags at or below the specified tag provider path,
+   * because they were deleted from the tag provider, so that they are applied again by the next
+   * metadata update.
+   *
+   * @param tagPath the tag provider path of the deleted tag or folder
+   * @since 1.0.0
+   */
+  public static void invalidateTags(String tagPath) {
+    for (Map<Integer, AppliedTagConfiguration> appliedTags : EWON_APPLIED_TAGS_MAP.values()) {
+      synchronized (appliedTags) {
+        Iterator<AppliedTagConfiguration> appliedTagIterator = appliedTags.values().iterator();
+        while (appliedTagIterator.hasNext()) {
+          final String tagName = appliedTagIterator.next().tagName;
+          if (tagName.equals(tagPath) || tagName.startsWith(tagPath + "/")) {
+            appliedTagIterator.remove();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Starts a metadata update run, which resets the counters of the current run.
+   *
+   * @since 1.0.0
+   */
+  public static void startRun() {
+    RUN_ADDED_COUNT.reset();
+    RUN_CHANGED_COUNT.reset();
+    RUN_REMOVED_COUNT.reset();
+    RUN_UNCHANGED_COUNT.reset();
+  }
+
+  /**
+   * Finishes a metadata update run, which stores the counters of the current run as the counters of
+   * the last completed run.
+   *
+   * @since 1.0.0
+   */
+  public static void finishRun() {
+    lastRunAddedCount = RUN_ADDED_COUNT.sum();
+    lastRunChangedCount = RUN_CHANGED_COUNT.sum();
+    lastRunRemovedCount = RUN_REMOVED_COUNT.sum();
+    lastRunUnchangedCount = RUN_UNCHANGED_COUNT.sum();
+  }
+
+  /**
+   * Clears the applied configurations of all Ewons and the run counters.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    EWON_APPLIED_TAGS_MAP.clear();
+    startRun();
+    finishRun();
+  }
+
+  /**
+   * Gets the number of tags added in the last completed metadata update run.
+   *
+   * @return the number of added tags
+   * @since 1.0.0
+   */
+  public static long getLastRunAddedCount() {
+    return lastRunAddedCount;
+  }
+
+  /**
+   * Gets the number of tags changed in the last completed metadata update run.
+   *
+   * @return the number of changed tags
+   * @since 1.0.0
+   */
+  public static long getLastRunChangedCount() {
+    return lastRunChangedCount;
+  }
+
+  /**
+   * Gets the number of tags removed in the last completed metadata update run.
+   *
+   * @return the number of removed tags
+   * @since 1.0.0
+   */
+  public static long getLastRunRemovedCount() {
+    return lastRunRemovedCount;
+  }
+
+  /**
+   * Gets the number of tags unchanged in the last completed metadata update run.
+   *
+   * @return the number of unchanged tags
+   * @since 1.0.0
+   */
+  public static long getLastRunUnchangedCount() {
+    return lastRunUnchangedCount;
+  }
+
+  /**
+   * Class for the differences between the tag list of an Ewon and the applied configurations of its
+   * tags.
+   *
+   * @since 1.0.0
+   */
+  public static class TagConfigurationDiff {
+
+    /**
+     * The list of tags which were added to the Ewon, or moved to a different tag provider name.
+     *
+     * @since 1.0.0
+     */
+    private final List<M2WebEwonEBDTag> addedTags = new ArrayList<>();
+
+    /**
+     * The list of tags which configurations changed.
+     *
+     * @since 1.0.0
+     */
+    private final List<M2WebEwonEBDTag> changedTags = new ArrayList<>();
+
+    /**
+     * The list of tag provider names of the tags which were removed from the Ewon, or moved to a
+     * different tag provider name.
+     *
+     * @since 1.0.0
+     */
+    private final List<String> removedTagNames = new ArrayList<>();
+
+    /**
+     * The number of tags which configurations are unchanged.
+     *
+     * @since 1.0.0
+     */
+    private int unchangedCount = 0;
+
+    /**
+     * Gets the list of tags which were added to the Ewon, or moved to a different tag provider
+     * name.
+     *
+     * @return the list of added tags
+     * @since 1.0.0
+     */
+    public List<M2WebEwonEBDTag> getAddedTags() {
+      return addedTags;
+    }
+
+    /**
+     * Gets the list of tags which configurations changed.
+     *
+     * @return the list of changed tags
+     * @since 1.0.0
+     */
+    public List<M2WebEwonEBDTag> getChangedTags() {
+      return changedTags;
+    }
+
+    /**
+     * Gets the list of tag provider names of the tags which were removed from the Ewon, or moved to
+     * a different tag provider name.
+     *
+     * @return the list of tag provider names of removed tags
+     * @since 1.0.0
+     */
+    public List<String> getRemovedTagNames() {
+      return removedTagNames;
+    }
+
+    /**
+     * Gets the number of tags which configurations are unchanged.
+     *
+     * @return the number of unchanged tags
+     * @since 1.0.0
+     */
+    public int getUnchangedCount() {
+      return unchangedCount;
+    }
+  }
+
+  /**
+   * Class for the configuration of a tag which has been applied to the tag provider.
+   *
+   * @since 1.0.0
+   */
+  private static class AppliedTagConfiguration {
+
+    /**
+     * The tag provider name of the tag.
+     *
+     * @since 1.0.0
+     */
+    private final String tagName;
+
+    /**
+     * The hash of the applied configuration of the tag.
+     *
+     * @since 1.0.0
+     */
+    private final int configurationHash;
+
+    /**
+     * Boolean indicating if the applied configuration of the tag has been invalidated, because it
+     * failed to be applied to the tag provider.
+     *
+     * @since 1.0.0
+     */
+    private boolean invalidated = false;
+
+    /**
+     * Creates a new applied configuration of a tag.
+     *
+     * @param tagName the tag provider name of the tag
+     * @param configurationHash the hash of the applied configuration of the tag
+     * @since 1.0.0
+     */
+    private AppliedTagConfiguration(String tagName, int configurationHash) {
+      this.tagName = tagName;
+      this.configurationHash = configurationHash;
+    }
+  }
+}
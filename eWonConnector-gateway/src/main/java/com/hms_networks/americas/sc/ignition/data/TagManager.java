@@ -2,7 +2,7 @@ package com.hms_networks.americas.sc.ignition.data;
 
 import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebEwon;
 import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebEwonTag;
-import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebEwonTagHistoryEntry;
+import com.hms_networks.americas.sc.ignition.comm.responses.dmw.DMWebEwonTagHistoryBlock;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwon;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDInstantValue;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTag;
@@ -18,6 +18,7 @@ import com.inductiveautomation.ignition.common.tags.config.properties.WellKnownT
 import com.inductiveautomation.ignition.common.tags.config.types.TagObjectType;
 import com.inductiveautomation.ignition.common.tags.model.TagPath;
 import com.inductiveautomation.ignition.common.tags.model.TagProvider;
+import com.inductiveautomation.ignition.common.tags.model.event.TagChangeListener;
 import com.inductiveautomation.ignition.common.tags.paths.parser.TagPathParser;
 import com.inductiveautomation.ignition.gateway.history.HistoricalTagValue;
 import com.inductiveautomation.ignition.gateway.model.GatewayContext;
@@ -27,7 +28,9 @@ import com.inductiveautomation.ignition.gateway.tags.managed.ManagedTagProvider;
 import com.inductiveautomation.ignition.gateway.tags.managed.ProviderConfiguration;
 import com.inductiveautomation.metro.utils.StringUtils;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,22 +57,16 @@ public class TagManager {
    */
   private static final String GATEWAY_TAG_PROVIDER_NAME = "Ewon";
 
-  /**
-   * List of Ewon Flexy devices that should be polled via M2Web. This list is populated with Ewon
-   * Flexy devices which have the 'forceRealtimeData' option set to 'true'.
-   *
-   * @since 1.0.0
-   */
-  private static final List<M2WebEwon> FORCED_M2WEB_EWONS = new ArrayList<>();
-
   /**
    * Map of Ewon Flexy names and their tags that have been initialized. This map is populated with
    * Ewon Flexy tags which have been initialized (write handler registration, realtime property
-   * creation, etc.) by the connector.
+   * creation, etc.) by the connector. The map and its tag sets are concurrent, as they are accessed
+   * by the metadata, live polling and tag deletion threads.
    *
    * @since 1.0.0
    */
-  private static final Map<String, List<String>> INITIALIZED_EWON_TAGS = new HashMap<>();
+  private static final Map<String, Set<String>> INITIALIZED_EWON_TAGS =
+      new ConcurrentHashMap<>();
 
   /**
    * The name of the property used to override/force realtime data for an Ewon Flexy device or tag
@@ -103,6 +100,37 @@ public class TagManager {
   private static final BasicProperty<Boolean> REALTIME_OVERRIDE_TAG_PROPERTY =
       new BasicProperty<>(REALTIME_OVERRIDE_PROPERTY_NAME, Boolean.class);
 
+  /**
+   * The tag name used to set the live (M2Web) poll rate, in seconds, of an Ewon Flexy device. A
+   * value of 0 polls the Ewon Flexy device at the configured live poll rate.
+   *
+   * @since 1.0.0
+   */
+  private static final String LIVE_POLL_RATE_TAG_NAME = "_PROPERTIES/LivePollRate";
+
+  /**
+   * The data type for the tag used to set the live (M2Web) poll rate of an Ewon Flexy device.
+   *
+   * @since 1.0.0
+   */
+  private static final DataType LIVE_POLL_RATE_TAG_DATA_TYPE = DataType.Int4;
+
+  /**
+   * The default value of the tag used to set the live (M2Web) poll rate of an Ewon Flexy device,
+   * which polls the Ewon Flexy device at the configured live poll rate.
+   *
+   * @since 1.0.0
+   */
+  private static final int LIVE_POLL_RATE_TAG_DEFAULT_VALUE = 0;
+
+  /**
+   * Map of Ewon Flexy names to their live (M2Web) poll rates, in seconds. Ewon Flexy devices which
+   * are polled at the configured live poll rate are not present in the map.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, Integer> EWON_LIVE_POLL_RATES = new ConcurrentHashMap<>();
+
   /**
    * The name of the property used to store the raw Ewon tag name, for an Ewon Flexy tag via M2Web,
    * inside an Ignition tag.
@@ -120,6 +148,31 @@ public class TagManager {
   private static final BasicProperty<String> RAW_EWON_TAG_NAME_PROPERTY =
       new BasicProperty<>(RAW_EWON_TAG_NAME_PROPERTY_NAME, String.class);
 
+  /**
+   * The maximum number of tags which configurations are read from and saved to the tag provider in
+   * a single request.
+   *
+   * @since 1.0.0
+   */
+  private static final int TAG_CONFIG_BATCH_SIZE = 500;
+
+  /**
+   * The timeout (in seconds) of reading or saving the configurations of a batch of tags.
+   *
+   * @since 1.0.0
+   */
+  private static final int TAG_CONFIG_BATCH_TIMEOUT_SECS = 60;
+
+  /**
+   * Map of tag provider tag names to the listeners subscribed to changes of their realtime override
+   * property, which keep the {@link ForcedRealtimeIndex} current when the property is changed in
+   * the tag configuration.
+   *
+   * @since 1.0.0
+   */
+  private static final Map<String, TagChangeListener> REALTIME_OVERRIDE_PROPERTY_LISTENERS =
+      new ConcurrentHashMap<>();
+
   /**
    * The Ewon connector gateway context.
    *
@@ -169,6 +222,15 @@ public class TagManager {
     // Initialize status tags
     StatusTagManager.initializeStatusTags(tagProvider);
 
+    // Build index of forced realtime tags from existing tag configuration
+    buildForcedRealtimeIndex();
+
+    // Initialize change detection of realtime tag values
+    LiveValueChangeDetector.initialize(
+        connectorSettings.getLiveValueDeadband(),
+        connectorSettings.getLiveValueDeadbandPercent(),
+        TimeUnit.SECONDS.toMillis(connectorSettings.getLiveValueKeepAliveSecs()));
+
     // Configure tag provider deletion handler to cleanup tags on deletion
     tagProvider.setDeletionHandler(
         tagPath -> {
@@ -181,16 +243,27 @@ public class TagManager {
           String tagName = tagPath.getPathComponent(tagPathComponentIndexTagName);
 
           // Remove from initialized tags
-          if (INITIALIZED_EWON_TAGS.containsKey(ewonName)) {
-            INITIALIZED_EWON_TAGS.get(ewonName).remove(tagName);
-            if (INITIALIZED_EWON_TAGS.get(ewonName).isEmpty()) {
-              INITIALIZED_EWON_TAGS.remove(ewonName);
-              FORCED_M2WEB_EWONS.stream()
-                  .filter(ewon -> ewon.getName().equals(ewonName))
-                  .findFirst()
-                  .ifPresent(FORCED_M2WEB_EWONS::remove);
-            }
+          INITIALIZED_EWON_TAGS.computeIfPresent(
+              ewonName,
+              (initializedEwonName, initializedEwonTags) -> {
+                initializedEwonTags.remove(tagName);
+                return initializedEwonTags.isEmpty() ? null : initializedEwonTags;
+              });
+
+          // Remove from forced realtime index (and live poll rate and history high-water marks,
+          // if Ewon deleted), reapply tag configurations on next metadata update and stop
+          // listening for realtime property changes
+          final String deletedTagPath = tagPath.toStringPartial();
+          ForcedRealtimeIndex.remove(deletedTagPath);
+          TagConfigurationTracker.invalidateTags(deletedTagPath);
+          if (deletedTagPath.equals(ewonName)) {
+            EWON_LIVE_POLL_RATES.remove(ewonName);
+            HistoryHighWaterMarks.removeEwon(ewonName);
           }
+          unsubscribeRealtimePropertyListeners(
+              listenerTagName ->
+                  listenerTagName.equals(deletedTagPath)
+                      || listenerTagName.startsWith(deletedTagPath + "/"));
 
           // Log tag deletion
           if (connectorSettings.isDebugEnabled()) {
@@ -231,13 +304,24 @@ public class TagManager {
    * @since 1.0.0
    */
   public static void shutdown() {
+    // Stop listening for realtime property changes
+    if (gatewayContext != null) {
+      unsubscribeRealtimePropertyListeners(listenerTagName -> true);
+    }
+
     if (tagProvider != null) {
       tagProvider.shutdown(false);
       tagProvider = null;
     }
 
     // Clear all lists and maps
-    FORCED_M2WEB_EWONS.clear();
+    ForcedRealtimeIndex.clear();
+    HistoryHighWaterMarks.clear();
+    LiveValueChangeDetector.clear();
+    LivePollTracker.clear();
+    MetadataRefreshQueue.clear();
+    TagConfigurationTracker.clear();
+    EWON_LIVE_POLL_RATES.clear();
     INITIALIZED_EWON_TAGS.clear();
   }
 
@@ -248,13 +332,11 @@ public class TagManager {
    *     option set to 'true'. If the {@link EwonConnectorSettings#isForceLive()} option is set to
    *     'true', this method will return the same result, as this option should be handled by the
    *     calling method.
-   * @return the list of Ewon Flexy devices that should be polled via M2Web
+   * @return the collection of Ewon Flexy devices that should be polled via M2Web
    * @since 1.0.0
    */
-  public static List<M2WebEwon> getForcedM2WebEwons() {
-    synchronized (FORCED_M2WEB_EWONS) {
-      return FORCED_M2WEB_EWONS;
-    }
+  public static Collection<M2WebEwon> getForcedM2WebEwons() {
+    return ForcedRealtimeIndex.getForcedEwons();
   }
 
   /**
@@ -266,9 +348,20 @@ public class TagManager {
    * @since 1.0.0
    */
   public static boolean isEwonForcedM2Web(String ewonName) {
-    synchronized (FORCED_M2WEB_EWONS) {
-      return FORCED_M2WEB_EWONS.stream().anyMatch(ewon -> ewon.getName().equals(ewonName));
-    }
+    return ForcedRealtimeIndex.isEwonForced(ewonName);
+  }
+
+  /**
+   * Checks if the specified Ewon Flexy device has any tags which are configured to be polled via
+   * M2Web.
+   *
+   * @param ewonName Ewon Flexy name to check
+   * @return {@code true} if the Ewon Flexy device has tags which are configured to be polled via
+   *     M2Web, {@code false} otherwise
+   * @since 1.0.0
+   */
+  public static boolean hasEwonTagsForcedM2Web(String ewonName) {
+    return !ForcedRealtimeIndex.getForcedTagNames(ewonName).isEmpty();
   }
 
   /**
@@ -305,7 +398,7 @@ public class TagManager {
 
   /**
    * Checks if the Ewon Flexy tag with the specified provider tag name is configured to be polled
-   * via M2Web.
+   * via M2Web, using the {@link ForcedRealtimeIndex}.
    *
    * @param providerTagName the name of Ewon Flexy tag in the tag provider to check
    * @return {@code true} if the Ewon Flexy tag is configured to be polled via M2Web, {@code false}
@@ -313,9 +406,17 @@ public class TagManager {
    * @since 1.0.0
    */
   private static boolean isEwonTagForcedM2Web(String providerTagName) {
-    // Create boolean to store result
-    boolean isForcedM2Web = false;
+    return ForcedRealtimeIndex.isTagForced(providerTagName);
+  }
 
+  /**
+   * Builds the {@link ForcedRealtimeIndex} in bulk from the existing configuration of all tags in
+   * the tag provider, which is read using a single recursive request. Tags which are configured
+   * later are added to the index as their realtime override property is configured.
+   *
+   * @since 1.0.0
+   */
+  private static void buildForcedRealtimeIndex() {
     // Get tag provider from gateway context
     TagProvider gwTagProvider =
         gatewayContext.getTagManager().getTagProvider(GATEWAY_TAG_PROVIDER_NAME);
@@ -323,43 +424,141 @@ public class TagManager {
     // Check if tag provider exists
     if (gwTagProvider != null) {
       try {
-        // Get path to tag and read config
-        final int gwTagProviderTimeoutSecs = 5;
-        final int tagConfigSingletonIndex = 0;
-        final boolean getTagConfigRecursive = false;
+        // Read config of all tags in tag provider
+        final int gwTagProviderTimeoutSecs = 60;
+        final boolean getTagConfigRecursive = true;
         final boolean getTagConfigIncludeProperties = true;
-        TagPath tagPath = TagPathParser.parse(GATEWAY_TAG_PROVIDER_NAME, providerTagName);
-        List<TagConfigurationModel> tagConfig =
+        TagPath rootTagPath = TagPathParser.parse("[" + GATEWAY_TAG_PROVIDER_NAME + "]");
+        List<TagConfigurationModel> rootTagConfigs =
             gwTagProvider
                 .getTagConfigsAsync(
-                    Collections.singletonList(tagPath),
+                    Collections.singletonList(rootTagPath),
                     getTagConfigRecursive,
                     getTagConfigIncludeProperties)
                 .get(gwTagProviderTimeoutSecs, TimeUnit.SECONDS);
-        TagConfigurationModel tagConfigModel = tagConfig.get(tagConfigSingletonIndex);
 
-        // Get current realtime property value
-        Boolean rawRealtimePropertyValue = tagConfigModel.get(REALTIME_OVERRIDE_TAG_PROPERTY);
-        isForcedM2Web = Boolean.TRUE.equals(rawRealtimePropertyValue);
+        // Index forced realtime tags (tag names are relative to the tag provider root)
+        final String rootTagNamePrefix = "";
+        for (TagConfigurationModel rootTagConfig : rootTagConfigs) {
+          for (TagConfigurationModel tagConfig : rootTagConfig.getChildren()) {
+            indexForcedRealtimeTags(tagConfig, rootTagNamePrefix);
+          }
+        }
+        LOGGER.info(
+            "Indexed {} tag(s) forced to be polled via M2Web.",
+            ForcedRealtimeIndex.getForcedTagCount());
       } catch (Exception e) {
         LOGGER.error(
-            "Could not read realtime property for tag '"
-                + providerTagName
-                + "'! Defaulting to "
-                + isForcedM2Web
-                + ".",
+            "Could not build the index of tags forced to be polled via M2Web! Tags will be indexed"
+                + " as they are configured.",
             e);
       }
     } else {
       LOGGER.error(
-          "Could not read realtime property for tag '{}' because the tag provider '{}' could not be"
-              + " found! Defaulting to {}.",
-          providerTagName,
-          GATEWAY_TAG_PROVIDER_NAME,
-          isForcedM2Web);
+          "Could not build the index of tags forced to be polled via M2Web because the tag"
+              + " provider '{}' could not be found!",
+          GATEWAY_TAG_PROVIDER_NAME);
     }
+  }
 
-    return isForcedM2Web;
+  /**
+   * Adds the specified tag, and all tags within it (if it is a folder), to the {@link
+   * ForcedRealtimeIndex} if their realtime override property is set to 'true'.
+   *
+   * @param tagConfig the configuration of the tag or folder to index
+   * @param tagNamePrefix the tag provider tag name of the parent folder, including the trailing
+   *     separator, or an empty string for the tag provider root
+   * @since 1.0.0
+   */
+  private static void indexForcedRealtimeTags(
+      TagConfigurationModel tagConfig, String tagNamePrefix) {
+    // Index tag if forced realtime
+    final String tagName = tagNamePrefix + tagConfig.getName();
+    if (Boolean.TRUE.equals(tagConfig.get(REALTIME_OVERRIDE_TAG_PROPERTY))) {
+      final boolean isForced = true;
+      ForcedRealtimeIndex.setTagForced(tagName, isForced);
+    }
+
+    // Index tags within folder
+    for (TagConfigurationModel childTagConfig : tagConfig.getChildren()) {
+      indexForcedRealtimeTags(childTagConfig, tagName + "/");
+    }
+  }
+
+  /**
+   * Subscribes to changes of the realtime override property of the specified tag, so that the
+   * {@link ForcedRealtimeIndex} is updated when the property is changed in the tag configuration.
+   * Does nothing if the tag is already subscribed.
+   *
+   * @param tagName the tag provider tag name of the tag
+   * @since 1.0.0
+   */
+  private static void subscribeRealtimePropertyListener(String tagName) {
+    // Create listener to update index on property change
+    TagChangeListener realtimePropertyListener =
+        tagChangeEvent -> {
+          QualifiedValue realtimePropertyValue = tagChangeEvent.getValue();
+          boolean isForced =
+              realtimePropertyValue != null
+                  && Boolean.TRUE.equals(realtimePropertyValue.getValue());
+          if (ForcedRealtimeIndex.setTagForced(tagName, isForced)
+              && connectorSettings.isDebugEnabled()) {
+            LOGGER.debug("Realtime property for tag path {} changed to {}", tagName, isForced);
+          }
+        };
+
+    // Subscribe listener, if not already subscribed
+    if (REALTIME_OVERRIDE_PROPERTY_LISTENERS.putIfAbsent(tagName, realtimePropertyListener)
+        == null) {
+      try {
+        TagPath realtimePropertyTagPath =
+            TagPathParser.parse(
+                GATEWAY_TAG_PROVIDER_NAME, tagName + "." + REALTIME_OVERRIDE_PROPERTY_NAME);
+        gatewayContext
+            .getTagManager()
+            .subscribeAsync(
+                Collections.singletonList(realtimePropertyTagPath),
+                Collections.singletonList(realtimePropertyListener));
+      } catch (Exception e) {
+        REALTIME_OVERRIDE_PROPERTY_LISTENERS.remove(tagName, realtimePropertyListener);
+        LOGGER.error("Could not subscribe to realtime property for tag: " + tagName + "!", e);
+      }
+    }
+  }
+
+  /**
+   * Unsubscribes the realtime override property listeners of the tags whose tag provider tag name
+   * matches the specified filter.
+   *
+   * @param tagNameFilter the filter of tag provider tag names to unsubscribe the listeners of
+   * @since 1.0.0
+   */
+  private static void unsubscribeRealtimePropertyListeners(Predicate<String> tagNameFilter) {
+    // Remove matching listeners
+    List<TagPath> realtimePropertyTagPaths = new ArrayList<>();
+    List<TagChangeListener> realtimePropertyListeners = new ArrayList<>();
+    for (Map.Entry<String, TagChangeListener> listenerEntry :
+        REALTIME_OVERRIDE_PROPERTY_LISTENERS.entrySet()) {
+      final String tagName = listenerEntry.getKey();
+      if (tagNameFilter.test(tagName)
+          && REALTIME_OVERRIDE_PROPERTY_LISTENERS.remove(tagName, listenerEntry.getValue())) {
+        try {
+          realtimePropertyTagPaths.add(
+              TagPathParser.parse(
+                  GATEWAY_TAG_PROVIDER_NAME, tagName + "." + REALTIME_OVERRIDE_PROPERTY_NAME));
+          realtimePropertyListeners.add(listenerEntry.getValue());
+        } catch (Exception e) {
+          LOGGER.error("Could not unsubscribe from realtime property for tag: " + tagName + "!", e);
+        }
+      }
+    }
+
+    // Unsubscribe removed listeners
+    if (!realtimePropertyTagPaths.isEmpty()) {
+      gatewayContext
+          .getTagManager()
+          .unsubscribeAsync(realtimePropertyTagPaths, realtimePropertyListeners);
+    }
   }
 
   /**
@@ -412,9 +611,8 @@ public class TagManager {
 
       // Add to list of forced realtime Ewons if enabled
       if (Boolean.TRUE.equals(isEwonRealtimeOverrideEnabled.getValue())) {
-        if (!FORCED_M2WEB_EWONS.contains(m2WebEwon)) {
-          FORCED_M2WEB_EWONS.add(m2WebEwon);
-        }
+        final boolean isForced = true;
+        ForcedRealtimeIndex.setEwonForced(m2WebEwon, isForced);
         if (connectorSettings.isDebugEnabled()) {
           LOGGER.debug("Added Ewon to forced realtime Ewons list: {}", m2WebEwon.getName());
         }
@@ -430,41 +628,145 @@ public class TagManager {
     tagProvider.registerWriteHandler(
         realtimeOverridePropertyTagName,
         (tagPath, tagValueRaw) -> {
-          synchronized (FORCED_M2WEB_EWONS) {
-            if (tagValueRaw instanceof Boolean) {
-              boolean tagValue = (Boolean) tagValueRaw;
-              if (tagValue) {
-                if (!FORCED_M2WEB_EWONS.contains(m2WebEwon)) {
-                  FORCED_M2WEB_EWONS.add(m2WebEwon);
-                  if (connectorSettings.isDebugEnabled()) {
-                    LOGGER.debug(
-                        "Added Ewon to forced realtime Ewons list: {}", m2WebEwon.getName());
-                  }
-                }
-              } else {
-                FORCED_M2WEB_EWONS.remove(m2WebEwon);
+          if (tagValueRaw instanceof Boolean) {
+            boolean tagValue = (Boolean) tagValueRaw;
+            if (tagValue) {
+              if (ForcedRealtimeIndex.setEwonForced(m2WebEwon, tagValue)) {
                 if (connectorSettings.isDebugEnabled()) {
-                  LOGGER.debug(
-                      "Removed Ewon from forced realtime Ewons list: {}", m2WebEwon.getName());
+                  LOGGER.debug("Added Ewon to forced realtime Ewons list: {}", m2WebEwon.getName());
                 }
               }
-              tagProvider.updateValue(realtimeOverridePropertyTagName, tagValue, QualityCode.Good);
             } else {
-              LOGGER.warn(
-                  "Received invalid value for realtime override tag for Ewon: {}. "
-                      + "Expected boolean, received: {}. Resetting tag data type and value!",
-                  m2WebEwon.getName(),
-                  tagValueRaw);
-              tagProvider.configureTag(
-                  realtimeOverridePropertyTagName, REALTIME_OVERRIDE_TAG_DATA_TYPE);
-              tagProvider.updateValue(
-                  realtimeOverridePropertyTagName, Boolean.FALSE, QualityCode.Good);
+              ForcedRealtimeIndex.setEwonForced(m2WebEwon, tagValue);
+              if (connectorSettings.isDebugEnabled()) {
+                LOGGER.debug(
+                    "Removed Ewon from forced realtime Ewons list: {}", m2WebEwon.getName());
+              }
             }
+            tagProvider.updateValue(realtimeOverridePropertyTagName, tagValue, QualityCode.Good);
+          } else {
+            LOGGER.warn(
+                "Received invalid value for realtime override tag for Ewon: {}. "
+                    + "Expected boolean, received: {}. Resetting tag data type and value!",
+                m2WebEwon.getName(),
+                tagValueRaw);
+            tagProvider.configureTag(
+                realtimeOverridePropertyTagName, REALTIME_OVERRIDE_TAG_DATA_TYPE);
+            tagProvider.updateValue(
+                realtimeOverridePropertyTagName, Boolean.FALSE, QualityCode.Good);
           }
           return QualityCode.Good;
         });
   }
 
+  /**
+   * Configures the live poll rate tag for the specified Ewon Flexy device.
+   *
+   * @param m2WebEwon the {@link M2WebEwon} object for the Ewon to configure the live poll rate
+   *     property tag for
+   * @since 1.0.0
+   */
+  public static void configureLivePollRatePropertyForEwon(M2WebEwon m2WebEwon) {
+    // Get tag name
+    boolean isInGroup = false;
+    boolean isSystemTag = true;
+    final String livePollRatePropertyTagName =
+        TagManagerUtilities.getTagNameForProviderFromRawTagInfo(
+            connectorSettings,
+            m2WebEwon.getName(),
+            LIVE_POLL_RATE_TAG_NAME,
+            isInGroup,
+            isInGroup,
+            isInGroup,
+            isInGroup,
+            isSystemTag);
+
+    // Configure live poll rate tag data type
+    tagProvider.configureTag(livePollRatePropertyTagName, LIVE_POLL_RATE_TAG_DATA_TYPE);
+
+    // Check if live poll rate tag value exists, and set if not
+    try {
+      // Attempt to read existing value (if it exists)
+      final int firstIndexValueRead = 0;
+      TagPath livePollRateTagPath =
+          TagPathParser.parse(GATEWAY_TAG_PROVIDER_NAME, livePollRatePropertyTagName);
+      QualifiedValue livePollRate =
+          gatewayContext
+              .getTagManager()
+              .readAsync(Collections.singletonList(livePollRateTagPath))
+              .get()
+              .get(firstIndexValueRead);
+
+      // Store live poll rate of Ewon if set
+      if (livePollRate.getValue() instanceof Number) {
+        setEwonLivePollRate(m2WebEwon.getName(), ((Number) livePollRate.getValue()).intValue());
+      } else {
+        tagProvider.updateValue(
+            livePollRatePropertyTagName, LIVE_POLL_RATE_TAG_DEFAULT_VALUE, QualityCode.Good);
+      }
+    } catch (Exception e) {
+      LOGGER.error("Error reading live poll rate tag value for Ewon: {}", m2WebEwon.getName(), e);
+      // Value does not exist, need to set (default: configured live poll rate)
+      tagProvider.updateValue(
+          livePollRatePropertyTagName, LIVE_POLL_RATE_TAG_DEFAULT_VALUE, QualityCode.Good);
+    }
+
+    // Configure live poll rate tag write handler
+    tagProvider.registerWriteHandler(
+        livePollRatePropertyTagName,
+        (tagPath, tagValueRaw) -> {
+          if (tagValueRaw instanceof Number && ((Number) tagValueRaw).intValue() >= 0) {
+            int tagValue = ((Number) tagValueRaw).intValue();
+            setEwonLivePollRate(m2WebEwon.getName(), tagValue);
+            if (connectorSettings.isDebugEnabled()) {
+              LOGGER.debug("Set live poll rate of Ewon {} to {}s", m2WebEwon.getName(), tagValue);
+            }
+            tagProvider.updateValue(livePollRatePropertyTagName, tagValue, QualityCode.Good);
+          } else {
+            LOGGER.warn(
+                "Received invalid value for live poll rate tag for Ewon: {}. "
+                    + "Expected non-negative integer, received: {}. Resetting tag data type and"
+                    + " value!",
+                m2WebEwon.getName(),
+                tagValueRaw);
+            setEwonLivePollRate(m2WebEwon.getName(), LIVE_POLL_RATE_TAG_DEFAULT_VALUE);
+            tagProvider.configureTag(livePollRatePropertyTagName, LIVE_POLL_RATE_TAG_DATA_TYPE);
+            tagProvider.updateValue(
+                livePollRatePropertyTagName, LIVE_POLL_RATE_TAG_DEFAULT_VALUE, QualityCode.Good);
+          }
+          return QualityCode.Good;
+        });
+  }
+
+  /**
+   * Sets the live (M2Web) poll rate of the specified Ewon Flexy device.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @param livePollRate the live poll rate, in seconds, or 0 (or less) to poll the Ewon Flexy
+   *     device at the configured live poll rate
+   * @since 1.0.0
+   */
+  private static void setEwonLivePollRate(String ewonName, int livePollRate) {
+    if (livePollRate > 0) {
+      EWON_LIVE_POLL_RATES.put(ewonName, livePollRate);
+    } else {
+      EWON_LIVE_POLL_RATES.remove(ewonName);
+    }
+  }
+
+  /**
+   * Gets the live (M2Web) poll rate of the specified Ewon Flexy device, as set by its live poll
+   * rate tag.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return the live poll rate, in seconds, or 0 if the Ewon Flexy device is polled at the
+   *     configured live poll rate
+   * @since 1.0.0
+   */
+  public static int getEwonLivePollRate(String ewonName) {
+    return EWON_LIVE_POLL_RATES.getOrDefault(ewonName, LIVE_POLL_RATE_TAG_DEFAULT_VALUE);
+  }
+
   /**
    * Configures the realtime override tag property for the specified tag on the specified Ewon Flexy
    * device.
@@ -482,61 +784,9 @@ public class TagManager {
         TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
             connectorSettings, m2WebEwon, m2WebEwonEBDTag);
 
-    // Get tag provider from gateway context
-    TagProvider gwTagProvider =
-        gatewayContext.getTagManager().getTagProvider(GATEWAY_TAG_PROVIDER_NAME);
-
-    // Check if tag provider exists
-    if (gwTagProvider != null) {
-      try {
-        // Get path to tag and read config
-        final int gwTagProviderTimeoutSecs = 5;
-        final int tagConfigSingletonIndex = 0;
-        final boolean getTagConfigRecursive = false;
-        final boolean getTagConfigIncludeProperties = true;
-        TagPath tagPath = TagPathParser.parse(GATEWAY_TAG_PROVIDER_NAME, tagName);
-        List<TagConfigurationModel> tagConfig =
-            gwTagProvider
-                .getTagConfigsAsync(
-                    Collections.singletonList(tagPath),
-                    getTagConfigRecursive,
-                    getTagConfigIncludeProperties)
-                .get(gwTagProviderTimeoutSecs, TimeUnit.SECONDS);
-        TagConfigurationModel tagConfigModel = tagConfig.get(tagConfigSingletonIndex);
-
-        // Get current realtime property value
-        boolean isForcedRealtimeExists = tagConfigModel.contains(REALTIME_OVERRIDE_TAG_PROPERTY);
-        Boolean isForcedRealtime =
-            Boolean.TRUE.equals(tagConfigModel.get(REALTIME_OVERRIDE_TAG_PROPERTY));
-
-        // Create realtime override property if it does not exist
-        if (!isForcedRealtimeExists) {
-          // Configure realtime override property (default to false)
-          PropertyValue realtimeOverridePropertyValue =
-              new PropertyValue(REALTIME_OVERRIDE_TAG_PROPERTY, isForcedRealtime);
-          tagConfigModel.set(realtimeOverridePropertyValue);
-
-          // Save tag config changes
-          gwTagProvider
-              .saveTagConfigsAsync(
-                  Collections.singletonList(tagConfigModel), CollisionPolicy.MergeOverwrite)
-              .get(gwTagProviderTimeoutSecs, TimeUnit.SECONDS);
-
-          // Log debug message
-          if (connectorSettings.isDebugEnabled()) {
-            LOGGER.debug("Configured realtime property for tag path {}", tagName);
-          }
-        }
-      } catch (Exception e) {
-        LOGGER.error("Could not configure realtime property for tag: " + tagName + "!", e);
-      }
-    } else {
-      LOGGER.error(
-          "Could not find tag provider with name: {}! Cannot configure realtime property for tag:"
-              + " {}",
-          GATEWAY_TAG_PROVIDER_NAME,
-          tagName);
-    }
+    // Configure realtime property in batch of one tag
+    final boolean updateMetadata = false;
+    updateTagConfigurations(m2WebEwon, List.of(m2WebEwonEBDTag), Set.of(tagName), updateMetadata);
   }
 
   /**
@@ -581,6 +831,8 @@ public class TagManager {
 
   /**
    * Applies the specified {@link M2WebEwon} and {@link M2WebEwonEBDTag} configurations to the
+   * {@link TagProvider}. Only the tags which were added, changed or removed since the
+   * configurations were last applied (see {@link TagConfigurationTracker}) are applied to the
    * {@link TagProvider}.
    *
    * @param m2WebEwon the {@link M2WebEwon} object for the Ewon to apply the tag configurations to
@@ -592,26 +844,66 @@ public class TagManager {
   public static void applyM2WebEwonTagConfigurations(
       M2WebEwon m2WebEwon, Collection<M2WebEwonEBDTag> m2WebEwonEBDTags) {
     // Check if Ewon is already initialized in tag provider
-    boolean isEwonInitializedInTagProvider = INITIALIZED_EWON_TAGS.containsKey(m2WebEwon.getName());
+    Set<String> initializedEwonTags = INITIALIZED_EWON_TAGS.get(m2WebEwon.getName());
 
     // Initialize Ewon in tag provider if not already initialized
-    if (!isEwonInitializedInTagProvider) {
-      // Ensure realtime override exists for Ewon
+    if (initializedEwonTags == null) {
+      // Ensure realtime override and live poll rate exist for Ewon
       configureRealtimePropertyForEwon(m2WebEwon);
+      configureLivePollRatePropertyForEwon(m2WebEwon);
 
       // Add Ewon to initialized Ewon tags list
-      INITIALIZED_EWON_TAGS.put(m2WebEwon.getName(), new ArrayList<>());
+      initializedEwonTags =
+          INITIALIZED_EWON_TAGS.computeIfAbsent(
+              m2WebEwon.getName(), ewonName -> ConcurrentHashMap.newKeySet());
+
+      // Apply all tags of Ewon
+      TagConfigurationTracker.invalidateEwon(m2WebEwon.getName());
+    }
+
+    // Get tags which were added, changed or removed since last applied
+    TagConfigurationTracker.TagConfigurationDiff tagConfigurationDiff =
+        TagConfigurationTracker.diff(
+            m2WebEwon.getName(),
+            m2WebEwonEBDTags,
+            m2WebEwonEBDTag ->
+                TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
+                    connectorSettings, m2WebEwon, m2WebEwonEBDTag));
+    if (connectorSettings.isDebugEnabled()) {
+      LOGGER.debug(
+          "Applying tag configurations for Ewon '{}': {} added, {} changed, {} removed, {}"
+              + " unchanged.",
+          m2WebEwon.getName(),
+          tagConfigurationDiff.getAddedTags().size(),
+          tagConfigurationDiff.getChangedTags().size(),
+          tagConfigurationDiff.getRemovedTagNames().size(),
+          tagConfigurationDiff.getUnchangedCount());
+    }
+
+    // Remove tags which were removed from Ewon
+    for (String removedTagName : tagConfigurationDiff.getRemovedTagNames()) {
+      removeM2WebEwonTag(m2WebEwon, removedTagName);
+    }
+
+    // Invalidate cached live values if tag IDs were added or removed (tag IDs may be reused)
+    if (!tagConfigurationDiff.getAddedTags().isEmpty()
+        || !tagConfigurationDiff.getRemovedTagNames().isEmpty()) {
+      LiveValueChangeDetector.invalidateEwon(m2WebEwon.getName());
     }
 
-    for (M2WebEwonEBDTag m2WebEwonEBDTag : m2WebEwonEBDTags) {
+    // Configure tags which were added or changed
+    List<M2WebEwonEBDTag> addedOrChangedTags = new ArrayList<>(tagConfigurationDiff.getAddedTags());
+    addedOrChangedTags.addAll(tagConfigurationDiff.getChangedTags());
+    List<M2WebEwonEBDTag> configuredTags = new ArrayList<>();
+    Set<String> realtimePropertyTagNames = new HashSet<>();
+    for (M2WebEwonEBDTag m2WebEwonEBDTag : addedOrChangedTags) {
       // Get tag name
       final String tagName =
           TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
               connectorSettings, m2WebEwon, m2WebEwonEBDTag);
 
       // Check if tag is already initialized in tag provider
-      boolean isEwonTagInitializedInTagProvider =
-          INITIALIZED_EWON_TAGS.get(m2WebEwon.getName()).contains(tagName);
+      boolean isEwonTagInitializedInTagProvider = initializedEwonTags.contains(tagName);
 
       // Get tag type
       final EwonTagType tagType = EwonTagType.getTagTypeFromInt(m2WebEwonEBDTag.getType());
@@ -628,19 +920,19 @@ public class TagManager {
         }
         tagProvider.configureTag(tagName, tagType.getIgnitionDataType());
 
-        // Update tag metadata
-        updateTagMetadata(m2WebEwon, m2WebEwonEBDTag);
+        // Add tag to batch of tag metadata updates
+        configuredTags.add(m2WebEwonEBDTag);
 
         // Initialize tag in tag provider if not already initialized
         if (!isEwonTagInitializedInTagProvider) {
-          // Ensure realtime property exists for tag
-          configureRealtimePropertyForTag(m2WebEwon, m2WebEwonEBDTag);
+          // Ensure realtime property exists for tag (in batch of tag metadata updates)
+          realtimePropertyTagNames.add(tagName);
 
           // Configure write handler
           configureWriteHandlerForTag(m2WebEwon, m2WebEwonEBDTag);
 
           // Add tag to initialized Ewon tags list
-          INITIALIZED_EWON_TAGS.get(m2WebEwon.getName()).add(tagName);
+          initializedEwonTags.add(tagName);
 
           // Log debug message
           if (connectorSettings.isDebugEnabled()) {
@@ -657,8 +949,61 @@ public class TagManager {
             "Failed to configure tag '{}' due to an unknown tag type '{}'!",
             tagName,
             m2WebEwonEBDTag.getType());
+
+        // Apply tag again by next metadata update
+        TagConfigurationTracker.invalidateTag(m2WebEwon.getName(), m2WebEwonEBDTag.getId());
       }
     }
+
+    // Update metadata (and realtime property) of configured tags in batches
+    final boolean updateMetadata = true;
+    updateTagConfigurations(m2WebEwon, configuredTags, realtimePropertyTagNames, updateMetadata);
+  }
+
+  /**
+   * Removes the specified tag, which was removed from the specified {@link M2WebEwon}, from the
+   * {@link TagProvider}.
+   *
+   * @param m2WebEwon the {@link M2WebEwon} object for the Ewon the tag was removed from
+   * @param tagName the tag provider tag name of the removed tag
+   * @since 1.0.0
+   */
+  private static void removeM2WebEwonTag(M2WebEwon m2WebEwon, String tagName) {
+    // Remove from initialized tags, forced realtime index and realtime property listeners
+    Set<String> initializedEwonTags = INITIALIZED_EWON_TAGS.get(m2WebEwon.getName());
+    if (initializedEwonTags != null) {
+      initializedEwonTags.remove(tagName);
+    }
+    ForcedRealtimeIndex.remove(tagName);
+    unsubscribeRealtimePropertyListeners(listenerTagName -> listenerTagName.equals(tagName));
+
+    // Remove tag from tag provider
+    tagProvider.removeTag(tagName);
+    if (connectorSettings.isDebugEnabled()) {
+      LOGGER.debug(
+          "Removed tag '{}' from tag provider because it was removed from Ewon '{}'.",
+          tagName,
+          m2WebEwon.getName());
+    }
+  }
+
+  /**
+   * Invalidates the configuration of the specified tag on the specified {@link M2WebEwon}, because
+   * it failed to be updated in the {@link TagProvider}, so that the tag is configured and
+   * initialized again by the next metadata update (see {@link TagConfigurationTracker}).
+   *
+   * @param m2WebEwon the {@link M2WebEwon} object for the Ewon of the tag
+   * @param m2WebEwonEBDTag the {@link M2WebEwonEBDTag} object for the tag
+   * @param tagName the tag provider tag name of the tag
+   * @since 1.0.0
+   */
+  private static void invalidateM2WebEwonTag(
+      M2WebEwon m2WebEwon, M2WebEwonEBDTag m2WebEwonEBDTag, String tagName) {
+    Set<String> initializedEwonTags = INITIALIZED_EWON_TAGS.get(m2WebEwon.getName());
+    if (initializedEwonTags != null) {
+      initializedEwonTags.remove(tagName);
+    }
+    TagConfigurationTracker.invalidateTag(m2WebEwon.getName(), m2WebEwonEBDTag.getId());
   }
 
   /**
@@ -671,77 +1016,177 @@ public class TagManager {
    * @since 1.0.0
    */
   public static void updateTagMetadata(M2WebEwon m2WebEwon, M2WebEwonEBDTag m2WebEwonEBDTag) {
-    // Update metadata such as tag descriptions
-    try {
-      // Get tag provider from gateway context
-      final TagProvider tagProvider =
-          gatewayContext.getTagManager().getTagProvider(GATEWAY_TAG_PROVIDER_NAME);
-
-      // Get path to tag and read config
-      final int gwTagProviderTimeoutSeconds = 5;
-      final int tagConfigSingletonIndex = 0;
-      final String tagName =
-          TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
-              connectorSettings, m2WebEwon, m2WebEwonEBDTag);
-      final TagPath tagPath = TagPathParser.parse(tagName);
+    // Update metadata in batch of one tag
+    final boolean updateMetadata = true;
+    updateTagConfigurations(m2WebEwon, List.of(m2WebEwonEBDTag), Set.of(), updateMetadata);
+  }
 
-      // Log debug message
-      if (connectorSettings.isDebugEnabled()) {
-        LOGGER.debug(
-            "Updating metadata for tag '{}' from Ewon '{}'...", tagName, m2WebEwon.getName());
+  /**
+   * Updates the configurations of the specified {@link M2WebEwonEBDTag}s on the specified {@link
+   * M2WebEwon} in batches of {@link #TAG_CONFIG_BATCH_SIZE} tags. The configurations of each batch
+   * are read from the tag provider with a single request, updated in memory, and saved to the tag
+   * provider with a single request, instead of reading and saving the configuration of each tag
+   * separately. Tags which configurations fail to be updated are invalidated (see {@link
+   * #invalidateM2WebEwonTag(M2WebEwon, M2WebEwonEBDTag, String)}), so that they are updated again
+   * by the next metadata update.
+   *
+   * @param m2WebEwon the {@link M2WebEwon} object for the Ewon to update the tag configurations for
+   * @param m2WebEwonEBDTags the {@link M2WebEwonEBDTag} objects for the tags to update the
+   *     configurations for
+   * @param realtimePropertyTagNames the tag provider tag names of the tags to configure the
+   *     realtime override property for, if it does not exist
+   * @param updateMetadata true to update the metadata (description and raw tag name) of the tags
+   * @since 1.0.0
+   */
+  private static void updateTagConfigurations(
+      M2WebEwon m2WebEwon,
+      List<M2WebEwonEBDTag> m2WebEwonEBDTags,
+      Set<String> realtimePropertyTagNames,
+      boolean updateMetadata) {
+    // Get tag provider from gateway context
+    final TagProvider gwTagProvider =
+        gatewayContext.getTagManager().getTagProvider(GATEWAY_TAG_PROVIDER_NAME);
+    if (gwTagProvider == null) {
+      LOGGER.error(
+          "Failed to get tag provider '{}' from gateway context!", GATEWAY_TAG_PROVIDER_NAME);
+      for (M2WebEwonEBDTag m2WebEwonEBDTag : m2WebEwonEBDTags) {
+        invalidateM2WebEwonTag(
+            m2WebEwon,
+            m2WebEwonEBDTag,
+            TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
+                connectorSettings, m2WebEwon, m2WebEwonEBDTag));
       }
+      return;
+    }
 
-      // Read config and update metadata if successful
-      if (tagProvider != null) {
-        TagConfigurationModel tagConfigurationModel =
-            tagProvider
-                .getTagConfigsAsync(List.of(tagPath), false, false)
-                .get(gwTagProviderTimeoutSeconds, TimeUnit.SECONDS)
-                .get(tagConfigSingletonIndex);
-        // Check integrity of read config
-        if (tagConfigurationModel != null
-            && tagConfigurationModel.getType() != TagObjectType.Unknown) {
-          // Set documentation and tooltip to tag description
-          tagConfigurationModel.set(
-              WellKnownTagProps.Documentation, m2WebEwonEBDTag.getDescription());
-          tagConfigurationModel.set(WellKnownTagProps.Tooltip, m2WebEwonEBDTag.getDescription());
-
-          // Set raw tag name
-          tagConfigurationModel.set(RAW_EWON_TAG_NAME_PROPERTY, m2WebEwonEBDTag.getName());
-
-          // Save tag config changes
-          tagProvider
-              .saveTagConfigsAsync(
-                  Collections.singletonList(tagConfigurationModel), CollisionPolicy.MergeOverwrite)
-              .get(gwTagProviderTimeoutSeconds, TimeUnit.SECONDS);
-        } else if (tagConfigurationModel != null
-            && tagConfigurationModel.getType() == TagObjectType.Unknown) {
-          LOGGER.error(
-              "Tag configuration for tag '{}' on Ewon '{}' from tag provider '{}' is an unknown"
-                  + " type!",
-              tagPath,
-              m2WebEwon.getName(),
-              GATEWAY_TAG_PROVIDER_NAME);
-        } else {
-          LOGGER.error(
-              "Failed to get tag configuration for tag '{}' on Ewon '{}' from tag provider '{}'!",
-              tagPath,
+    // Update configs of each batch of tags
+    for (int batchStartIndex = 0;
+        batchStartIndex < m2WebEwonEBDTags.size();
+        batchStartIndex += TAG_CONFIG_BATCH_SIZE) {
+      final long batchStartTimeMillis = System.currentTimeMillis();
+      List<M2WebEwonEBDTag> batchTags =
+          m2WebEwonEBDTags.subList(
+              batchStartIndex,
+              Math.min(batchStartIndex + TAG_CONFIG_BATCH_SIZE, m2WebEwonEBDTags.size()));
+      try {
+        // Get paths to tags and read configs
+        List<String> batchTagNames = new ArrayList<>(batchTags.size());
+        List<TagPath> batchTagPaths = new ArrayList<>(batchTags.size());
+        for (M2WebEwonEBDTag m2WebEwonEBDTag : batchTags) {
+          final String tagName =
+              TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
+                  connectorSettings, m2WebEwon, m2WebEwonEBDTag);
+          batchTagNames.add(tagName);
+          batchTagPaths.add(TagPathParser.parse(GATEWAY_TAG_PROVIDER_NAME, tagName));
+        }
+        final boolean getTagConfigRecursive = false;
+        final boolean getTagConfigIncludeProperties = true;
+        List<TagConfigurationModel> tagConfigModels =
+            gwTagProvider
+                .getTagConfigsAsync(
+                    batchTagPaths, getTagConfigRecursive, getTagConfigIncludeProperties)
+                .get(TAG_CONFIG_BATCH_TIMEOUT_SECS, TimeUnit.SECONDS);
+
+        // Update configs in memory
+        List<TagConfigurationModel> changedTagConfigModels = new ArrayList<>();
+        Map<String, Boolean> forcedRealtimeTagNames = new HashMap<>();
+        for (int i = 0; i < batchTags.size(); i++) {
+          final M2WebEwonEBDTag m2WebEwonEBDTag = batchTags.get(i);
+          final String tagName = batchTagNames.get(i);
+          final TagConfigurationModel tagConfigModel =
+              i < tagConfigModels.size() ? tagConfigModels.get(i) : null;
+
+          // Check integrity of read config
+          if (tagConfigModel == null) {
+            LOGGER.error(
+                "Failed to get tag configuration for tag '{}' on Ewon '{}' from tag provider '{}'!",
+                tagName,
+                m2WebEwon.getName(),
+                GATEWAY_TAG_PROVIDER_NAME);
+            invalidateM2WebEwonTag(m2WebEwon, m2WebEwonEBDTag, tagName);
+            continue;
+          } else if (tagConfigModel.getType() == TagObjectType.Unknown) {
+            LOGGER.error(
+                "Tag configuration for tag '{}' on Ewon '{}' from tag provider '{}' is an unknown"
+                    + " type!",
+                tagName,
+                m2WebEwon.getName(),
+                GATEWAY_TAG_PROVIDER_NAME);
+            invalidateM2WebEwonTag(m2WebEwon, m2WebEwonEBDTag, tagName);
+            continue;
+          }
+
+          // Set documentation and tooltip to tag description, and raw tag name
+          boolean tagConfigChanged = false;
+          if (updateMetadata) {
+            tagConfigModel.set(WellKnownTagProps.Documentation, m2WebEwonEBDTag.getDescription());
+            tagConfigModel.set(WellKnownTagProps.Tooltip, m2WebEwonEBDTag.getDescription());
+            tagConfigModel.set(RAW_EWON_TAG_NAME_PROPERTY, m2WebEwonEBDTag.getName());
+            tagConfigChanged = true;
+          }
+
+          // Create realtime override property (default to false) if it does not exist
+          if (realtimePropertyTagNames.contains(tagName)) {
+            Boolean isForcedRealtime =
+                Boolean.TRUE.equals(tagConfigModel.get(REALTIME_OVERRIDE_TAG_PROPERTY));
+            if (!tagConfigModel.contains(REALTIME_OVERRIDE_TAG_PROPERTY)) {
+              tagConfigModel.set(
+                  new PropertyValue(REALTIME_OVERRIDE_TAG_PROPERTY, isForcedRealtime));
+              tagConfigChanged = true;
+            }
+            forcedRealtimeTagNames.put(tagName, isForcedRealtime);
+          }
+          if (tagConfigChanged) {
+            changedTagConfigModels.add(tagConfigModel);
+          }
+        }
+
+        // Save config changes
+        if (!changedTagConfigModels.isEmpty()) {
+          gwTagProvider
+              .saveTagConfigsAsync(changedTagConfigModels, CollisionPolicy.MergeOverwrite)
+              .get(TAG_CONFIG_BATCH_TIMEOUT_SECS, TimeUnit.SECONDS);
+        }
+
+        // Index current realtime property values and listen for changes
+        for (Map.Entry<String, Boolean> forcedRealtimeTagName : forcedRealtimeTagNames.entrySet()) {
+          ForcedRealtimeIndex.setTagForced(
+              forcedRealtimeTagName.getKey(), forcedRealtimeTagName.getValue());
+          subscribeRealtimePropertyListener(forcedRealtimeTagName.getKey());
+        }
+
+        // Log batch timing
+        if (connectorSettings.isDebugEnabled() || batchTags.size() > 1) {
+          LOGGER.info(
+              "Updated configuration of {} tag(s) ({} saved) for Ewon '{}' in {} ms.",
+              batchTags.size(),
+              changedTagConfigModels.size(),
               m2WebEwon.getName(),
-              GATEWAY_TAG_PROVIDER_NAME);
+              System.currentTimeMillis() - batchStartTimeMillis);
         }
-      } else {
+      } catch (Exception e) {
         LOGGER.error(
-            "Failed to get tag provider '{}' from gateway context!", GATEWAY_TAG_PROVIDER_NAME);
-      }
+            "Failed to update configuration of {} tag(s) for Ewon '{}' due to an exception!",
+            batchTags.size(),
+            m2WebEwon.getName(),
+            e);
 
-    } catch (Exception e) {
-      LOGGER.error("Failed to update tag metadata due to an exception!", e);
+        // Update configs of batch again by next metadata update
+        for (M2WebEwonEBDTag m2WebEwonEBDTag : batchTags) {
+          invalidateM2WebEwonTag(
+              m2WebEwon,
+              m2WebEwonEBDTag,
+              TagManagerUtilities.getTagNameForProviderFromM2WebEwon(
+                  connectorSettings, m2WebEwon, m2WebEwonEBDTag));
+        }
+      }
     }
   }
 
   /**
    * Updates the historical value(s) for the specified {@link M2WebEwonEBDTag} on the specified
-   * {@link M2WebEwon}.
+   * {@link M2WebEwon}. Historical values at or below the high-water mark of the tag (see {@link
+   * HistoryHighWaterMarks}) have already been written, and are skipped.
    *
    * @param ewon the {@link M2WebEwon} object for the Ewon to update the tag historical value(s) for
    * @param ewonTag the {@link M2WebEwonEBDTag} object for the tag to update the historical value(s)
@@ -775,17 +1220,29 @@ public class TagManager {
       BasicScanclassHistorySet historySet =
           new BasicScanclassHistorySet(
               GATEWAY_TAG_PROVIDER_NAME, scanClassName, scanClassExecutionRateSeconds);
-      for (DMWebEwonTagHistoryEntry historyEntry : ewonTag.getHistory()) {
-        final Object historyTagValue =
-            TagManagerUtilities.getTagValueForType(historyEntry.getValue(), tagType);
-        final EwonTagQuality ewonTagQuality = new EwonTagQuality(historyEntry.getQuality());
-        final Date historyTagTimestamp = historyEntry.getDate();
+      final boolean historyEnabled =
+          connectorSettings.isHistoryEnabled()
+              && !StringUtils.isBlank(connectorSettings.getHistoryProvider());
+      final DMWebEwonTagHistoryBlock historyBlock = ewonTag.getHistoryBlock();
+      final long highWaterMark = HistoryHighWaterMarks.get(ewon.getName(), ewonTag.getId());
+      long latestHistoryTimestamp = highWaterMark;
+      for (int i = 0; i < historyBlock.size(); i++) {
+        // Skip values already written (i.e. sync data page requested again after a failure)
+        final long historyTimestamp = historyBlock.getTimestamp(i);
+        if (historyTimestamp <= highWaterMark) {
+          continue;
+        }
+        latestHistoryTimestamp = Math.max(latestHistoryTimestamp, historyTimestamp);
+
+        // Values in the history block are already converted to the tag type
+        final Object historyTagValue = historyBlock.getValue(i);
+        final EwonTagQuality ewonTagQuality = EwonTagQuality.valueOf(historyBlock.getQuality(i));
+        final Date historyTagTimestamp = new Date(historyTimestamp);
         tagProvider.updateValue(
             tagName, historyTagValue, ewonTagQuality.getQualityCode(), historyTagTimestamp);
 
         // Set tag historical value(s) in history database, if enabled
-        if (connectorSettings.isHistoryEnabled()
-            && !StringUtils.isBlank(connectorSettings.getHistoryProvider())) {
+        if (historyEnabled) {
           HistoricalTagValue historicalTagValue =
               TagManagerUtilities.buildHistoricalTagValue(
                   GATEWAY_TAG_PROVIDER_NAME,
@@ -797,8 +1254,10 @@ public class TagManager {
           historySet.add(historicalTagValue);
         }
       }
+      HistoryHighWaterMarks.raise(ewon.getName(), ewonTag.getId(), latestHistoryTimestamp);
 
-      // Set tag current historical value
+      // Set tag current historical value, and send next realtime value to tag provider
+      LiveValueChangeDetector.invalidateTag(ewon.getName(), ewonTag.getEwonTagId());
       final Object historyTagCurrentValue =
           TagManagerUtilities.getTagValueForType(ewonTag.getValue(), tagType);
       final EwonTagQuality historyTagCurrentQuality = new EwonTagQuality(ewonTag.getQuality());
@@ -808,8 +1267,10 @@ public class TagManager {
       // If history set contains historical values, save them to the history database
       if (historySet.size() > 0) {
         try {
-          // Sort historical values by timestamp
-          historySet.sort(Comparator.comparing(HistoricalTagValue::getTimestamp));
+          // Sort historical values by timestamp, if not already in order
+          if (!historyBlock.isSortedByTimestamp()) {
+            historySet.sort(Comparator.comparing(HistoricalTagValue::getTimestamp));
+          }
           Date latestTimestamp = historySet.get(historySet.size() - 1).getTimestamp();
           SyncDataStateManager.setLatestDMWebDataPointTimeStamp(latestTimestamp);
           gatewayContext
@@ -840,7 +1301,8 @@ public class TagManager {
 
   /**
    * Updates the instant value using the specified {@link M2WebEwonEBDInstantValue} object on the
-   * specified {@link M2WebEwon}.
+   * specified {@link M2WebEwon}. If the tag is not in the metadata cache of the Ewon, a metadata
+   * refresh of the Ewon is requested instead (see {@link MetadataRefreshQueue}).
    *
    * @param ewon the {@link M2WebEwon} object for the Ewon to update the tag instant value for
    * @param instantValue the {@link M2WebEwonEBDInstantValue} object for the tag to update the
@@ -853,17 +1315,32 @@ public class TagManager {
     Map<String, M2WebEwonEBDTag> cachedM2WebEwonTagSet =
         CacheManager.getCachedM2WebEwonTagMap(ewon.getName());
     M2WebEwonEBDTag m2WebEwonEBDTag = cachedM2WebEwonTagSet.get(instantValue.getTagName());
+
+    // Request metadata refresh of Ewon if tag not in metadata cache (i.e. new tag)
+    if (m2WebEwonEBDTag == null) {
+      if (MetadataRefreshQueue.request(ewon.getName()) && connectorSettings.isDebugEnabled()) {
+        LOGGER.debug(
+            "Received instant value of unknown tag '{}' on Ewon '{}'. Queued metadata refresh of"
+                + " the Ewon.",
+            instantValue.getTagName(),
+            ewon.getName());
+      }
+      return;
+    }
     EwonTagType tagType = EwonTagType.getTagTypeFromInt(m2WebEwonEBDTag.getType());
 
-    // Update tag value
+    // Update tag value, if changed
     if (tagType != null) {
-      final String tagName =
-          TagManagerUtilities.getTagNameForProviderFromM2WebEwonName(
-              connectorSettings, ewon.getName(), m2WebEwonEBDTag);
-      final EwonTagQuality tagQuality = new EwonTagQuality(instantValue.getQuality());
       final Object tagValue =
           TagManagerUtilities.getTagValueForType(instantValue.getValue(), tagType);
-      tagProvider.updateValue(tagName, tagValue, tagQuality.getQualityCode());
+      if (LiveValueChangeDetector.shouldForward(
+          ewon.getName(), instantValue.getTagId(), tagValue, instantValue.getQuality())) {
+        final String tagName =
+            TagManagerUtilities.getTagNameForProviderFromM2WebEwonName(
+                connectorSettings, ewon.getName(), m2WebEwonEBDTag);
+        final EwonTagQuality tagQuality = new EwonTagQuality(instantValue.getQuality());
+        tagProvider.updateValue(tagName, tagValue, tagQuality.getQualityCode());
+      }
     } else {
       LOGGER.error(
           "Failed to update instant tag value for tag '{}' on Ewon '{}' because the tag type is"
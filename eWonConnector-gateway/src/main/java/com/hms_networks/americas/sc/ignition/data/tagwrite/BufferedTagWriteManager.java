@@ -5,6 +5,7 @@ import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwon;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonEBDTag;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.M2WebEwonUpdateTagValuesResponse;
 import com.hms_networks.americas.sc.ignition.config.EwonConnectorSettings;
+import com.hms_networks.americas.sc.ignition.data.LiveValueChangeDetector;
 import com.inductiveautomation.ignition.common.model.values.QualityCode;
 import com.inductiveautomation.ignition.common.tags.model.TagPath;
 import com.inductiveautomation.ignition.gateway.tags.managed.ManagedTagProvider;
@@ -134,6 +135,7 @@ public class BufferedTagWriteManager {
           public void completed(M2WebEwonUpdateTagValuesResponse m2WebEwonUpdateTagValuesResponse) {
             // Update tag value in managed tag provider
             managedTagProvider.updateValue(tagPath.toString(), tagValue, QualityCode.Good);
+            LiveValueChangeDetector.invalidateTag(m2WebEwon.getName(), m2WebEwonEBDTag.getId());
 
             // Log debug message
             if (connectorSettings.isDebugEnabled()) {
@@ -149,6 +151,7 @@ public class BufferedTagWriteManager {
             // Update tag value in managed tag provider
             managedTagProvider.updateValue(
                 tagPath.toString(), tagValue, QualityCode.Error_Exception);
+            LiveValueChangeDetector.invalidateTag(m2WebEwon.getName(), m2WebEwonEBDTag.getId());
 
             // Log error message
             LOGGER.error(
@@ -165,6 +168,7 @@ public class BufferedTagWriteManager {
             // Update tag value in managed tag provider
             managedTagProvider.updateValue(
                 tagPath.toString(), tagValue, QualityCode.Error_ScriptEval);
+            LiveValueChangeDetector.invalidateTag(m2WebEwon.getName(), m2WebEwonEBDTag.getId());
 
             // Log error message
             LOGGER.error(
@@ -179,6 +183,7 @@ public class BufferedTagWriteManager {
         List.of(new DefaultKeyValue<>(m2WebEwonEBDTag.getName(), tagValue));
     M2WebCommunicationManager.updateEwonTagValues(
         connectorSettings.getAuthInfo(),
+        M2WebCommunicationManager.getM2WebServerUrl(m2WebEwon),
         m2WebEwon.getName(),
         tagNameValuePairs,
         updateTagValuesResponseFutureCallback);
@@ -266,6 +271,7 @@ public class BufferedTagWriteManager {
                   long bufferedWriteCount = 0;
                   Map<String, Map<TagPath, KeyValue<String, Object>>> ewonBufferedTagWriteMap =
                       new HashMap<>();
+                  Map<String, String> ewonM2WebServerUrlMap = new HashMap<>();
                   while (bufferedTagWrite != null) {
                     // Increment buffered write count
                     totalBufferedWriteCount++;
@@ -275,6 +281,10 @@ public class BufferedTagWriteManager {
                     String ewonName = bufferedTagWrite.getM2WebEwon().getName();
                     if (!ewonBufferedTagWriteMap.containsKey(ewonName)) {
                       ewonBufferedTagWriteMap.put(ewonName, new HashMap<>());
+                      ewonM2WebServerUrlMap.put(
+                          ewonName,
+                          M2WebCommunicationManager.getM2WebServerUrl(
+                              bufferedTagWrite.getM2WebEwon()));
                     }
 
                     // Add tag name/value pair to map (overwrite older if already exists)
@@ -347,6 +357,7 @@ public class BufferedTagWriteManager {
                                   managedTagProvider.updateValue(
                                       tagPath, tagValue, QualityCode.Good);
                                 }
+                                LiveValueChangeDetector.invalidateEwon(ewonName);
 
                                 // Log debug message
                                 if (connectorSettings.isDebugEnabled()) {
@@ -373,6 +384,7 @@ public class BufferedTagWriteManager {
                                   managedTagProvider.updateValue(
                                       tagPath, tagValue, QualityCode.Error_Exception);
                                 }
+                                LiveValueChangeDetector.invalidateEwon(ewonName);
 
                                 // Log error message
                                 LOGGER.error(
@@ -398,6 +410,7 @@ public class BufferedTagWriteManager {
                                   managedTagProvider.updateValue(
                                       tagPath, tagValue, QualityCode.Error_ScriptEval);
                                 }
+                                LiveValueChangeDetector.invalidateEwon(ewonName);
 
                                 // Log error message
                                 LOGGER.error(
@@ -413,6 +426,7 @@ public class BufferedTagWriteManager {
                     // Update tag values
                     M2WebCommunicationManager.updateEwonTagValues(
                         connectorSettings.getAuthInfo(),
+                        ewonM2WebServerUrlMap.get(ewonName),
                         ewonName,
                         tagNameValuePairMap.values(),
                         updateTagValuesResponseFutureCallback);
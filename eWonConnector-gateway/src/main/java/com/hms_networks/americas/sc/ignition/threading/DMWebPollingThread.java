@@ -6,14 +6,17 @@ import com.hms_networks.americas.sc.ignition.comm.responses.dmw.*;
 import com.hms_networks.americas.sc.ignition.config.EwonConnectorSettings;
 import com.hms_networks.americas.sc.ignition.config.EwonSyncDataState;
 import com.hms_networks.americas.sc.ignition.data.CacheManager;
+import com.hms_networks.americas.sc.ignition.data.HistoryHighWaterMarks;
+import com.hms_networks.americas.sc.ignition.data.MetadataRefreshQueue;
 import com.hms_networks.americas.sc.ignition.data.SyncDataStateManager;
 import com.hms_networks.americas.sc.ignition.data.TagManager;
 import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +46,15 @@ public class DMWebPollingThread extends PollingThread {
    */
   private static final Logger LOGGER = LoggerFactory.getLogger(DMWebPollingThread.class);
 
+  /**
+   * The maximum number of DMWeb sync data pages to request in a single polling thread execution.
+   * When the DMWeb API reports that more data is available, the next page is requested immediately
+   * instead of waiting for the next polling interval, up to this limit.
+   *
+   * @since 1.0.0
+   */
+  private static final int DMWEB_SYNC_DATA_MAX_PAGES_PER_POLL = 500;
+
   /**
    * Creates a new DMWeb polling thread with the specified thread polling interval.
    *
@@ -90,101 +102,88 @@ public class DMWebPollingThread extends PollingThread {
           LOGGER.error(
               "Skipped DMWeb tag data update because the expected metadata cache(s) were empty.");
         } else {
-          // Create callback for Ewon sync data update
-          FutureCallback<SimpleHttpResponse> ewonSyncDataUpdateCallback =
-              new FutureCallback<>() {
-                @Override
-                public void completed(SimpleHttpResponse simpleHttpResponse) {
-                  try {
-                    DMWebSyncDataResponse response =
-                        DMWebSyncDataResponse.getFromJson(simpleHttpResponse.getBodyText());
-
-                    // Store new sync data state last transaction ID
-                    SyncDataStateManager.setLastDMWebTransactionId(response.getTransactionId());
-
-                    // Loop through Ewon sync data and update data unless realtime data is forced
-                    for (DMWebEwon syncDataEwon : response.getEwons()) {
-
-                      // Check that Ewon is not forced to use M2Web
-                      if (!TagManager.isEwonForcedM2Web(syncDataEwon.getName())
-                          || connectorSettings.isCombineLiveData()) {
-
-                        // Loop through tags and update data
-                        for (DMWebEwonTag syncDataTag : syncDataEwon.getTags()) {
-
-                          // Check that tag is not forced to use M2Web
-                          if (!TagManager.isEwonTagForcedM2Web(syncDataEwon, syncDataTag)
-                              || connectorSettings.isCombineLiveData()) {
-                            // Update tag data for applicable tags
-                            try {
-                              TagManager.updateDMWebEwonTag(syncDataEwon, syncDataTag);
-                            } catch (Exception e) {
-                              LOGGER.error(
-                                  "Failed to update tag data for tag: "
-                                      + syncDataTag.getName()
-                                      + " on Ewon: "
-                                      + syncDataEwon.getName());
-                              LOGGER.error("Error: " + e.getMessage());
-                            }
-                          }
-                        }
-                      }
-                    }
-                  } catch (Exception e) {
-                    LOGGER.error(
-                        "Failed to get updated Ewon tag data from DMWeb API due to an exception"
-                            + " during parsing.");
-                    LOGGER.error(
-                        Arrays.stream(ExceptionUtils.getThrowables(e))
-                            .map(Throwable::toString)
-                            .collect(Collectors.joining(" -> ")));
-                  }
+          // Drain the sync data backlog, one page at a time, while more data is available. The
+          // next page is requested while the tags of the current page are being updated.
+          SyncDataPage syncDataPage =
+              new SyncDataPage(
+                  SyncDataStateManager.getLastDMWebTransactionId(),
+                  1,
+                  CompletableFuture.completedFuture(true));
+          long firstPageLatestTimestamp = Long.MIN_VALUE;
+          int syncDataPageCount = 0;
+          boolean moreDataAvailable = false;
+          try {
+            while (syncDataPage != null) {
+              // Wait for sync data page, which updates each tag as it is parsed from the stream
+              DMWebSyncDataResponse response;
+              try {
+                response = syncDataPage.responseFuture.get();
+              } catch (Exception e) {
+                LOGGER.error(
+                    "Failed to get updated Ewon tag data from DMWeb API due to an exception"
+                        + " during execution or parsing.");
+                LOGGER.error(
+                    Arrays.stream(ExceptionUtils.getThrowables(e))
+                        .map(Throwable::toString)
+                        .collect(Collectors.joining(" -> ")));
+                if (connectorSettings.isDebugEnabled()) {
+                  ExceptionUtilities.printExceptionTraceMessages(LOGGER, e);
                 }
+                errorOccurred = true;
+                break;
+              }
 
-                @Override
-                public void failed(Exception e) {
-                  LOGGER.error(
-                      "Failed to get updated Ewon tag data from DMWeb API due to an exception"
-                          + " during execution.",
-                      e);
-                  if (connectorSettings.isDebugEnabled()) {
-                    ExceptionUtilities.printExceptionTraceMessages(LOGGER, e);
-                  }
-                }
+              // Stop if the API reported that the request was unsuccessful
+              if (!response.getSuccess()) {
+                LOGGER.error(
+                    "Failed to get updated Ewon tag data from DMWeb API because the API reported"
+                        + " that the request was unsuccessful!");
+                errorOccurred = true;
+                break;
+              }
+              syncDataPageCount++;
 
-                @Override
-                public void cancelled() {
-                  LOGGER.error(
-                      "Failed to get updated Ewon tag data from DMWeb API due to an interruption.");
-                }
-              };
-
-          // Perform async request to get Ewon sync data
-          final boolean createTransaction = true;
-          long syncDataStateLastTransactionId = SyncDataStateManager.getLastDMWebTransactionId();
-          Future<DMWebSyncDataResponse> dmWebSyncDataResponseFuture;
-          if (syncDataStateLastTransactionId
-              == EwonSyncDataState.LAST_DMWEB_TRANSACTION_ID_DEFAULT) {
-            // If no last transaction ID is set (set to default), create a new transaction
-            dmWebSyncDataResponseFuture =
-                DMWebCommunicationManager.syncData(
-                    connectorSettings.getAuthInfo(), createTransaction, ewonSyncDataUpdateCallback);
-          } else {
-            // If last transaction ID is set, use it to get updated data
-            dmWebSyncDataResponseFuture =
-                DMWebCommunicationManager.syncData(
-                    connectorSettings.getAuthInfo(),
-                    syncDataStateLastTransactionId,
-                    createTransaction,
-                    ewonSyncDataUpdateCallback);
+              // Store the page transaction ID as the new sync position, now that it is applied
+              moreDataAvailable = response.getMoreDataAvailable();
+              SyncDataStateManager.setLastDMWebTransactionId(response.getTransactionId());
+
+              // Update backlog status after each page, so progress is visible while draining
+              if (syncDataPageCount == 1) {
+                firstPageLatestTimestamp = syncDataPage.latestTimestamp;
+              }
+              SyncDataStateManager.setDMWebSyncDataBacklogStatus(
+                  syncDataPageCount,
+                  getEstimatedPagesRemaining(
+                      syncDataPageCount,
+                      firstPageLatestTimestamp,
+                      syncDataPage.latestTimestamp,
+                      moreDataAvailable),
+                  moreDataAvailable);
+              TagManager.updateSyncDataStatusTags();
+
+              // Continue with the next page (if prefetched, or request it now), allowing it to
+              // update its tags
+              SyncDataPage nextSyncDataPage =
+                  moreDataAvailable
+                      ? syncDataPage.requestNextPage(response.getTransactionId())
+                      : null;
+              syncDataPage.applied.complete(true);
+              syncDataPage = nextSyncDataPage;
+            }
+          } finally {
+            // Discard the current page and its prefetched next page (if any) if not applied
+            if (syncDataPage != null) {
+              syncDataPage.discard();
+            }
           }
 
-          // Wait for sync data response
-          try {
-            dmWebSyncDataResponseFuture.get();
-          } catch (Exception e) {
-            // No need to log error here since it will be logged in the callback
-            errorOccurred = true;
+          if (moreDataAvailable && !errorOccurred) {
+            LOGGER.warn(
+                "DMWeb sync data backlog was not fully drained after "
+                    + syncDataPageCount
+                    + " page(s). The remaining data will be requested during the next poll.");
+          } else if (connectorSettings.isDebugEnabled()) {
+            LOGGER.debug("Processed " + syncDataPageCount + " DMWeb sync data page(s).");
           }
 
           // Update success/failure counters
@@ -210,4 +209,274 @@ public class DMWebPollingThread extends PollingThread {
       gatewayHook.shutdown();
     }
   }
+
+  /**
+   * Performs an asynchronous request for the next DMWeb sync data page, beginning after the
+   * specified transaction ID. If the specified transaction ID is the default (unset) value, a new
+   * transaction is created without a last transaction ID. The sync data page is parsed as it is
+   * streamed, and each tag is updated as soon as it has been parsed. If the page fails part way
+   * through, it is requested again by the next poll, and the history already written for its tags
+   * is skipped (see {@link HistoryHighWaterMarks}).
+   *
+   * @param lastTransactionId the last DMWeb transaction ID that was processed
+   * @param tagHandler the handler for each tag parsed from the sync data page
+   * @return the {@link Future} for the sync data page response, without tag data
+   * @since 1.0.0
+   */
+  private Future<DMWebSyncDataResponse> requestSyncDataPage(
+      long lastTransactionId, DMWebSyncDataTagHandler tagHandler) {
+    final boolean createTransaction = true;
+    final FutureCallback<DMWebSyncDataResponse> httpResponseFutureCallback = null;
+    Future<DMWebSyncDataResponse> dmWebSyncDataResponseFuture;
+    if (lastTransactionId == EwonSyncDataState.LAST_DMWEB_TRANSACTION_ID_DEFAULT) {
+      // If no last transaction ID is set (set to default), create a new transaction
+      dmWebSyncDataResponseFuture =
+          DMWebCommunicationManager.streamSyncData(
+              connectorSettings.getAuthInfo(),
+              createTransaction,
+              tagHandler,
+              httpResponseFutureCallback);
+    } else {
+      // If last transaction ID is set, use it to get updated data
+      dmWebSyncDataResponseFuture =
+          DMWebCommunicationManager.streamSyncData(
+              connectorSettings.getAuthInfo(),
+              lastTransactionId,
+              createTransaction,
+              tagHandler,
+              httpResponseFutureCallback);
+    }
+    return dmWebSyncDataResponseFuture;
+  }
+
+  /**
+   * Gets the estimated number of DMWeb sync data pages remaining in the backlog, from the data
+   * time covered by each page drained during the current poll and the time between the latest data
+   * of the most recent page and now. If more data is available, at least one page remains.
+   *
+   * @param syncDataPageCount the number of sync data pages drained during the current poll
+   * @param firstPageLatestTimestamp the latest history timestamp of the first page drained
+   * @param lastPageLatestTimestamp the latest history timestamp of the most recent page drained
+   * @param moreDataAvailable flag indicating if more sync data is available
+   * @return the estimated number of sync data pages remaining
+   * @since 1.0.0
+   */
+  private static int getEstimatedPagesRemaining(
+      int syncDataPageCount,
+      long firstPageLatestTimestamp,
+      long lastPageLatestTimestamp,
+      boolean moreDataAvailable) {
+    int estimatedPagesRemaining = 0;
+    if (moreDataAvailable) {
+      estimatedPagesRemaining = 1;
+      if (syncDataPageCount > 1
+          && firstPageLatestTimestamp != Long.MIN_VALUE
+          && lastPageLatestTimestamp > firstPageLatestTimestamp) {
+        final double pageTimeSpanMillis =
+            (double) (lastPageLatestTimestamp - firstPageLatestTimestamp)
+                / (syncDataPageCount - 1);
+        final double remainingTimeSpanMillis =
+            Math.max(0, System.currentTimeMillis() - lastPageLatestTimestamp);
+        estimatedPagesRemaining =
+            (int)
+                Math.min(
+                    Integer.MAX_VALUE,
+                    Math.max(1, Math.ceil(remainingTimeSpanMillis / pageTimeSpanMillis)));
+      }
+    }
+    return estimatedPagesRemaining;
+  }
+
+  /**
+   * Updates the tag data for the specified tag from a DMWeb sync data page, if eligible. Ewons and
+   * tags which are forced to use M2Web are skipped, unless live data is combined. A metadata
+   * refresh of the Ewon is requested if the tag is not in its metadata cache. This method is called
+   * for each tag as soon as it has been parsed from the sync data response stream.
+   *
+   * @param syncDataEwon the Ewon which the tag belongs to
+   * @param syncDataTag the tag to update
+   * @since 1.0.0
+   */
+  private void updateTagDataFromSyncDataTag(DMWebEwon syncDataEwon, DMWebEwonTag syncDataTag) {
+    // Request metadata refresh of Ewon if tag not in metadata cache (i.e. new tag)
+    if (CacheManager.isCachedM2WebEwonTagSetLoaded(syncDataEwon.getName())
+        && !CacheManager.getCachedM2WebEwonTagMap(syncDataEwon.getName())
+            .containsKey(syncDataTag.getName())
+        && MetadataRefreshQueue.request(syncDataEwon.getName())
+        && connectorSettings.isDebugEnabled()) {
+      LOGGER.debug(
+          "Received sync data of unknown tag '{}' on Ewon '{}'. Queued metadata refresh of the"
+              + " Ewon.",
+          syncDataTag.getName(),
+          syncDataEwon.getName());
+    }
+
+    // Check that Ewon and tag are not forced to use M2Web
+    if (connectorSettings.isCombineLiveData()
+        || (!TagManager.isEwonForcedM2Web(syncDataEwon.getName())
+            && !TagManager.isEwonTagForcedM2Web(syncDataEwon, syncDataTag))) {
+      // Update tag data for applicable tags
+      try {
+        TagManager.updateDMWebEwonTag(syncDataEwon, syncDataTag);
+      } catch (Exception e) {
+        LOGGER.error(
+            "Failed to update tag data for tag: "
+                + syncDataTag.getName()
+                + " on Ewon: "
+                + syncDataEwon.getName());
+        LOGGER.error("Error: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Class for a requested DMWeb sync data page. The tags of the page are updated as soon as they
+   * are parsed, but only once the previous page has been applied, so pages are always applied in
+   * order. The next page is requested (prefetched) as soon as the transaction ID of the page has
+   * been parsed and the page is being applied, so that the next page is downloaded while the tags
+   * of this page are updated. At most one page is prefetched ahead of the page being applied.
+   *
+   * @since 1.0.0
+   */
+  private class SyncDataPage implements DMWebSyncDataTagHandler {
+
+    /**
+     * The number of the page during the current poll, starting at 1.
+     *
+     * @since 1.0.0
+     */
+    private final int pageNumber;
+
+    /**
+     * The future which completes with true once the previous page has been applied, or with false
+     * if the previous page was discarded.
+     *
+     * @since 1.0.0
+     */
+    private final CompletableFuture<Boolean> previousPageApplied;
+
+    /**
+     * The future which completes with true once this page has been applied, or with false if this
+     * page was discarded.
+     *
+     * @since 1.0.0
+     */
+    private final CompletableFuture<Boolean> applied = new CompletableFuture<>();
+
+    /**
+     * The future for the sync data page response.
+     *
+     * @since 1.0.0
+     */
+    private final Future<DMWebSyncDataResponse> responseFuture;
+
+    /**
+     * The latest history timestamp of all tags of the page, or {@link Long#MIN_VALUE} if none.
+     *
+     * @since 1.0.0
+     */
+    private volatile long latestTimestamp = Long.MIN_VALUE;
+
+    /**
+     * The next page, if it has been requested.
+     *
+     * @since 1.0.0
+     */
+    private SyncDataPage nextPage = null;
+
+    /**
+     * Flag indicating if the page has been discarded, in which case no next page is requested.
+     *
+     * @since 1.0.0
+     */
+    private boolean discarded = false;
+
+    /**
+     * Requests the DMWeb sync data page beginning after the specified transaction ID.
+     *
+     * @param lastTransactionId the last DMWeb transaction ID that was processed
+     * @param pageNumber the number of the page during the current poll, starting at 1
+     * @param previousPageApplied the future which completes once the previous page has been applied
+     * @since 1.0.0
+     */
+    private SyncDataPage(
+        long lastTransactionId, int pageNumber, CompletableFuture<Boolean> previousPageApplied) {
+      this.pageNumber = pageNumber;
+      this.previousPageApplied = previousPageApplied;
+      this.responseFuture = requestSyncDataPage(lastTransactionId, this);
+    }
+
+    /**
+     * Updates the tag data for the specified tag, once the previous page has been applied.
+     *
+     * @param ewon the Ewon which the tag belongs to
+     * @param tag the parsed tag, including its history
+     * @since 1.0.0
+     */
+    @Override
+    public void handleTag(DMWebEwon ewon, DMWebEwonTag tag) {
+      awaitPreviousPageApplied();
+      updateTagDataFromSyncDataTag(ewon, tag);
+      try {
+        latestTimestamp = Math.max(latestTimestamp, tag.getHistoryBlock().getLatestTimestamp());
+      } catch (RuntimeException e) {
+        // Invalid history was already reported when updating the tag data
+      }
+    }
+
+    /**
+     * Requests the next page, once the previous page has been applied, if more data is available.
+     *
+     * @param transactionId the transaction ID of this page
+     * @param moreDataAvailable flag indicating if more sync data is available after this page
+     * @since 1.0.0
+     */
+    @Override
+    public void handlePageInfo(long transactionId, boolean moreDataAvailable) {
+      awaitPreviousPageApplied();
+      if (moreDataAvailable) {
+        requestNextPage(transactionId);
+      }
+    }
+
+    /**
+     * Gets the next page, requesting it if it has not been requested yet. No next page is requested
+     * if this page has been discarded or the maximum number of pages per poll has been reached.
+     *
+     * @param transactionId the transaction ID of this page
+     * @return the next page, or null if none
+     * @since 1.0.0
+     */
+    private synchronized SyncDataPage requestNextPage(long transactionId) {
+      if (nextPage == null && !discarded && pageNumber < DMWEB_SYNC_DATA_MAX_PAGES_PER_POLL) {
+        nextPage = new SyncDataPage(transactionId, pageNumber + 1, applied);
+      }
+      return nextPage;
+    }
+
+    /**
+     * Discards this page and its next page (if requested), so that they are not applied.
+     *
+     * @since 1.0.0
+     */
+    private synchronized void discard() {
+      discarded = true;
+      applied.complete(false);
+      if (nextPage != null) {
+        nextPage.discard();
+      }
+    }
+
+    /**
+     * Waits until the previous page has been applied.
+     *
+     * @throws CancellationException if the previous page was discarded
+     * @since 1.0.0
+     */
+    private void awaitPreviousPageApplied() {
+      if (!previousPageApplied.join()) {
+        throw new CancellationException("The previous DMWeb sync data page was discarded.");
+      }
+    }
+  }
 }
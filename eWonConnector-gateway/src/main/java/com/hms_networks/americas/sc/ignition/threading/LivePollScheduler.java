@@ -0,0 +1,293 @@
+package com.hms_networks.americas.sc.ignition.threading;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class for scheduling the live (M2Web) polls of Ewon Flexy devices using a hashed timing wheel.
+ * The wheel is an array of slots, each holding the polls which are due on ticks that map to the
+ * slot, so scheduling a poll and collecting the polls which are due are independent of the number
+ * of scheduled Ewon Flexy devices.
+ *
+ * <p>The first poll of each Ewon Flexy device is offset within its poll interval by a hash of its
+ * name, so the polls of all devices are spread across the interval instead of being sent at the
+ * same time. Devices which are unavailable or do not respond in time are polled at exponentially
+ * increasing intervals (see {@link #recordUnavailable(String)}) until they respond again (see
+ * {@link #recordSuccess(String)}).
+ *
+ * <p>Scheduling methods are called by the polling thread, while the poll results are recorded by
+ * the request callbacks, so all methods of this class are thread-safe.
+ *
+ * @since 2.0.0
+ * @version 1.0.0
+ * @author HMS Networks, MU Americas Solution Center
+ */
+class LivePollScheduler {
+
+  /**
+   * The number of slots in the timing wheel. This must be a power of two.
+   *
+   * @since 1.0.0
+   */
+  private static final int WHEEL_SIZE = 512;
+
+  /**
+   * The maximum backoff exponent of an unavailable Ewon Flexy device. Its poll interval is
+   * multiplied by two to the power of the backoff exponent.
+   *
+   * @since 1.0.0
+   */
+  private static final int MAX_BACKOFF_EXPONENT = 6;
+
+  /**
+   * The maximum poll interval (in milliseconds) of an unavailable Ewon Flexy device. Devices with a
+   * longer poll interval are not backed off.
+   *
+   * @since 1.0.0
+   */
+  private static final long MAX_BACKOFF_INTERVAL_MILLIS = 10 * 60 * 1000;
+
+  /**
+   * The duration (in milliseconds) of a tick of the timing wheel.
+   *
+   * @since 1.0.0
+   */
+  private final long tickMillis;
+
+  /**
+   * The time (in milliseconds) of tick 0 of the timing wheel.
+   *
+   * @since 1.0.0
+   */
+  private final long startTimeMillis;
+
+  /**
+   * The slots of the timing wheel. The polls due on a tick are stored in the slot at the index of
+   * the tick modulo {@link #WHEEL_SIZE}.
+   *
+   * @since 1.0.0
+   */
+  private final List<ArrayDeque<ScheduledPoll>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+  /**
+   * The map of Ewon Flexy names to their scheduled polls.
+   *
+   * @since 1.0.0
+   */
+  private final Map<String, ScheduledPoll> scheduledPollMap = new HashMap<>();
+
+  /**
+   * The map of Ewon Flexy names to their backoff exponents. Ewon Flexy devices which are not backed
+   * off are not present in the map.
+   *
+   * @since 1.0.0
+   */
+  private final Map<String, Integer> backoffExponentMap = new ConcurrentHashMap<>();
+
+  /**
+   * The last tick of the timing wheel which has been processed.
+   *
+   * @since 1.0.0
+   */
+  private long currentTick = 0;
+
+  /**
+   * Creates a new live poll scheduler with the specified tick duration.
+   *
+   * @param tickMillis the duration (in milliseconds) of a tick of the timing wheel
+   * @since 1.0.0
+   */
+  LivePollScheduler(long tickMillis) {
+    this.tickMillis = Math.max(1, tickMillis);
+    this.startTimeMillis = System.currentTimeMillis();
+    for (int slotIndex = 0; slotIndex < WHEEL_SIZE; slotIndex++) {
+      wheel.add(new ArrayDeque<>());
+    }
+  }
+
+  /**
+   * Checks if a poll is scheduled for the specified Ewon Flexy device.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return true if a poll is scheduled for the Ewon Flexy device, false otherwise
+   * @since 1.0.0
+   */
+  synchronized boolean isScheduled(String ewonName) {
+    return scheduledPollMap.containsKey(ewonName);
+  }
+
+  /**
+   * Schedules the first poll of the specified Ewon Flexy device, offset within the specified poll
+   * interval by a hash of its name.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @param pollIntervalMillis the poll interval (in milliseconds) of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  synchronized void scheduleStaggered(String ewonName, long pollIntervalMillis) {
+    // Spread hash bits before offsetting, as similar names have similar hash codes
+    final int nameHash = ewonName.hashCode() * 0x9E3779B9;
+    schedule(ewonName, Math.floorMod(nameHash, Math.max(1, pollIntervalMillis)));
+  }
+
+  /**
+   * Schedules the next poll of the specified Ewon Flexy device after the specified delay, replacing
+   * its scheduled poll, if any.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @param delayMillis the delay (in milliseconds) until the poll is due
+   * @since 1.0.0
+   */
+  synchronized void schedule(String ewonName, long delayMillis) {
+    // Remove existing scheduled poll
+    unschedule(ewonName);
+
+    // Add poll to slot of due tick (at least the next tick)
+    final long dueTick = currentTick + Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+    ScheduledPoll scheduledPoll = new ScheduledPoll(ewonName, dueTick);
+    wheel.get(getSlotIndex(dueTick)).add(scheduledPoll);
+    scheduledPollMap.put(ewonName, scheduledPoll);
+  }
+
+  /**
+   * Removes the scheduled poll of the specified Ewon Flexy device, if any.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  synchronized void unschedule(String ewonName) {
+    ScheduledPoll scheduledPoll = scheduledPollMap.remove(ewonName);
+    if (scheduledPoll != null) {
+      wheel.get(getSlotIndex(scheduledPoll.dueTick)).remove(scheduledPoll);
+    }
+  }
+
+  /**
+   * Advances the timing wheel to the current time, and removes and returns the names of the Ewon
+   * Flexy devices which polls are due. The due devices must be rescheduled to be polled again.
+   *
+   * @return the names of the Ewon Flexy devices which polls are due
+   * @since 1.0.0
+   */
+  synchronized List<String> pollDue() {
+    List<String> dueEwonNames = new ArrayList<>();
+    final long nowTick = (System.currentTimeMillis() - startTimeMillis) / tickMillis;
+
+    // Process slots of elapsed ticks (all slots, at most, if more ticks than slots elapsed)
+    final long elapsedSlotCount = Math.min(nowTick - currentTick, WHEEL_SIZE);
+    for (long tick = currentTick + 1; tick <= currentTick + elapsedSlotCount; tick++) {
+      Iterator<ScheduledPoll> slotIterator = wheel.get(getSlotIndex(tick)).iterator();
+      while (slotIterator.hasNext()) {
+        ScheduledPoll scheduledPoll = slotIterator.next();
+        if (scheduledPoll.dueTick <= nowTick) {
+          slotIterator.remove();
+          scheduledPollMap.remove(scheduledPoll.ewonName);
+          dueEwonNames.add(scheduledPoll.ewonName);
+        }
+      }
+    }
+    currentTick = Math.max(currentTick, nowTick);
+    return dueEwonNames;
+  }
+
+  /**
+   * Gets the interval (in milliseconds) until the next poll of the specified Ewon Flexy device,
+   * which is the specified poll interval multiplied by its backoff factor, if backed off.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @param pollIntervalMillis the poll interval (in milliseconds) of the Ewon Flexy device
+   * @return the interval (in milliseconds) until the next poll of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  long getNextPollIntervalMillis(String ewonName, long pollIntervalMillis) {
+    final int backoffExponent = backoffExponentMap.getOrDefault(ewonName, 0);
+    return backoffExponent > 0
+        ? Math.max(
+            pollIntervalMillis,
+            Math.min(pollIntervalMillis << backoffExponent, MAX_BACKOFF_INTERVAL_MILLIS))
+        : pollIntervalMillis;
+  }
+
+  /**
+   * Checks if the polls of the specified Ewon Flexy device are backed off.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @return true if the polls of the Ewon Flexy device are backed off, false otherwise
+   * @since 1.0.0
+   */
+  boolean isBackedOff(String ewonName) {
+    return backoffExponentMap.containsKey(ewonName);
+  }
+
+  /**
+   * Records that the specified Ewon Flexy device responded to a poll, which resets its backoff.
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  void recordSuccess(String ewonName) {
+    backoffExponentMap.remove(ewonName);
+  }
+
+  /**
+   * Records that the specified Ewon Flexy device is unavailable or did not respond to a poll in
+   * time, which doubles its poll interval (up to the maximum backoff).
+   *
+   * @param ewonName the name of the Ewon Flexy device
+   * @since 1.0.0
+   */
+  void recordUnavailable(String ewonName) {
+    backoffExponentMap.merge(
+        ewonName, 1, (exponent, increment) -> Math.min(exponent + increment, MAX_BACKOFF_EXPONENT));
+  }
+
+  /**
+   * Gets the index of the timing wheel slot of the specified tick.
+   *
+   * @param tick the tick
+   * @return the index of the slot of the tick
+   * @since 1.0.0
+   */
+  private static int getSlotIndex(long tick) {
+    return (int) (tick & (WHEEL_SIZE - 1));
+  }
+
+  /**
+   * Class for a poll of an Ewon Flexy device which is scheduled in the timing wheel.
+   *
+   * @since 1.0.0
+   */
+  private static class ScheduledPoll {
+
+    /**
+     * The name of the Ewon Flexy device.
+     *
+     * @since 1.0.0
+     */
+    private final String ewonName;
+
+    /**
+     * The tick of the timing wheel on which the poll is due.
+     *
+     * @since 1.0.0
+     */
+    private final long dueTick;
+
+    /**
+     * Creates a new scheduled poll of the specified Ewon Flexy device.
+     *
+     * @param ewonName the name of the Ewon Flexy device
+     * @param dueTick the tick of the timing wheel on which the poll is due
+     * @since 1.0.0
+     */
+    private ScheduledPoll(String ewonName, long dueTick) {
+      this.ewonName = ewonName;
+      this.dueTick = dueTick;
+    }
+  }
+}
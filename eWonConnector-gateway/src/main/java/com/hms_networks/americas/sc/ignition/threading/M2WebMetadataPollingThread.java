@@ -6,11 +6,17 @@ import com.hms_networks.americas.sc.ignition.comm.responses.m2w.*;
 import com.hms_networks.americas.sc.ignition.config.EwonConnectorSettings;
 import com.hms_networks.americas.sc.ignition.config.EwonSyncDataState;
 import com.hms_networks.americas.sc.ignition.data.CacheManager;
+import com.hms_networks.americas.sc.ignition.data.MetadataSnapshotManager;
 import com.hms_networks.americas.sc.ignition.data.SyncDataStateManager;
+import com.hms_networks.americas.sc.ignition.data.TagConfigurationTracker;
 import com.hms_networks.americas.sc.ignition.data.TagManager;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.hc.core5.concurrent.FutureCallback;
@@ -24,6 +30,13 @@ import org.slf4j.LoggerFactory;
  * runtime by calling the {@link M2WebMetadataPollingThread#setPollingInterval(long, TimeUnit)}
  * method.
  *
+ * <p>The tag lists of the Ewons are requested with a bounded number of requests in flight, and
+ * each Ewon is published to the metadata cache as soon as its own tag list is received. The startup
+ * metadata sync is marked as completed once the tag list of each Ewon has been received, has failed
+ * or has timed out, and Ewons which tag lists failed are retried on their own schedule. The tag
+ * lists of offline Ewons are not requested, and their last-known tag lists are kept until they come
+ * back online.
+ *
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
  * @version 1.0.0
@@ -45,12 +58,21 @@ public class M2WebMetadataPollingThread extends PollingThread {
   private static final Logger LOGGER = LoggerFactory.getLogger(M2WebMetadataPollingThread.class);
 
   /**
-   * Delay (in milliseconds) between requests to the M2Web API for metadata cache sync. This helps
-   * avoid overloading the API, which can result in errors.
+   * Maximum number of tag list requests to the M2Web API in flight at the same time for metadata
+   * cache sync. This helps avoid overloading the API, which can result in errors.
+   *
+   * @since 1.0.0
+   */
+  private static final int METADATA_CACHE_UPDATE_MAX_CONCURRENT_REQUESTS = 8;
+
+  /**
+   * Timeout (in seconds) of a tag list request to the M2Web API for metadata cache sync. A request
+   * which does not complete in time is retried on the schedule of its Ewon, and no longer counts
+   * towards {@link #METADATA_CACHE_UPDATE_MAX_CONCURRENT_REQUESTS}.
    *
    * @since 1.0.0
    */
-  private static final long METADATA_CACHE_UPDATE_REQUEST_DELAY_MS = 100;
+  private static final long METADATA_CACHE_UPDATE_REQUEST_TIMEOUT_SECONDS = 60;
 
   /**
    * Base for the backoff time (in seconds) when retrying the M2Web metadata cache sync.
@@ -109,6 +131,30 @@ public class M2WebMetadataPollingThread extends PollingThread {
    */
   private long lastMetadataCacheSyncDateTimeMs = 0;
 
+  /**
+   * Semaphore limiting the number of tag list requests in flight to {@link
+   * #METADATA_CACHE_UPDATE_MAX_CONCURRENT_REQUESTS}.
+   *
+   * @since 1.0.0
+   */
+  private final Semaphore tagListRequestPermits =
+      new Semaphore(METADATA_CACHE_UPDATE_MAX_CONCURRENT_REQUESTS);
+
+  /**
+   * Map of Ewon names to the scheduled retries of their failed tag list requests.
+   *
+   * @since 1.0.0
+   */
+  private final Map<String, TagListRetry> tagListRetries = new ConcurrentHashMap<>();
+
+  /**
+   * Boolean indicating if loading the M2Web metadata snapshot has been attempted. The snapshot is
+   * only loaded on the first run of the thread.
+   *
+   * @since 1.0.0
+   */
+  private boolean metadataSnapshotLoadAttempted = false;
+
   /**
    * Creates a new M2Web metadata polling thread.
    *
@@ -157,6 +203,15 @@ public class M2WebMetadataPollingThread extends PollingThread {
   @Override
   public void run() {
     try {
+      // Load metadata cache from snapshot on first run (reconciled by the following update)
+      if (!metadataSnapshotLoadAttempted) {
+        metadataSnapshotLoadAttempted = true;
+        loadMetadataSnapshot();
+      }
+
+      // Retry failed tag list requests which are due
+      retryFailedEwonTagLists();
+
       // Check if metadata cache needs to be updated
       boolean metadataCacheNeedsUpdate = doesMetadataCacheNeedUpdate();
 
@@ -168,6 +223,9 @@ public class M2WebMetadataPollingThread extends PollingThread {
               expectedValueMetadataCacheUpdateNotInProgress,
               newValueMetadataCacheUpdateInProgress)) {
 
+        // Reset counters of added, changed and removed tags
+        TagConfigurationTracker.startRun();
+
         // Create boolean to track if an error/exception occurred
         boolean errorOccurred;
 
@@ -178,7 +236,6 @@ public class M2WebMetadataPollingThread extends PollingThread {
         boolean shouldRetry = true; // Default to true to ensure initial cache update is attempted
         int retryCount = 0;
         boolean retryGatewayList = false;
-        List<M2WebEwon> retryGatewayTagList = new ArrayList<>();
 
         // Loop while retry flag is true
         while (shouldRetry) {
@@ -253,182 +310,9 @@ public class M2WebMetadataPollingThread extends PollingThread {
             }
           }
 
-          // Update tag list for each Ewon
+          // Update tag list for each Ewon (failed tag lists are retried on their own schedule)
           if (getEwonsResponseEwons != null) {
-            Map<M2WebEwon, Future<M2WebEwonEBDTagListResponse>> ewonTagListFutures =
-                new HashMap<>();
-            List<M2WebEwon> ewonsToUpdate = isRetry ? retryGatewayTagList : getEwonsResponseEwons;
-            for (M2WebEwon cachedEwon : ewonsToUpdate) {
-
-              if (connectorSettings.isDebugEnabled() && retryGatewayList) {
-                LOGGER.debug(
-                    "Retrying M2Web metadata cache tag list update for gateway ["
-                        + cachedEwon.getName()
-                        + "] due to a previous error...");
-              }
-
-              // Create callback for updating cached tag list
-              FutureCallback<M2WebEwonEBDTagListResponse>
-                  m2WebEwonEBDTagListResponseFutureCallback =
-                      new FutureCallback<>() {
-                        @Override
-                        public void completed(
-                            M2WebEwonEBDTagListResponse m2WebEwonEBDTagListResponse) {
-                          if (m2WebEwonEBDTagListResponse == null) {
-                            String errorMessage =
-                                String.format(
-                                    "Failed to update M2Web metadata cache tag list for gateway"
-                                        + " [%s] due to a null API response.",
-                                    cachedEwon.getName());
-                            LOGGER.error(errorMessage);
-                            throw new RuntimeException(errorMessage);
-                          } else if (!m2WebEwonEBDTagListResponse.getSuccess()) {
-                            if (m2WebEwonEBDTagListResponse.isUnavailable()) {
-                              // Get cached unavailable status
-                              boolean cachedUnavailableStatus =
-                                  CacheManager.getCachedM2WebEwonUnavailableStatus(
-                                      cachedEwon.getName());
-
-                              // If cached unavailable status is false, update it
-                              if (!cachedUnavailableStatus) {
-                                final boolean unavailableStatus = true;
-                                CacheManager.updateCachedM2WebEwonUnavailableStatus(
-                                    cachedEwon.getName(), unavailableStatus);
-                              }
-
-                              // Log error if debug enabled or cached unavailable status was false
-                              if (connectorSettings.isDebugEnabled() || !cachedUnavailableStatus) {
-                                String warnMessage =
-                                    "Unable to update M2Web metadata cache tag list for gateway ["
-                                        + cachedEwon.getName()
-                                        + "] because the gateway is unavailable/offline.";
-                                if (!connectorSettings.isDebugEnabled()) {
-                                  warnMessage +=
-                                      " (Subsequent warnings will not be logged until the gateway"
-                                          + " becomes available again)";
-                                }
-                                LOGGER.warn(warnMessage);
-                              }
-                            } else if (m2WebEwonEBDTagListResponse.areEwonCredentialsIncorrect()) {
-                              LOGGER.error(
-                                  "Failed to update M2Web metadata cache tag list for gateway [{}]"
-                                      + " because the configured credentials are incorrect or not"
-                                      + " configured on the device.",
-                                  cachedEwon.getName());
-                            } else if (m2WebEwonEBDTagListResponse.didTimeoutReachingDevice()) {
-                              LOGGER.error(
-                                  "Failed to update M2Web metadata cache tag list for gateway [{}]"
-                                      + " because the device did not respond in time.",
-                                  cachedEwon.getName());
-                            } else if (m2WebEwonEBDTagListResponse.wasUnableToReachDevice()
-                                != M2WebEwonEBDResponse.ERROR_CODE_NONE) {
-                              int errorCode = m2WebEwonEBDTagListResponse.wasUnableToReachDevice();
-                              LOGGER.error(
-                                  "Failed to update M2Web metadata cache tag list for gateway [{}]"
-                                      + " because the API could not reach the device. Error code:"
-                                      + " {}",
-                                  cachedEwon.getName(),
-                                  errorCode);
-                            } else {
-                              String errorMessage =
-                                  String.format(
-                                      "Failed to update M2Web metadata cache tag list for gateway"
-                                          + " [%s] due to an error (%d): %s",
-                                      cachedEwon.getName(),
-                                      m2WebEwonEBDTagListResponse.getCode(),
-                                      m2WebEwonEBDTagListResponse.getMessage());
-                              LOGGER.error(errorMessage);
-                              throw new RuntimeException(errorMessage);
-                            }
-                          } else {
-                            // Get cached unavailable status
-                            boolean cachedUnavailableStatus =
-                                CacheManager.getCachedM2WebEwonUnavailableStatus(
-                                    cachedEwon.getName());
-                            if (cachedUnavailableStatus) {
-                              // Update cached unavailable status
-                              final boolean unavailableStatus = false;
-                              CacheManager.updateCachedM2WebEwonUnavailableStatus(
-                                  cachedEwon.getName(), unavailableStatus);
-
-                              // Log info
-                              LOGGER.info(
-                                  "Gateway ["
-                                      + cachedEwon.getName()
-                                      + "] is now available. Updating metadata.");
-                            }
-
-                            List<M2WebEwonEBDTag> getEwonTagListResponseTags =
-                                m2WebEwonEBDTagListResponse.getTags();
-                            CacheManager.updateCachedM2WebEwonTagSet(
-                                cachedEwon.getName(), getEwonTagListResponseTags);
-                            TagManager.applyM2WebEwonTagConfigurations(
-                                cachedEwon, getEwonTagListResponseTags);
-                            if (connectorSettings.isDebugEnabled()) {
-                              LOGGER.debug(
-                                  "Updated M2Web metadata cache tag list for gateway ["
-                                      + cachedEwon.getName()
-                                      + "] successfully.");
-                            }
-                          }
-                        }
-
-                        @Override
-                        public void failed(Exception e) {
-                          LOGGER.error(
-                              "Failed to update M2Web metadata cache tag list for gateway ["
-                                  + cachedEwon.getName()
-                                  + "] due to an exception. "
-                                  + e,
-                              e);
-                          if (connectorSettings.isDebugEnabled()) {
-                            ExceptionUtilities.printExceptionTraceMessages(LOGGER, e);
-                          }
-                        }
-
-                        @Override
-                        public void cancelled() {
-                          LOGGER.error(
-                              "Failed to update M2Web metadata cache tag list for gateway ["
-                                  + cachedEwon.getName()
-                                  + "] because the request was cancelled.");
-                        }
-                      };
-
-              // Add future to map
-              Future<M2WebEwonEBDTagListResponse> m2WebEwonEBDTagListResponseFuture =
-                  M2WebCommunicationManager.getEwonTagList(
-                      connectorSettings.getAuthInfo(),
-                      cachedEwon.getEncodedName(),
-                      m2WebEwonEBDTagListResponseFutureCallback);
-              ewonTagListFutures.put(cachedEwon, m2WebEwonEBDTagListResponseFuture);
-
-              // Add sleep to avoid overloading M2Web API
-              try {
-                Thread.sleep(METADATA_CACHE_UPDATE_REQUEST_DELAY_MS);
-              } catch (InterruptedException e) {
-                LOGGER.warn(
-                    "M2Web metadata polling thread was interrupted while sleeping. HTTP(s) requests"
-                        + " may be sent more frequently than expected.");
-              }
-            }
-
-            // Wait for all tag list updates to complete
-            for (Map.Entry<M2WebEwon, Future<M2WebEwonEBDTagListResponse>> ewonTagListFutureEntry :
-                ewonTagListFutures.entrySet()) {
-              try {
-                ewonTagListFutureEntry.getValue().get();
-
-                // Remove Ewon from retry list if it was successful
-                retryGatewayTagList.remove(ewonTagListFutureEntry.getKey());
-              } catch (Exception e) {
-                // No need to log error here since it will be logged in the callback
-                errorOccurred = true;
-
-                // Add Ewon to retry list
-                retryGatewayTagList.add(ewonTagListFutureEntry.getKey());
-              }
-            }
+            updateEwonTagLists(getEwonsResponseEwons);
           } else {
             // Only log in debug mode because an error will already be logged regarding
             if (connectorSettings.isDebugEnabled()) {
@@ -452,6 +336,10 @@ public class M2WebMetadataPollingThread extends PollingThread {
               LOGGER.info("M2Web metadata cache update complete.");
             }
 
+            // Save metadata cache snapshot for next startup
+            MetadataSnapshotManager.save(
+                connectorSettings.getAccount(), CacheManager.getCachedM2WebEwons());
+
             // Update successful metadata sync execution counter
             SyncDataStateManager.incrementSuccessfulM2WebMetadataExecutionCount();
           } else {
@@ -496,6 +384,16 @@ public class M2WebMetadataPollingThread extends PollingThread {
           }
         }
 
+        // Store and log counters of added, changed and removed tags
+        TagConfigurationTracker.finishRun();
+        LOGGER.info(
+            "M2Web metadata cache update applied {} added, {} changed and {} removed tags ({}"
+                + " unchanged).",
+            TagConfigurationTracker.getLastRunAddedCount(),
+            TagConfigurationTracker.getLastRunChangedCount(),
+            TagConfigurationTracker.getLastRunRemovedCount(),
+            TagConfigurationTracker.getLastRunUnchangedCount());
+
         // Set metadata cache update in progress flag
         final boolean metadataCacheNotInProgress = false;
         isMetadataCacheUpdating.set(metadataCacheNotInProgress);
@@ -509,4 +407,413 @@ public class M2WebMetadataPollingThread extends PollingThread {
       gatewayHook.shutdown();
     }
   }
+
+  /**
+   * Requests the tag lists of the specified Ewons, with at most {@link
+   * #METADATA_CACHE_UPDATE_MAX_CONCURRENT_REQUESTS} requests in flight, and waits until all
+   * requests complete or time out. Each Ewon is published to the metadata cache, and becomes
+   * eligible for polling, as soon as its own tag list is received. Ewons which tag list requests
+   * fail or time out are retried on their own schedule (see {@link #retryFailedEwonTagLists()}), so
+   * that they do not delay the metadata update of other Ewons.
+   *
+   * <p>The tag lists of offline Ewons are not requested, as the requests would only fail or time
+   * out, and their last-known tag lists are kept (marked as stale, see {@link
+   * CacheManager#markCachedM2WebEwonTagSetStale(String)}). Ewons which have come back online since
+   * their tag lists were skipped, and Ewons which tag lists have never been received, are requested
+   * first.
+   *
+   * @param m2WebEwons the Ewons to request the tag lists of
+   * @since 1.0.0
+   */
+  private void updateEwonTagLists(Collection<M2WebEwon> m2WebEwons) {
+    // Skip offline Ewons, and order Ewons which came back online (or are new) first
+    List<M2WebEwon> priorityEwons = new ArrayList<>();
+    List<M2WebEwon> onlineEwons = new ArrayList<>();
+    int offlineEwonCount = 0;
+    for (M2WebEwon m2WebEwon : m2WebEwons) {
+      final String ewonName = m2WebEwon.getName();
+      if (m2WebEwon.isOffline()) {
+        CacheManager.markCachedM2WebEwonTagSetStale(ewonName);
+        tagListRetries.remove(ewonName);
+        offlineEwonCount++;
+      } else if (CacheManager.isCachedM2WebEwonTagSetStale(ewonName)) {
+        LOGGER.info(
+            "Gateway [{}] is online again. Refreshing its M2Web metadata first.", ewonName);
+        priorityEwons.add(m2WebEwon);
+      } else if (!CacheManager.isCachedM2WebEwonTagSetLoaded(ewonName)) {
+        priorityEwons.add(m2WebEwon);
+      } else {
+        onlineEwons.add(m2WebEwon);
+      }
+    }
+    priorityEwons.addAll(onlineEwons);
+
+    // Request tag lists
+    final long startTimeMillis = System.currentTimeMillis();
+    List<CompletableFuture<Void>> ewonTagListFutures = new ArrayList<>();
+    try {
+      for (M2WebEwon m2WebEwon : priorityEwons) {
+        ewonTagListFutures.add(requestEwonTagList(m2WebEwon));
+      }
+    } catch (InterruptedException e) {
+      LOGGER.warn(
+          "M2Web metadata polling thread was interrupted while requesting tag lists. The tag lists"
+              + " of some gateways will be updated by the next metadata cache update.");
+    }
+
+    // Wait for all tag list requests to complete or time out
+    CompletableFuture.allOf(ewonTagListFutures.toArray(new CompletableFuture[0])).join();
+    if (connectorSettings.isDebugEnabled()) {
+      LOGGER.debug(
+          "Requested M2Web metadata cache tag lists of {} gateway(s) in {} ms ({} scheduled for"
+              + " retry, {} offline skipped).",
+          ewonTagListFutures.size(),
+          System.currentTimeMillis() - startTimeMillis,
+          tagListRetries.size(),
+          offlineEwonCount);
+    }
+  }
+
+  /**
+   * Requests the tag lists of the Ewons which failed tag list requests are due to be retried. The
+   * requests are not waited for, and are retried again with an exponential backoff if they fail.
+   *
+   * @since 1.0.0
+   */
+  private void retryFailedEwonTagLists() {
+    final long nowMillis = System.currentTimeMillis();
+    for (Map.Entry<String, TagListRetry> tagListRetry : tagListRetries.entrySet()) {
+      // Stop retrying Ewons which are no longer in the metadata cache, or are offline
+      M2WebEwon m2WebEwon = CacheManager.getCachedM2WebEwon(tagListRetry.getKey());
+      if (m2WebEwon == null) {
+        tagListRetries.remove(tagListRetry.getKey());
+        continue;
+      } else if (m2WebEwon.isOffline()) {
+        CacheManager.markCachedM2WebEwonTagSetStale(m2WebEwon.getName());
+        tagListRetries.remove(tagListRetry.getKey());
+        continue;
+      }
+
+      // Retry tag list request, if due and not in flight
+      TagListRetry retry = tagListRetry.getValue();
+      if (!retry.inFlight && retry.nextRetryTimeMillis <= nowMillis) {
+        retry.inFlight = true;
+        if (connectorSettings.isDebugEnabled()) {
+          LOGGER.debug(
+              "Retrying M2Web metadata cache tag list update for gateway [{}] (Retry #{})...",
+              m2WebEwon.getName(),
+              retry.retryCount);
+        }
+        try {
+          requestEwonTagList(m2WebEwon);
+        } catch (InterruptedException e) {
+          retry.inFlight = false;
+          LOGGER.warn(
+              "M2Web metadata polling thread was interrupted while retrying tag lists. The retries"
+                  + " will be sent on the next run.");
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Requests the tag list of the specified Ewon, waiting for one of the {@link
+   * #METADATA_CACHE_UPDATE_MAX_CONCURRENT_REQUESTS} request slots to be free. A retry of the
+   * request is scheduled if it fails or does not complete within {@link
+   * #METADATA_CACHE_UPDATE_REQUEST_TIMEOUT_SECONDS}.
+   *
+   * @param m2WebEwon the Ewon to request the tag list of
+   * @return the future which completes (normally) once the request completes, fails or times out
+   * @throws InterruptedException if interrupted while waiting for a free request slot
+   * @since 1.0.0
+   */
+  private CompletableFuture<Void> requestEwonTagList(M2WebEwon m2WebEwon)
+      throws InterruptedException {
+    // Wait for free request slot
+    tagListRequestPermits.acquire();
+
+    // Send request, freeing request slot once complete or timed out
+    CompletableFuture<M2WebEwonEBDTagListResponse> m2WebEwonEBDTagListResponseFuture;
+    try {
+      m2WebEwonEBDTagListResponseFuture =
+          M2WebCommunicationManager.getEwonTagList(
+              connectorSettings.getAuthInfo(),
+              M2WebCommunicationManager.getM2WebServerUrl(m2WebEwon),
+              m2WebEwon.getEncodedName(),
+              getEwonTagListResponseCallback(m2WebEwon, connectorSettings));
+    } catch (RuntimeException e) {
+      tagListRequestPermits.release();
+      throw e;
+    }
+    return m2WebEwonEBDTagListResponseFuture
+        .orTimeout(METADATA_CACHE_UPDATE_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        .handle(
+            (response, exception) -> {
+              tagListRequestPermits.release();
+              if (exception == null) {
+                tagListRetries.remove(m2WebEwon.getName());
+              } else {
+                scheduleTagListRetry(m2WebEwon, exception);
+              }
+              return null;
+            });
+  }
+
+  /**
+   * Schedules a retry of the failed tag list request of the specified Ewon, with an exponential
+   * backoff, unless the maximum number of retries has been reached.
+   *
+   * @param m2WebEwon the Ewon which tag list request failed
+   * @param exception the exception of the failed request
+   * @since 1.0.0
+   */
+  private void scheduleTagListRetry(M2WebEwon m2WebEwon, Throwable exception) {
+    // Get retry count
+    TagListRetry previousRetry = tagListRetries.get(m2WebEwon.getName());
+    final int retryCount = previousRetry != null ? previousRetry.retryCount + 1 : 1;
+
+    // Give up if maximum retries reached (Ewon is retried by next metadata cache update)
+    if (retryCount > METADATA_CACHE_UPDATE_MAX_RETRIES) {
+      tagListRetries.remove(m2WebEwon.getName());
+      LOGGER.error(
+          "M2Web metadata cache tag list update for gateway [{}] failed after [{}] retries"
+              + " (maximum). Giving up until the next metadata cache update.",
+          m2WebEwon.getName(),
+          METADATA_CACHE_UPDATE_MAX_RETRIES);
+      return;
+    }
+
+    // Schedule retry after backoff time
+    double backoffTimeMsUnbounded =
+        Math.pow(METADATA_CACHE_UPDATE_RETRY_BACKOFF_BASE_SECONDS, retryCount)
+            * (double) DateTimeConstants.MILLIS_PER_SECOND;
+    long backoffTimeMs =
+        Math.min((long) backoffTimeMsUnbounded, METADATA_CACHE_UPDATE_RETRY_MAX_BACKOFF_MS);
+    tagListRetries.put(
+        m2WebEwon.getName(),
+        new TagListRetry(retryCount, System.currentTimeMillis() + backoffTimeMs));
+    LOGGER.warn(
+        "M2Web metadata cache tag list update for gateway [{}] failed ({}). Retrying in [{}]"
+            + " milliseconds.",
+        m2WebEwon.getName(),
+        exception instanceof CompletionException && exception.getCause() != null
+            ? exception.getCause()
+            : exception,
+        backoffTimeMs);
+  }
+
+  /**
+   * Loads the M2Web metadata cache from the snapshot saved by a previous metadata update, if
+   * available, and marks the startup metadata cache sync as completed, so that polling resumes
+   * without waiting for the metadata of all Ewons to be fetched. The tag configurations of the
+   * loaded Ewons are then applied to the tag provider, and any differences are reconciled by the
+   * next metadata update.
+   *
+   * @since 1.0.0
+   */
+  private void loadMetadataSnapshot() {
+    // Load snapshot
+    final long startTimeMillis = System.currentTimeMillis();
+    Map<M2WebEwon, List<M2WebEwonEBDTag>> ewonTagLists =
+        MetadataSnapshotManager.load(connectorSettings.getAccount());
+    if (ewonTagLists == null) {
+      return;
+    }
+
+    // Populate metadata cache and resume polling
+    CacheManager.updateCachedM2WebEwonSet(ewonTagLists.keySet());
+    int tagCount = 0;
+    for (Map.Entry<M2WebEwon, List<M2WebEwonEBDTag>> ewonTagList : ewonTagLists.entrySet()) {
+      // Ewons without tag lists in snapshot are not loaded (requested first by next update)
+      if (ewonTagList.getValue() != null) {
+        CacheManager.updateCachedM2WebEwonTagSet(
+            ewonTagList.getKey().getName(), ewonTagList.getValue());
+        tagCount += ewonTagList.getValue().size();
+      }
+    }
+    SyncDataStateManager.setStartupM2WebMetadataSyncCompleted();
+    LOGGER.info(
+        "Loaded M2Web metadata cache of {} gateway(s) and {} tag(s) from snapshot in {} ms. The"
+            + " metadata cache will be refreshed in the background.",
+        ewonTagLists.size(),
+        tagCount,
+        System.currentTimeMillis() - startTimeMillis);
+
+    // Apply tag configurations of loaded Ewons
+    for (Map.Entry<M2WebEwon, List<M2WebEwonEBDTag>> ewonTagList : ewonTagLists.entrySet()) {
+      if (ewonTagList.getValue() != null) {
+        TagManager.applyM2WebEwonTagConfigurations(ewonTagList.getKey(), ewonTagList.getValue());
+      }
+    }
+  }
+
+  /**
+   * Gets the callback for a tag list request of the specified Ewon, which updates the cached tag
+   * list of the Ewon and applies its tag configurations to the tag provider.
+   *
+   * @param cachedEwon The Ewon which the tag list is requested for.
+   * @param connectorSettings The Ewon connector settings.
+   * @return The callback for the tag list request.
+   * @since 1.0.0
+   */
+  static FutureCallback<M2WebEwonEBDTagListResponse> getEwonTagListResponseCallback(
+      M2WebEwon cachedEwon, EwonConnectorSettings connectorSettings) {
+    return new FutureCallback<>() {
+      @Override
+      public void completed(M2WebEwonEBDTagListResponse m2WebEwonEBDTagListResponse) {
+        if (m2WebEwonEBDTagListResponse == null) {
+          String errorMessage =
+              String.format(
+                  "Failed to update M2Web metadata cache tag list for gateway [%s] due to a null"
+                      + " API response.",
+                  cachedEwon.getName());
+          LOGGER.error(errorMessage);
+          throw new RuntimeException(errorMessage);
+        } else if (!m2WebEwonEBDTagListResponse.getSuccess()) {
+          if (m2WebEwonEBDTagListResponse.isUnavailable()) {
+            // Get cached unavailable status
+            boolean cachedUnavailableStatus =
+                CacheManager.getCachedM2WebEwonUnavailableStatus(cachedEwon.getName());
+
+            // If cached unavailable status is false, update it
+            if (!cachedUnavailableStatus) {
+              final boolean unavailableStatus = true;
+              CacheManager.updateCachedM2WebEwonUnavailableStatus(
+                  cachedEwon.getName(), unavailableStatus);
+            }
+
+            // Log error if debug enabled or cached unavailable status was false
+            if (connectorSettings.isDebugEnabled() || !cachedUnavailableStatus) {
+              String warnMessage =
+                  "Unable to update M2Web metadata cache tag list for gateway ["
+                      + cachedEwon.getName()
+                      + "] because the gateway is unavailable/offline.";
+              if (!connectorSettings.isDebugEnabled()) {
+                warnMessage +=
+                    " (Subsequent warnings will not be logged until the gateway becomes available"
+                        + " again)";
+              }
+              LOGGER.warn(warnMessage);
+            }
+          } else if (m2WebEwonEBDTagListResponse.areEwonCredentialsIncorrect()) {
+            LOGGER.error(
+                "Failed to update M2Web metadata cache tag list for gateway [{}] because the"
+                    + " configured credentials are incorrect or not configured on the device.",
+                cachedEwon.getName());
+          } else if (m2WebEwonEBDTagListResponse.didTimeoutReachingDevice()) {
+            LOGGER.error(
+                "Failed to update M2Web metadata cache tag list for gateway [{}] because the"
+                    + " device did not respond in time.",
+                cachedEwon.getName());
+          } else if (m2WebEwonEBDTagListResponse.wasUnableToReachDevice()
+              != M2WebEwonEBDResponse.ERROR_CODE_NONE) {
+            int errorCode = m2WebEwonEBDTagListResponse.wasUnableToReachDevice();
+            LOGGER.error(
+                "Failed to update M2Web metadata cache tag list for gateway [{}] because the API"
+                    + " could not reach the device. Error code: {}",
+                cachedEwon.getName(),
+                errorCode);
+          } else {
+            String errorMessage =
+                String.format(
+                    "Failed to update M2Web metadata cache tag list for gateway [%s] due to an"
+                        + " error (%d): %s",
+                    cachedEwon.getName(),
+                    m2WebEwonEBDTagListResponse.getCode(),
+                    m2WebEwonEBDTagListResponse.getMessage());
+            LOGGER.error(errorMessage);
+            throw new RuntimeException(errorMessage);
+          }
+        } else {
+          // Get cached unavailable status
+          boolean cachedUnavailableStatus =
+              CacheManager.getCachedM2WebEwonUnavailableStatus(cachedEwon.getName());
+          if (cachedUnavailableStatus) {
+            // Update cached unavailable status
+            final boolean unavailableStatus = false;
+            CacheManager.updateCachedM2WebEwonUnavailableStatus(
+                cachedEwon.getName(), unavailableStatus);
+
+            // Log info
+            LOGGER.info(
+                "Gateway [" + cachedEwon.getName() + "] is now available. Updating metadata.");
+          }
+
+          List<M2WebEwonEBDTag> getEwonTagListResponseTags = m2WebEwonEBDTagListResponse.getTags();
+          CacheManager.updateCachedM2WebEwonTagSet(
+              cachedEwon.getName(), getEwonTagListResponseTags);
+          TagManager.applyM2WebEwonTagConfigurations(cachedEwon, getEwonTagListResponseTags);
+          if (connectorSettings.isDebugEnabled()) {
+            LOGGER.debug(
+                "Updated M2Web metadata cache tag list for gateway ["
+                    + cachedEwon.getName()
+                    + "] successfully.");
+          }
+        }
+      }
+
+      @Override
+      public void failed(Exception e) {
+        LOGGER.error(
+            "Failed to update M2Web metadata cache tag list for gateway ["
+                + cachedEwon.getName()
+                + "] due to an exception. "
+                + e,
+            e);
+        if (connectorSettings.isDebugEnabled()) {
+          ExceptionUtilities.printExceptionTraceMessages(LOGGER, e);
+        }
+      }
+
+      @Override
+      public void cancelled() {
+        LOGGER.error(
+            "Failed to update M2Web metadata cache tag list for gateway ["
+                + cachedEwon.getName()
+                + "] because the request was cancelled.");
+      }
+    };
+  }
+
+  /**
+   * Class for the scheduled retry of the failed tag list request of an Ewon.
+   *
+   * @since 1.0.0
+   */
+  private static class TagListRetry {
+
+    /**
+     * The number of the retry, starting at 1.
+     *
+     * @since 1.0.0
+     */
+    private final int retryCount;
+
+    /**
+     * The time (in milliseconds) at which the retry is due.
+     *
+     * @since 1.0.0
+     */
+    private final long nextRetryTimeMillis;
+
+    /**
+     * Boolean indicating if the retry has been sent and is in flight.
+     *
+     * @since 1.0.0
+     */
+    private volatile boolean inFlight = false;
+
+    /**
+     * Creates a new scheduled retry of a failed tag list request.
+     *
+     * @param retryCount the number of the retry, starting at 1
+     * @param nextRetryTimeMillis the time (in milliseconds) at which the retry is due
+     * @since 1.0.0
+     */
+    private TagListRetry(int retryCount, long nextRetryTimeMillis) {
+      this.retryCount = retryCount;
+      this.nextRetryTimeMillis = nextRetryTimeMillis;
+    }
+  }
 }
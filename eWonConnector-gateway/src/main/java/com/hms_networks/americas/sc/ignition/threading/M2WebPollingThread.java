@@ -5,19 +5,39 @@ import com.hms_networks.americas.sc.ignition.comm.M2WebCommunicationManager;
 import com.hms_networks.americas.sc.ignition.comm.responses.m2w.*;
 import com.hms_networks.americas.sc.ignition.config.EwonConnectorSettings;
 import com.hms_networks.americas.sc.ignition.data.CacheManager;
+import com.hms_networks.americas.sc.ignition.data.LivePollTracker;
+import com.hms_networks.americas.sc.ignition.data.MetadataRefreshQueue;
 import com.hms_networks.americas.sc.ignition.data.SyncDataStateManager;
 import com.hms_networks.americas.sc.ignition.data.TagManager;
+import com.hms_networks.americas.sc.ignition.data.TagManagerUtilities;
 import java.util.*;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A thread that polls for M2Web data at a specified interval. The polling logic is defined in the
- * {@link M2WebPollingThread#run()} method. The polling interval can be changed at runtime by
- * calling the {@link M2WebPollingThread#setPollingInterval(long, TimeUnit)} method.
+ * A thread that polls for M2Web data at a specified interval. The polls of the individual Ewons are
+ * scheduled by a {@link LivePollScheduler}, which spreads them evenly across the polling interval
+ * and backs off Ewons which are unavailable, so the thread runs at a fraction of the polling
+ * interval to send the polls which are due. Each Ewon can be polled at its own poll rate, set by
+ * its live poll rate tag (see {@link TagManager#getEwonLivePollRate(String)}). The polling logic
+ * is defined in the {@link M2WebPollingThread#run()} method. The polling interval can be changed
+ * at runtime by calling the {@link M2WebPollingThread#setPollingInterval(long, TimeUnit)} method.
+ *
+ * <p>If tag groups are polled separately (see {@link
+ * EwonConnectorSettings#isLivePollTagGroupsEnabled()}), each tag group (A, B, C and D) of an Ewon
+ * is scheduled as a separate poll at the configured poll rate of the tag group, which requests only
+ * the instant values of the tag group. Tags which are not in any tag group are polled at the
+ * polling interval of the Ewon.
+ *
+ * <p>Polls are sent asynchronously, and the thread never waits for them to complete. Each Ewon has
+ * at most one poll in flight, tracked by {@link LivePollTracker}: a poll which becomes due while
+ * the previous poll of the Ewon is in flight is skipped, and sent once the in-flight poll
+ * completes. Ewons are polled as soon as their tag lists have been received by the {@link
+ * M2WebMetadataPollingThread}, without waiting for the tag lists of all Ewons.
  *
  * @author HMS Networks, MU Americas Solution Center
  * @since 2.0.0
@@ -40,10 +60,100 @@ public class M2WebPollingThread extends PollingThread {
   private static final Logger LOGGER = LoggerFactory.getLogger(M2WebPollingThread.class);
 
   /**
-   * Creates a new M2Web polling thread with the specified thread polling interval.
+   * The Ewon tag groups which instant values can be requested for, in tag group bit mask order.
+   *
+   * @since 1.0.0
+   */
+  private static final String[] EBD_TAG_GROUPS = {"A", "B", "C", "D"};
+
+  /**
+   * The tag group index of polls which are not of a single tag group.
+   *
+   * @since 1.0.0
+   */
+  private static final int POLL_TAG_GROUP_INDEX_NONE = -1;
+
+  /**
+   * The tag group indexes polled for each Ewon when tag groups are not polled separately.
+   *
+   * @since 1.0.0
+   */
+  private static final int[] POLL_TAG_GROUP_INDEXES_NONE = {POLL_TAG_GROUP_INDEX_NONE};
+
+  /**
+   * The tag group indexes polled for each Ewon when tag groups are polled separately, including
+   * the poll of the tags which are not in any tag group.
+   *
+   * @since 1.0.0
+   */
+  private static final int[] POLL_TAG_GROUP_INDEXES_TAG_GROUPS = {
+    POLL_TAG_GROUP_INDEX_NONE, 0, 1, 2, 3
+  };
+
+  /**
+   * The separator between the Ewon name and tag group of the name of a tag group poll.
+   *
+   * @since 1.0.0
+   */
+  private static final String POLL_NAME_TAG_GROUP_SEPARATOR = "/";
+
+  /**
+   * The number of scheduler ticks (thread runs) per polling interval, which sets the resolution
+   * at which Ewon polls are spread across the polling interval.
+   *
+   * @since 1.0.0
+   */
+  private static final long SCHEDULER_TICKS_PER_POLLING_INTERVAL = 100;
+
+  /**
+   * The minimum duration (in milliseconds) of a scheduler tick.
+   *
+   * @since 1.0.0
+   */
+  private static final long SCHEDULER_TICK_MIN_MILLIS = 50;
+
+  /**
+   * The maximum duration (in milliseconds) of a scheduler tick.
+   *
+   * @since 1.0.0
+   */
+  private static final long SCHEDULER_TICK_MAX_MILLIS = 1000;
+
+  /**
+   * The scheduler of the polls of the individual Ewons.
+   *
+   * @since 1.0.0
+   */
+  private final LivePollScheduler livePollScheduler;
+
+  /**
+   * The polling interval (in milliseconds) of Ewons which do not have their own poll rate.
+   *
+   * @since 1.0.0
+   */
+  private volatile long livePollIntervalMillis;
+
+  /**
+   * The configured poll rates (in seconds) of the tag groups, in tag group bit mask order, or 0 for
+   * tag groups polled at the polling interval of the Ewon.
    *
-   * @param pollingInterval The thread polling interval.
-   * @param pollingIntervalTimeUnit The thread polling interval time unit.
+   * @since 1.0.0
+   */
+  private final int[] tagGroupLivePollRates;
+
+  /**
+   * The time (in milliseconds) the sync data status tags were last updated.
+   *
+   * @since 1.0.0
+   */
+  private long lastStatusTagsUpdateTimeMillis = 0;
+
+  /**
+   * Creates a new M2Web polling thread with the specified polling interval of Ewons which do not
+   * have their own poll rate. The thread itself runs at the scheduler tick interval.
+   *
+   * @param pollingInterval The polling interval.
+   * @param pollingIntervalTimeUnit The polling interval time unit.
    * @param gatewayHook The gateway module hook.
    * @param connectorSettings The Ewon connector settings.
    * @since 1.0.0
@@ -53,7 +163,52 @@ public class M2WebPollingThread extends PollingThread {
       TimeUnit pollingIntervalTimeUnit,
       IgnitionEwonConnectorHook gatewayHook,
       EwonConnectorSettings connectorSettings) {
-    super(THREAD_NAME, pollingInterval, pollingIntervalTimeUnit, gatewayHook, connectorSettings);
+    super(
+        THREAD_NAME,
+        getSchedulerTickMillis(pollingIntervalTimeUnit.toMillis(pollingInterval)),
+        TimeUnit.MILLISECONDS,
+        gatewayHook,
+        connectorSettings);
+    this.livePollIntervalMillis = pollingIntervalTimeUnit.toMillis(pollingInterval);
+    this.livePollScheduler = new LivePollScheduler(getPollingInterval());
+    this.tagGroupLivePollRates =
+        new int[] {
+          connectorSettings.getLivePollRateGroupA(),
+          connectorSettings.getLivePollRateGroupB(),
+          connectorSettings.getLivePollRateGroupC(),
+          connectorSettings.getLivePollRateGroupD()
+        };
+  }
+
+  /**
+   * Sets the polling interval of Ewons which do not have their own poll rate, and restarts the
+   * thread at the matching scheduler tick interval. Scheduled polls are not moved; each Ewon is
+   * polled at the new interval after its next poll.
+   *
+   * @param pollingInterval The polling interval.
+   * @param pollingIntervalTimeUnit The polling interval time unit.
+   * @since 1.0.0
+   */
+  @Override
+  public void setPollingInterval(long pollingInterval, TimeUnit pollingIntervalTimeUnit) {
+    livePollIntervalMillis = pollingIntervalTimeUnit.toMillis(pollingInterval);
+    super.setPollingInterval(
+        getSchedulerTickMillis(livePollIntervalMillis), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gets the scheduler tick interval (in milliseconds) for the specified polling interval.
+   *
+   * @param pollingIntervalMillis The polling interval (in milliseconds).
+   * @return The scheduler tick interval (in milliseconds).
+   * @since 1.0.0
+   */
+  private static long getSchedulerTickMillis(long pollingIntervalMillis) {
+    return Math.min(
+        SCHEDULER_TICK_MAX_MILLIS,
+        Math.max(
+            SCHEDULER_TICK_MIN_MILLIS,
+            pollingIntervalMillis / SCHEDULER_TICKS_PER_POLLING_INTERVAL));
   }
 
   /**
@@ -70,82 +225,129 @@ public class M2WebPollingThread extends PollingThread {
   @Override
   public void run() {
     try {
-      // Create a boolean to track if an error/exception occurred
-      boolean errorOccurred = false;
-
-      if (!SyncDataStateManager.getStartupM2WebMetadataSyncCompleted()) {
+      if (CacheManager.getCachedM2WebEwons().isEmpty()) {
         if (connectorSettings.isDebugEnabled()) {
           LOGGER.debug(
-              "Skipping M2Web tag data synchronization because the initial/startup metadata cache"
-                  + " sync has not completed!");
+              "Skipping M2Web tag data synchronization because the M2Web metadata cache gateway"
+                  + " list has not been received yet!");
         }
       } else {
-        List<Future<M2WebEwonEBDInstantValuesResponse>> ewonInstantValuesFutures;
-        if (connectorSettings.isForceLive()) {
-          // Update tag data for all tags
-          ewonInstantValuesFutures = updateM2WebTagDataForAllEwons();
-        } else {
-          // Create list of futures for tag data updates
-          ewonInstantValuesFutures = new ArrayList<>();
-
-          // Update tag data for forced Ewons
-          for (M2WebEwon forcedRealtimeEwon : TagManager.getForcedM2WebEwons()) {
-            ewonInstantValuesFutures.add(updateM2WebTagDataForEwon(forcedRealtimeEwon));
+        // Refresh metadata of Ewons which reported unknown tags
+        refreshQueuedEwonMetadata();
+
+        // Schedule first polls of live polled Ewons, spread across their polling intervals, as
+        // soon as their tag lists have been received
+        for (M2WebEwon m2WebEwon : CacheManager.getCachedM2WebEwons()) {
+          String ewonName = m2WebEwon.getName();
+          if (CacheManager.isCachedM2WebEwonTagSetLoaded(ewonName) && isEwonLivePolled(ewonName)) {
+            for (int tagGroupIndex : getPollTagGroupIndexes()) {
+              String pollName = getPollName(ewonName, tagGroupIndex);
+              if (!livePollScheduler.isScheduled(pollName)) {
+                livePollScheduler.scheduleStaggered(
+                    pollName, getPollIntervalMillis(ewonName, tagGroupIndex));
+              }
+            }
           }
+        }
 
-          // Update tag data for forced tags (if parent Ewon not already forced realtime)
-          CacheManager.getCachedM2WebEwons()
-              .forEach(
-                  m2WebEwon -> {
-                    // Get parent Ewon name
-                    String ewonName = m2WebEwon.getName();
-
-                    // If parent Ewon not already forced realtime, update tag data for forced tags
-                    if (!TagManager.getForcedM2WebEwons().contains(ewonName)) {
-                      // Build list of forced tags for Ewon
-                      List<String> forcedRealtimeEwonTags = new ArrayList<>();
-                      for (M2WebEwonEBDTag m2WebEwonEBDTag :
-                          CacheManager.getCachedM2WebEwonTagMap(ewonName).values()) {
-                        if (TagManager.isEwonTagForcedM2Web(m2WebEwon, m2WebEwonEBDTag)) {
-                          forcedRealtimeEwonTags.add(m2WebEwonEBDTag.getName());
-                        }
-                      }
+        // Send polls which are due (polls of Ewons no longer live polled are not rescheduled)
+        final long cycleStartTimeMillis = System.currentTimeMillis();
+        List<CompletableFuture<Void>> ewonPollFutures = new ArrayList<>();
+        for (String pollName : livePollScheduler.pollDue()) {
+          final String ewonName = getPollEwonName(pollName);
+          final int tagGroupIndex = getPollTagGroupIndex(pollName);
+          M2WebEwon m2WebEwon = CacheManager.getCachedM2WebEwon(ewonName);
+          if (m2WebEwon == null || !isEwonLivePolled(ewonName)) {
+            LivePollTracker.removeEwon(pollName);
+            continue;
+          }
 
-                      // Update tag data for forced tags (if any)
-                      if (!forcedRealtimeEwonTags.isEmpty()) {
-                        ewonInstantValuesFutures.add(
-                            updateM2WebTagDataForEwonTags(m2WebEwon, forcedRealtimeEwonTags));
-                      }
-                    }
-                  });
-        }
+          // Schedule next poll (backed off, if Ewon unavailable)
+          livePollScheduler.schedule(
+              pollName,
+              livePollScheduler.getNextPollIntervalMillis(
+                  ewonName, getPollIntervalMillis(ewonName, tagGroupIndex)));
 
-        // Update last M2Web tag data sync date/time
-        SyncDataStateManager.setLastM2WebSyncDateTime(System.currentTimeMillis());
+          // Skip poll if previous poll still in flight (coalesced into a poll once it completes)
+          if (!LivePollTracker.tryStartPoll(pollName)) {
+            if (connectorSettings.isDebugEnabled()) {
+              LOGGER.debug(
+                  "Skipping M2Web poll [{}] because its previous poll is still in flight.",
+                  pollName);
+            }
+            continue;
+          }
 
-        // Wait for all Ewon instant values futures to complete to check for errors
-        for (Future<M2WebEwonEBDInstantValuesResponse> ewonInstantValuesFuture :
-            ewonInstantValuesFutures) {
-          try {
-            ewonInstantValuesFuture.get();
-          } catch (Exception e) {
-            // No need to log error here since it will be logged in the callback
-            errorOccurred = true;
+          // Update tag data for tag group, all tags of forced Ewon, or forced tags only
+          List<CompletableFuture<M2WebEwonEBDInstantValuesResponse>> ewonInstantValuesFutures;
+          if (connectorSettings.isLivePollTagGroupsEnabled()) {
+            ewonInstantValuesFutures = updateM2WebTagDataForEwonTagGroup(m2WebEwon, tagGroupIndex);
+          } else if (connectorSettings.isForceLive() || TagManager.isEwonForcedM2Web(ewonName)) {
+            ewonInstantValuesFutures = List.of(updateM2WebTagDataForEwon(m2WebEwon));
+          } else {
+            ewonInstantValuesFutures = updateM2WebTagDataForEwonForcedTags(m2WebEwon);
+          }
 
-            // Break out of loop since we know an error occurred already. No need to wait for rest
-            break;
+          // Stop tracking poll if there are no tags to update (i.e. empty tag group)
+          if (ewonInstantValuesFutures.isEmpty()) {
+            LivePollTracker.finishPoll(pollName);
+            LivePollTracker.removeEwon(pollName);
+            continue;
           }
+
+          // Finish poll once all requests complete, and poll again if polls were skipped
+          ewonPollFutures.add(
+              CompletableFuture.allOf(ewonInstantValuesFutures.toArray(new CompletableFuture[0]))
+                  .whenComplete(
+                      (result, exception) -> {
+                        if (exception == null
+                            && ewonInstantValuesFutures.stream()
+                                .allMatch(future -> future.join().getSuccess())) {
+                          LivePollTracker.recordPollSuccess(pollName);
+
+                          // Refresh stale metadata of Ewon which came back online
+                          if (CacheManager.isCachedM2WebEwonTagSetStale(ewonName)
+                              && MetadataRefreshQueue.request(ewonName)) {
+                            LOGGER.info(
+                                "Gateway [{}] is online again. Queued refresh of its M2Web"
+                                    + " metadata.",
+                                ewonName);
+                          }
+                        }
+                        if (LivePollTracker.finishPoll(pollName)
+                            && exception == null
+                            && !livePollScheduler.isBackedOff(ewonName)) {
+                          final long coalescedPollDelayMillis = 0;
+                          livePollScheduler.schedule(pollName, coalescedPollDelayMillis);
+                        }
+                      }));
         }
 
-        // Update success/failure counters
-        if (errorOccurred) {
-          SyncDataStateManager.incrementFailedM2WebExecutionCount();
-        } else {
-          SyncDataStateManager.incrementSuccessfulM2WebExecutionCount();
+        // Update last M2Web tag data sync date/time, and cycle duration and success/failure
+        // counters once all polls complete
+        if (!ewonPollFutures.isEmpty()) {
+          SyncDataStateManager.setLastM2WebSyncDateTime(cycleStartTimeMillis);
+          CompletableFuture.allOf(ewonPollFutures.toArray(new CompletableFuture[0]))
+              .whenComplete(
+                  (result, exception) -> {
+                    LivePollTracker.recordCycleDuration(
+                        System.currentTimeMillis() - cycleStartTimeMillis);
+
+                    // No need to log error here since it will be logged in the callback
+                    if (exception != null) {
+                      SyncDataStateManager.incrementFailedM2WebExecutionCount();
+                    } else {
+                      SyncDataStateManager.incrementSuccessfulM2WebExecutionCount();
+                    }
+                  });
         }
 
-        // Update sync data status tags
-        TagManager.updateSyncDataStatusTags();
+        // Update sync data status tags (once per polling interval)
+        final long nowMillis = System.currentTimeMillis();
+        if (nowMillis - lastStatusTagsUpdateTimeMillis >= livePollIntervalMillis) {
+          lastStatusTagsUpdateTimeMillis = nowMillis;
+          TagManager.updateSyncDataStatusTags();
+        }
       }
     } catch (Exception e) {
       LOGGER.error(
@@ -158,16 +360,191 @@ public class M2WebPollingThread extends PollingThread {
   }
 
   /**
-   * Updates tag data for all Ewons. The list of Ewons is retrieved from the metadata cache gateway
-   * list.
+   * Requests the tag lists of the Ewons which have a queued metadata refresh (see {@link
+   * MetadataRefreshQueue}), because they reported tags which are not in the metadata cache, or came
+   * back online while their metadata was stale. Once the tag list of an Ewon is applied, the Ewon
+   * is polled immediately (if live polled), so that new tags are updated without waiting for its
+   * next scheduled poll.
    *
    * @since 1.0.0
    */
-  public List<Future<M2WebEwonEBDInstantValuesResponse>> updateM2WebTagDataForAllEwons() {
-    // Update tag data for all Ewons in cache
-    List<Future<M2WebEwonEBDInstantValuesResponse>> ewonInstantValuesFutures = new ArrayList<>();
-    for (M2WebEwon cachedEwon : CacheManager.getCachedM2WebEwons()) {
-      ewonInstantValuesFutures.add(updateM2WebTagDataForEwon(cachedEwon));
+  private void refreshQueuedEwonMetadata() {
+    for (String ewonName : MetadataRefreshQueue.drain()) {
+      M2WebEwon m2WebEwon = CacheManager.getCachedM2WebEwon(ewonName);
+      if (m2WebEwon == null) {
+        continue;
+      }
+
+      // Request tag list, then poll Ewon once the tag list is applied
+      LOGGER.info("Refreshing M2Web metadata of gateway [{}] on demand.", ewonName);
+      M2WebCommunicationManager.getEwonTagList(
+              connectorSettings.getAuthInfo(),
+              M2WebCommunicationManager.getM2WebServerUrl(m2WebEwon),
+              m2WebEwon.getEncodedName(),
+              M2WebMetadataPollingThread.getEwonTagListResponseCallback(
+                  m2WebEwon, connectorSettings))
+          .whenComplete(
+              (response, exception) -> {
+                if (exception == null && isEwonLivePolled(ewonName)) {
+                  final long refreshedPollDelayMillis = 0;
+                  for (int tagGroupIndex : getPollTagGroupIndexes()) {
+                    livePollScheduler.schedule(
+                        getPollName(ewonName, tagGroupIndex), refreshedPollDelayMillis);
+                  }
+                }
+              });
+    }
+  }
+
+  /**
+   * Checks if the specified Ewon should be polled via M2Web, because all Ewons are forced to be
+   * polled via M2Web, the Ewon is forced to be polled via M2Web, or it has forced tags.
+   *
+   * @param ewonName The name of the Ewon.
+   * @return true if the Ewon should be polled via M2Web, false otherwise.
+   * @since 1.0.0
+   */
+  private boolean isEwonLivePolled(String ewonName) {
+    return connectorSettings.isForceLive()
+        || TagManager.isEwonForcedM2Web(ewonName)
+        || TagManager.hasEwonTagsForcedM2Web(ewonName);
+  }
+
+  /**
+   * Gets the polling interval (in milliseconds) of the specified Ewon, which is its own poll rate
+   * if set, or the polling interval of the thread otherwise.
+   *
+   * @param ewonName The name of the Ewon.
+   * @return The polling interval (in milliseconds) of the Ewon.
+   * @since 1.0.0
+   */
+  private long getEwonPollIntervalMillis(String ewonName) {
+    final int ewonLivePollRate = TagManager.getEwonLivePollRate(ewonName);
+    return ewonLivePollRate > 0
+        ? TimeUnit.SECONDS.toMillis(ewonLivePollRate)
+        : livePollIntervalMillis;
+  }
+
+  /**
+   * Gets the indexes of the tag groups which are polled separately for each Ewon, or only {@link
+   * #POLL_TAG_GROUP_INDEX_NONE} if tag groups are not polled separately. When tag groups are
+   * polled separately, {@link #POLL_TAG_GROUP_INDEX_NONE} polls the tags which are not in any tag
+   * group.
+   *
+   * @return The indexes of the tag groups which are polled separately.
+   * @since 1.0.0
+   */
+  private int[] getPollTagGroupIndexes() {
+    return connectorSettings.isLivePollTagGroupsEnabled()
+        ? POLL_TAG_GROUP_INDEXES_TAG_GROUPS
+        : POLL_TAG_GROUP_INDEXES_NONE;
+  }
+
+  /**
+   * Gets the name of the poll of the specified tag group of the specified Ewon, which is the name
+   * of the Ewon, followed by the tag group (i.e. 'EwonName/A') if a tag group is polled.
+   *
+   * @param ewonName The name of the Ewon.
+   * @param tagGroupIndex The index of the tag group, or {@link #POLL_TAG_GROUP_INDEX_NONE}.
+   * @return The name of the poll.
+   * @since 1.0.0
+   */
+  private static String getPollName(String ewonName, int tagGroupIndex) {
+    return tagGroupIndex != POLL_TAG_GROUP_INDEX_NONE
+        ? ewonName + POLL_NAME_TAG_GROUP_SEPARATOR + EBD_TAG_GROUPS[tagGroupIndex]
+        : ewonName;
+  }
+
+  /**
+   * Gets the name of the Ewon of the specified poll.
+   *
+   * @param pollName The name of the poll.
+   * @return The name of the Ewon.
+   * @since 1.0.0
+   */
+  private static String getPollEwonName(String pollName) {
+    final int separatorIndex = pollName.lastIndexOf(POLL_NAME_TAG_GROUP_SEPARATOR);
+    return separatorIndex >= 0 ? pollName.substring(0, separatorIndex) : pollName;
+  }
+
+  /**
+   * Gets the index of the tag group of the specified poll.
+   *
+   * @param pollName The name of the poll.
+   * @return The index of the tag group, or {@link #POLL_TAG_GROUP_INDEX_NONE} if the poll is not
+   *     of a tag group.
+   * @since 1.0.0
+   */
+  private static int getPollTagGroupIndex(String pollName) {
+    final int separatorIndex = pollName.lastIndexOf(POLL_NAME_TAG_GROUP_SEPARATOR);
+    return separatorIndex >= 0
+        ? Arrays.asList(EBD_TAG_GROUPS).indexOf(pollName.substring(separatorIndex + 1))
+        : POLL_TAG_GROUP_INDEX_NONE;
+  }
+
+  /**
+   * Gets the polling interval (in milliseconds) of the specified tag group of the specified Ewon,
+   * which is the configured poll rate of the tag group if set, or the polling interval of the Ewon
+   * otherwise.
+   *
+   * @param ewonName The name of the Ewon.
+   * @param tagGroupIndex The index of the tag group, or {@link #POLL_TAG_GROUP_INDEX_NONE}.
+   * @return The polling interval (in milliseconds) of the tag group of the Ewon.
+   * @since 1.0.0
+   */
+  private long getPollIntervalMillis(String ewonName, int tagGroupIndex) {
+    final int tagGroupLivePollRate =
+        tagGroupIndex != POLL_TAG_GROUP_INDEX_NONE ? tagGroupLivePollRates[tagGroupIndex] : 0;
+    return tagGroupLivePollRate > 0
+        ? TimeUnit.SECONDS.toMillis(tagGroupLivePollRate)
+        : getEwonPollIntervalMillis(ewonName);
+  }
+
+  /**
+   * Updates tag data for the tags of the specified tag group of the specified {@link M2WebEwon},
+   * or for its tags which are not in any tag group. Only the tags which are forced to be polled via
+   * M2Web are updated, unless the Ewon is forced to be polled via M2Web. The instant values of the
+   * tag group are requested, or the instant values of all tags, filtered by tag name, for tags
+   * which are not in any tag group.
+   *
+   * @param ewon The {@link M2WebEwon} for which to update tag data.
+   * @param tagGroupIndex The index of the tag group, or {@link #POLL_TAG_GROUP_INDEX_NONE} to
+   *     update tag data for tags which are not in any tag group.
+   * @return A list of {@link CompletableFuture}s for the M2Web EBD instant values responses, which
+   *     is empty if there are no tags to update.
+   * @since 1.0.0
+   */
+  public List<CompletableFuture<M2WebEwonEBDInstantValuesResponse>>
+      updateM2WebTagDataForEwonTagGroup(M2WebEwon ewon, int tagGroupIndex) {
+    // Get names of tags to update (in tag group, or not in any tag group)
+    final boolean isEwonForced =
+        connectorSettings.isForceLive() || TagManager.isEwonForcedM2Web(ewon.getName());
+    Set<String> tagNames = new HashSet<>();
+    for (M2WebEwonEBDTag m2WebEwonEBDTag :
+        CacheManager.getCachedM2WebEwonTagMap(ewon.getName()).values()) {
+      final int tagGroupMask = getTagGroupMask(m2WebEwonEBDTag);
+      final boolean isInPolledTagGroup =
+          tagGroupIndex != POLL_TAG_GROUP_INDEX_NONE
+              ? (tagGroupMask & (1 << tagGroupIndex)) != 0
+              : tagGroupMask == 0;
+      if (isInPolledTagGroup
+          && (isEwonForced || TagManager.isEwonTagForcedM2Web(ewon, m2WebEwonEBDTag))) {
+        tagNames.add(m2WebEwonEBDTag.getName());
+      }
+    }
+
+    // Request instant values of tag group (all tags, if Ewon forced), or of tags not in a group
+    List<CompletableFuture<M2WebEwonEBDInstantValuesResponse>> ewonInstantValuesFutures =
+        new ArrayList<>();
+    if (!tagNames.isEmpty()) {
+      if (tagGroupIndex == POLL_TAG_GROUP_INDEX_NONE) {
+        String tagGroupFilter = null;
+        ewonInstantValuesFutures.add(updateM2WebTagDataForEwonTags(ewon, tagNames, tagGroupFilter));
+      } else {
+        ewonInstantValuesFutures.add(
+            updateM2WebTagDataForEwonTags(
+                ewon, isEwonForced ? null : tagNames, EBD_TAG_GROUPS[tagGroupIndex]));
+      }
     }
     return ewonInstantValuesFutures;
   }
@@ -177,12 +554,131 @@ public class M2WebPollingThread extends PollingThread {
    *
    * @param ewon The {@link M2WebEwon} for which to update tag data. The value returned from {@link
    *     M2WebEwon#getName()} is used to identify the Ewon.
-   * @return A {@link Future} for the M2Web EBD instant values response.
+   * @return A {@link CompletableFuture} for the M2Web EBD instant values response.
+   * @since 1.0.0
+   */
+  public CompletableFuture<M2WebEwonEBDInstantValuesResponse> updateM2WebTagDataForEwon(
+      M2WebEwon ewon) {
+    Set<String> tagNames = null;
+    String tagGroupFilter = null;
+    return updateM2WebTagDataForEwonTags(ewon, tagNames, tagGroupFilter);
+  }
+
+  /**
+   * Updates tag data for the tags of the specified {@link M2WebEwon} which are forced to be polled
+   * via M2Web. Only the instant values of the tag groups which contain the forced tags are
+   * requested, if those tag groups contain fewer tags than the Ewon, with one request per tag
+   * group. Otherwise, the instant values of all tags are requested, and filtered by tag name.
+   *
+   * @param ewon The {@link M2WebEwon} for which to update tag data.
+   * @return A list of {@link CompletableFuture}s for the M2Web EBD instant values responses.
+   * @since 1.0.0
+   */
+  public List<CompletableFuture<M2WebEwonEBDInstantValuesResponse>>
+      updateM2WebTagDataForEwonForcedTags(M2WebEwon ewon) {
+    // Get forced tags and count tags in each tag group
+    Collection<M2WebEwonEBDTag> ewonTags =
+        CacheManager.getCachedM2WebEwonTagMap(ewon.getName()).values();
+    Map<String, Integer> forcedTagGroupMasks = new HashMap<>();
+    int[] tagGroupTagCounts = new int[EBD_TAG_GROUPS.length];
+    for (M2WebEwonEBDTag m2WebEwonEBDTag : ewonTags) {
+      final int tagGroupMask = getTagGroupMask(m2WebEwonEBDTag);
+      for (int tagGroupIndex = 0; tagGroupIndex < EBD_TAG_GROUPS.length; tagGroupIndex++) {
+        if ((tagGroupMask & (1 << tagGroupIndex)) != 0) {
+          tagGroupTagCounts[tagGroupIndex]++;
+        }
+      }
+      if (TagManager.isEwonTagForcedM2Web(ewon, m2WebEwonEBDTag)) {
+        forcedTagGroupMasks.put(m2WebEwonEBDTag.getName(), tagGroupMask);
+      }
+    }
+
+    // Assign forced tags to tag groups, choosing the group containing the most unassigned forced
+    // tags (or the fewest tags, if equal) until all forced tags are assigned
+    Map<String, Set<String>> tagGroupForcedTagNames = new LinkedHashMap<>();
+    Map<String, Integer> unassignedForcedTagGroupMasks = new HashMap<>(forcedTagGroupMasks);
+    int tagGroupsTagCount = 0;
+    boolean forcedTagWithoutGroup = forcedTagGroupMasks.containsValue(0);
+    while (!forcedTagWithoutGroup && !unassignedForcedTagGroupMasks.isEmpty()) {
+      int bestTagGroupIndex = -1;
+      int bestTagGroupForcedTagCount = 0;
+      for (int tagGroupIndex = 0; tagGroupIndex < EBD_TAG_GROUPS.length; tagGroupIndex++) {
+        int tagGroupForcedTagCount = 0;
+        for (int forcedTagGroupMask : unassignedForcedTagGroupMasks.values()) {
+          if ((forcedTagGroupMask & (1 << tagGroupIndex)) != 0) {
+            tagGroupForcedTagCount++;
+          }
+        }
+        if (tagGroupForcedTagCount > bestTagGroupForcedTagCount
+            || (tagGroupForcedTagCount == bestTagGroupForcedTagCount
+                && tagGroupForcedTagCount > 0
+                && tagGroupTagCounts[tagGroupIndex] < tagGroupTagCounts[bestTagGroupIndex])) {
+          bestTagGroupIndex = tagGroupIndex;
+          bestTagGroupForcedTagCount = tagGroupForcedTagCount;
+        }
+      }
+
+      // Move forced tags in chosen tag group to its set of tag names
+      final int bestTagGroupBit = 1 << bestTagGroupIndex;
+      Set<String> forcedTagNames = new HashSet<>();
+      unassignedForcedTagGroupMasks
+          .entrySet()
+          .removeIf(
+              forcedTagGroupMask -> {
+                boolean isInTagGroup = (forcedTagGroupMask.getValue() & bestTagGroupBit) != 0;
+                if (isInTagGroup) {
+                  forcedTagNames.add(forcedTagGroupMask.getKey());
+                }
+                return isInTagGroup;
+              });
+      tagGroupForcedTagNames.put(EBD_TAG_GROUPS[bestTagGroupIndex], forcedTagNames);
+      tagGroupsTagCount += tagGroupTagCounts[bestTagGroupIndex];
+    }
+
+    // Request instant values of chosen tag groups, or of all tags if not fewer tags
+    List<CompletableFuture<M2WebEwonEBDInstantValuesResponse>> ewonInstantValuesFutures =
+        new ArrayList<>();
+    if (forcedTagWithoutGroup || tagGroupsTagCount >= ewonTags.size()) {
+      String tagGroupFilter = null;
+      ewonInstantValuesFutures.add(
+          updateM2WebTagDataForEwonTags(
+              ewon, new HashSet<>(forcedTagGroupMasks.keySet()), tagGroupFilter));
+    } else {
+      for (Map.Entry<String, Set<String>> tagGroupForcedTagNamesEntry :
+          tagGroupForcedTagNames.entrySet()) {
+        ewonInstantValuesFutures.add(
+            updateM2WebTagDataForEwonTags(
+                ewon,
+                tagGroupForcedTagNamesEntry.getValue(),
+                tagGroupForcedTagNamesEntry.getKey()));
+      }
+    }
+    return ewonInstantValuesFutures;
+  }
+
+  /**
+   * Gets the bit mask of the tag groups which the specified tag is in, where bit {@code i} is set
+   * if the tag is in the tag group {@code EBD_TAG_GROUPS[i]}.
+   *
+   * @param m2WebEwonEBDTag The tag to get the tag group bit mask of.
+   * @return The tag group bit mask of the tag, or 0 if the tag is not in any tag group.
    * @since 1.0.0
    */
-  public Future<M2WebEwonEBDInstantValuesResponse> updateM2WebTagDataForEwon(M2WebEwon ewon) {
-    Collection<String> tagNames = null;
-    return updateM2WebTagDataForEwonTags(ewon, tagNames);
+  private static int getTagGroupMask(M2WebEwonEBDTag m2WebEwonEBDTag) {
+    int tagGroupMask = 0;
+    if (TagManagerUtilities.getGroupBooleanFromInt(m2WebEwonEBDTag.getIvGroupA())) {
+      tagGroupMask |= 1;
+    }
+    if (TagManagerUtilities.getGroupBooleanFromInt(m2WebEwonEBDTag.getIvGroupB())) {
+      tagGroupMask |= 1 << 1;
+    }
+    if (TagManagerUtilities.getGroupBooleanFromInt(m2WebEwonEBDTag.getIvGroupC())) {
+      tagGroupMask |= 1 << 2;
+    }
+    if (TagManagerUtilities.getGroupBooleanFromInt(m2WebEwonEBDTag.getIvGroupD())) {
+      tagGroupMask |= 1 << 3;
+    }
+    return tagGroupMask;
   }
 
   /**
@@ -190,12 +686,15 @@ public class M2WebPollingThread extends PollingThread {
    *
    * @param ewon The {@link M2WebEwon} for which to update tag data. The value returned from {@link
    *     M2WebEwon#getName()} is used to identify the Ewon.
-   * @param tagNames The names of the tags for which to update tag data.
-   * @return A {@link Future} for the M2Web EBD instant values response.
+   * @param tagNames The names of the tags for which to update tag data, or null to update tag data
+   *     for all tags.
+   * @param tagGroupFilter The tag group (A, B, C or D) to request the instant values of, or null to
+   *     request the instant values of all tags.
+   * @return A {@link CompletableFuture} for the M2Web EBD instant values response.
    * @since 1.0.0
    */
-  public Future<M2WebEwonEBDInstantValuesResponse> updateM2WebTagDataForEwonTags(
-      M2WebEwon ewon, Collection<String> tagNames) {
+  public CompletableFuture<M2WebEwonEBDInstantValuesResponse> updateM2WebTagDataForEwonTags(
+      M2WebEwon ewon, Set<String> tagNames, String tagGroupFilter) {
     // Build future callback for M2Web EBD instant values request
     FutureCallback<M2WebEwonEBDInstantValuesResponse> ewonEBDInstantValuesResponseFutureCallback =
         new FutureCallback<>() {
@@ -204,6 +703,9 @@ public class M2WebPollingThread extends PollingThread {
               M2WebEwonEBDInstantValuesResponse m2WebEwonEBDInstantValuesResponse) {
             // Check success status
             if (m2WebEwonEBDInstantValuesResponse.getSuccess()) {
+              // Reset poll backoff
+              livePollScheduler.recordSuccess(ewon.getName());
+
               // Get cached unavailable status
               boolean cachedUnavailableStatus =
                   CacheManager.getCachedM2WebEwonUnavailableStatus(ewon.getName());
@@ -219,16 +721,16 @@ public class M2WebPollingThread extends PollingThread {
               }
 
               // Loop through Ewon tag values
-              for (M2WebEwonEBDInstantValue instantValue :
-                  m2WebEwonEBDInstantValuesResponse.getInstantValues()) {
-                // Get tag name
-                String tagName = instantValue.getTagName();
-
-                // If tag name is in tagNames collection (or collection null/empty), update tag data
-                if (tagNames == null || tagNames.isEmpty() || tagNames.contains(tagName)) {
-                  TagManager.updateM2WebEwonTagInstantValue(ewon, instantValue);
-                }
-              }
+              m2WebEwonEBDInstantValuesResponse.forEachInstantValue(
+                  instantValue -> {
+                    // Get tag name
+                    String tagName = instantValue.getTagName();
+
+                    // If tag name is in tagNames set (or set null/empty), update tag
+                    if (tagNames == null || tagNames.isEmpty() || tagNames.contains(tagName)) {
+                      TagManager.updateM2WebEwonTagInstantValue(ewon, instantValue);
+                    }
+                  });
 
               if (connectorSettings.isDebugEnabled()) {
                 LOGGER.debug(
@@ -238,6 +740,9 @@ public class M2WebPollingThread extends PollingThread {
               }
             } else {
               if (m2WebEwonEBDInstantValuesResponse.isUnavailable()) {
+                // Back off polls of unavailable Ewon
+                recordEwonUnavailable(ewon);
+
                 // Get cached unavailable status
                 boolean cachedUnavailableStatus =
                     CacheManager.getCachedM2WebEwonUnavailableStatus(ewon.getName());
@@ -268,6 +773,7 @@ public class M2WebPollingThread extends PollingThread {
                         + "configured credentials are incorrect or not configured on the device.",
                     ewon.getName());
               } else if (m2WebEwonEBDInstantValuesResponse.didTimeoutReachingDevice()) {
+                recordEwonUnavailable(ewon);
                 LOGGER.error(
                     "Failed to update M2Web instant tag values for gateway [{}] because the "
                         + "device did not respond in time.",
@@ -296,6 +802,10 @@ public class M2WebPollingThread extends PollingThread {
 
           @Override
           public void failed(Exception e) {
+            // Back off polls of Ewon if request timed out
+            if (e instanceof TimeoutException || e.getCause() instanceof TimeoutException) {
+              recordEwonUnavailable(ewon);
+            }
             LOGGER.error(
                 "Failed to update M2Web instant tag values for gateway ["
                     + ewon.getName()
@@ -318,7 +828,27 @@ public class M2WebPollingThread extends PollingThread {
     // Perform M2Web EBD instant values request
     return M2WebCommunicationManager.getEwonInstantValues(
         connectorSettings.getAuthInfo(),
+        M2WebCommunicationManager.getM2WebServerUrl(ewon),
         ewon.getEncodedName(),
+        tagGroupFilter,
         ewonEBDInstantValuesResponseFutureCallback);
   }
+
+  /**
+   * Records that the specified {@link M2WebEwon} is unavailable or did not respond in time, which
+   * backs off its polls.
+   *
+   * @param ewon The {@link M2WebEwon} which is unavailable.
+   * @since 1.0.0
+   */
+  private void recordEwonUnavailable(M2WebEwon ewon) {
+    livePollScheduler.recordUnavailable(ewon.getName());
+    if (connectorSettings.isDebugEnabled()) {
+      LOGGER.debug(
+          "Backing off M2Web polls of gateway [{}] to {}ms.",
+          ewon.getName(),
+          livePollScheduler.getNextPollIntervalMillis(
+              ewon.getName(), getEwonPollIntervalMillis(ewon.getName())));
+    }
+  }
 }
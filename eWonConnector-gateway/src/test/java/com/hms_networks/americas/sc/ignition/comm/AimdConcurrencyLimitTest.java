@@ -0,0 +1,114 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AimdConcurrencyLimit}, including the additive increase per window of
+ * successful requests and the attribution of failures to devices.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class AimdConcurrencyLimitTest {
+
+  /**
+   * The maximum in-flight request limit of the tested limits, which is above the initial limit.
+   *
+   * @since 1.0.0
+   */
+  private static final int MAX_LIMIT = 100;
+
+  /**
+   * The latency (in nanoseconds) of the recorded requests, which is never considered too slow.
+   *
+   * @since 1.0.0
+   */
+  private static final long LATENCY_NANOS = 1_000_000L;
+
+  /**
+   * The name of the endpoint of the recorded requests.
+   *
+   * @since 1.0.0
+   */
+  private static final String ENDPOINT_NAME = "TestRequest";
+
+  @Test
+  void increasesLimitByOnePerWindowOfSuccessfulRequests() {
+    final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(MAX_LIMIT);
+    final int initialLimit = limit.getLimit();
+
+    recordSuccesses(limit, initialLimit - 1);
+    assertEquals(initialLimit, limit.getLimit());
+    recordSuccesses(limit, 2);
+    assertEquals(initialLimit + 1, limit.getLimit());
+  }
+
+  @Test
+  void decreasesLimitWhenRouteRequestFails() {
+    final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(MAX_LIMIT);
+    final int initialLimit = limit.getLimit();
+
+    final String routeDeviceName = null;
+    final boolean failed = true;
+    limit.recordSample(ENDPOINT_NAME, routeDeviceName, LATENCY_NANOS, failed, initialLimit);
+    assertEquals((int) (initialLimit * 0.9), limit.getLimit());
+  }
+
+  @Test
+  void attributesFailuresOfSingleDeviceToDevice() {
+    final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(MAX_LIMIT);
+    final int initialLimit = limit.getLimit();
+
+    final boolean failed = true;
+    for (int i = 0; i < 10; i++) {
+      limit.recordSample(ENDPOINT_NAME, "ewon1", LATENCY_NANOS, failed, initialLimit);
+      limit.recordSample(ENDPOINT_NAME, "ewon2", LATENCY_NANOS, failed, initialLimit);
+    }
+    assertEquals(initialLimit, limit.getLimit());
+  }
+
+  @Test
+  void decreasesLimitWhenManyDevicesFail() {
+    final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(MAX_LIMIT);
+    final int initialLimit = limit.getLimit();
+
+    final boolean failed = true;
+    limit.recordSample(ENDPOINT_NAME, "ewon1", LATENCY_NANOS, failed, initialLimit);
+    limit.recordSample(ENDPOINT_NAME, "ewon2", LATENCY_NANOS, failed, initialLimit);
+    assertEquals(initialLimit, limit.getLimit());
+    limit.recordSample(ENDPOINT_NAME, "ewon3", LATENCY_NANOS, failed, initialLimit);
+    assertEquals((int) (initialLimit * 0.9), limit.getLimit());
+  }
+
+  @Test
+  void forgetsDeviceFailuresAfterSuccessfulRequest() {
+    final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(MAX_LIMIT);
+    final int initialLimit = limit.getLimit();
+
+    final boolean failed = true;
+    final boolean succeeded = false;
+    limit.recordSample(ENDPOINT_NAME, "ewon1", LATENCY_NANOS, failed, 0);
+    limit.recordSample(ENDPOINT_NAME, "ewon2", LATENCY_NANOS, failed, 0);
+    limit.recordSample(ENDPOINT_NAME, "ewon1", LATENCY_NANOS, succeeded, 0);
+    limit.recordSample(ENDPOINT_NAME, "ewon3", LATENCY_NANOS, failed, 0);
+    assertEquals(initialLimit, limit.getLimit());
+  }
+
+  /**
+   * Records the specified number of successful route requests, with the whole limit in use.
+   *
+   * @param limit the limit to record the requests in
+   * @param count the number of successful requests to record
+   * @since 1.0.0
+   */
+  private static void recordSuccesses(AimdConcurrencyLimit limit, int count) {
+    final String routeDeviceName = null;
+    final boolean failed = false;
+    for (int i = 0; i < count; i++) {
+      limit.recordSample(ENDPOINT_NAME, routeDeviceName, LATENCY_NANOS, failed, limit.getLimit());
+    }
+  }
+}
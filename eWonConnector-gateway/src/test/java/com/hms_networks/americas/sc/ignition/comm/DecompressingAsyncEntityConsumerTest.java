@@ -0,0 +1,479 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DecompressingAsyncEntityConsumer}, including the gzip header and trailer
+ * parsing, with response content split at every byte boundary.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class DecompressingAsyncEntityConsumerTest {
+
+  /**
+   * The decompressed response content used by the tests, which is larger than the buffer used to
+   * pass decompressed content to the delegate.
+   *
+   * @since 1.0.0
+   */
+  private static final byte[] CONTENT = createContent();
+
+  /**
+   * The capacity (in decompressed bytes) which the test delegate requests.
+   *
+   * @since 1.0.0
+   */
+  private static final int DELEGATE_CAPACITY = 64 * 1024;
+
+  /**
+   * The gzip header flags for a header with a header CRC16, extra field, file name and comment.
+   *
+   * @since 1.0.0
+   */
+  private static final int GZIP_FLAGS_ALL = 0x02 | 0x04 | 0x08 | 0x10;
+
+  @Test
+  void passesUncompressedContentUnchanged() throws Exception {
+    assertArrayEquals(CONTENT, consume(null, CONTENT, CONTENT.length));
+    assertArrayEquals(CONTENT, consume("identity", CONTENT, 1000));
+  }
+
+  @Test
+  void decompressesGzipContent() throws Exception {
+    final byte[] gzipContent = gzip(CONTENT);
+    assertArrayEquals(CONTENT, consume("gzip", gzipContent, gzipContent.length));
+    assertArrayEquals(CONTENT, consume("x-gzip", gzipContent, 4096));
+  }
+
+  @Test
+  void decompressesGzipContentSplitOneByteAtATime() throws Exception {
+    assertArrayEquals(CONTENT, consume("gzip", gzip(CONTENT), 1));
+  }
+
+  @Test
+  void decompressesGzipContentWithAllOptionalHeaderFields() throws Exception {
+    final byte[] gzipContent = gzipWithHeaderFields(CONTENT, GZIP_FLAGS_ALL);
+    assertArrayEquals(CONTENT, consume("gzip", gzipContent, gzipContent.length));
+    assertArrayEquals(CONTENT, consume("gzip", gzipContent, 1));
+  }
+
+  @Test
+  void decompressesGzipContentWithEachOptionalHeaderField() throws Exception {
+    for (int flag : new int[] {0x02, 0x04, 0x08, 0x10}) {
+      assertArrayEquals(CONTENT, consume("gzip", gzipWithHeaderFields(CONTENT, flag), 1));
+    }
+  }
+
+  @Test
+  void decompressesGzipContentWithEmptyExtraField() throws Exception {
+    final byte[] gzipContent = gzipWithExtraField(CONTENT, new byte[0]);
+    assertArrayEquals(CONTENT, consume("gzip", gzipContent, 1));
+  }
+
+  @Test
+  void decompressesMultipleGzipMembers() throws Exception {
+    final byte[] first = Arrays.copyOfRange(CONTENT, 0, CONTENT.length / 3);
+    final byte[] second = Arrays.copyOfRange(CONTENT, CONTENT.length / 3, CONTENT.length);
+    final byte[] gzipContent =
+        concat(gzip(first), gzipWithHeaderFields(second, GZIP_FLAGS_ALL), gzip(new byte[0]));
+    assertArrayEquals(CONTENT, consume("gzip", gzipContent, gzipContent.length));
+    assertArrayEquals(CONTENT, consume("gzip", gzipContent, 1));
+  }
+
+  @Test
+  void rejectsGzipContentWithInvalidCrc() throws Exception {
+    final byte[] gzipContent = gzip(CONTENT);
+    gzipContent[gzipContent.length - 8] ^= 0x01;
+    assertThrows(IOException.class, () -> consume("gzip", gzipContent, gzipContent.length));
+    assertThrows(IOException.class, () -> consume("gzip", gzipContent, 1));
+  }
+
+  @Test
+  void rejectsGzipContentWithInvalidSize() throws Exception {
+    final byte[] gzipContent = gzip(CONTENT);
+    gzipContent[gzipContent.length - 1] ^= 0x01;
+    assertThrows(IOException.class, () -> consume("gzip", gzipContent, gzipContent.length));
+  }
+
+  @Test
+  void rejectsTruncatedGzipContent() throws Exception {
+    final byte[] gzipContent = gzipWithHeaderFields(CONTENT, GZIP_FLAGS_ALL);
+    final int[] truncatedLengths = {0, 1, 9, 10, 14, 20, gzipContent.length / 2};
+    for (int truncatedLength : truncatedLengths) {
+      final byte[] truncatedContent = Arrays.copyOf(gzipContent, truncatedLength);
+      assertThrows(IOException.class, () -> consume("gzip", truncatedContent, 1));
+    }
+    for (int trailerBytes = 0; trailerBytes < 8; trailerBytes++) {
+      final byte[] truncatedContent =
+          Arrays.copyOf(gzipContent, gzipContent.length - 8 + trailerBytes);
+      assertThrows(IOException.class, () -> consume("gzip", truncatedContent, 1));
+    }
+  }
+
+  @Test
+  void rejectsContentAfterGzipMember() throws Exception {
+    final byte[] gzipContent = concat(gzip(CONTENT), "garbage".getBytes(StandardCharsets.UTF_8));
+    assertThrows(IOException.class, () -> consume("gzip", gzipContent, gzipContent.length));
+  }
+
+  @Test
+  void rejectsInvalidGzipHeader() throws Exception {
+    final byte[] gzipContent = gzip(CONTENT);
+    gzipContent[2] = 0;
+    assertThrows(IOException.class, () -> consume("gzip", gzipContent, gzipContent.length));
+  }
+
+  @Test
+  void decompressesDeflateContent() throws Exception {
+    final byte[] deflateContent = deflate(CONTENT);
+    assertArrayEquals(CONTENT, consume("deflate", deflateContent, deflateContent.length));
+    assertArrayEquals(CONTENT, consume("deflate", deflateContent, 1));
+  }
+
+  @Test
+  void rejectsTruncatedDeflateContent() throws Exception {
+    final byte[] deflateContent = deflate(CONTENT);
+    final byte[] truncatedContent = Arrays.copyOf(deflateContent, deflateContent.length - 1);
+    assertThrows(IOException.class, () -> consume("deflate", truncatedContent, 1));
+  }
+
+  @Test
+  void rejectsUnsupportedContentEncoding() {
+    assertThrows(IOException.class, () -> consume("br", CONTENT, CONTENT.length));
+  }
+
+  @Test
+  void scalesDelegateCapacityByCompressionRatio() throws Exception {
+    final byte[] gzipContent = gzip(CONTENT);
+    final CollectingEntityConsumer delegate = new CollectingEntityConsumer();
+    final DecompressingAsyncEntityConsumer<byte[]> consumer =
+        new DecompressingAsyncEntityConsumer<>(delegate, new HttpTransferStatistics());
+    final List<Integer> capacityIncrements = new ArrayList<>();
+    consumer.streamStart(new TestEntityDetails("gzip"), null);
+
+    // Capacity is scaled by the initial ratio before any content is decompressed
+    consumer.updateCapacity(capacityIncrements::add);
+    assertEquals(Collections.singletonList(DELEGATE_CAPACITY / 10 + 1), capacityIncrements);
+
+    // Capacity is scaled by the observed ratio once content has been decompressed
+    consumer.consume(ByteBuffer.wrap(gzipContent));
+    consumer.streamEnd(null);
+    capacityIncrements.clear();
+    consumer.updateCapacity(capacityIncrements::add);
+    final double compressionRatio = (double) gzipContent.length / CONTENT.length;
+    assertEquals(
+        Collections.singletonList((int) Math.ceil(DELEGATE_CAPACITY * compressionRatio)),
+        capacityIncrements);
+  }
+
+  /**
+   * Consumes the specified response content with the specified content encoding, split into chunks
+   * of the specified size, and returns the content passed to the delegate.
+   *
+   * @param contentEncoding the content encoding of the response content, or null if none
+   * @param content the response content
+   * @param chunkSize the size of each chunk of response content
+   * @return the content passed to the delegate
+   * @throws Exception if the response content could not be consumed
+   * @since 1.0.0
+   */
+  private static byte[] consume(String contentEncoding, byte[] content, int chunkSize)
+      throws Exception {
+    final CollectingEntityConsumer delegate = new CollectingEntityConsumer();
+    final DecompressingAsyncEntityConsumer<byte[]> consumer =
+        new DecompressingAsyncEntityConsumer<>(delegate, new HttpTransferStatistics());
+    try {
+      consumer.streamStart(new TestEntityDetails(contentEncoding), null);
+      for (int offset = 0; offset < content.length; offset += chunkSize) {
+        final int length = Math.min(chunkSize, content.length - offset);
+        final ByteBuffer chunk = ByteBuffer.wrap(content, offset, length);
+        consumer.consume(chunk);
+        assertEquals(0, chunk.remaining());
+      }
+      consumer.streamEnd(null);
+      return consumer.getContent();
+    } finally {
+      consumer.releaseResources();
+    }
+  }
+
+  /**
+   * Creates compressible response content, similar to a JSON response.
+   *
+   * @return the response content
+   * @since 1.0.0
+   */
+  private static byte[] createContent() {
+    final StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 2000; i++) {
+      content.append("{\"date\":\"2024-01-01T00:00:").append(i % 60).append("Z\",\"value\":");
+      content.append(i * 31 % 977).append(",\"quality\":\"good\"},");
+    }
+    return content.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Compresses the specified content as a single gzip member, with a minimal header.
+   *
+   * @param content the content to compress
+   * @return the gzip compressed content
+   * @throws IOException if the content could not be compressed
+   * @since 1.0.0
+   */
+  private static byte[] gzip(byte[] content) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+      gzipOutputStream.write(content);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Compresses the specified content as a single gzip member, with the optional header fields
+   * indicated by the specified header flags.
+   *
+   * @param content the content to compress
+   * @param flags the gzip header flags (header CRC16, extra field, file name and/or comment)
+   * @return the gzip compressed content
+   * @since 1.0.0
+   */
+  private static byte[] gzipWithHeaderFields(byte[] content, int flags) {
+    final ByteArrayOutputStream header = new ByteArrayOutputStream();
+    header.write(0x1F);
+    header.write(0x8B);
+    header.write(8);
+    header.write(flags);
+    header.writeBytes(new byte[6]);
+    if ((flags & 0x04) != 0) {
+      final byte[] extraField = {'A', 'B', 3, 0, 1, 2, 3};
+      header.write(extraField.length);
+      header.write(0);
+      header.writeBytes(extraField);
+    }
+    if ((flags & 0x08) != 0) {
+      header.writeBytes("syncdata.json\0".getBytes(StandardCharsets.ISO_8859_1));
+    }
+    if ((flags & 0x10) != 0) {
+      header.writeBytes("comment\0".getBytes(StandardCharsets.ISO_8859_1));
+    }
+    if ((flags & 0x02) != 0) {
+      final CRC32 headerCrc = new CRC32();
+      headerCrc.update(header.toByteArray());
+      header.write((int) headerCrc.getValue());
+      header.write((int) (headerCrc.getValue() >>> 8));
+    }
+    return concat(header.toByteArray(), rawDeflate(content), gzipTrailer(content));
+  }
+
+  /**
+   * Compresses the specified content as a single gzip member, with the specified extra field.
+   *
+   * @param content the content to compress
+   * @param extraField the data of the gzip header extra field
+   * @return the gzip compressed content
+   * @since 1.0.0
+   */
+  private static byte[] gzipWithExtraField(byte[] content, byte[] extraField) {
+    final byte[] header = {
+      0x1F, (byte) 0x8B, 8, 0x04, 0, 0, 0, 0, 0, 0, (byte) extraField.length, 0
+    };
+    return concat(header, extraField, rawDeflate(content), gzipTrailer(content));
+  }
+
+  /**
+   * Gets the gzip trailer (CRC32 and size) of the specified content.
+   *
+   * @param content the decompressed content of the gzip member
+   * @return the gzip trailer
+   * @since 1.0.0
+   */
+  private static byte[] gzipTrailer(byte[] content) {
+    final CRC32 crc = new CRC32();
+    crc.update(content);
+    final ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    trailer.putInt((int) crc.getValue());
+    trailer.putInt(content.length);
+    return trailer.array();
+  }
+
+  /**
+   * Compresses the specified content as raw deflate data, without a zlib header or trailer.
+   *
+   * @param content the content to compress
+   * @return the raw deflate compressed content
+   * @since 1.0.0
+   */
+  private static byte[] rawDeflate(byte[] content) {
+    final boolean nowrap = true;
+    final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+    deflater.setInput(content);
+    deflater.finish();
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[4096];
+    while (!deflater.finished()) {
+      compressed.write(buffer, 0, deflater.deflate(buffer));
+    }
+    deflater.end();
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Compresses the specified content in the zlib format ({@code deflate} content encoding).
+   *
+   * @param content the content to compress
+   * @return the zlib compressed content
+   * @throws IOException if the content could not be compressed
+   * @since 1.0.0
+   */
+  private static byte[] deflate(byte[] content) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(compressed)) {
+      deflaterOutputStream.write(content);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Concatenates the specified byte arrays.
+   *
+   * @param arrays the byte arrays to concatenate
+   * @return the concatenated byte array
+   * @since 1.0.0
+   */
+  private static byte[] concat(byte[]... arrays) {
+    final ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+    for (byte[] array : arrays) {
+      concatenated.writeBytes(array);
+    }
+    return concatenated.toByteArray();
+  }
+
+  /**
+   * Entity details of a test response, with the specified content encoding.
+   *
+   * @since 1.0.0
+   */
+  private static class TestEntityDetails implements EntityDetails {
+
+    /**
+     * The content encoding of the test response, or null if none.
+     *
+     * @since 1.0.0
+     */
+    private final String contentEncoding;
+
+    /**
+     * Constructs new entity details with the specified content encoding.
+     *
+     * @param contentEncoding the content encoding of the test response, or null if none
+     * @since 1.0.0
+     */
+    private TestEntityDetails(String contentEncoding) {
+      this.contentEncoding = contentEncoding;
+    }
+
+    @Override
+    public long getContentLength() {
+      return -1;
+    }
+
+    @Override
+    public String getContentType() {
+      return null;
+    }
+
+    @Override
+    public String getContentEncoding() {
+      return contentEncoding;
+    }
+
+    @Override
+    public boolean isChunked() {
+      return true;
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+      return null;
+    }
+  }
+
+  /**
+   * Delegate entity consumer which collects the content passed to it, and requests a fixed
+   * capacity.
+   *
+   * @since 1.0.0
+   */
+  private static class CollectingEntityConsumer implements AsyncEntityConsumer<byte[]> {
+
+    /**
+     * The content passed to the consumer.
+     *
+     * @since 1.0.0
+     */
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+    /**
+     * Flag indicating if the content stream has ended.
+     *
+     * @since 1.0.0
+     */
+    private boolean ended = false;
+
+    @Override
+    public void streamStart(EntityDetails entityDetails, FutureCallback<byte[]> resultCallback) {}
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+      capacityChannel.update(DELEGATE_CAPACITY);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) {
+      while (src.hasRemaining()) {
+        content.write(src.get());
+      }
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+      ended = true;
+    }
+
+    @Override
+    public void failed(Exception cause) {}
+
+    @Override
+    public byte[] getContent() {
+      return ended ? content.toByteArray() : null;
+    }
+
+    @Override
+    public void releaseResources() {}
+  }
+}
@@ -0,0 +1,185 @@
+package com.hms_networks.americas.sc.ignition.comm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RequestLaneScheduler}, including the admission of queued requests when
+ * in-flight request slots are released.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class RequestLaneSchedulerTest {
+
+  /**
+   * The maximum in-flight request limit of the tested schedulers, which leaves two slots for lanes
+   * other than {@link RequestLane#WRITE}.
+   *
+   * @since 1.0.0
+   */
+  private static final int MAX_IN_FLIGHT = 4;
+
+  /**
+   * The number of queued requests used to check that releasing slots does not recurse once per
+   * queued request.
+   *
+   * @since 1.0.0
+   */
+  private static final int LARGE_QUEUE_SIZE = 100_000;
+
+  /**
+   * The number of higher priority admissions after which a queued lane is admitted regardless of
+   * lane priority, which matches the scheduler.
+   *
+   * @since 1.0.0
+   */
+  private static final int LANE_AGING_ADMISSIONS = 16;
+
+  /**
+   * The idle timeout (in nanoseconds) used to check when a route is idle.
+   *
+   * @since 1.0.0
+   */
+  private static final long IDLE_TIMEOUT_NANOS = 1_000_000_000L;
+
+  @Test
+  void drainsQueuedRequestsReleasedWhileDispatchedWithoutRecursion() {
+    final RequestLaneScheduler scheduler = createScheduler();
+    final RequestLane lane = RequestLane.LIVE_POLL;
+    assertTrue(scheduler.submit(lane, () -> {}));
+    assertTrue(scheduler.submit(lane, () -> {}));
+
+    // Queue requests which release their slot without being sent (i.e. expired while queued)
+    final int[] dispatchedCount = {0};
+    for (int i = 0; i < LARGE_QUEUE_SIZE; i++) {
+      assertTrue(
+          scheduler.submit(
+              lane,
+              () -> {
+                dispatchedCount[0]++;
+                scheduler.release(lane);
+              }));
+    }
+
+    scheduler.release(lane);
+    assertEquals(LARGE_QUEUE_SIZE, dispatchedCount[0]);
+    assertEquals(1, scheduler.getInFlightCount());
+  }
+
+  @Test
+  void admitsQueuedRequestsInLanePriorityOrder() {
+    final RequestLaneScheduler scheduler = createScheduler();
+    assertTrue(scheduler.submit(RequestLane.METADATA, () -> {}));
+    assertTrue(scheduler.submit(RequestLane.METADATA, () -> {}));
+
+    final List<RequestLane> dispatchedLanes = new ArrayList<>();
+    for (RequestLane lane : new RequestLane[] {RequestLane.METADATA, RequestLane.LIVE_POLL}) {
+      assertTrue(scheduler.submit(lane, () -> dispatchedLanes.add(lane)));
+    }
+
+    scheduler.release(RequestLane.METADATA);
+    assertEquals(Collections.singletonList(RequestLane.LIVE_POLL), dispatchedLanes);
+  }
+
+  @Test
+  void admitsAgedLaneAfterHigherPriorityAdmissions() {
+    final RequestLaneScheduler scheduler = createScheduler();
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+
+    final List<RequestLane> dispatchedLanes = new ArrayList<>();
+    assertTrue(
+        scheduler.submit(
+            RequestLane.METADATA, () -> dispatchedLanes.add(RequestLane.METADATA)));
+    for (int i = 0; i < LANE_AGING_ADMISSIONS * 2; i++) {
+      assertTrue(
+          scheduler.submit(
+              RequestLane.LIVE_POLL, () -> dispatchedLanes.add(RequestLane.LIVE_POLL)));
+    }
+
+    for (int i = 0; i <= LANE_AGING_ADMISSIONS; i++) {
+      scheduler.release(RequestLane.LIVE_POLL);
+    }
+    assertEquals(LANE_AGING_ADMISSIONS, dispatchedLanes.indexOf(RequestLane.METADATA));
+  }
+
+  @Test
+  void admitsWritesBeforeAgedLanes() {
+    final RequestLaneScheduler scheduler = createScheduler();
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+
+    // Age metadata lane behind live poll admissions
+    final List<RequestLane> dispatchedLanes = new ArrayList<>();
+    assertTrue(
+        scheduler.submit(
+            RequestLane.METADATA, () -> dispatchedLanes.add(RequestLane.METADATA)));
+    for (int i = 0; i < LANE_AGING_ADMISSIONS; i++) {
+      assertTrue(
+          scheduler.submit(
+              RequestLane.LIVE_POLL, () -> dispatchedLanes.add(RequestLane.LIVE_POLL)));
+    }
+    for (int i = 0; i < LANE_AGING_ADMISSIONS; i++) {
+      scheduler.release(RequestLane.LIVE_POLL);
+    }
+    dispatchedLanes.clear();
+
+    // Fill reserved write slots, then queue a write behind the aged metadata request
+    assertTrue(scheduler.submit(RequestLane.WRITE, () -> {}));
+    assertTrue(scheduler.submit(RequestLane.WRITE, () -> {}));
+    assertTrue(
+        scheduler.submit(RequestLane.WRITE, () -> dispatchedLanes.add(RequestLane.WRITE)));
+    scheduler.release(RequestLane.LIVE_POLL);
+    scheduler.release(RequestLane.LIVE_POLL);
+    scheduler.release(RequestLane.WRITE);
+    scheduler.release(RequestLane.WRITE);
+    assertEquals(Arrays.asList(RequestLane.WRITE, RequestLane.METADATA), dispatchedLanes);
+  }
+
+  @Test
+  void isIdleOnlyWithoutRequestsForIdleTimeout() {
+    final RequestLaneScheduler scheduler = createScheduler();
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+    assertTrue(scheduler.submit(RequestLane.LIVE_POLL, () -> {}));
+    final long idleTimeNanos = System.nanoTime() + IDLE_TIMEOUT_NANOS;
+    assertFalse(scheduler.isIdle(IDLE_TIMEOUT_NANOS, idleTimeNanos));
+
+    // Queued request is admitted when the first slot is released
+    scheduler.release(RequestLane.LIVE_POLL);
+    scheduler.release(RequestLane.LIVE_POLL);
+    assertFalse(scheduler.isIdle(IDLE_TIMEOUT_NANOS, idleTimeNanos));
+
+    scheduler.release(RequestLane.LIVE_POLL);
+    final long releasedTimeNanos = System.nanoTime();
+    assertFalse(scheduler.isIdle(IDLE_TIMEOUT_NANOS, releasedTimeNanos));
+    assertTrue(scheduler.isIdle(IDLE_TIMEOUT_NANOS, releasedTimeNanos + IDLE_TIMEOUT_NANOS));
+  }
+
+  /**
+   * Creates a scheduler with {@link #MAX_IN_FLIGHT} in-flight request slots and new lane
+   * statistics.
+   *
+   * @return the created scheduler
+   * @since 1.0.0
+   */
+  private static RequestLaneScheduler createScheduler() {
+    final Map<RequestLane, RequestLaneStatistics> laneStatistics =
+        new EnumMap<>(RequestLane.class);
+    for (RequestLane lane : RequestLane.values()) {
+      laneStatistics.put(lane, new RequestLaneStatistics());
+    }
+    return new RequestLaneScheduler(MAX_IN_FLIGHT, laneStatistics);
+  }
+}
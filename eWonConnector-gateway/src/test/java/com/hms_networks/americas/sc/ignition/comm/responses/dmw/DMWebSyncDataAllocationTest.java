@@ -0,0 +1,234 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.dmw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Allocation harness for decoding DMWeb syncdata pages. The bytes allocated by the current thread
+ * (see {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}) are measured while
+ * decoding a syncdata page fixture by streaming it with {@link DMWebSyncDataStreamParser}, by
+ * decoding the buffered response body once, and by decoding it twice (as each page was decoded
+ * before responses were decoded once by their request). The buffered decodings do not include the
+ * allocation of the response body string. The measured bytes per page are printed, so the effect
+ * of changes to the decoding of syncdata pages can be compared.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class DMWebSyncDataAllocationTest {
+
+  /**
+   * The number of Ewons in the syncdata page fixture.
+   *
+   * @since 1.0.0
+   */
+  private static final int FIXTURE_EWON_COUNT = 4;
+
+  /**
+   * The number of tags of each Ewon in the syncdata page fixture.
+   *
+   * @since 1.0.0
+   */
+  private static final int FIXTURE_TAG_COUNT = 25;
+
+  /**
+   * The number of history entries of each tag in the syncdata page fixture.
+   *
+   * @since 1.0.0
+   */
+  private static final int FIXTURE_HISTORY_COUNT = 40;
+
+  /**
+   * The time (in milliseconds since the Unix epoch) of the first history entry in the fixture.
+   *
+   * @since 1.0.0
+   */
+  private static final long FIXTURE_START_TIME_MILLIS = 1_672_531_200_000L;
+
+  /**
+   * The number of times each decoding is run before it is measured, so the measurement excludes
+   * class loading and JIT compilation.
+   *
+   * @since 1.0.0
+   */
+  private static final int WARMUP_ITERATIONS = 20;
+
+  /**
+   * The number of times each decoding is run while it is measured.
+   *
+   * @since 1.0.0
+   */
+  private static final int MEASURED_ITERATIONS = 20;
+
+  /**
+   * The syncdata page fixture, in the format of the DMWeb syncdata response.
+   *
+   * @since 1.0.0
+   */
+  private static final String FIXTURE = createFixture();
+
+  @Test
+  void measuresBytesAllocatedPerSyncDataPage() throws Exception {
+    final com.sun.management.ThreadMXBean threadBean = getThreadBean();
+    assumeTrue(threadBean != null, "Thread allocation measurement is not supported.");
+
+    final long streamedBytes = measureAllocatedBytes(threadBean, this::decodeStreamed);
+    final long decodedOnceBytes = measureAllocatedBytes(threadBean, this::decodeOnce);
+    final long decodedTwiceBytes = measureAllocatedBytes(threadBean, this::decodeTwice);
+    System.out.printf(
+        "Syncdata page of %d bytes (%d tags, %d history entries), bytes allocated per page:%n"
+            + "  streamed: %d%n  decoded once: %d%n  decoded twice: %d%n",
+        FIXTURE.length(),
+        FIXTURE_EWON_COUNT * FIXTURE_TAG_COUNT,
+        FIXTURE_EWON_COUNT * FIXTURE_TAG_COUNT * FIXTURE_HISTORY_COUNT,
+        streamedBytes,
+        decodedOnceBytes,
+        decodedTwiceBytes);
+    assertTrue(decodedOnceBytes < decodedTwiceBytes);
+  }
+
+  @Test
+  void streamsEveryTagOfFixture() throws IOException {
+    assertEquals(FIXTURE_EWON_COUNT * FIXTURE_TAG_COUNT, decodeStreamed());
+  }
+
+  /**
+   * Decodes the fixture by streaming it with {@link DMWebSyncDataStreamParser}.
+   *
+   * @return the number of tags passed to the tag handler
+   * @throws IOException if the fixture cannot be decoded
+   * @since 1.0.0
+   */
+  private int decodeStreamed() throws IOException {
+    final int[] tagCount = {0};
+    new DMWebSyncDataStreamParser((ewon, tag) -> tagCount[0]++).parse(new StringReader(FIXTURE));
+    return tagCount[0];
+  }
+
+  /**
+   * Decodes the buffered fixture once.
+   *
+   * @return the number of Ewons decoded
+   * @since 1.0.0
+   */
+  private int decodeOnce() {
+    return DMWebSyncDataResponse.getFromJson(FIXTURE).getEwons().size();
+  }
+
+  /**
+   * Decodes the buffered fixture twice.
+   *
+   * @return the number of Ewons decoded
+   * @since 1.0.0
+   */
+  private int decodeTwice() {
+    return decodeOnce() + decodeOnce();
+  }
+
+  /**
+   * Measures the average number of bytes allocated by the current thread while running the
+   * specified decoding, after warming it up.
+   *
+   * @param threadBean the thread bean to measure allocated bytes with
+   * @param decoding the decoding to measure
+   * @return the average number of bytes allocated per run of the decoding
+   * @throws Exception if the decoding fails
+   * @since 1.0.0
+   */
+  private static long measureAllocatedBytes(
+      com.sun.management.ThreadMXBean threadBean, Decoding decoding) throws Exception {
+    final long threadId = Thread.currentThread().getId();
+    long checksum = 0;
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      checksum += decoding.decode();
+    }
+    final long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      checksum += decoding.decode();
+    }
+    final long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+    assertTrue(checksum > 0);
+    return allocatedBytes / MEASURED_ITERATIONS;
+  }
+
+  /**
+   * Gets the thread bean of the JVM with thread allocation measurement enabled, if supported.
+   *
+   * @return the thread bean, or null if thread allocation measurement is not supported
+   * @since 1.0.0
+   */
+  private static com.sun.management.ThreadMXBean getThreadBean() {
+    com.sun.management.ThreadMXBean threadBean = null;
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+      threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      if (threadBean.isThreadAllocatedMemorySupported()) {
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+      } else {
+        threadBean = null;
+      }
+    }
+    return threadBean;
+  }
+
+  /**
+   * Creates the syncdata page fixture, with float tags logged every minute.
+   *
+   * @return the syncdata page fixture
+   * @since 1.0.0
+   */
+  private static String createFixture() {
+    final StringBuilder fixture = new StringBuilder();
+    fixture.append("{\"transactionId\":1234,\"moreDataAvailable\":true,\"ewons\":[");
+    for (int ewon = 0; ewon < FIXTURE_EWON_COUNT; ewon++) {
+      fixture.append(ewon > 0 ? "," : "");
+      fixture.append("{\"id\":").append(1000 + ewon);
+      fixture.append(",\"name\":\"Ewon").append(ewon).append('"');
+      fixture.append(",\"lastSynchronDate\":\"2023-01-01T01:00:00Z\",\"tags\":[");
+      for (int tag = 0; tag < FIXTURE_TAG_COUNT; tag++) {
+        fixture.append(tag > 0 ? "," : "");
+        fixture.append("{\"id\":").append(ewon * FIXTURE_TAG_COUNT + tag);
+        fixture.append(",\"name\":\"Tag").append(tag).append('"');
+        fixture.append(",\"dataType\":\"Float\",\"description\":\"\",\"alarmHint\":\"\"");
+        fixture.append(",\"value\":").append(tag).append(".5,\"quality\":\"good\"");
+        fixture.append(",\"ewonTagId\":").append(tag + 1).append(",\"history\":[");
+        for (int history = 0; history < FIXTURE_HISTORY_COUNT; history++) {
+          fixture.append(history > 0 ? "," : "");
+          fixture.append("{\"date\":\"");
+          fixture.append(Instant.ofEpochMilli(FIXTURE_START_TIME_MILLIS + history * 60_000L));
+          fixture.append("\",\"quality\":\"good\",\"value\":");
+          fixture.append(tag + history * 0.25).append('}');
+        }
+        fixture.append("]}");
+      }
+      fixture.append("]}");
+    }
+    fixture.append("]}");
+    return fixture.toString();
+  }
+
+  /**
+   * Interface for a decoding of the fixture which is measured.
+   *
+   * @since 1.0.0
+   */
+  @FunctionalInterface
+  private interface Decoding {
+
+    /**
+     * Decodes the fixture.
+     *
+     * @return a count from the decoded fixture, so the decoding is not optimized away
+     * @throws Exception if the fixture cannot be decoded
+     * @since 1.0.0
+     */
+    int decode() throws Exception;
+  }
+}
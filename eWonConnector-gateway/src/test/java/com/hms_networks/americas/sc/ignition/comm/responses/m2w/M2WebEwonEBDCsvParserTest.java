@@ -0,0 +1,322 @@
+package com.hms_networks.americas.sc.ignition.comm.responses.m2w;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link M2WebEwonEBDCsvParser} and {@link M2WebEwonEBDCsvHeader}, including a
+ * simple timed comparison of decoding an EBD instant values response with the parser and with
+ * splitting each row into strings.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class M2WebEwonEBDCsvParserTest {
+
+  /**
+   * The header row of the EBD instant values responses used by the tests.
+   *
+   * @since 1.0.0
+   */
+  private static final String INSTANT_VALUES_HEADER =
+      "\"TagId\";\"TagName\";\"Value\";\"AlStatus\";\"AlType\";\"Quality\"";
+
+  /**
+   * The number of rows of the EBD instant values response used by the timed comparison.
+   *
+   * @since 1.0.0
+   */
+  private static final int TIMED_ROW_COUNT = 1000;
+
+  /**
+   * The number of times each decoding is run before it is timed, so the timing excludes class
+   * loading and JIT compilation.
+   *
+   * @since 1.0.0
+   */
+  private static final int TIMED_WARMUP_ITERATIONS = 200;
+
+  /**
+   * The number of times each decoding is run while it is timed.
+   *
+   * @since 1.0.0
+   */
+  private static final int TIMED_ITERATIONS = 200;
+
+  @Test
+  void unescapesDoubledQuotesInQuotedFields() {
+    assertEquals(
+        Arrays.asList(Arrays.asList("say \"hi\"", "\"", "")),
+        readRows("\"say \"\"hi\"\"\";\"\"\"\";\"\""));
+  }
+
+  @Test
+  void keepsSeparatorsAndLineBreaksInQuotedFields() {
+    assertEquals(
+        Arrays.asList(Arrays.asList("a;b", "c\r\nd", "e"), Arrays.asList("f")),
+        readRows("\"a;b\";\"c\r\nd\";e\nf"));
+  }
+
+  @Test
+  void splitsRowsOnCrLfLfAndCr() {
+    final List<List<String>> expectedRows =
+        Arrays.asList(
+            Arrays.asList("a", "1"),
+            Arrays.asList("b", "2"),
+            Arrays.asList("c", "3"),
+            Arrays.asList("d", "4"));
+    assertEquals(expectedRows, readRows("a;1\r\nb;2\r\nc;3\r\nd;4\r\n"));
+    assertEquals(expectedRows, readRows("a;1\nb;2\nc;3\nd;4\n"));
+    assertEquals(expectedRows, readRows("a;1\rb;2\r\nc;3\nd;4"));
+  }
+
+  @Test
+  void skipsEmptyRows() {
+    assertEquals(
+        Arrays.asList(Arrays.asList("a"), Arrays.asList("b")), readRows("\r\n\na\n\r\n\nb\n\n"));
+    assertEquals(Collections.emptyList(), readRows(""));
+    assertEquals(Collections.emptyList(), readRows("\r\n\r\n"));
+  }
+
+  @Test
+  void readsEmptyTrailingFields() {
+    assertEquals(
+        Arrays.asList(Arrays.asList("a", "", ""), Arrays.asList("b", "")),
+        readRows("a;;\r\nb;\n"));
+    assertEquals(Arrays.asList(Arrays.asList("", "")), readRows(";"));
+
+    final M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser("1;\"\";");
+    assertTrue(csvParser.nextRow());
+    csvParser.nextField();
+    assertFalse(csvParser.isFieldEmpty());
+    csvParser.nextField();
+    assertTrue(csvParser.isFieldEmpty());
+    csvParser.nextField();
+    assertTrue(csvParser.isFieldEmpty());
+    assertThrows(NumberFormatException.class, csvParser::getFieldInt);
+    assertFalse(csvParser.hasNextField());
+    assertThrows(IllegalStateException.class, csvParser::nextField);
+  }
+
+  @Test
+  void readsIntegerFieldsAndRowStrings() {
+    final M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser("12;\"-3\";x\r\n");
+    assertTrue(csvParser.nextRow());
+    csvParser.nextField();
+    assertEquals(12, csvParser.getFieldInt());
+    csvParser.nextField();
+    assertEquals(-3, csvParser.getFieldInt());
+    assertThrows(IllegalStateException.class, csvParser::getRowString);
+    csvParser.nextField();
+    assertThrows(NumberFormatException.class, csvParser::getFieldInt);
+    assertEquals("12;\"-3\";x", csvParser.getRowString());
+    assertFalse(csvParser.nextRow());
+  }
+
+  @Test
+  void skipsUnreadFieldsOfRow() {
+    final M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser("a;\"b;\nc\";d\ne;f");
+    assertTrue(csvParser.nextRow());
+    csvParser.nextField();
+    assertTrue(csvParser.nextRow());
+    csvParser.nextField();
+    assertEquals("e", csvParser.getFieldString());
+  }
+
+  @Test
+  void rejectsUnterminatedQuotedField() {
+    final M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser("a;\"b;c\nd");
+    assertTrue(csvParser.nextRow());
+    csvParser.nextField();
+    assertThrows(IllegalArgumentException.class, csvParser::nextField);
+  }
+
+  @Test
+  void findsHeaderColumnsIgnoringCase() {
+    final M2WebEwonEBDCsvHeader header =
+        M2WebEwonEBDCsvHeader.read(new M2WebEwonEBDCsvParser("\"TAGID\";tagname;\"Value\"\r\n"));
+    assertEquals(3, header.getColumnCount());
+    assertEquals(0, header.getColumnIndex("TagId"));
+    assertEquals(1, header.getColumnIndex("TagName"));
+    assertEquals(2, header.getRequiredColumnIndex("value"));
+    assertEquals(
+        M2WebEwonEBDCsvHeader.COLUMN_INDEX_NOT_PRESENT, header.getColumnIndex("Quality"));
+    assertThrows(IllegalArgumentException.class, () -> header.getRequiredColumnIndex("Quality"));
+    assertEquals(null, M2WebEwonEBDCsvHeader.read(new M2WebEwonEBDCsvParser("\r\n")));
+  }
+
+  @Test
+  void detectsJsonResponses() {
+    assertTrue(M2WebEwonEBDCsvParser.isJsonResponse("{\"success\":false}"));
+    assertTrue(M2WebEwonEBDCsvParser.isJsonResponse(" \r\n\t{\"success\":false}"));
+    assertFalse(M2WebEwonEBDCsvParser.isJsonResponse(INSTANT_VALUES_HEADER));
+    assertFalse(M2WebEwonEBDCsvParser.isJsonResponse("TagId;{"));
+    assertFalse(M2WebEwonEBDCsvParser.isJsonResponse("[]"));
+    assertFalse(M2WebEwonEBDCsvParser.isJsonResponse(""));
+    assertFalse(M2WebEwonEBDCsvParser.isJsonResponse(" \r\n"));
+  }
+
+  @Test
+  void decodesInstantValuesWithAnyHeaderCaseAndRowTerminator() {
+    final String response =
+        "\"tagid\";\"TAGNAME\";\"value\";\"alstatus\";\"ALTYPE\";\"quality\"\r\n"
+            + "1;\"Tag;1\";\"1.5\";0;0;65472\n"
+            + "2;\"Tag \"\"2\"\"\";\"\";1;2;65473\r\n";
+    final List<String> decodedValues = new ArrayList<>();
+    M2WebEwonEBDInstantValuesResponse.getFromString(response)
+        .forEachInstantValue(
+            instantValue ->
+                decodedValues.add(
+                    instantValue.getTagId()
+                        + "|"
+                        + instantValue.getTagName()
+                        + "|"
+                        + instantValue.getValue()
+                        + "|"
+                        + instantValue.getAlStatus()
+                        + "|"
+                        + instantValue.getAlType()
+                        + "|"
+                        + instantValue.getQuality()));
+    assertEquals(
+        Arrays.asList("1|Tag;1|1.5|0|0|65472", "2|Tag \"2\"||1|2|65473"), decodedValues);
+  }
+
+  @Test
+  void comparesDecodingTimeWithSplittingRows() {
+    final String response = createInstantValuesResponse();
+
+    final long parserChecksum = decodeWithParser(response);
+    assertEquals(parserChecksum, decodeWithSplit(response));
+    final long parserNanos = timeDecoding(() -> decodeWithParser(response));
+    final long splitNanos = timeDecoding(() -> decodeWithSplit(response));
+    System.out.printf(
+        "EBD instant values response of %d rows, average decoding time:%n"
+            + "  parser: %d ns%n  split rows: %d ns%n",
+        TIMED_ROW_COUNT, parserNanos, splitNanos);
+  }
+
+  /**
+   * Reads all fields of all rows of the specified CSV content as strings.
+   *
+   * @param content the CSV content to read
+   * @return the fields of each row
+   * @since 1.0.0
+   */
+  private static List<List<String>> readRows(String content) {
+    final M2WebEwonEBDCsvParser csvParser = new M2WebEwonEBDCsvParser(content);
+    final List<List<String>> rows = new ArrayList<>();
+    while (csvParser.nextRow()) {
+      final List<String> row = new ArrayList<>();
+      while (csvParser.hasNextField()) {
+        csvParser.nextField();
+        row.add(csvParser.getFieldString());
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /**
+   * Creates an EBD instant values response with {@link #TIMED_ROW_COUNT} rows.
+   *
+   * @return the EBD instant values response
+   * @since 1.0.0
+   */
+  private static String createInstantValuesResponse() {
+    final StringBuilder response = new StringBuilder(INSTANT_VALUES_HEADER).append("\r\n");
+    for (int i = 1; i <= TIMED_ROW_COUNT; i++) {
+      response.append(i).append(";\"Tag").append(i).append("\";\"").append(i * 0.5);
+      response.append("\";0;0;65472\r\n");
+    }
+    return response.toString();
+  }
+
+  /**
+   * Decodes the specified EBD instant values response with {@link
+   * M2WebEwonEBDInstantValuesResponse#getFromString(String)}.
+   *
+   * @param response the EBD instant values response to decode
+   * @return the sum of the tag IDs and tag name lengths of the decoded rows
+   * @since 1.0.0
+   */
+  private static long decodeWithParser(String response) {
+    final long[] checksum = {0};
+    M2WebEwonEBDInstantValuesResponse.getFromString(response)
+        .forEachInstantValue(
+            instantValue ->
+                checksum[0] += instantValue.getTagId() + instantValue.getTagName().length());
+    return checksum[0];
+  }
+
+  /**
+   * Decodes the specified EBD instant values response by splitting each row into a string per
+   * field and stripping their quotes, which does not support quoted separators or line breaks.
+   *
+   * @param response the EBD instant values response to decode
+   * @return the sum of the tag IDs and tag name lengths of the decoded rows
+   * @since 1.0.0
+   */
+  private static long decodeWithSplit(String response) {
+    long checksum = 0;
+    final String[] rows = response.split("\r?\n");
+    for (int i = 1; i < rows.length; i++) {
+      final String[] fields = rows[i].split(";", -1);
+      for (int j = 0; j < fields.length; j++) {
+        fields[j] = fields[j].replace("\"", "");
+      }
+      checksum += Integer.parseInt(fields[0]) + fields[1].length();
+      Integer.parseInt(fields[3]);
+      Integer.parseInt(fields[4]);
+      Integer.parseInt(fields[5]);
+    }
+    return checksum;
+  }
+
+  /**
+   * Times the average duration of the specified decoding, after warming it up.
+   *
+   * @param decoding the decoding to time
+   * @return the average duration (in nanoseconds) of the decoding
+   * @since 1.0.0
+   */
+  private static long timeDecoding(Decoding decoding) {
+    long checksum = 0;
+    for (int i = 0; i < TIMED_WARMUP_ITERATIONS; i++) {
+      checksum += decoding.decode();
+    }
+    final long startNanos = System.nanoTime();
+    for (int i = 0; i < TIMED_ITERATIONS; i++) {
+      checksum += decoding.decode();
+    }
+    final long elapsedNanos = System.nanoTime() - startNanos;
+    assertTrue(checksum > 0);
+    return elapsedNanos / TIMED_ITERATIONS;
+  }
+
+  /**
+   * Interface for a decoding of an EBD instant values response which is timed.
+   *
+   * @since 1.0.0
+   */
+  @FunctionalInterface
+  private interface Decoding {
+
+    /**
+     * Decodes the EBD instant values response.
+     *
+     * @return a checksum of the decoded response, so the decoding is not optimized away
+     * @since 1.0.0
+     */
+    long decode();
+  }
+}
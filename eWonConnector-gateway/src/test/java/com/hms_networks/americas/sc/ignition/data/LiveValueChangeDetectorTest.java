@@ -0,0 +1,70 @@
+package com.hms_networks.americas.sc.ignition.data;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LiveValueChangeDetector}, including the invalidation of cached values.
+ *
+ * @author HMS Networks, MU Americas Solution Center
+ * @since 2.0.0
+ * @version 1.0.0
+ */
+class LiveValueChangeDetectorTest {
+
+  /**
+   * The name of the Ewon of the tested tags.
+   *
+   * @since 1.0.0
+   */
+  private static final String EWON_NAME = "TestEwon";
+
+  /**
+   * The keep-alive time (in milliseconds) of the change detector, which does not elapse during the
+   * tests.
+   *
+   * @since 1.0.0
+   */
+  private static final long KEEP_ALIVE_MILLIS = 60_000;
+
+  /**
+   * The quality of the tested tag values.
+   *
+   * @since 1.0.0
+   */
+  private static final int QUALITY = 65472;
+
+  @Test
+  void suppressesUnchangedValues() {
+    LiveValueChangeDetector.initialize(0, 0, KEEP_ALIVE_MILLIS);
+
+    assertTrue(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 1.0f, QUALITY));
+    assertFalse(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 1.0f, QUALITY));
+    assertTrue(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 2.0f, QUALITY));
+  }
+
+  @Test
+  void invalidatesOnlySpecifiedTag() {
+    LiveValueChangeDetector.initialize(0, 0, KEEP_ALIVE_MILLIS);
+    assertTrue(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 1.0f, QUALITY));
+    assertTrue(LiveValueChangeDetector.shouldForward(EWON_NAME, 2, "value", QUALITY));
+
+    LiveValueChangeDetector.invalidateTag(EWON_NAME, 2);
+    assertFalse(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 1.0f, QUALITY));
+    assertTrue(LiveValueChangeDetector.shouldForward(EWON_NAME, 2, "value", QUALITY));
+    assertFalse(LiveValueChangeDetector.shouldForward(EWON_NAME, 2, "value", QUALITY));
+  }
+
+  @Test
+  void ignoresInvalidationOfUncachedTag() {
+    LiveValueChangeDetector.initialize(0, 0, KEEP_ALIVE_MILLIS);
+    LiveValueChangeDetector.invalidateTag(EWON_NAME, 1);
+    assertTrue(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 1.0f, QUALITY));
+
+    LiveValueChangeDetector.invalidateTag(EWON_NAME, 1000);
+    LiveValueChangeDetector.invalidateTag(EWON_NAME, -1);
+    assertFalse(LiveValueChangeDetector.shouldForward(EWON_NAME, 1, 1.0f, QUALITY));
+  }
+}